@@ -0,0 +1,137 @@
+package timefit.benchmark.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+import timefit.auth.filter.PublicRouteTable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter 경로 분류 비용 비교 (요청 1건당)
+ * - legacyAntPathMatcher: 기존 방식 (GET 전용 패턴 12개 순차 match → PUBLIC_PATHS 순회)
+ * - routeTable: PublicRouteTable 트라이 1회 탐색
+ *
+ * URI 구성: 실제 트래픽 비율을 가정한 혼합 (공개 GET 조회 위주 + 인증 API + 정적/모니터링)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRouteTableBenchmark {
+
+    private static final int REQUESTS = 16;
+
+    private static final List<String> LEGACY_GET_PATTERNS = List.of(
+            "/api/business/*",
+            "/api/business/*/operating-hours",
+            "/api/business/*/menu",
+            "/api/business/*/menu/*",
+            "/api/business/*/booking-slot",
+            "/api/business/*/booking-slot/range",
+            "/api/business/*/booking-slot/menu/*",
+            "/api/business/*/booking-slot/upcoming",
+            "/api/business/*/booking-slot/**",
+            "/api/public/business/*/reviews",
+            "/api/public/business/*/reviews/statistics",
+            "/api/public/**"
+    );
+
+    private static final List<String> LEGACY_PUBLIC_PATHS = List.of(
+            "/api/auth/signup",
+            "/api/auth/signin",
+            "/api/auth/refresh",
+            "/api/auth/health",
+            "/api/business/search",
+            "/api/business/search/**",
+            "/api/validation/**",
+            "/api/test/**",
+            "/actuator/**",
+            "/swagger-ui/**",
+            "/v1/api-docs/**",
+            "/favicon.ico"
+    );
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final PublicRouteTable routeTable = new PublicRouteTable();
+
+    private String[] methods;
+    private String[] uris;
+
+    @Setup
+    public void setUp() {
+        String businessId = UUID.randomUUID().toString();
+        String menuId = UUID.randomUUID().toString();
+        String reservationId = UUID.randomUUID().toString();
+
+        methods = new String[REQUESTS];
+        uris = new String[REQUESTS];
+        int i = 0;
+        // 공개 GET 조회
+        methods[i] = "GET";    uris[i++] = "/api/business/" + businessId;
+        methods[i] = "GET";    uris[i++] = "/api/business/" + businessId + "/menu";
+        methods[i] = "GET";    uris[i++] = "/api/business/" + businessId + "/menu/" + menuId;
+        methods[i] = "GET";    uris[i++] = "/api/business/" + businessId + "/booking-slot";
+        methods[i] = "GET";    uris[i++] = "/api/business/" + businessId + "/booking-slot/menu/" + menuId;
+        methods[i] = "GET";    uris[i++] = "/api/public/business/" + businessId + "/reviews";
+        methods[i] = "GET";    uris[i++] = "/api/business/search";
+        // 인증 필요 API
+        methods[i] = "GET";    uris[i++] = "/api/reservations";
+        methods[i] = "GET";    uris[i++] = "/api/reservation/" + reservationId;
+        methods[i] = "POST";   uris[i++] = "/api/reservation";
+        methods[i] = "PATCH";  uris[i++] = "/api/business/" + businessId + "/reservation/" + reservationId + "/confirm";
+        methods[i] = "POST";   uris[i++] = "/api/business/" + businessId + "/menu";
+        methods[i] = "GET";    uris[i++] = "/api/user/me";
+        // 인증 / 정적 / 모니터링
+        methods[i] = "POST";   uris[i++] = "/api/auth/signin";
+        methods[i] = "GET";    uris[i++] = "/actuator/health";
+        methods[i] = "GET";    uris[i++] = "/swagger-ui/index.html";
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int legacyAntPathMatcher() {
+        int publicCount = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            if (legacyIsPublic(methods[i], uris[i])) {
+                publicCount++;
+            }
+        }
+        return publicCount;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int routeTable() {
+        int publicCount = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            if (routeTable.isPublic(methods[i], uris[i])) {
+                publicCount++;
+            }
+        }
+        return publicCount;
+    }
+
+    private boolean legacyIsPublic(String method, String uri) {
+        if ("GET".equals(method)) {
+            for (String pattern : LEGACY_GET_PATTERNS) {
+                if (pathMatcher.match(pattern, uri)) {
+                    return true;
+                }
+            }
+        }
+        for (String pattern : LEGACY_PUBLIC_PATHS) {
+            if (pathMatcher.match(pattern, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
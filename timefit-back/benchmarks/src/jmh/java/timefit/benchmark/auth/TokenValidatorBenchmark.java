@@ -0,0 +1,94 @@
+package timefit.benchmark.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import timefit.auth.service.revocation.LocalTokenRevocationStore;
+import timefit.auth.service.util.VerifiedTokenCache;
+import timefit.auth.service.validator.TokenValidator;
+import timefit.config.JwtConfig;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * - legacyPerRequest: 요청마다 Algorithm/Verifier 생성 + 검증 2회 (isValidToken → getUserIdFromToken)
+ * - sharedVerifierNoCache: 공유 Verifier + 검증 1회 (검증 캐시 비활성)
+ * - sharedVerifierCacheHit: 공유 Verifier + 검증 캐시 적중 (HMAC/디코딩 생략)
+ * - 신규 경로 2종은 폐기 토큰 확인(in-process) 비용 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenValidatorBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key";
+    private static final String ISSUER = "timefit";
+
+    private String token;
+    private TokenValidator noCacheValidator;
+    private TokenValidator cachedValidator;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig() {
+            @Override
+            public String getSecretKey() {
+                return SECRET;
+            }
+
+            @Override
+            public String getIssuer() {
+                return ISSUER;
+            }
+        };
+
+        Date now = new Date();
+        token = JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject(UUID.randomUUID().toString())
+                .withJWTId(UUID.randomUUID().toString())
+                .withIssuedAt(now)
+                .withExpiresAt(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .sign(Algorithm.HMAC512(SECRET));
+
+        noCacheValidator = new TokenValidator(jwtConfig, new VerifiedTokenCache(0), new LocalTokenRevocationStore());
+        cachedValidator = new TokenValidator(jwtConfig, new VerifiedTokenCache(10_000), new LocalTokenRevocationStore());
+        cachedValidator.authenticate(token);
+    }
+
+    @Benchmark
+    public UUID legacyPerRequest() {
+        // isValidToken
+        newVerifier().verify(token);
+        // getUserIdFromToken
+        DecodedJWT decoded = newVerifier().verify(token);
+        return UUID.fromString(decoded.getSubject());
+    }
+
+    @Benchmark
+    public UUID sharedVerifierNoCache() {
+        return noCacheValidator.authenticate(token).userId();
+    }
+
+    @Benchmark
+    public UUID sharedVerifierCacheHit() {
+        return cachedValidator.authenticate(token).userId();
+    }
+
+    private JWTVerifier newVerifier() {
+        return JWT.require(Algorithm.HMAC512(SECRET))
+                .withIssuer(ISSUER)
+                .build();
+    }
+}
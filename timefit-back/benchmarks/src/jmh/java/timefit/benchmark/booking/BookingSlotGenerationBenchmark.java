@@ -0,0 +1,113 @@
+package timefit.benchmark.booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import timefit.benchmark.support.BenchmarkFixtures;
+import timefit.booking.entity.BookingSlot;
+import timefit.booking.service.dto.AvailableTimeRange;
+import timefit.booking.service.dto.DailySlotSchedule;
+import timefit.booking.service.util.SlotPlan;
+import timefit.booking.service.util.SlotPlanner;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessHours;
+import timefit.business.entity.OperatingHours;
+import timefit.common.entity.DayOfWeek;
+import timefit.menu.entity.Menu;
+import timefit.operatinghours.service.schedule.WeeklySchedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 슬롯 일괄 생성 계획 비용 (BookingSlotCreationHelper.createSlots 의 DB 제외 구간)
+ * - operatingHours: 요청 단위 SlotPlanner로 하루치 계획 → BookingSlot 엔티티 변환
+ *   (시간대 지정 없이 영업시간 전체 사용, 09:00~12:00 / 13:00~21:00 두 구간)
+ * - timeRanges: 사용자 지정 시간대 3개로 하루치 계획 → 엔티티 변환 (영업시간 포함 여부 검증 포함)
+ * - plannerMonthCount: SlotPlanner로 30일치 정확한 슬롯 수 계산 (주간 스케줄 기준 계획 재사용, 엔티티 생성 없음)
+ *
+ * 파라미터: 슬롯 간격(분) / 메뉴 소요 시간(분)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingSlotGenerationBenchmark {
+
+    @Param({"10", "30"})
+    private int intervalMinutes;
+
+    @Param({"30", "90"})
+    private int durationMinutes;
+
+    private Business business;
+    private Menu menu;
+    private LocalDate date;
+    private List<AvailableTimeRange> timeRanges;
+    private WeeklySchedule weeklySchedule;
+    private List<DailySlotSchedule> monthSchedules;
+
+    @Setup
+    public void setUp() {
+        business = BenchmarkFixtures.business();
+        menu = BenchmarkFixtures.reservationMenu(business, BenchmarkFixtures.category(business), durationMinutes);
+        date = LocalDate.of(2026, 3, 2);
+
+        timeRanges = List.of(
+                AvailableTimeRange.of(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                AvailableTimeRange.of(LocalTime.of(13, 0), LocalTime.of(17, 0)),
+                AvailableTimeRange.of(LocalTime.of(18, 0), LocalTime.of(21, 0))
+        );
+
+        List<BusinessHours> weekBusinessHours = new ArrayList<>();
+        List<OperatingHours> weekOperatingHours = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            weekBusinessHours.add(BusinessHours.createOpenDay(
+                    business, dayOfWeek, LocalTime.of(9, 0), LocalTime.of(21, 0)));
+            weekOperatingHours.add(OperatingHours.createOperatingHours(
+                    business, dayOfWeek, LocalTime.of(9, 0), LocalTime.of(12, 0), false, 0));
+            weekOperatingHours.add(OperatingHours.createOperatingHours(
+                    business, dayOfWeek, LocalTime.of(13, 0), LocalTime.of(21, 0), false, 1));
+        }
+        weeklySchedule = WeeklySchedule.compile(
+                business.getId(), 0L, weekBusinessHours, weekOperatingHours, date, List.of());
+
+        monthSchedules = new ArrayList<>();
+        for (int day = 0; day < 30; day++) {
+            monthSchedules.add(DailySlotSchedule.of(date.plusDays(day), day % 2 == 0 ? List.of() : timeRanges));
+        }
+    }
+
+    @Benchmark
+    public List<BookingSlot> operatingHours() {
+        return slotsForDay(List.of());
+    }
+
+    @Benchmark
+    public List<BookingSlot> timeRanges() {
+        return slotsForDay(timeRanges);
+    }
+
+    @Benchmark
+    public long plannerMonthCount() {
+        return new SlotPlanner(weeklySchedule, durationMinutes, intervalMinutes).countSlots(monthSchedules);
+    }
+
+    // BookingSlotCreationHelper.createSlots 와 같은 경로 (요청 단위 계획기 → 계획 → 엔티티)
+    private List<BookingSlot> slotsForDay(List<AvailableTimeRange> ranges) {
+        SlotPlan plan = new SlotPlanner(weeklySchedule, durationMinutes, intervalMinutes).plan(date, ranges);
+
+        List<BookingSlot> slots = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            slots.add(BookingSlot.create(business, menu, date, plan.startTime(i), plan.endTime(i)));
+        }
+        return slots;
+    }
+}
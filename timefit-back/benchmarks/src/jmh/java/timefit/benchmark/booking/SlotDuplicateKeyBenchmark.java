@@ -0,0 +1,83 @@
+package timefit.benchmark.booking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import timefit.booking.service.util.SlotKeySet;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingSlotCreationHelper 중복 슬롯 체크 비용 (후보 슬롯 1건당)
+ * - slotKeySet: SlotKeySet (epochDay * 1440 + 분 long 키, open addressing)
+ *
+ * 데이터: 30일 x 하루 48개 후보 (30분 간격), 그중 절반은 이미 존재하는 슬롯
+ * 기존 슬롯 적재 + 후보 전체 체크까지 한 번의 일괄 생성 요청과 같은 흐름으로 측정
+ *
+ * [기존 방식 기록값] ("날짜_시간" 문자열 키 HashSet, 현재 코드에 없음)
+ * - 989e190, 1 vCPU, warmup 3 x 1s / 측정 5 x 1s
+ * - 기존 273.1 ± 33.2 ns/op, slotKeySet 26.1 ± 15.2 ns/op
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlotDuplicateKeyBenchmark {
+
+    private static final int DAYS = 30;
+    private static final int SLOTS_PER_DAY = 48;
+    private static final int CANDIDATES = DAYS * SLOTS_PER_DAY;
+
+    private LocalDate[] candidateDates;
+    private LocalTime[] candidateTimes;
+    private LocalDate[] existingDates;
+    private LocalTime[] existingTimes;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+
+        candidateDates = new LocalDate[CANDIDATES];
+        candidateTimes = new LocalTime[CANDIDATES];
+        existingDates = new LocalDate[CANDIDATES / 2];
+        existingTimes = new LocalTime[CANDIDATES / 2];
+
+        int i = 0;
+        int e = 0;
+        for (int day = 0; day < DAYS; day++) {
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                LocalDate date = start.plusDays(day);
+                LocalTime time = LocalTime.of(0, 0).plusMinutes(slot * 30L);
+                candidateDates[i] = date;
+                candidateTimes[i++] = time;
+                if (slot % 2 == 0) {
+                    existingDates[e] = date;
+                    existingTimes[e++] = time;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CANDIDATES)
+    public int slotKeySet() {
+        SlotKeySet keys = new SlotKeySet(CANDIDATES);
+        for (int i = 0; i < existingDates.length; i++) {
+            keys.add(SlotKeySet.key(existingDates[i], existingTimes[i]));
+        }
+
+        int created = 0;
+        for (int i = 0; i < CANDIDATES; i++) {
+            if (keys.add(SlotKeySet.key(candidateDates[i], candidateTimes[i]))) {
+                created++;
+            }
+        }
+        return created;
+    }
+}
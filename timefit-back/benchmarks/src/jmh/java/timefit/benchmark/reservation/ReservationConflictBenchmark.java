@@ -0,0 +1,94 @@
+package timefit.benchmark.reservation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import timefit.reservation.service.timeline.DayTimeline;
+
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationValidator 시간대 충돌 탐색 비용 (충돌 체크 1건당)
+ * - dayTimeline: DayTimeline.findConflict (이분 탐색 + prefix max 조기 종료)
+ *
+ * 데이터: 하루 09:00~21:00 사이 겹치지 않게 배치한 예약 N개
+ * 요청: 충돌 / 비충돌이 섞인 임의 시간대 64개 (같은 메뉴 제외 조건 포함)
+ * DB 조회 비용은 제외하고 메모리 탐색만 측정
+ *
+ * [기존 방식 기록값] (하루 활성 예약 전체를 LocalTime isTimeOverlap으로 순회, 현재 코드에 없음)
+ * - 989e190, 1 vCPU, warmup 3 x 1s / 측정 5 x 1s
+ * - 예약 8개: 기존 31.3 ± 8.0 ns/op, dayTimeline 30.2 ± 10.1 ns/op
+ * - 예약 64개: 기존 159.7 ± 50.4 ns/op, dayTimeline 45.2 ± 11.5 ns/op
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationConflictBenchmark {
+
+    private static final int PROBES = 64;
+    private static final int OPEN_MINUTE = 9 * 60;
+    private static final int CLOSE_MINUTE = 21 * 60;
+
+    @Param({"8", "64"})
+    private int reservationsPerDay;
+
+    private DayTimeline timeline;
+
+    private LocalTime[] probeStarts;
+    private LocalTime[] probeEnds;
+    private UUID[] probeExcludeMenuIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UUID[] menuIds = {UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()};
+
+        timeline = DayTimeline.empty();
+
+        // 영업시간을 예약 수만큼 나눠 각 구간 앞부분에 예약 배치 (겹치지 않음)
+        int span = (CLOSE_MINUTE - OPEN_MINUTE) / reservationsPerDay;
+        for (int i = 0; i < reservationsPerDay; i++) {
+            int start = OPEN_MINUTE + i * span;
+            int end = start + Math.max(5, span / 2);
+            UUID menuId = menuIds[i % menuIds.length];
+            timeline = timeline.with(UUID.randomUUID(), menuId, "메뉴" + (i % menuIds.length), start, end);
+        }
+
+        probeStarts = new LocalTime[PROBES];
+        probeEnds = new LocalTime[PROBES];
+        probeExcludeMenuIds = new UUID[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            int start = OPEN_MINUTE + random.nextInt(CLOSE_MINUTE - OPEN_MINUTE - 60);
+            probeStarts[i] = toLocalTime(start);
+            probeEnds[i] = toLocalTime(start + 10 + random.nextInt(50));
+            probeExcludeMenuIds[i] = i % 4 == 0 ? menuIds[0] : null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int dayTimeline() {
+        int conflicts = 0;
+        for (int p = 0; p < PROBES; p++) {
+            int start = DayTimeline.toMinuteOfDay(probeStarts[p]);
+            int end = DayTimeline.toMinuteOfDay(probeEnds[p]);
+            if (timeline.findConflict(start, end, probeExcludeMenuIds[p]) != null) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    private static LocalTime toLocalTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,97 @@
+package timefit.benchmark.reservation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import timefit.benchmark.support.BenchmarkFixtures;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessCategory;
+import timefit.menu.entity.Menu;
+import timefit.reservation.entity.Reservation;
+import timefit.reservation.service.util.ReservationConverter;
+import timefit.reservation.service.util.ReservationCursorCodec;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationConverter Entity → DTO 변환 비용 (예약 1건당)
+ * - customerItem / businessItem: 목록 조회용 (페이지 크기 20 기준)
+ * - customerDetail / businessDetail: 상세 조회용
+ * - cursorPagination: 커서 모드 페이지 정보 (마지막 예약 커서 인코딩 포함)
+ *
+ * 연관 엔티티는 모두 메모리에 로딩된 상태 (지연 로딩 / DB 비용 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationConverterBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final ReservationConverter converter = new ReservationConverter(new ReservationCursorCodec());
+
+    private List<Reservation> reservations;
+
+    @Setup
+    public void setUp() {
+        Business business = BenchmarkFixtures.business();
+        BusinessCategory category = BenchmarkFixtures.category(business);
+        Menu menu = BenchmarkFixtures.onDemandMenu(business, category, 60);
+        LocalDate date = LocalDate.of(2026, 3, 2);
+
+        reservations = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            reservations.add(BenchmarkFixtures.withId(Reservation.createOnDemandBased(
+                    BenchmarkFixtures.customer(i), business, menu,
+                    date, LocalTime.of(9, 0).plusMinutes(30L * i),
+                    "고객" + i, "010-0000-0000", "요청 사항 없음")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void customerItem(Blackhole blackhole) {
+        for (Reservation reservation : reservations) {
+            blackhole.consume(converter.toCustomerReservationItem(reservation));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void businessItem(Blackhole blackhole) {
+        for (Reservation reservation : reservations) {
+            blackhole.consume(converter.toBusinessReservationItem(reservation));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void customerDetail(Blackhole blackhole) {
+        for (Reservation reservation : reservations) {
+            blackhole.consume(converter.toCustomerReservation(reservation));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void businessDetail(Blackhole blackhole) {
+        for (Reservation reservation : reservations) {
+            blackhole.consume(converter.toBusinessReservation(reservation));
+        }
+    }
+
+    @Benchmark
+    public Object cursorPagination() {
+        return converter.toCursorPaginationInfo(reservations, PAGE_SIZE, true, true, null);
+    }
+}
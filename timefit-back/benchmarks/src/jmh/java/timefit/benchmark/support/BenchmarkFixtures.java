@@ -0,0 +1,67 @@
+package timefit.benchmark.support;
+
+import org.springframework.util.ReflectionUtils;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessCategory;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.common.entity.BaseEntity;
+import timefit.menu.entity.Menu;
+import timefit.user.entity.User;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 벤치마크 공용 엔티티 픽스처 (DB 없이 메모리에서만 생성)
+ * - 엔티티 검증 로직이 ID를 비교하므로 생성 직후 ID를 직접 채워 넣음
+ */
+public final class BenchmarkFixtures {
+
+    private static final Field ID_FIELD = ReflectionUtils.findField(BaseEntity.class, "id");
+
+    static {
+        ReflectionUtils.makeAccessible(ID_FIELD);
+    }
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Business business() {
+        return withId(Business.createBusiness(
+                "벤치마크 헤어샵",
+                Set.of(BusinessTypeCode.BD008),
+                "123-45-67890",
+                "홍길동",
+                "서울특별시 강남구 테헤란로 123",
+                "02-1234-5678",
+                "벤치마크용 업체",
+                "https://cdn.example.com/logo.png",
+                null));
+    }
+
+    public static BusinessCategory category(Business business) {
+        return withId(BusinessCategory.create(business, BusinessTypeCode.BD008, "헤어", null));
+    }
+
+    public static Menu reservationMenu(Business business, BusinessCategory category, int durationMinutes) {
+        return withId(Menu.createReservationBased(
+                business, category, "커트", 20000, "기본 커트", durationMinutes, null));
+    }
+
+    public static Menu onDemandMenu(Business business, BusinessCategory category, int durationMinutes) {
+        return withId(Menu.createOnDemandBased(
+                business, category, "펌", 80000, "디지털 펌", durationMinutes, null));
+    }
+
+    public static User customer(int index) {
+        return withId(User.createUser(
+                "customer" + index + "@example.com", "password", "고객" + index, "010-0000-" + String.format("%04d", index)));
+    }
+
+    public static <T extends BaseEntity> T withId(T entity) {
+        ReflectionUtils.setField(ID_FIELD, entity, UUID.randomUUID());
+        return entity;
+    }
+}
@@ -1,5 +1,6 @@
 package timefit.booking.entity;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import timefit.business.entity.Business;
@@ -28,6 +29,8 @@ import java.time.LocalTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BookingSlot extends BaseEntity {
 
+    public static final int DEFAULT_CAPACITY = 1;
+
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "business_id", nullable = false)
@@ -54,6 +57,24 @@ public class BookingSlot extends BaseEntity {
     @Column(name = "is_available", nullable = false)
     private Boolean isAvailable = true;
 
+    /**
+     * 슬롯 수용 인원 (기본 1명)
+     */
+    @NotNull
+    @ColumnDefault("1")
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity = DEFAULT_CAPACITY;
+
+    /**
+     * 현재 점유된 좌석 수
+     * - 예약 생성/취소 시 조건부 UPDATE 로만 증감 (BookingSlotQueryRepository.claimSeat / releaseSeat)
+     * - 엔티티 dirty checking 으로 덮어쓰지 않도록 updatable = false
+     */
+    @NotNull
+    @ColumnDefault("0")
+    @Column(name = "booked_count", nullable = false, updatable = false)
+    private Integer bookedCount = 0;
+
 
     /**
      * RESERVATION_BASED 메뉴용 슬롯 생성
@@ -77,6 +98,8 @@ public class BookingSlot extends BaseEntity {
         slot.startTime = startTime;
         slot.endTime = endTime;
         slot.isAvailable = true;
+        slot.capacity = DEFAULT_CAPACITY;
+        slot.bookedCount = 0;
 
         return slot;
     }
@@ -102,6 +125,16 @@ public class BookingSlot extends BaseEntity {
         return this.isAvailable;
     }
 
+    // 남은 좌석 수
+    public int getRemainingCapacity() {
+        return Math.max(0, capacity - bookedCount);
+    }
+
+    // 남은 좌석 존재 여부
+    public boolean hasRemainingCapacity() {
+        return getRemainingCapacity() > 0;
+    }
+
     // 슬롯 비활성화
     public void markAsUnavailable() {
         this.isAvailable = false;
@@ -0,0 +1,63 @@
+package timefit.booking.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 슬롯 선점 (예약 정보 입력 중 좌석 임시 확보)
+ * - 공유 선점 저장소(timefit.booking.slot-hold.store=shared) 사용 시에만 기록
+ * - 예약 생성 또는 만료 시 삭제 (슬롯 정리와 무관하도록 FK 없이 슬롯 ID만 보관)
+ */
+@Entity
+@Table(
+        name = "booking_slot_hold",
+        indexes = {
+                @Index(name = "idx_booking_slot_hold_slot_expires", columnList = "booking_slot_id, expires_at"),
+                @Index(name = "idx_booking_slot_hold_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookingSlotHold extends BaseEntity {
+
+    /**
+     * 선점한 슬롯 ID
+     */
+    @NotNull
+    @Column(name = "booking_slot_id", nullable = false)
+    private UUID bookingSlotId;
+
+    /**
+     * 선점한 고객 ID
+     */
+    @NotNull
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    /**
+     * 선점 만료 시각
+     */
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static BookingSlotHold create(UUID bookingSlotId, UUID customerId, LocalDateTime expiresAt) {
+        BookingSlotHold hold = new BookingSlotHold();
+        hold.bookingSlotId = bookingSlotId;
+        hold.customerId = customerId;
+        hold.expiresAt = expiresAt;
+        return hold;
+    }
+
+    // 같은 고객의 재선점 시 만료 시각 연장
+    public void extend(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,41 @@
+package timefit.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.booking.entity.BookingSlotHold;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BookingSlotHoldRepository extends JpaRepository<BookingSlotHold, UUID> {
+
+    // 유효한 선점 조회
+    Optional<BookingSlotHold> findByIdAndExpiresAtAfter(UUID id, LocalDateTime now);
+
+    // 고객 본인의 유효한 선점 조회 (재선점 시 연장용)
+    Optional<BookingSlotHold> findFirstByBookingSlotIdAndCustomerIdAndExpiresAtAfter(
+            UUID bookingSlotId, UUID customerId, LocalDateTime now);
+
+    // 다른 고객의 유효한 선점 수
+    long countByBookingSlotIdAndCustomerIdNotAndExpiresAtAfter(
+            UUID bookingSlotId, UUID customerId, LocalDateTime now);
+
+    /**
+     * 선점 해제 (본인 선점만)
+     */
+    @Modifying
+    @Query("DELETE FROM BookingSlotHold h WHERE h.id = :id AND h.customerId = :customerId")
+    int deleteByIdAndCustomerId(@Param("id") UUID id, @Param("customerId") UUID customerId);
+
+    /**
+     * 만료된 선점 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM BookingSlotHold h WHERE h.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,6 +3,8 @@ package timefit.booking.repository;
 import timefit.booking.entity.BookingSlot;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +30,121 @@ public interface BookingSlotQueryRepository {
      * @return 예약이 있는 슬롯 ID 목록
      */
     List<UUID> findSlotIdsWithAnyReservations(List<UUID> slotIds);
-}
\ No newline at end of file
+
+    /**
+     * 슬롯 좌석 점유 (원자적 조건부 UPDATE)
+     * - 활성 슬롯이고 남은 좌석이 있을 때만 booked_count + 1
+     * - 동시 요청이 몰려도 DB 행 단위로 직렬화되어 초과 예약 불가
+     *
+     * @param slotId 슬롯 ID
+     * @return 점유 성공 여부 (false: 마감 또는 비활성)
+     */
+    boolean claimSeat(UUID slotId);
+
+    /**
+     * 슬롯 좌석 반환 (예약 취소/거절 시)
+     * - booked_count > 0 일 때만 booked_count - 1
+     *
+     * @param slotId 슬롯 ID
+     * @return 반환 성공 여부
+     */
+    boolean releaseSeat(UUID slotId);
+
+    /**
+     * 슬롯 좌석 일괄 반환 (예약 일괄 거절 시)
+     * - 슬롯마다 booked_count - count (0 미만으로 내려가지 않음, 단건 반환을 count번 한 것과 동일)
+     *
+     * @param slotIds 슬롯 ID 목록
+     * @param count 슬롯당 반환할 좌석 수
+     * @return 좌석이 반환된 슬롯 수 (booked_count가 이미 0인 슬롯 제외)
+     */
+    long releaseSeats(Collection<UUID> slotIds, int count);
+
+    /**
+     * booked_count 가 활성 예약(PENDING, CONFIRMED) 수와 다른 슬롯 ID (1 청크)
+     * - booked_count 컬럼 도입 이전 예약이 있던 슬롯 이관용
+     *
+     * @param limit 청크 크기
+     * @return 슬롯 ID 목록 (ID 순)
+     */
+    List<UUID> findSlotIdsWithMismatchedBookedCount(int limit);
+
+    /**
+     * 슬롯 booked_count 를 활성 예약 수로 재계산
+     * - 대상 슬롯 행을 먼저 잠근 뒤(SELECT ... FOR UPDATE, ID 순) 집계 → 진행 중인 점유/반환과 직렬화
+     * - 호출 트랜잭션 안에서 실행해야 함
+     *
+     * @param slotIds 슬롯 ID 목록
+     * @return 갱신된 슬롯 수
+     */
+    long recountBookedSeats(Collection<UUID> slotIds);
+
+    /**
+     * 기간 내 활성 슬롯별 잔여 좌석 조회 (단일 쿼리)
+     * - 잔여 좌석 = capacity - booked_count (예약 생성/취소 시 함께 갱신되는 점유 좌석 수)
+     * - 예약 테이블 JOIN / 집계 없이 슬롯 행만 읽음, 엔티티/연관 로딩 없이 필요한 컬럼만 조회
+     *
+     * @param businessId 업체 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 날짜, 시작 시간 순 슬롯 잔여 좌석 목록
+     */
+    List<SlotAvailability> findSlotAvailability(UUID businessId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 특정 날짜 이전의 예약 없는 슬롯 삭제 (1 청크)
+     * - DELETE ... WHERE NOT EXISTS(reservation) 집합 연산 (엔티티 미로딩)
+     * - 예약 이력이 있는 슬롯은 보존 (reservation FK가 ON DELETE CASCADE 이므로 필수)
+     * - 반환값이 limit 보다 작으면 더 이상 삭제할 슬롯이 없음
+     *
+     * @param businessId 업체 ID (null이면 전체 업체)
+     * @param beforeDate 이 날짜 이전 슬롯만 (해당 날짜 미포함)
+     * @param limit 청크 크기
+     * @return 삭제된 슬롯 수
+     */
+    long deleteUnreservedSlotsBefore(UUID businessId, LocalDate beforeDate, int limit);
+
+    /**
+     * 메뉴의 예약 없는 슬롯 삭제 (1 청크)
+     * - 규칙은 deleteUnreservedSlotsBefore와 동일
+     *
+     * @param businessId 업체 ID
+     * @param menuId 메뉴 ID
+     * @param limit 청크 크기
+     * @return 삭제된 슬롯 수
+     */
+    long deleteUnreservedSlotsByMenu(UUID businessId, UUID menuId, int limit);
+
+    /**
+     * 메뉴의 기간 내 슬롯 시작 시점 조회 (중복 체크용)
+     * - 날짜 / 시작 시간 컬럼만 조회 (엔티티 미로딩)
+     *
+     * @param menuId 메뉴 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 슬롯 시작 시점 목록
+     */
+    List<SlotStart> findSlotStartsByMenu(UUID menuId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 슬롯 시작 시점 (날짜 + 시작 시간)
+     */
+    record SlotStart(LocalDate slotDate, LocalTime startTime) {
+    }
+
+    /**
+     * 슬롯 잔여 좌석 조회 결과
+     */
+    record SlotAvailability(
+            UUID slotId,
+            UUID menuId,
+            LocalDate slotDate,
+            LocalTime startTime,
+            LocalTime endTime,
+            Integer remainingSeats
+    ) {
+        public int remaining() {
+            return Math.max(0, remainingSeats);
+        }
+    }
+}
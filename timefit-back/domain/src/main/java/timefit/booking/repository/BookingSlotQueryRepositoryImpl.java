@@ -1,6 +1,12 @@
 package timefit.booking.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import timefit.booking.entity.BookingSlot;
@@ -8,6 +14,7 @@ import timefit.booking.entity.QBookingSlot;
 import timefit.reservation.entity.ReservationStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -89,4 +96,193 @@ public class BookingSlotQueryRepositoryImpl implements BookingSlotQueryRepositor
                 .distinct()  // 중복 제거
                 .fetch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean claimSeat(UUID slotId) {
+        long updated = queryFactory
+                .update(bookingSlot)
+                .set(bookingSlot.bookedCount, bookingSlot.bookedCount.add(1))
+                .where(
+                        bookingSlot.id.eq(slotId),
+                        bookingSlot.isAvailable.isTrue(),
+                        bookingSlot.bookedCount.lt(bookingSlot.capacity)
+                )
+                .execute();
+
+        return updated == 1;
+    }
+
+    @Override
+    public boolean releaseSeat(UUID slotId) {
+        long updated = queryFactory
+                .update(bookingSlot)
+                .set(bookingSlot.bookedCount, bookingSlot.bookedCount.subtract(1))
+                .where(
+                        bookingSlot.id.eq(slotId),
+                        bookingSlot.bookedCount.gt(0)
+                )
+                .execute();
+
+        return updated == 1;
+    }
+
+    @Override
+    public long releaseSeats(Collection<UUID> slotIds, int count) {
+        if (slotIds.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(bookingSlot)
+                .set(bookingSlot.bookedCount, new CaseBuilder()
+                        .when(bookingSlot.bookedCount.goe(count)).then(bookingSlot.bookedCount.subtract(count))
+                        .otherwise(0))
+                .where(
+                        bookingSlot.id.in(slotIds),
+                        bookingSlot.bookedCount.gt(0)
+                )
+                .execute();
+    }
+
+    @Override
+    public List<UUID> findSlotIdsWithMismatchedBookedCount(int limit) {
+        return queryFactory
+                .select(bookingSlot.id)
+                .from(bookingSlot)
+                .where(bookingSlot.bookedCount.longValue().ne(activeReservationCount()))
+                .orderBy(bookingSlot.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long recountBookedSeats(Collection<UUID> slotIds) {
+        if (slotIds.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 슬롯 행 잠금 (claimSeat / releaseSeat 와 같은 행 잠금으로 직렬화)
+        queryFactory
+                .select(bookingSlot.id)
+                .from(bookingSlot)
+                .where(bookingSlot.id.in(slotIds))
+                .orderBy(bookingSlot.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+
+        // 2. 잠금 이후 커밋된 예약 기준으로 재계산
+        return queryFactory
+                .update(bookingSlot)
+                .set(bookingSlot.bookedCount, JPAExpressions
+                        .select(reservation.count().intValue())
+                        .from(reservation)
+                        .where(
+                                reservation.bookingSlot.id.eq(bookingSlot.id),
+                                reservation.status.in(ReservationStatus.PENDING, ReservationStatus.CONFIRMED)
+                        ))
+                .where(bookingSlot.id.in(slotIds))
+                .execute();
+    }
+
+    // 슬롯별 활성 예약 수 (상관 서브쿼리)
+    private JPQLQuery<Long> activeReservationCount() {
+        return JPAExpressions
+                .select(reservation.count())
+                .from(reservation)
+                .where(
+                        reservation.bookingSlot.id.eq(bookingSlot.id),
+                        reservation.status.in(ReservationStatus.PENDING, ReservationStatus.CONFIRMED)
+                );
+    }
+
+    @Override
+    public List<SlotAvailability> findSlotAvailability(UUID businessId, LocalDate startDate, LocalDate endDate) {
+        return queryFactory
+                .select(Projections.constructor(SlotAvailability.class,
+                        bookingSlot.id,
+                        bookingSlot.menu.id,
+                        bookingSlot.slotDate,
+                        bookingSlot.startTime,
+                        bookingSlot.endTime,
+                        bookingSlot.capacity.subtract(bookingSlot.bookedCount)
+                ))
+                .from(bookingSlot)
+                .where(
+                        bookingSlot.business.id.eq(businessId),
+                        bookingSlot.slotDate.between(startDate, endDate),
+                        bookingSlot.isAvailable.isTrue()
+                )
+                .orderBy(
+                        bookingSlot.slotDate.asc(),
+                        bookingSlot.startTime.asc()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<SlotStart> findSlotStartsByMenu(UUID menuId, LocalDate startDate, LocalDate endDate) {
+        return queryFactory
+                .select(Projections.constructor(SlotStart.class,
+                        bookingSlot.slotDate,
+                        bookingSlot.startTime
+                ))
+                .from(bookingSlot)
+                .where(
+                        bookingSlot.menu.id.eq(menuId),
+                        bookingSlot.slotDate.between(startDate, endDate)
+                )
+                .fetch();
+    }
+
+    @Override
+    public long deleteUnreservedSlotsBefore(UUID businessId, LocalDate beforeDate, int limit) {
+        BooleanExpression condition = bookingSlot.slotDate.lt(beforeDate);
+        if (businessId != null) {
+            condition = bookingSlot.business.id.eq(businessId).and(condition);
+        }
+        return deleteUnreservedChunk(condition, limit);
+    }
+
+    @Override
+    public long deleteUnreservedSlotsByMenu(UUID businessId, UUID menuId, int limit) {
+        return deleteUnreservedChunk(
+                bookingSlot.business.id.eq(businessId).and(bookingSlot.menu.id.eq(menuId)),
+                limit
+        );
+    }
+
+    /**
+     * 예약 없는 슬롯 1 청크 삭제
+     * 1. 조건에 맞는 슬롯 ID를 limit 만큼 조회 (인덱스 범위 탐색, DELETE에는 LIMIT 불가)
+     * 2. DELETE ... WHERE id IN (...) AND NOT EXISTS(reservation)
+     *    → 조회 이후 예약이 생긴 슬롯은 삭제 대상에서 제외
+     */
+    private long deleteUnreservedChunk(BooleanExpression condition, int limit) {
+        List<UUID> slotIds = queryFactory
+                .select(bookingSlot.id)
+                .from(bookingSlot)
+                .where(condition, hasNoReservation())
+                .limit(limit)
+                .fetch();
+
+        if (slotIds.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .delete(bookingSlot)
+                .where(
+                        bookingSlot.id.in(slotIds),
+                        hasNoReservation()
+                )
+                .execute();
+    }
+
+    private BooleanExpression hasNoReservation() {
+        return JPAExpressions
+                .selectOne()
+                .from(reservation)
+                .where(reservation.bookingSlot.id.eq(bookingSlot.id))
+                .notExists();
+    }
+}
@@ -1,6 +1,10 @@
 package timefit.booking.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import timefit.booking.entity.BookingSlot;
 
@@ -44,4 +48,11 @@ public interface BookingSlotRepository extends JpaRepository<BookingSlot, UUID>
     List<BookingSlot> findByBusinessIdAndSlotDateBefore(
             UUID businessId, LocalDate date
     );
-}
\ No newline at end of file
+
+    /**
+     * 슬롯 행 잠금 조회 (공유 선점 저장소의 슬롯 단위 직렬화용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BookingSlot s WHERE s.id = :id")
+    Optional<BookingSlot> findByIdForUpdate(@Param("id") UUID id);
+}
@@ -83,6 +83,12 @@ public class Business extends BaseEntity {
     @Column(name = "longitude")
     private Double longitude;
 
+    /**
+     * 예약 자동 완료 / 대기 만료 정책 (모든 컬럼이 null이면 로딩 시 null)
+     */
+    @Embedded
+    private ReservationLifecyclePolicy reservationLifecyclePolicy = ReservationLifecyclePolicy.defaults();
+
 
     // ----------------- 정적 팩토리 메서드
 
@@ -204,6 +210,22 @@ public class Business extends BaseEntity {
         this.longitude = longitude;
     }
 
+    /**
+     * 예약 자동 처리 정책 업데이트 (null 인 항목은 기존 값 유지)
+     */
+    public void updateReservationLifecyclePolicy(
+            Boolean autoCompleteEnabled,
+            Integer autoCompleteDelayMinutes,
+            Boolean pendingExpiryEnabled,
+            Integer pendingExpiryDelayMinutes) {
+
+        if (this.reservationLifecyclePolicy == null) {
+            this.reservationLifecyclePolicy = ReservationLifecyclePolicy.defaults();
+        }
+        this.reservationLifecyclePolicy.update(
+                autoCompleteEnabled, autoCompleteDelayMinutes, pendingExpiryEnabled, pendingExpiryDelayMinutes);
+    }
+
     /**
      * 평점이 있는지 확인
      * @return 리뷰가 1개 이상 있으면 true
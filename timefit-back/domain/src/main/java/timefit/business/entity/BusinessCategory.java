@@ -23,7 +23,8 @@ import java.util.UUID;
         indexes = {
                 @Index(name = "idx_business_id", columnList = "business_id"),
                 @Index(name = "idx_business_type", columnList = "business_type"),
-                @Index(name = "idx_category_name", columnList = "category_name")
+                @Index(name = "idx_category_name", columnList = "category_name"),
+                @Index(name = "idx_category_type_business", columnList = "business_type, business_id")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
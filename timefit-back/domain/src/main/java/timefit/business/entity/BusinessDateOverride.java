@@ -0,0 +1,94 @@
+package timefit.business.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 특정 날짜 영업 예외 Entity (공휴일 휴무, 단축 영업 등)
+ * - 요일별 영업시간(BusinessHours / OperatingHours)보다 우선 적용
+ * - 휴무: 해당 날짜 전체 예약 불가
+ * - 단축 영업: open_time ~ close_time 안의 예약만 허용 (요일별 예약 가능 시간대와 교집합)
+ * - (business_id, override_date) 유니크 인덱스 → 업체별 날짜 조회
+ */
+@Entity
+@Table(
+        name = "business_date_override",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_business_date_override_business_date",
+                columnNames = {"business_id", "override_date"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BusinessDateOverride extends BaseEntity {
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "business_id", nullable = false)
+    private Business business;
+
+    @NotNull
+    @Column(name = "override_date", nullable = false)
+    private LocalDate overrideDate;
+
+    @Column(name = "is_closed", nullable = false)
+    private Boolean isClosed = true;
+
+    @Column(name = "open_time")
+    private LocalTime openTime;
+
+    @Column(name = "close_time")
+    private LocalTime closeTime;
+
+    /**
+     * 사유 (예: 설날, 내부 행사)
+     */
+    @Column(name = "reason", length = 100)
+    private String reason;
+
+    // 휴무일 생성
+    public static BusinessDateOverride createClosedDay(Business business, LocalDate overrideDate, String reason) {
+        BusinessDateOverride override = new BusinessDateOverride();
+        override.business = business;
+        override.overrideDate = overrideDate;
+        override.isClosed = true;
+        override.reason = reason;
+        return override;
+    }
+
+    // 단축 영업일 생성
+    public static BusinessDateOverride createSpecialHours(Business business, LocalDate overrideDate,
+                                                          LocalTime openTime, LocalTime closeTime, String reason) {
+        BusinessDateOverride override = new BusinessDateOverride();
+        override.business = business;
+        override.overrideDate = overrideDate;
+        override.isClosed = false;
+        override.openTime = openTime;
+        override.closeTime = closeTime;
+        override.reason = reason;
+        return override;
+    }
+
+    // 휴무로 변경
+    public void updateClosed(String reason) {
+        this.isClosed = true;
+        this.openTime = null;
+        this.closeTime = null;
+        this.reason = reason;
+    }
+
+    // 단축 영업으로 변경
+    public void updateSpecialHours(LocalTime openTime, LocalTime closeTime, String reason) {
+        this.isClosed = false;
+        this.openTime = openTime;
+        this.closeTime = closeTime;
+        this.reason = reason;
+    }
+}
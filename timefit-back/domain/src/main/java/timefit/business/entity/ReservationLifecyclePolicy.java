@@ -0,0 +1,71 @@
+package timefit.business.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업체별 예약 자동 처리 정책
+ * - 모든 값은 선택 사항, null이면 시스템 기본값(timefit.reservation.lifecycle.*) 사용
+ *
+ * [자동 완료]
+ * - CONFIRMED 예약을 종료 시각(시작 + 소요시간) + autoCompleteDelayMinutes 경과 후 COMPLETED 처리
+ *
+ * [대기 만료]
+ * - PENDING 예약을 시작 시각 + pendingExpiryDelayMinutes 경과 후 CANCELLED 처리 (슬롯 좌석 반환)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationLifecyclePolicy {
+
+    public static final int MAX_DELAY_MINUTES = 7 * 24 * 60;
+
+    @Column(name = "auto_complete_enabled")
+    private Boolean autoCompleteEnabled;
+
+    @Column(name = "auto_complete_delay_minutes")
+    private Integer autoCompleteDelayMinutes;
+
+    @Column(name = "pending_expiry_enabled")
+    private Boolean pendingExpiryEnabled;
+
+    @Column(name = "pending_expiry_delay_minutes")
+    private Integer pendingExpiryDelayMinutes;
+
+    public static ReservationLifecyclePolicy defaults() {
+        return new ReservationLifecyclePolicy();
+    }
+
+    // null 인 항목은 기존 값 유지
+    public void update(
+            Boolean autoCompleteEnabled,
+            Integer autoCompleteDelayMinutes,
+            Boolean pendingExpiryEnabled,
+            Integer pendingExpiryDelayMinutes) {
+
+        validateDelay(autoCompleteDelayMinutes);
+        validateDelay(pendingExpiryDelayMinutes);
+
+        if (autoCompleteEnabled != null) {
+            this.autoCompleteEnabled = autoCompleteEnabled;
+        }
+        if (autoCompleteDelayMinutes != null) {
+            this.autoCompleteDelayMinutes = autoCompleteDelayMinutes;
+        }
+        if (pendingExpiryEnabled != null) {
+            this.pendingExpiryEnabled = pendingExpiryEnabled;
+        }
+        if (pendingExpiryDelayMinutes != null) {
+            this.pendingExpiryDelayMinutes = pendingExpiryDelayMinutes;
+        }
+    }
+
+    private static void validateDelay(Integer delayMinutes) {
+        if (delayMinutes != null && (delayMinutes < 0 || delayMinutes > MAX_DELAY_MINUTES)) {
+            throw new IllegalArgumentException("자동 처리 지연 시간은 0~" + MAX_DELAY_MINUTES + "분 사이여야 합니다");
+        }
+    }
+}
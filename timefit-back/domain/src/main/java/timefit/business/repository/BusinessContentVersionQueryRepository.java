@@ -0,0 +1,58 @@
+package timefit.business.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 업체 공개 콘텐츠 버전 조회 (HTTP ETag 계산용)
+ *
+ * [버전]
+ * - 집합(업체별 메뉴, 슬롯 등)의 행 수 + 최종 수정 시각(BaseEntity.updatedAt 최댓값)
+ * - 행 추가/삭제 → 행 수 변화, 행 수정 → 최종 수정 시각 변화
+ * - 엔티티 그래프를 로딩하지 않는 단일 집계 쿼리 (업체 FK 인덱스 사용)
+ */
+public interface BusinessContentVersionQueryRepository {
+
+    /**
+     * 업체 행 버전
+     *
+     * @param businessId 업체 ID
+     * @return 업체가 없으면 null
+     */
+    ContentVersion findBusinessVersion(UUID businessId);
+
+    // 업체 카테고리 전체 버전 (비활성 포함)
+    ContentVersion findCategoryVersion(UUID businessId);
+
+    // 업체 메뉴 전체 버전 (비활성 포함)
+    ContentVersion findMenuVersion(UUID businessId);
+
+    // 업체 기본 영업시간(BusinessHours) 버전
+    ContentVersion findBusinessHoursVersion(UUID businessId);
+
+    // 업체 예약 가능 시간대(OperatingHours) 버전
+    ContentVersion findOperatingHoursVersion(UUID businessId);
+
+    /**
+     * 기간 내 슬롯 버전
+     *
+     * @param businessId 업체 ID
+     * @param menuId 메뉴 ID (null이면 업체 전체)
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜 (null이면 상한 없음)
+     */
+    ContentVersion findSlotVersion(UUID businessId, UUID menuId, LocalDate startDate, LocalDate endDate);
+
+    // 업체 리뷰 전체 버전 (삭제된 리뷰 포함 → 삭제도 updatedAt 갱신)
+    ContentVersion findReviewVersion(UUID businessId);
+
+    /**
+     * 집합 버전
+     *
+     * @param count 행 수
+     * @param lastModifiedAt 최종 수정 시각 (행이 없으면 null)
+     */
+    record ContentVersion(long count, LocalDateTime lastModifiedAt) {
+    }
+}
@@ -0,0 +1,106 @@
+package timefit.business.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static timefit.booking.entity.QBookingSlot.bookingSlot;
+import static timefit.business.entity.QBusiness.business;
+import static timefit.business.entity.QBusinessCategory.businessCategory;
+import static timefit.business.entity.QBusinessHours.businessHours;
+import static timefit.business.entity.QOperatingHours.operatingHours;
+import static timefit.menu.entity.QMenu.menu;
+import static timefit.review.entity.QReview.review;
+
+@Repository
+@RequiredArgsConstructor
+public class BusinessContentVersionQueryRepositoryImpl implements BusinessContentVersionQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public ContentVersion findBusinessVersion(UUID businessId) {
+        ContentVersion version = queryFactory
+                .select(Projections.constructor(ContentVersion.class, business.count(), business.updatedAt.max()))
+                .from(business)
+                .where(business.id.eq(businessId))
+                .fetchOne();
+
+        return version == null || version.count() == 0 ? null : version;
+    }
+
+    @Override
+    public ContentVersion findCategoryVersion(UUID businessId) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class,
+                        businessCategory.count(), businessCategory.updatedAt.max()))
+                .from(businessCategory)
+                .where(businessCategory.business.id.eq(businessId))
+                .fetchOne();
+    }
+
+    @Override
+    public ContentVersion findMenuVersion(UUID businessId) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class, menu.count(), menu.updatedAt.max()))
+                .from(menu)
+                .where(menu.business.id.eq(businessId))
+                .fetchOne();
+    }
+
+    @Override
+    public ContentVersion findBusinessHoursVersion(UUID businessId) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class,
+                        businessHours.count(), businessHours.updatedAt.max()))
+                .from(businessHours)
+                .where(businessHours.business.id.eq(businessId))
+                .fetchOne();
+    }
+
+    @Override
+    public ContentVersion findOperatingHoursVersion(UUID businessId) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class,
+                        operatingHours.count(), operatingHours.updatedAt.max()))
+                .from(operatingHours)
+                .where(operatingHours.business.id.eq(businessId))
+                .fetchOne();
+    }
+
+    @Override
+    public ContentVersion findSlotVersion(UUID businessId, UUID menuId, LocalDate startDate, LocalDate endDate) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class, bookingSlot.count(), bookingSlot.updatedAt.max()))
+                .from(bookingSlot)
+                .where(
+                        bookingSlot.business.id.eq(businessId),
+                        slotMenuEq(menuId),
+                        bookingSlot.slotDate.goe(startDate),
+                        slotDateLoe(endDate)
+                )
+                .fetchOne();
+    }
+
+    @Override
+    public ContentVersion findReviewVersion(UUID businessId) {
+        return queryFactory
+                .select(Projections.constructor(ContentVersion.class, review.count(), review.updatedAt.max()))
+                .from(review)
+                .where(review.business.id.eq(businessId))
+                .fetchOne();
+    }
+
+    private BooleanExpression slotMenuEq(UUID menuId) {
+        return menuId != null ? bookingSlot.menu.id.eq(menuId) : null;
+    }
+
+    private BooleanExpression slotDateLoe(LocalDate endDate) {
+        return endDate != null ? bookingSlot.slotDate.loe(endDate) : null;
+    }
+}
@@ -0,0 +1,38 @@
+package timefit.business.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.business.entity.BusinessDateOverride;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BusinessDateOverrideRepository extends JpaRepository<BusinessDateOverride, UUID> {
+
+    // 업체의 특정 날짜 이후 예외 (주간 스케줄 컴파일용, 날짜순)
+    List<BusinessDateOverride> findByBusinessIdAndOverrideDateGreaterThanEqualOrderByOverrideDateAsc(
+            UUID businessId, LocalDate from);
+
+    // 업체의 기간 내 예외 (날짜순)
+    List<BusinessDateOverride> findByBusinessIdAndOverrideDateBetweenOrderByOverrideDateAsc(
+            UUID businessId, LocalDate startDate, LocalDate endDate);
+
+    Optional<BusinessDateOverride> findByBusinessIdAndOverrideDate(UUID businessId, LocalDate overrideDate);
+
+    /**
+     * 여러 업체 / 여러 날짜 예외 일괄 삭제 (일괄 등록 시 기존 값 교체용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM BusinessDateOverride o " +
+            "WHERE o.business.id IN :businessIds AND o.overrideDate IN :dates")
+    int deleteByBusinessIdsAndDates(
+            @Param("businessIds") Collection<UUID> businessIds,
+            @Param("dates") Collection<LocalDate> dates);
+}
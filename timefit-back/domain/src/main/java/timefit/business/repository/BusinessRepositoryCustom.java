@@ -11,7 +11,16 @@ import java.util.UUID;
 public interface BusinessRepositoryCustom {
 
     /**
-     * 통합 검색 - 모든 조건
+     * 위치 인덱스 적재용 좌표 (업종별 1행)
+     */
+    record GeoPoint(UUID businessId, Double latitude, Double longitude, BusinessTypeCode businessType) {
+    }
+
+    /**
+     * 통합 검색 - 모든 조건 (DB 종류 무관 LIKE 검색)
+     * - 정렬: 업체명 일치 → 업체명 접두 일치 → 업체명 포함 → 주소 일치 순, 같은 순위는 업체명순
+     * - 전체 건수는 필요할 때만 조회 (첫 페이지가 다 차지 않으면 생략)
+     *
      * @param keyword 업체명 또는 주소 검색어
      * @param businessTypeCode 업종 코드
      * @param region 지역 검색어
@@ -19,4 +28,36 @@ public interface BusinessRepositoryCustom {
     Page<Business> searchBusinesses(
             String keyword, BusinessTypeCode businessTypeCode,
             String region, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 통합 검색 - PostgreSQL 전문 검색 (관련도순)
+     * - 매칭: tsvector('simple') 접두 검색 OR 업체명/주소 ILIKE (pg_trgm GIN 인덱스)
+     * - 정렬: 업체명 접두 일치 가산 + ts_rank + 업체명 trigram 유사도
+     * - 전체 건수는 COUNT(*) OVER() 로 페이지 조회와 한 번에 계산
+     *
+     * @param keyword 업체명 또는 주소 검색어
+     * @param businessTypeCode 업종 코드
+     * @param region 지역 검색어
+     * @param useTrigram pg_trgm 확장 사용 가능 여부 (false면 유사도 점수 제외)
+     */
+    Page<Business> searchBusinessesByRelevance(
+            String keyword, BusinessTypeCode businessTypeCode,
+            String region, boolean useTrigram, Pageable pageable);
+
+    /**
+     * 좌표가 있는 활성 업체 전체 조회 (위치 인덱스 재구성용)
+     * - 엔티티 로딩 없이 ID / 좌표 / 업종만 조회
+     *
+     * @return 업체 x 업종 단위 좌표 목록
+     */
+    List<GeoPoint> findActiveGeoPoints();
+
+    /**
+     * ID 목록 순서대로 업체 조회 (업종 함께 로딩)
+     * - 존재하지 않는 ID는 제외
+     *
+     * @param ids 업체 ID 목록 (결과 순서 기준)
+     * @return ID 순서대로 정렬된 업체 목록
+     */
+    List<Business> findAllByIdInOrder(List<UUID> ids);
+}
@@ -1,12 +1,21 @@
 package timefit.business.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import timefit.business.entity.Business;
@@ -14,13 +23,28 @@ import timefit.business.entity.BusinessTypeCode;
 import timefit.business.entity.QBusiness;
 import timefit.business.entity.QBusinessCategory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class BusinessRepositoryImpl implements BusinessRepositoryCustom {
 
+    /**
+     * 전문 검색 대상 문서 (업체명 + 주소)
+     * - 'simple' 구성: 형태소 분석 없이 공백/구두점 기준 분리 + 소문자화 → 한글/영문 동일 처리
+     * - GIN 인덱스 식과 정확히 같아야 인덱스 사용 (BusinessSearchIndexInitializer 참고)
+     */
+    private static final String SEARCH_VECTOR =
+            "to_tsvector('simple', coalesce(b.business_name, '') || ' ' || coalesce(b.address, ''))";
+
+    private static final String SEARCH_QUERY = "to_tsquery('simple', :tsQuery)";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private final QBusiness business = QBusiness.business;
     private final QBusinessCategory businessCategory = QBusinessCategory.businessCategory;
 
@@ -61,20 +85,209 @@ public class BusinessRepositoryImpl implements BusinessRepositoryCustom {
             builder.and(business.address.containsIgnoreCase(region));
         }
 
-        List<Business> businesses = queryFactory
+        JPAQuery<Business> contentQuery = queryFactory
                 .selectFrom(business)
-                .where(builder, business.isActive.isTrue())
-                .orderBy(business.businessName.asc())
+                .where(builder, business.isActive.isTrue());
+
+        // 관련도 순위 (키워드가 있을 때만)
+        if (StringUtils.hasText(keyword)) {
+            contentQuery.orderBy(relevanceRank(keyword).asc());
+        }
+
+        List<Business> businesses = contentQuery
+                .orderBy(business.businessName.asc(), business.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long total = queryFactory
+        JPAQuery<Long> countQuery = queryFactory
                 .select(business.count())
                 .from(business)
-                .where(builder, business.isActive.isTrue())
-                .fetchOne();
+                .where(builder, business.isActive.isTrue());
+
+        return PageableExecutionUtils.getPage(businesses, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Page<Business> searchBusinessesByRelevance(
+            String keyword,
+            BusinessTypeCode businessTypeCode,
+            String region,
+            boolean useTrigram,
+            Pageable pageable) {
+
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        String tsQuery = hasKeyword ? toPrefixTsQuery(keyword) : null;
+        boolean hasTsQuery = tsQuery != null;
+
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = new StringBuilder(" WHERE b.is_active = true");
+
+        // 키워드 검색: 단어 접두 일치 OR 업체명/주소 부분 일치
+        if (hasKeyword) {
+            where.append(" AND (");
+            if (hasTsQuery) {
+                where.append(SEARCH_VECTOR).append(" @@ ").append(SEARCH_QUERY).append(" OR ");
+                parameters.put("tsQuery", tsQuery);
+            }
+            where.append("b.business_name ILIKE :keywordPattern OR b.address ILIKE :keywordPattern)");
+            parameters.put("keywordPattern", "%" + escapeLike(keyword.trim()) + "%");
+        }
+
+        // 업종 검색
+        if (businessTypeCode != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM business_category bc"
+                    + " WHERE bc.business_id = b.id"
+                    + " AND bc.business_type = :businessType"
+                    + " AND bc.is_active = true)");
+            parameters.put("businessType", businessTypeCode.name());
+        }
+
+        // 지역 검색
+        if (StringUtils.hasText(region)) {
+            where.append(" AND b.address ILIKE :regionPattern");
+            parameters.put("regionPattern", "%" + escapeLike(region.trim()) + "%");
+        }
+
+        Map<String, Object> rankParameters = new HashMap<>();
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        if (hasKeyword) {
+            // 업체명 접두 일치 1점 + 단어 접두 일치 ts_rank + 업체명 유사도 (0 ~ 1)
+            orderBy.append("(CASE WHEN b.business_name ILIKE :prefixPattern THEN 1 ELSE 0 END");
+            rankParameters.put("prefixPattern", escapeLike(keyword.trim()) + "%");
+            if (hasTsQuery) {
+                orderBy.append(" + ts_rank(").append(SEARCH_VECTOR).append(", ").append(SEARCH_QUERY).append(")");
+            }
+            if (useTrigram) {
+                orderBy.append(" + similarity(b.business_name, :keyword)");
+                rankParameters.put("keyword", keyword.trim());
+            }
+            orderBy.append(") DESC, ");
+        }
+        orderBy.append("b.business_name ASC, b.id ASC");
+
+        Query contentQuery = entityManager.createNativeQuery(
+                "SELECT b.id, COUNT(*) OVER () FROM business b" + where + orderBy
+                        + " LIMIT :limit OFFSET :offset");
+        parameters.forEach(contentQuery::setParameter);
+        rankParameters.forEach(contentQuery::setParameter);
+        contentQuery.setParameter("limit", pageable.getPageSize());
+        contentQuery.setParameter("offset", pageable.getOffset());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = contentQuery.getResultList();
+
+        List<UUID> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add(toUuid(row[0]));
+        }
+
+        long total;
+        if (!rows.isEmpty()) {
+            total = ((Number) rows.get(0)[1]).longValue();
+        } else if (pageable.getOffset() == 0) {
+            total = 0;
+        } else {
+            // 마지막 페이지 이후 요청: 윈도우 결과가 없으므로 건수만 별도 조회
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM business b" + where);
+            parameters.forEach(countQuery::setParameter);
+            total = ((Number) countQuery.getSingleResult()).longValue();
+        }
+
+        return new PageImpl<>(findAllByIdInOrder(ids), pageable, total);
+    }
+
+    @Override
+    public List<GeoPoint> findActiveGeoPoints() {
+        EnumPath<BusinessTypeCode> businessType = Expressions.enumPath(BusinessTypeCode.class, "businessType");
+
+        return queryFactory
+                .select(Projections.constructor(GeoPoint.class,
+                        business.id,
+                        business.latitude,
+                        business.longitude,
+                        businessType))
+                .from(business)
+                .join(business.businessTypes, businessType)
+                .where(
+                        business.isActive.isTrue(),
+                        business.latitude.isNotNull(),
+                        business.longitude.isNotNull()
+                )
+                .fetch();
+    }
+
+    // 업체명 일치(0) → 업체명 접두 일치(1) → 업체명 포함(2) → 주소만 일치(3)
+    private NumberExpression<Integer> relevanceRank(String keyword) {
+        return new CaseBuilder()
+                .when(business.businessName.equalsIgnoreCase(keyword)).then(0)
+                .when(business.businessName.startsWithIgnoreCase(keyword)).then(1)
+                .when(business.businessName.containsIgnoreCase(keyword)).then(2)
+                .otherwise(3);
+    }
+
+    // ID 순서 유지 + 업종(business_type) 함께 로딩
+    @Override
+    public List<Business> findAllByIdInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Business> loaded = queryFactory
+                .selectFrom(business)
+                .distinct()
+                .leftJoin(business.businessTypes).fetchJoin()
+                .where(business.id.in(ids))
+                .fetch();
+
+        Map<UUID, Business> byId = new HashMap<>();
+        for (Business item : loaded) {
+            byId.put(item.getId(), item);
+        }
+
+        List<Business> ordered = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Business item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 검색어 → 접두 일치 tsquery ("강남 헤어" → "강남:* & 헤어:*")
+     * - 문자/숫자 외 문자는 단어 구분자로 처리 (tsquery 연산자 주입 방지)
+     *
+     * @return 단어가 없으면 null
+     */
+    private static String toPrefixTsQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+        StringBuilder term = new StringBuilder();
+
+        for (int i = 0; i <= keyword.length(); i++) {
+            char c = i < keyword.length() ? keyword.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (!term.isEmpty()) {
+                if (!query.isEmpty()) {
+                    query.append(" & ");
+                }
+                query.append(term).append(":*");
+                term.setLength(0);
+            }
+        }
+        return query.isEmpty() ? null : query.toString();
+    }
+
+    // LIKE 와일드카드 이스케이프 (PostgreSQL 기본 이스케이프 문자: '\')
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 
-        return new PageImpl<>(businesses, pageable, total != null ? total : 0);
+    private static UUID toUuid(Object value) {
+        return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package timefit.email.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열 (transactional outbox)
+ * - 업무 데이터와 같은 트랜잭션에 기록 → 커밋된 업무만 발송, 프로세스가 죽어도 유실 없음
+ * - 디스패처가 (status, next_attempt_at) 순으로 배치 조회 후 발송 결과 반영
+ * - 실패 시 attemptCount 증가 + nextAttemptAt 지연(백오프), 최대 시도 초과 시 FAILED
+ */
+@Entity
+@Table(
+        name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox extends BaseEntity {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    @NotBlank
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @NotBlank
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    /**
+     * HTML 본문 (등록 시점에 렌더링 완료)
+     */
+    @NotBlank
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @NotNull
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 다음 발송 시도 시각 (PENDING 상태에서만 의미 있음)
+     */
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    public static EmailOutbox create(String recipient, String subject, String body, LocalDateTime now) {
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.recipient = recipient;
+        outbox.subject = subject;
+        outbox.body = body;
+        outbox.status = EmailOutboxStatus.PENDING;
+        outbox.attemptCount = 0;
+        outbox.nextAttemptAt = now;
+        return outbox;
+    }
+
+    // 발송 성공
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.attemptCount++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 - 재시도 예약 또는 최종 실패 처리
+     *
+     * @param error 실패 사유
+     * @param nextAttemptAt 다음 시도 시각
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void markAttemptFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > LAST_ERROR_MAX_LENGTH
+                ? error.substring(0, LAST_ERROR_MAX_LENGTH)
+                : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package timefit.email.entity;
+
+/**
+ * 이메일 발송 대기열 상태
+ */
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENT,       // 발송 완료
+    FAILED      // 최대 시도 횟수 초과 (수동 확인 대상)
+}
@@ -0,0 +1,37 @@
+package timefit.email.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.email.entity.EmailOutbox;
+import timefit.email.entity.EmailOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * 발송 대상 배치 조회 (시도 시각이 된 PENDING, 오래된 순)
+     */
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now"
+            + " ORDER BY o.nextAttemptAt ASC")
+    List<EmailOutbox> findDue(
+            @Param("status") EmailOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 발송 완료 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteSentBefore(
+            @Param("status") EmailOutboxStatus status,
+            @Param("before") LocalDateTime before);
+}
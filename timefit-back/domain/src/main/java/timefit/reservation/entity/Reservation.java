@@ -9,6 +9,7 @@ import timefit.booking.entity.BookingSlot;
 import timefit.menu.entity.Menu;
 import timefit.user.entity.User;
 import timefit.common.entity.BaseEntity;
+import timefit.common.entity.DayOfWeek;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -32,7 +33,15 @@ import java.time.LocalTime;
 
         // 업체(business) 조회용
         @Index(name = "idx_reservation_business_date_time",
-                columnList = "business_id, reservation_date DESC, reservation_time DESC")
+                columnList = "business_id, reservation_date DESC, reservation_time DESC"),
+
+        // 자동 완료 / 대기 만료 스케줄러, 예약 알림 적재 (상태별 날짜 범위 조회)
+        @Index(name = "idx_reservation_status_date",
+                columnList = "status, reservation_date"),
+
+        // 영업시간 변경 전 요일별 미래 예약 집계 (업체 + 요일 + 날짜 범위)
+        @Index(name = "idx_reservation_business_dow_date",
+                columnList = "business_id, reservation_day_of_week, reservation_date")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -68,6 +77,15 @@ public class Reservation extends BaseEntity {
     @Column(name = "reservation_date", nullable = false)
     private LocalDate reservationDate;
 
+    /**
+     * 예약 요일 (0=일요일 ~ 6=토요일, DayOfWeek 값과 동일)
+     * - reservation_date 에서 파생, 날짜 변경 시 함께 갱신
+     * - 요일별 미래 예약 집계를 DB 인덱스로 처리하기 위한 저장 컬럼
+     * - 컬럼 도입 이전 행은 기동 시 reservation_date 기준으로 채움
+     */
+    @Column(name = "reservation_day_of_week")
+    private Integer reservationDayOfWeek;
+
     @NotNull(message = "예약 시간은 필수입니다")
     @Column(name = "reservation_time", nullable = false)
     private LocalTime reservationTime;
@@ -125,6 +143,7 @@ public class Reservation extends BaseEntity {
         reservation.menu = menu;
         reservation.bookingSlot = bookingSlot;
         reservation.reservationDate = bookingSlot.getSlotDate();
+        reservation.reservationDayOfWeek = dayOfWeekOf(bookingSlot.getSlotDate());
         reservation.reservationTime = bookingSlot.getStartTime();
         reservation.reservationPrice = menu.getPrice();
         reservation.reservationDuration = menu.getDurationMinutes();
@@ -147,6 +166,7 @@ public class Reservation extends BaseEntity {
         reservation.menu = menu;
         reservation.bookingSlot = null;  // ONDEMAND 는 슬롯 없음
         reservation.reservationDate = reservationDate;
+        reservation.reservationDayOfWeek = dayOfWeekOf(reservationDate);
         reservation.reservationTime = reservationTime;
         reservation.reservationPrice = menu.getPrice();
         reservation.reservationDuration = menu.getDurationMinutes();
@@ -174,6 +194,11 @@ public class Reservation extends BaseEntity {
         }
     }
 
+    // 날짜 → 요일 값 (0=일요일 ~ 6=토요일)
+    private static Integer dayOfWeekOf(LocalDate date) {
+        return DayOfWeek.fromValue(date.getDayOfWeek().getValue()).getValue();
+    }
+
     // 예약 번호 설정
     public void updateReservationNumber(String reservationNumber) {
         this.reservationNumber = reservationNumber;
@@ -182,6 +207,7 @@ public class Reservation extends BaseEntity {
     // 예약 날짜/시간 수정
     public void updateReservationDateTime(LocalDate newDate, LocalTime newTime) {
         this.reservationDate = newDate;
+        this.reservationDayOfWeek = dayOfWeekOf(newDate);
         this.reservationTime = newTime;
     }
 
@@ -0,0 +1,66 @@
+package timefit.reservation.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 알림 발송 기록
+ * - (예약, 알림 시점, 발송 예정 시각, 채널)당 1행 → 재적재 / 노드 인계 / 재시도 시 중복 발송 방지
+ * - 채널별로 기록 → 한 채널이 실패해도 성공한 채널은 다시 보내지 않고 실패한 채널만 재시도
+ * - 일정이 변경되면 발송 예정 시각이 달라지므로 새 일정 기준으로 다시 알림
+ */
+@Entity
+@Table(
+        name = "reservation_reminder_log",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_reminder_log",
+                columnNames = {"reservation_id", "offset_minutes", "remind_at", "channel"}
+        ),
+        indexes = @Index(name = "idx_reservation_reminder_log_remind_at", columnList = "remind_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationReminderLog extends BaseEntity {
+
+    @NotNull
+    @Column(name = "reservation_id", nullable = false)
+    private UUID reservationId;
+
+    /**
+     * 예약 시작 몇 분 전 알림인지
+     */
+    @NotNull
+    @Column(name = "offset_minutes", nullable = false)
+    private Integer offsetMinutes;
+
+    /**
+     * 발송 예정 시각 (예약 일시 - offsetMinutes)
+     */
+    @NotNull
+    @Column(name = "remind_at", nullable = false)
+    private LocalDateTime remindAt;
+
+    /**
+     * 발송 채널 이름 (email, sms 등)
+     */
+    @NotNull
+    @Column(name = "channel", nullable = false, length = 20)
+    private String channel;
+
+    public static ReservationReminderLog create(
+            UUID reservationId, int offsetMinutes, LocalDateTime remindAt, String channel) {
+        ReservationReminderLog log = new ReservationReminderLog();
+        log.reservationId = reservationId;
+        log.offsetMinutes = offsetMinutes;
+        log.remindAt = remindAt;
+        log.channel = channel;
+        return log;
+    }
+}
@@ -9,30 +9,87 @@ import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 // 복잡한 검색 조건이나 동적 쿼리, 페이징 처리만 QueryDSL로 구현
 public interface ReservationQueryRepository {
 
-    // 고객 예약 조회 (필터링, 페이징)
+    // 고객 예약 조회 (필터링, OFFSET 페이징, 정렬은 keyset 페이징과 동일 - pageable 정렬은 사용하지 않음)
     Page<Reservation> findMyReservationsWithFilters(UUID customerId, ReservationStatus status,
                                                     LocalDate startDate, LocalDate endDate, UUID businessId,
                                                     Pageable pageable);
 
-    // 업체 예약 조회 (필터링, 페이징)
+    // 업체 예약 조회 (필터링, OFFSET 페이징, 정렬은 keyset 페이징과 동일 - pageable 정렬은 사용하지 않음)
     Page<Reservation> findBusinessReservationsWithFilters(
             UUID businessId, ReservationStatus status, String customerName,
             LocalDate startDate, LocalDate endDate, Pageable pageable
     );
 
+    /**
+     * 고객 예약 조회 (keyset 페이징)
+     * - 정렬: reservationDate DESC, reservationTime DESC, id DESC
+     *   → idx_reservation_customer_date_time 인덱스 순서와 일치
+     * - OFFSET 없이 직전 페이지 마지막 행 이후부터 조회 (깊은 페이지도 일정한 비용)
+     * - 필터 조건은 findMyReservationsWithFilters와 동일
+     *
+     * @param after 직전 페이지 마지막 행 (null이면 첫 페이지)
+     * @param limit 조회 개수 (다음 페이지 존재 여부 확인용으로 +1 해서 호출)
+     * @return 예약 목록 (business 페치 조인)
+     */
+    List<Reservation> findMyReservationsAfter(UUID customerId, ReservationStatus status,
+                                              LocalDate startDate, LocalDate endDate, UUID businessId,
+                                              SeekKey after, int limit);
+
+    // 고객 예약 개수 (keyset 페이징 - 전체 개수 요청 시에만 사용)
+    long countMyReservations(UUID customerId, ReservationStatus status,
+                             LocalDate startDate, LocalDate endDate, UUID businessId);
+
+    /**
+     * 업체 예약 조회 (keyset 페이징)
+     * - 정렬: reservationDate DESC, reservationTime DESC, id DESC
+     *   → idx_reservation_business_date_time 인덱스 순서와 일치
+     * - 필터 조건은 findBusinessReservationsWithFilters와 동일
+     *
+     * @param after 직전 페이지 마지막 행 (null이면 첫 페이지)
+     * @param limit 조회 개수 (다음 페이지 존재 여부 확인용으로 +1 해서 호출)
+     * @return 예약 목록 (business 페치 조인)
+     */
+    List<Reservation> findBusinessReservationsAfter(
+            UUID businessId, ReservationStatus status, String customerName,
+            LocalDate startDate, LocalDate endDate, SeekKey after, int limit
+    );
+
+    // 업체 예약 개수 (keyset 페이징 - 전체 개수 요청 시에만 사용)
+    long countBusinessReservations(
+            UUID businessId, ReservationStatus status, String customerName,
+            LocalDate startDate, LocalDate endDate
+    );
+
+    /**
+     * keyset 페이징 기준 위치 (직전 페이지 마지막 행의 정렬 키)
+     */
+    record SeekKey(LocalDate reservationDate, LocalTime reservationTime, UUID id) {
+
+        public static SeekKey of(Reservation reservation) {
+            return new SeekKey(
+                    reservation.getReservationDate(),
+                    reservation.getReservationTime(),
+                    reservation.getId()
+            );
+        }
+    }
+
     /**
      * 특정 업체의 특정 요일 미래 예약 조회
-     * - 영업시간 변경 전 예약 검증에 사용
      * - 예약 날짜 >= currentDate
      * - 상태: PENDING, CONFIRMED만
-     * - 요일 필터링
+     * - 요일 필터링 (reservation_day_of_week 컬럼, DB에서 처리)
      *
      * @param businessId 업체 ID
      * @param dayOfWeek 요일 (0=일요일 ~ 6=토요일)
@@ -45,6 +102,59 @@ public interface ReservationQueryRepository {
             LocalDate currentDate
     );
 
+    /**
+     * 특정 업체의 요일별 미래 예약 집계 (1번의 조회)
+     * - 영업시간 변경 전 예약 검증에 사용 (건수 + 가장 빠른 예약만 필요)
+     * - 예약 날짜 >= currentDate
+     * - 상태: PENDING, CONFIRMED만
+     * - (업체, 요일, 날짜) 인덱스 범위 조회, 엔티티 적재 없음
+     *
+     * @param businessId 업체 ID
+     * @param daysOfWeek 집계할 요일 목록
+     * @param currentDate 현재 날짜 (이 날짜 이후의 예약만 집계)
+     * @return 예약이 있는 요일만, 요일 값 오름차순
+     */
+    List<FutureReservationSummary> summarizeFutureReservationsByDayOfWeek(
+            UUID businessId,
+            Collection<DayOfWeek> daysOfWeek,
+            LocalDate currentDate
+    );
+
+    /**
+     * 예약 요일 컬럼이 비어있는 예약 ID (컬럼 도입 이전 행 이관용)
+     *
+     * @param limit 최대 조회 수
+     */
+    List<UUID> findIdsWithoutDayOfWeek(int limit);
+
+    /**
+     * 예약 요일 컬럼을 reservation_date 기준으로 채움
+     *
+     * @param reservationIds 대상 예약 ID
+     * @return 갱신 건수
+     */
+    long fillDayOfWeek(Collection<UUID> reservationIds);
+
+    /**
+     * 시간대가 겹치는 활성 예약 1건 조회 (생성 트랜잭션 안 최종 충돌 확인용)
+     * - 겹침: 기존 시작 < 신규 종료 AND 기존 종료 > 신규 시작 (정각 경계 허용)
+     * - 분 단위는 자정 기준, 종료는 1440을 넘을 수 있음 (자정 넘김)
+     *
+     * @param businessId 업체 ID
+     * @param date 예약 날짜
+     * @param startMinute 신규 시작 (분)
+     * @param endMinute 신규 종료 (분)
+     * @param excludeMenuId 제외할 메뉴 ID (같은 메뉴 예약은 허용, null 가능)
+     * @return 겹치는 예약 (menu 페치 조인), 없으면 empty
+     */
+    Optional<Reservation> findFirstOverlappingActiveReservation(
+            UUID businessId,
+            LocalDate date,
+            int startMinute,
+            int endMinute,
+            UUID excludeMenuId
+    );
+
     /**
      * 특정 업체의 특정 날짜 활성 예약 조회
      * 활성 예약 정의:
@@ -80,4 +190,178 @@ public interface ReservationQueryRepository {
      * @return Menu (Business fetch join)
      */
     Optional<Menu> findMenuWithBusiness(UUID menuId);
-}
\ No newline at end of file
+
+    /**
+     * 예약 상태 일괄 전이 (ID 목록 대상)
+     * - 대상 행 잠금(SELECT ... FOR UPDATE) 1회 + UPDATE 1회 (엔티티 로딩 / 변경 감지 없음)
+     * - 해당 업체 예약이 아니거나 상태가 from이 아닌 예약은 변경되지 않음
+     * - to가 CANCELLED면 cancelled_at도 기록
+     * - 영속성 컨텍스트에 이미 로딩된 예약 엔티티에는 반영되지 않음 (호출 전 로딩 금지)
+     *
+     * @param businessId 업체 ID
+     * @param reservationIds 예약 ID 목록
+     * @param from 전이 전 상태
+     * @param to 전이 후 상태
+     * @param now 변경 시각 (updated_at / cancelled_at)
+     * @return 실제로 변경된 예약
+     */
+    List<StatusTransition> transitionStatusByIds(
+            UUID businessId, Collection<UUID> reservationIds,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now);
+
+    /**
+     * 예약 상태 일괄 전이 (예약 날짜 대상)
+     * - 해당 업체 / 날짜의 from 상태 예약 전체 (예: 오늘 CONFIRMED 전체 완료 처리)
+     * - 나머지 규칙은 transitionStatusByIds와 동일
+     *
+     * @param businessId 업체 ID
+     * @param reservationDate 예약 날짜
+     * @param from 전이 전 상태
+     * @param to 전이 후 상태
+     * @param now 변경 시각 (updated_at / cancelled_at)
+     * @return 실제로 변경된 예약
+     */
+    List<StatusTransition> transitionStatusByDate(
+            UUID businessId, LocalDate reservationDate,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now);
+
+    /**
+     * 예약 상태 일괄 전이 (업체 무관, 자동 완료 / 대기 만료 스케줄러용)
+     * - 나머지 규칙은 transitionStatusByIds와 동일
+     *
+     * @param reservationIds 예약 ID 목록
+     * @param from 전이 전 상태
+     * @param to 전이 후 상태
+     * @param now 변경 시각 (updated_at / cancelled_at)
+     * @return 실제로 변경된 예약
+     */
+    List<StatusTransition> transitionStatus(
+            Collection<UUID> reservationIds, ReservationStatus from, ReservationStatus to, LocalDateTime now);
+
+    /**
+     * 자동 완료 후보 조회 (CONFIRMED, 예약 날짜 fromDate ~ throughDate)
+     * - 업체 정책상 자동 완료가 꺼진 업체 제외 (정책 미설정 시 enabledByDefault)
+     * - (예약 날짜, ID) 오름차순 keyset 페이지, 실제 완료 여부는 호출 측에서 종료 시각으로 판단
+     *
+     * @param fromDate 조회할 첫 예약 날짜 (이전 예약은 자동 처리 대상 아님)
+     * @param throughDate 조회할 마지막 예약 날짜
+     * @param enabledByDefault 정책 미설정 업체의 자동 완료 여부
+     * @param businessIdFrom 업체 ID 하한 (포함, null이면 제한 없음)
+     * @param businessIdTo 업체 ID 상한 (제외, null이면 제한 없음)
+     * @param after 이전 페이지 마지막 위치 (첫 페이지는 null)
+     * @param limit 최대 건수
+     * @return 후보 예약 (업체 지연 시간 포함)
+     */
+    List<LifecycleCandidate> findAutoCompleteCandidates(
+            LocalDate fromDate, LocalDate throughDate, boolean enabledByDefault, UUID businessIdFrom, UUID businessIdTo,
+            LifecycleCursor after, int limit);
+
+    /**
+     * 대기 만료 후보 조회 (PENDING, 예약 날짜 fromDate ~ throughDate)
+     * - 나머지 규칙은 findAutoCompleteCandidates와 동일 (대기 만료 정책 기준)
+     */
+    List<LifecycleCandidate> findPendingExpiryCandidates(
+            LocalDate fromDate, LocalDate throughDate, boolean enabledByDefault, UUID businessIdFrom, UUID businessIdTo,
+            LifecycleCursor after, int limit);
+
+    /**
+     * 업체 예약 상태 조회 (일괄 전이 실패 사유 확인용)
+     *
+     * @param businessId 업체 ID
+     * @param reservationIds 예약 ID 목록
+     * @return 예약 ID → 현재 상태 (해당 업체 예약이 아니면 제외)
+     */
+    Map<UUID, ReservationStatus> findStatusesByIds(UUID businessId, Collection<UUID> reservationIds);
+
+    /**
+     * 예약 알림 적재 대상 조회 (CONFIRMED, 예약 일시가 [from, to) 구간)
+     * - 상태 + 날짜 인덱스 범위 조회, 시작/끝 날짜에만 시간 조건 적용
+     *
+     * @param from 예약 일시 하한 (포함)
+     * @param to 예약 일시 상한 (제외)
+     * @return 예약 ID / 일시
+     */
+    List<ReminderSchedule> findReminderSchedules(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 예약 알림 발송 정보 조회 (발송 직전 재확인용, CONFIRMED만)
+     *
+     * @param reservationIds 예약 ID 목록
+     * @return 발송 정보 (취소 등으로 CONFIRMED가 아닌 예약은 제외)
+     */
+    List<ReminderTarget> findReminderTargets(Collection<UUID> reservationIds);
+
+    /**
+     * 일괄 전이된 예약 (전이 전 잠근 행)
+     * - 이벤트 발행 / 슬롯 좌석 반환에 필요한 값만 포함
+     */
+    record StatusTransition(
+            UUID reservationId,
+            UUID businessId,
+            UUID menuId,
+            UUID bookingSlotId,
+            LocalDate reservationDate,
+            LocalTime reservationTime,
+            Integer durationMinutes
+    ) {
+    }
+
+    /**
+     * 자동 완료 / 대기 만료 후보
+     *
+     * @param delayMinutes 업체 정책 지연 시간 (null이면 시스템 기본값)
+     */
+    record LifecycleCandidate(
+            UUID reservationId,
+            LocalDate reservationDate,
+            LocalTime reservationTime,
+            Integer durationMinutes,
+            Integer delayMinutes
+    ) {
+        public LifecycleCursor cursor() {
+            return new LifecycleCursor(reservationDate, reservationId);
+        }
+    }
+
+    /**
+     * 후보 조회 keyset 위치 (예약 날짜, 예약 ID)
+     */
+    record LifecycleCursor(LocalDate reservationDate, UUID reservationId) {
+    }
+
+    /**
+     * 예약 알림 적재 대상
+     */
+    record ReminderSchedule(UUID reservationId, LocalDate reservationDate, LocalTime reservationTime) {
+    }
+
+    /**
+     * 예약 알림 발송 정보
+     */
+    record ReminderTarget(
+            UUID reservationId,
+            LocalDate reservationDate,
+            LocalTime reservationTime,
+            String customerName,
+            String customerPhone,
+            String customerEmail,
+            String businessName,
+            String menuName
+    ) {
+    }
+
+    /**
+     * 요일별 미래 예약 집계
+     *
+     * @param reservationCount 진행 중인 예약 수
+     * @param earliestDate 가장 빠른 예약 날짜
+     * @param earliestTime 가장 빠른 예약 시간
+     */
+    record FutureReservationSummary(
+            DayOfWeek dayOfWeek,
+            long reservationCount,
+            LocalDate earliestDate,
+            LocalTime earliestTime
+    ) {
+    }
+}
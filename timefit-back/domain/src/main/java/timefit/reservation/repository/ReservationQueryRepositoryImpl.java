@@ -1,28 +1,44 @@
 package timefit.reservation.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Order;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import timefit.booking.entity.BookingSlot;
+import timefit.business.entity.QReservationLifecyclePolicy;
 import timefit.common.entity.DayOfWeek;
+import timefit.menu.entity.QMenu;
 import timefit.reservation.entity.QReservation;
 import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
+import timefit.user.entity.QUser;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static timefit.business.entity.QBusiness.business;
 
@@ -30,40 +46,41 @@ import static timefit.business.entity.QBusiness.business;
 @RequiredArgsConstructor
 public class ReservationQueryRepositoryImpl implements ReservationQueryRepository {
 
+    /**
+     * 상태 일괄 전이 1단계: 대상 행 잠금 (SELECT ... FOR UPDATE, PostgreSQL / H2 공통)
+     * - 잠금 대기 후 status 조건을 다시 평가하므로 동시 단건 처리로 상태가 바뀐 예약은 제외됨
+     * - id 순으로 잠금 (동시 일괄 처리 간 교착 방지)
+     * - %s: 대상 조건
+     */
+    private static final String LOCK_FOR_TRANSITION_SQL = """
+            SELECT id, business_id, menu_id, booking_slot_id, reservation_date, reservation_time, reservation_duration
+            FROM reservation
+            WHERE status = :fromStatus
+              AND %s
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    /**
+     * 상태 일괄 전이 2단계: 잠근 행만 변경
+     * - %s: 추가 SET 절
+     */
+    private static final String TRANSITION_SQL = """
+            UPDATE reservation
+            SET status = :toStatus, updated_at = :now%s
+            WHERE status = :fromStatus
+              AND id IN (:reservationIds)
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private final QReservation reservation = QReservation.reservation;
 
     @Override
     public Page<Reservation> findMyReservationsWithFilters(UUID customerId, ReservationStatus status,
                                                            LocalDate startDate, LocalDate endDate, UUID businessId,
                                                            Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 기본 조건: 내 예약만
-        builder.and(reservation.customer.id.eq(customerId));
-
-        // 상태 필터
-        if (status != null) {
-            builder.and(reservation.status.eq(status));
-        }
-
-        // 날짜 범위 필터
-        if (startDate != null && endDate != null) {
-            builder.and(reservation.reservationDate.between(startDate, endDate));
-        } else if (startDate != null) {
-            builder.and(reservation.reservationDate.goe(startDate));
-        } else if (endDate != null) {
-            builder.and(reservation.reservationDate.loe(endDate));
-        } else {
-            // 기본값: 최근 3개월
-            LocalDate defaultStart = LocalDate.now().minusMonths(3);
-            builder.and(reservation.reservationDate.goe(defaultStart));
-        }
-
-        // 업체 필터
-        if (businessId != null) {
-            builder.and(reservation.business.id.eq(businessId));
-        }
+        BooleanBuilder builder = myReservationsCondition(customerId, status, startDate, endDate, businessId);
 
         // 쿼리 실행
         List<Reservation> reservations = queryFactory
@@ -72,7 +89,7 @@ public class ReservationQueryRepositoryImpl implements ReservationQueryRepositor
                 .where(builder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .orderBy(seekOrderSpecifiers())
                 .fetch();
 
         Long total = queryFactory
@@ -84,43 +101,164 @@ public class ReservationQueryRepositoryImpl implements ReservationQueryRepositor
         return new PageImpl<>(reservations, pageable, total != null ? total : 0);
     }
 
+    @Override
+    public List<Reservation> findMyReservationsAfter(UUID customerId, ReservationStatus status,
+                                                     LocalDate startDate, LocalDate endDate, UUID businessId,
+                                                     SeekKey after, int limit) {
+        return queryFactory
+                .selectFrom(reservation)
+                .join(reservation.business, business).fetchJoin()
+                .where(
+                        myReservationsCondition(customerId, status, startDate, endDate, businessId),
+                        seekAfter(after)
+                )
+                .orderBy(seekOrderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countMyReservations(UUID customerId, ReservationStatus status,
+                                    LocalDate startDate, LocalDate endDate, UUID businessId) {
+        Long total = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(myReservationsCondition(customerId, status, startDate, endDate, businessId))
+                .fetchOne();
+
+        return total != null ? total : 0;
+    }
+
     @Override
     public Page<Reservation> findBusinessReservationsWithFilters(
             UUID businessId, ReservationStatus status, String customerName,
             LocalDate startDate, LocalDate endDate, Pageable pageable) {
 
+        BooleanBuilder builder = businessReservationsCondition(
+                businessId, status, customerName, startDate, endDate);
 
         List<Reservation> reservations = queryFactory
                 .selectFrom(reservation)
                 .join(reservation.business, business).fetchJoin()
-                .where(
-                        businessIdEq(businessId),
-                        statusEq(status),
-                        customerNameContains(customerName),
-                        reservationDateGoe(startDate),
-                        reservationDateLoe(endDate)
-                )
+                .where(builder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(
-                        reservation.reservationDate.desc(),
-                        reservation.reservationTime.desc()
-                )
+                .orderBy(seekOrderSpecifiers())
                 .fetch();
 
         Long total = queryFactory
                 .select(reservation.count())
                 .from(reservation)
+                .where(builder)
+                .fetchOne();
+
+        return new PageImpl<>(reservations, pageable, total != null ? total : 0);
+    }
+
+    @Override
+    public List<Reservation> findBusinessReservationsAfter(
+            UUID businessId, ReservationStatus status, String customerName,
+            LocalDate startDate, LocalDate endDate, SeekKey after, int limit) {
+
+        return queryFactory
+                .selectFrom(reservation)
+                .join(reservation.business, business).fetchJoin()
                 .where(
-                        businessIdEq(businessId),
-                        statusEq(status),
-                        customerNameContains(customerName),
-                        reservationDateGoe(startDate),
-                        reservationDateLoe(endDate)
+                        businessReservationsCondition(businessId, status, customerName, startDate, endDate),
+                        seekAfter(after)
                 )
+                .orderBy(seekOrderSpecifiers())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countBusinessReservations(
+            UUID businessId, ReservationStatus status, String customerName,
+            LocalDate startDate, LocalDate endDate) {
+
+        Long total = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(businessReservationsCondition(businessId, status, customerName, startDate, endDate))
                 .fetchOne();
 
-        return new PageImpl<>(reservations, pageable, total != null ? total : 0);
+        return total != null ? total : 0;
+    }
+
+    // -----------  private (검색 조건)
+
+    // 고객 예약 검색 조건 (날짜 미지정 시 최근 3개월)
+    private BooleanBuilder myReservationsCondition(UUID customerId, ReservationStatus status,
+                                                   LocalDate startDate, LocalDate endDate, UUID businessId) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        // 기본 조건: 내 예약만
+        builder.and(reservation.customer.id.eq(customerId));
+
+        // 상태 필터
+        if (status != null) {
+            builder.and(reservation.status.eq(status));
+        }
+
+        // 날짜 범위 필터
+        if (startDate != null && endDate != null) {
+            builder.and(reservation.reservationDate.between(startDate, endDate));
+        } else if (startDate != null) {
+            builder.and(reservation.reservationDate.goe(startDate));
+        } else if (endDate != null) {
+            builder.and(reservation.reservationDate.loe(endDate));
+        } else {
+            // 기본값: 최근 3개월
+            LocalDate defaultStart = LocalDate.now().minusMonths(3);
+            builder.and(reservation.reservationDate.goe(defaultStart));
+        }
+
+        // 업체 필터
+        if (businessId != null) {
+            builder.and(reservation.business.id.eq(businessId));
+        }
+
+        return builder;
+    }
+
+    // 업체 예약 검색 조건
+    private BooleanBuilder businessReservationsCondition(
+            UUID businessId, ReservationStatus status, String customerName,
+            LocalDate startDate, LocalDate endDate) {
+        return new BooleanBuilder()
+                .and(businessIdEq(businessId))
+                .and(statusEq(status))
+                .and(customerNameContains(customerName))
+                .and(reservationDateGoe(startDate))
+                .and(reservationDateLoe(endDate));
+    }
+
+    /**
+     * keyset 조건: (date, time, id) < (after.date, after.time, after.id)
+     * - 행 값 비교를 OR 조합으로 풀어 씀 (DB 종류와 무관하게 동작)
+     * - 선두 컬럼 조건(date <= after.date)을 함께 걸어 인덱스 범위 탐색 유도
+     */
+    private BooleanExpression seekAfter(SeekKey after) {
+        if (after == null) {
+            return null;
+        }
+        return reservation.reservationDate.loe(after.reservationDate())
+                .and(reservation.reservationDate.lt(after.reservationDate())
+                        .or(reservation.reservationDate.eq(after.reservationDate())
+                                .and(reservation.reservationTime.lt(after.reservationTime())))
+                        .or(reservation.reservationDate.eq(after.reservationDate())
+                                .and(reservation.reservationTime.eq(after.reservationTime()))
+                                .and(reservation.id.lt(after.id()))));
+    }
+
+    // 목록 정렬 (OFFSET / keyset 공통, id로 동순위 해소)
+    private OrderSpecifier<?>[] seekOrderSpecifiers() {
+        return new OrderSpecifier<?>[]{
+                reservation.reservationDate.desc(),
+                reservation.reservationTime.desc(),
+                reservation.id.desc()
+        };
     }
 
     // -----------  private (BooleanExpression)
@@ -147,51 +285,17 @@ public class ReservationQueryRepositoryImpl implements ReservationQueryRepositor
         return endDate != null ? reservation.reservationDate.loe(endDate) : null;
     }
 
-    // 정렬 조건 변환
-    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
-        List<OrderSpecifier<?>> orders = new ArrayList<>();
-
-        if (sort.isEmpty()) {
-            orders.add(new OrderSpecifier<>(Order.DESC, reservation.reservationDate));
-            orders.add(new OrderSpecifier<>(Order.DESC, reservation.reservationTime));
-        } else {
-            sort.forEach(order -> {
-                Order direction = order.isAscending() ? Order.ASC : Order.DESC;
-                String property = order.getProperty();
-
-                switch (property) {
-                    case "reservationDate":
-                        orders.add(new OrderSpecifier<>(direction, reservation.reservationDate));
-                        break;
-                    case "reservationTime":
-                        orders.add(new OrderSpecifier<>(direction, reservation.reservationTime));
-                        break;
-                    case "status":
-                        orders.add(new OrderSpecifier<>(direction, reservation.status));
-                        break;
-                    case "createdAt":
-                        orders.add(new OrderSpecifier<>(direction, reservation.createdAt));
-                        break;
-                    default:
-                        orders.add(new OrderSpecifier<>(Order.DESC, reservation.reservationDate));
-                }
-            });
-        }
-
-        return orders.toArray(new OrderSpecifier[0]);
-    }
-
     @Override
     public List<Reservation> findFutureReservationsByBusinessAndDayOfWeek(
             UUID businessId,
             DayOfWeek dayOfWeek,
             LocalDate currentDate) {
 
-        // 1. DB에서 미래 예약 전체 조회 (요일 필터 제외)
-        List<Reservation> allFutureReservations = queryFactory
+        return queryFactory
                 .selectFrom(reservation)
                 .where(
                         reservation.business.id.eq(businessId),
+                        dayOfWeekIn(List.of(dayOfWeek.getValue())),
                         reservation.reservationDate.goe(currentDate),
                         reservation.status.in(
                                 ReservationStatus.PENDING,
@@ -203,18 +307,133 @@ public class ReservationQueryRepositoryImpl implements ReservationQueryRepositor
                         reservation.reservationTime.asc()
                 )
                 .fetch();
+    }
+
+    /**
+     * 요일별 미래 예약 집계
+     *
+     * 1. 날짜 단위 GROUP BY → 날짜별 건수 + 가장 빠른 시간 (행 수 = 예약 있는 날짜 수)
+     * 2. 날짜의 요일별로 합산, 요일의 첫 날짜 행이 가장 빠른 예약
+     */
+    @Override
+    public List<FutureReservationSummary> summarizeFutureReservationsByDayOfWeek(
+            UUID businessId,
+            Collection<DayOfWeek> daysOfWeek,
+            LocalDate currentDate) {
+
+        if (daysOfWeek.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> dayValues = daysOfWeek.stream().map(DayOfWeek::getValue).distinct().toList();
+        NumberExpression<Long> count = reservation.count();
+        ComparableExpression<LocalTime> earliestTime = reservation.reservationTime.min();
+
+        List<Tuple> rows = queryFactory
+                .select(reservation.reservationDate, count, earliestTime)
+                .from(reservation)
+                .where(
+                        reservation.business.id.eq(businessId),
+                        dayOfWeekIn(dayValues),
+                        reservation.reservationDate.goe(currentDate),
+                        reservation.status.in(
+                                ReservationStatus.PENDING,
+                                ReservationStatus.CONFIRMED
+                        )
+                )
+                .groupBy(reservation.reservationDate)
+                .orderBy(reservation.reservationDate.asc())
+                .fetch();
+
+        // 날짜 오름차순이므로 요일별 첫 행이 가장 빠른 예약
+        Map<DayOfWeek, FutureReservationSummary> summaries = new EnumMap<>(DayOfWeek.class);
+        for (Tuple row : rows) {
+            LocalDate date = row.get(reservation.reservationDate);
+            DayOfWeek day = DayOfWeek.fromValue(date.getDayOfWeek().getValue());
+            long dateCount = row.get(count);
+
+            FutureReservationSummary summary = summaries.get(day);
+            summaries.put(day, summary == null
+                    ? new FutureReservationSummary(day, dateCount, date, row.get(earliestTime))
+                    : new FutureReservationSummary(day, summary.reservationCount() + dateCount,
+                            summary.earliestDate(), summary.earliestTime()));
+        }
+        return new ArrayList<>(summaries.values());
+    }
 
-        // 2. Java에서 요일 필터링
-        // Java DayOfWeek: MONDAY=1 ~ SUNDAY=7
-        // DayOfWeek enum: SUNDAY=0, MONDAY=1 ~ SATURDAY=6
-        return allFutureReservations.stream()
-                .filter(r -> {
-                    java.time.DayOfWeek javaDayOfWeek = r.getReservationDate().getDayOfWeek();
-                    // Java DayOfWeek를 0-6 범위로 변환 (일요일=0)
-                    int dayValue = (javaDayOfWeek.getValue() % 7); // SUNDAY=7 -> 0, MONDAY=1 -> 1, ...
-                    return dayValue == dayOfWeek.getValue();
-                })
-                .collect(Collectors.toList());
+    /**
+     * 요일 조건
+     * - 요일 컬럼으로 조회 (idx_reservation_business_dow_date)
+     * - 컬럼 도입 이전 행(요일 NULL, 이관 전)은 reservation_date 로 요일을 계산해 포함
+     */
+    private BooleanExpression dayOfWeekIn(Collection<Integer> dayValues) {
+        return reservation.reservationDayOfWeek.in(dayValues)
+                .or(reservation.reservationDayOfWeek.isNull()
+                        .and(dayOfWeekFromDate().in(dayValues)));
+    }
+
+    /**
+     * HQL extract(day of week): 1=일요일 ~ 7=토요일 → DayOfWeek 값(0=일요일 ~ 6=토요일)으로 변환
+     */
+    private NumberExpression<Integer> dayOfWeekFromDate() {
+        return Expressions.numberTemplate(
+                Integer.class, "extract(day of week from {0}) - 1", reservation.reservationDate);
+    }
+
+    @Override
+    public List<UUID> findIdsWithoutDayOfWeek(int limit) {
+        return queryFactory
+                .select(reservation.id)
+                .from(reservation)
+                .where(reservation.reservationDayOfWeek.isNull())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long fillDayOfWeek(Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(reservation)
+                .set(reservation.reservationDayOfWeek, dayOfWeekFromDate())
+                .where(reservation.id.in(reservationIds))
+                .execute();
+    }
+
+    /**
+     * 겹치는 활성 예약 1건 조회
+     * - (업체, 날짜, 시간) 인덱스로 범위를 좁힌 뒤 분 단위로 겹침 판정
+     */
+    @Override
+    public Optional<Reservation> findFirstOverlappingActiveReservation(
+            UUID businessId,
+            LocalDate date,
+            int startMinute,
+            int endMinute,
+            UUID excludeMenuId) {
+
+        NumberExpression<Integer> existingStart = Expressions.numberTemplate(
+                Integer.class, "extract(hour from {0}) * 60 + extract(minute from {0})", reservation.reservationTime);
+
+        return Optional.ofNullable(queryFactory
+                .selectFrom(reservation)
+                .join(reservation.menu).fetchJoin()
+                .where(
+                        reservation.business.id.eq(businessId),
+                        reservation.reservationDate.eq(date),
+                        reservation.status.in(
+                                ReservationStatus.PENDING,
+                                ReservationStatus.CONFIRMED
+                        ),
+                        existingStart.lt(endMinute),
+                        existingStart.add(reservation.reservationDuration).gt(startMinute),
+                        excludeMenuId != null ? reservation.menu.id.ne(excludeMenuId) : null
+                )
+                .orderBy(reservation.reservationTime.asc())
+                .fetchFirst());
     }
 
     /**
@@ -279,4 +498,219 @@ public class ReservationQueryRepositoryImpl implements ReservationQueryRepositor
 
         return Optional.ofNullable(result);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<StatusTransition> transitionStatusByIds(
+            UUID businessId, Collection<UUID> reservationIds,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now) {
+
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return transitionStatus("business_id = :businessId AND id IN (:reservationIds)",
+                Map.of("businessId", businessId, "reservationIds", reservationIds), from, to, now);
+    }
+
+    @Override
+    public List<StatusTransition> transitionStatusByDate(
+            UUID businessId, LocalDate reservationDate,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now) {
+
+        return transitionStatus("business_id = :businessId AND reservation_date = :reservationDate",
+                Map.of("businessId", businessId, "reservationDate", reservationDate), from, to, now);
+    }
+
+    @Override
+    public List<StatusTransition> transitionStatus(
+            Collection<UUID> reservationIds,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now) {
+
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return transitionStatus("id IN (:reservationIds)", Map.of("reservationIds", reservationIds), from, to, now);
+    }
+
+    @Override
+    public List<LifecycleCandidate> findAutoCompleteCandidates(
+            LocalDate fromDate, LocalDate throughDate, boolean enabledByDefault, UUID businessIdFrom, UUID businessIdTo,
+            LifecycleCursor after, int limit) {
+
+        QReservationLifecyclePolicy policy = business.reservationLifecyclePolicy;
+        return findLifecycleCandidates(
+                ReservationStatus.CONFIRMED, policy.autoCompleteEnabled, policy.autoCompleteDelayMinutes,
+                fromDate, throughDate, enabledByDefault, businessIdFrom, businessIdTo, after, limit);
+    }
+
+    @Override
+    public List<LifecycleCandidate> findPendingExpiryCandidates(
+            LocalDate fromDate, LocalDate throughDate, boolean enabledByDefault, UUID businessIdFrom, UUID businessIdTo,
+            LifecycleCursor after, int limit) {
+
+        QReservationLifecyclePolicy policy = business.reservationLifecyclePolicy;
+        return findLifecycleCandidates(
+                ReservationStatus.PENDING, policy.pendingExpiryEnabled, policy.pendingExpiryDelayMinutes,
+                fromDate, throughDate, enabledByDefault, businessIdFrom, businessIdTo, after, limit);
+    }
+
+    @Override
+    public Map<UUID, ReservationStatus> findStatusesByIds(UUID businessId, Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, ReservationStatus> statuses = new HashMap<>();
+        queryFactory
+                .select(reservation.id, reservation.status)
+                .from(reservation)
+                .where(
+                        reservation.business.id.eq(businessId),
+                        reservation.id.in(reservationIds)
+                )
+                .fetch()
+                .forEach(row -> statuses.put(row.get(reservation.id), row.get(reservation.status)));
+        return statuses;
+    }
+
+    @Override
+    public List<ReminderSchedule> findReminderSchedules(LocalDateTime from, LocalDateTime to) {
+        LocalDate fromDate = from.toLocalDate();
+        LocalDate toDate = to.toLocalDate();
+
+        return queryFactory
+                .select(Projections.constructor(ReminderSchedule.class,
+                        reservation.id,
+                        reservation.reservationDate,
+                        reservation.reservationTime))
+                .from(reservation)
+                .where(
+                        reservation.status.eq(ReservationStatus.CONFIRMED),
+                        reservation.reservationDate.between(fromDate, toDate),
+                        reservation.reservationDate.gt(fromDate)
+                                .or(reservation.reservationTime.goe(from.toLocalTime())),
+                        reservation.reservationDate.lt(toDate)
+                                .or(reservation.reservationTime.lt(to.toLocalTime()))
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<ReminderTarget> findReminderTargets(Collection<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        QUser customer = QUser.user;
+        QMenu menu = QMenu.menu;
+        return queryFactory
+                .select(Projections.constructor(ReminderTarget.class,
+                        reservation.id,
+                        reservation.reservationDate,
+                        reservation.reservationTime,
+                        reservation.customerName,
+                        reservation.customerPhone,
+                        customer.email,
+                        business.businessName,
+                        menu.serviceName))
+                .from(reservation)
+                .join(reservation.customer, customer)
+                .join(reservation.business, business)
+                .join(reservation.menu, menu)
+                .where(
+                        reservation.id.in(reservationIds),
+                        reservation.status.eq(ReservationStatus.CONFIRMED)
+                )
+                .fetch();
+    }
+
+    // 상태 + 날짜 인덱스 범위 조회 후 (날짜, ID) 순 keyset 페이지, 업체 정책으로 비활성 업체 제외
+    private List<LifecycleCandidate> findLifecycleCandidates(
+            ReservationStatus status, BooleanPath enabled, NumberPath<Integer> delayMinutes,
+            LocalDate fromDate, LocalDate throughDate, boolean enabledByDefault, UUID businessIdFrom, UUID businessIdTo,
+            LifecycleCursor after, int limit) {
+
+        BooleanBuilder builder = new BooleanBuilder()
+                .and(reservation.status.eq(status))
+                .and(reservation.reservationDate.between(fromDate, throughDate))
+                .and(enabledByDefault ? enabled.isNull().or(enabled.isTrue()) : enabled.isTrue());
+
+        if (businessIdFrom != null) {
+            builder.and(reservation.business.id.goe(businessIdFrom));
+        }
+        if (businessIdTo != null) {
+            builder.and(reservation.business.id.lt(businessIdTo));
+        }
+        if (after != null) {
+            builder.and(reservation.reservationDate.gt(after.reservationDate())
+                    .or(reservation.reservationDate.eq(after.reservationDate())
+                            .and(reservation.id.gt(after.reservationId()))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(LifecycleCandidate.class,
+                        reservation.id,
+                        reservation.reservationDate,
+                        reservation.reservationTime,
+                        reservation.reservationDuration,
+                        delayMinutes))
+                .from(reservation)
+                .join(reservation.business, business)
+                .where(builder)
+                .orderBy(reservation.reservationDate.asc(), reservation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 대상 행 잠금 → 잠근 행만 UPDATE (잠근 행 = 변경된 행)
+    @SuppressWarnings("unchecked")
+    private List<StatusTransition> transitionStatus(
+            String targetCondition, Map<String, Object> targetParameters,
+            ReservationStatus from, ReservationStatus to, LocalDateTime now) {
+
+        Query lockQuery = entityManager
+                .createNativeQuery(String.format(LOCK_FOR_TRANSITION_SQL, targetCondition))
+                .setParameter("fromStatus", from.name());
+        targetParameters.forEach(lockQuery::setParameter);
+
+        List<Object[]> rows = lockQuery
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("business_id", UUID.class)
+                .addScalar("menu_id", UUID.class)
+                .addScalar("booking_slot_id", UUID.class)
+                .addScalar("reservation_date", LocalDate.class)
+                .addScalar("reservation_time", LocalTime.class)
+                .addScalar("reservation_duration", Integer.class)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<StatusTransition> transitions = new ArrayList<>(rows.size());
+        List<UUID> lockedIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            transitions.add(new StatusTransition(
+                    (UUID) row[0],
+                    (UUID) row[1],
+                    (UUID) row[2],
+                    (UUID) row[3],
+                    (LocalDate) row[4],
+                    (LocalTime) row[5],
+                    (Integer) row[6]
+            ));
+            lockedIds.add((UUID) row[0]);
+        }
+
+        String extraSet = to == ReservationStatus.CANCELLED ? ", cancelled_at = :now" : "";
+        entityManager
+                .createNativeQuery(String.format(TRANSITION_SQL, extraSet))
+                .setParameter("toStatus", to.name())
+                .setParameter("fromStatus", from.name())
+                .setParameter("now", now)
+                .setParameter("reservationIds", lockedIds)
+                .executeUpdate();
+
+        return transitions;
+    }
+}
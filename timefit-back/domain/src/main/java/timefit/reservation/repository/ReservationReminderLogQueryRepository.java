@@ -0,0 +1,31 @@
+package timefit.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 알림 발송 기록 Query Repository
+ *
+ * - 채널별 발송 기록 선점 (INSERT ... ON CONFLICT DO NOTHING)
+ */
+public interface ReservationReminderLogQueryRepository {
+
+    /**
+     * 채널 발송 기록 일괄 선점
+     * - 이미 기록이 있는 알림(다른 노드 / 재적재 / 재시도)은 건너뛰고, 실제로 기록된 알림만 반환
+     * - 유니크 제약 충돌로 트랜잭션이 깨지지 않음
+     *
+     * @param channel 발송 채널 이름
+     * @param keys 선점할 알림
+     * @param now 기록 시각
+     * @return 이번 호출에서 기록된 알림 (이 채널로는 이 알림만 발송해야 함)
+     */
+    List<ReminderLogKey> claim(String channel, List<ReminderLogKey> keys, LocalDateTime now);
+
+    /**
+     * 발송 기록 키 (예약, 알림 시점, 발송 예정 시각)
+     */
+    record ReminderLogKey(UUID reservationId, int offsetMinutes, LocalDateTime remindAt) {
+    }
+}
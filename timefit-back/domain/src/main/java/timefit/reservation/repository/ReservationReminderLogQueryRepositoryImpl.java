@@ -0,0 +1,51 @@
+package timefit.reservation.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 알림 발송 기록 Query Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationReminderLogQueryRepositoryImpl implements ReservationReminderLogQueryRepository {
+
+    /**
+     * 발송 기록 선점 (ON CONFLICT DO NOTHING, 충돌 대상 미지정 → PostgreSQL / H2 공통)
+     * - 유니크 제약(uk_reservation_reminder_log)에 걸리는 행은 건너뜀 → 충돌해도 예외 없음
+     * - 변경 행 수 1 = 이번 호출에서 기록됨
+     */
+    private static final String CLAIM_SQL = """
+            INSERT INTO reservation_reminder_log
+                (id, reservation_id, offset_minutes, remind_at, channel, created_at, updated_at)
+            VALUES (:id, :reservationId, :offsetMinutes, :remindAt, :channel, :now, :now)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ReminderLogKey> claim(String channel, List<ReminderLogKey> keys, LocalDateTime now) {
+        List<ReminderLogKey> claimed = new ArrayList<>(keys.size());
+        for (ReminderLogKey key : keys) {
+            int inserted = entityManager.createNativeQuery(CLAIM_SQL)
+                    .setParameter("id", UUID.randomUUID())
+                    .setParameter("reservationId", key.reservationId())
+                    .setParameter("offsetMinutes", key.offsetMinutes())
+                    .setParameter("remindAt", key.remindAt())
+                    .setParameter("channel", channel)
+                    .setParameter("now", now)
+                    .executeUpdate();
+            if (inserted == 1) {
+                claimed.add(key);
+            }
+        }
+        return claimed;
+    }
+}
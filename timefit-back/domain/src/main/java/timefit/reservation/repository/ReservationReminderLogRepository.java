@@ -0,0 +1,22 @@
+package timefit.reservation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.reservation.entity.ReservationReminderLog;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface ReservationReminderLogRepository extends JpaRepository<ReservationReminderLog, UUID> {
+
+    /**
+     * 지난 발송 기록 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationReminderLog l WHERE l.remindAt < :before")
+    int deleteRemindedBefore(@Param("before") LocalDateTime before);
+}
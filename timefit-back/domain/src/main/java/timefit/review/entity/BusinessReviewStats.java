@@ -0,0 +1,88 @@
+package timefit.review.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import timefit.business.entity.Business;
+import timefit.common.entity.BaseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 업체별 리뷰 누적 통계 (Business 1:1)
+ *
+ * 핵심 기능:
+ * - 활성 리뷰 수 / 평점 합계 / 평점별(1~5) 개수를 누적 보관
+ * - 리뷰 작성/수정/삭제 시 증감분만 원자적 UPDATE (BusinessReviewStatsQueryRepository.applyDelta)
+ * - 통계 조회는 business_id 단건 조회 → 리뷰 수와 무관
+ *
+ * 규칙:
+ * - 엔티티를 통한 값 변경 없음 (모든 변경은 증감 UPDATE)
+ * - 행이 없는 업체는 최초 리뷰 변경 시 기존 리뷰 집계로 생성
+ */
+@Entity
+@Table(
+        name = "business_review_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "unique_business_review_stats",
+                columnNames = {"business_id"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BusinessReviewStats extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "business_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Business business;
+
+    // 활성 리뷰 수 (삭제 제외)
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    // 활성 리뷰 평점 합계
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "rating_1_count", nullable = false)
+    private Long rating1Count = 0L;
+
+    @Column(name = "rating_2_count", nullable = false)
+    private Long rating2Count = 0L;
+
+    @Column(name = "rating_3_count", nullable = false)
+    private Long rating3Count = 0L;
+
+    @Column(name = "rating_4_count", nullable = false)
+    private Long rating4Count = 0L;
+
+    @Column(name = "rating_5_count", nullable = false)
+    private Long rating5Count = 0L;
+
+    /**
+     * 평균 평점
+     * @return 리뷰가 없으면 null
+     */
+    public Double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+    }
+
+    /**
+     * 평점별 개수 (1~5점 모두 포함)
+     * @return Map<평점, 개수>
+     */
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, rating1Count);
+        distribution.put(2, rating2Count);
+        distribution.put(3, rating3Count);
+        distribution.put(4, rating4Count);
+        distribution.put(5, rating5Count);
+        return distribution;
+    }
+}
@@ -0,0 +1,60 @@
+package timefit.review.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업체 리뷰 누적 통계 Query Repository
+ *
+ * - 통계 행 생성 (기존 리뷰 집계, 동시 생성 시 1건만 반영)
+ * - 리뷰 변경 증감분 원자적 반영 (단일 UPDATE)
+ */
+public interface BusinessReviewStatsQueryRepository {
+
+    /**
+     * 통계 행이 없으면 현재 활성 리뷰 집계로 생성
+     * - 통계 행이 있으면 유니크 인덱스 조회 1회로 끝남 (리뷰 쓰기 경로는 applyDelta 만 부담)
+     * - 없을 때만 INSERT ... SELECT 집계 ... ON CONFLICT DO NOTHING (동시 호출에도 예외 없음)
+     * - 리뷰를 변경하기 전에 호출해야 함 (변경분이 집계와 증감에 이중 반영되지 않도록)
+     *
+     * @param businessId 업체 ID
+     */
+    void initializeIfAbsent(UUID businessId);
+
+    /**
+     * 리뷰 변경 증감분 반영
+     * - 작성: (null, 새 평점) / 수정: (이전 평점, 새 평점) / 삭제: (이전 평점, null)
+     * - SET col = col + delta 형태 → 동시 변경도 행 잠금으로 직렬화되어 유실 없음
+     *
+     * @param businessId 업체 ID
+     * @param removedRating 빠지는 평점 (없으면 null)
+     * @param addedRating 추가되는 평점 (없으면 null)
+     */
+    void applyDelta(UUID businessId, Integer removedRating, Integer addedRating);
+
+    /**
+     * 활성 리뷰가 있지만 통계 행이 없는 업체 ID 조회 (통계 도입 이전 데이터 이관용)
+     *
+     * @param limit 최대 조회 수
+     * @return 업체 ID 목록
+     */
+    List<UUID> findBusinessIdsWithoutStats(int limit);
+
+    /**
+     * 최신 통계 값 조회 (영속성 컨텍스트 우회)
+     *
+     * @param businessId 업체 ID
+     * @return 리뷰 수 / 평점 합계, 행이 없으면 null
+     */
+    Totals findTotals(UUID businessId);
+
+    /**
+     * 리뷰 수 / 평점 합계
+     */
+    record Totals(long reviewCount, long ratingSum) {
+
+        public Double averageRating() {
+            return reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package timefit.review.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static timefit.review.entity.QBusinessReviewStats.businessReviewStats;
+import static timefit.review.entity.QReview.review;
+
+/**
+ * 업체 리뷰 누적 통계 Query Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusinessReviewStatsQueryRepositoryImpl implements BusinessReviewStatsQueryRepository {
+
+    /**
+     * 기존 활성 리뷰 집계로 통계 행 생성 (이미 있으면 무시)
+     * - 집계는 항상 1행, 동시에 첫 생성이 겹치면 ON CONFLICT DO NOTHING 으로 건너뜀 (유니크 제약 예외 없음)
+     * - 충돌 대상 컬럼은 생략 (id는 매번 새 값이므로 business_id 유니크 제약만 충돌, H2 PostgreSQL 모드 호환)
+     */
+    private static final String INITIALIZE_SQL = """
+            INSERT INTO business_review_stats (
+                id, business_id, review_count, rating_sum,
+                rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+                created_at, updated_at
+            )
+            SELECT
+                :id, :businessId, agg.review_count, agg.rating_sum,
+                agg.rating_1_count, agg.rating_2_count, agg.rating_3_count, agg.rating_4_count, agg.rating_5_count,
+                :now, :now
+            FROM (
+                SELECT
+                    COUNT(r.id) AS review_count,
+                    COALESCE(SUM(r.rating), 0) AS rating_sum,
+                    COALESCE(SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), 0) AS rating_1_count,
+                    COALESCE(SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), 0) AS rating_2_count,
+                    COALESCE(SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), 0) AS rating_3_count,
+                    COALESCE(SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), 0) AS rating_4_count,
+                    COALESCE(SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END), 0) AS rating_5_count
+                FROM review r
+                WHERE r.business_id = :businessId
+                  AND r.deleted_at IS NULL
+            ) agg
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public void initializeIfAbsent(UUID businessId) {
+        // 대부분 이미 있음 → 유니크 인덱스 조회 1회로 끝냄 (집계는 통계 행이 없을 때만)
+        boolean exists = queryFactory
+                .selectOne()
+                .from(businessReviewStats)
+                .where(businessReviewStats.business.id.eq(businessId))
+                .fetchFirst() != null;
+
+        if (exists) {
+            return;
+        }
+
+        entityManager.createNativeQuery(INITIALIZE_SQL)
+                .setParameter("id", UUID.randomUUID())
+                .setParameter("businessId", businessId)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    @Override
+    public void applyDelta(UUID businessId, Integer removedRating, Integer addedRating) {
+        if (removedRating != null && removedRating.equals(addedRating)) {
+            return;
+        }
+
+        long countDelta = (addedRating != null ? 1 : 0) - (removedRating != null ? 1 : 0);
+        long sumDelta = (addedRating != null ? addedRating : 0) - (removedRating != null ? removedRating : 0);
+
+        JPAUpdateClause update = queryFactory
+                .update(businessReviewStats)
+                .set(businessReviewStats.updatedAt, LocalDateTime.now());
+
+        if (countDelta != 0) {
+            update.set(businessReviewStats.reviewCount, businessReviewStats.reviewCount.add(countDelta));
+        }
+        if (sumDelta != 0) {
+            update.set(businessReviewStats.ratingSum, businessReviewStats.ratingSum.add(sumDelta));
+        }
+        if (removedRating != null) {
+            NumberPath<Long> removed = ratingCount(removedRating);
+            update.set(removed, removed.subtract(1L));
+        }
+        if (addedRating != null) {
+            NumberPath<Long> added = ratingCount(addedRating);
+            update.set(added, added.add(1L));
+        }
+
+        update.where(businessReviewStats.business.id.eq(businessId))
+                .execute();
+    }
+
+    @Override
+    public List<UUID> findBusinessIdsWithoutStats(int limit) {
+        return queryFactory
+                .select(review.business.id)
+                .distinct()
+                .from(review)
+                .where(
+                        review.deletedAt.isNull(),
+                        JPAExpressions
+                                .selectOne()
+                                .from(businessReviewStats)
+                                .where(businessReviewStats.business.id.eq(review.business.id))
+                                .notExists()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Totals findTotals(UUID businessId) {
+        Tuple tuple = queryFactory
+                .select(businessReviewStats.reviewCount, businessReviewStats.ratingSum)
+                .from(businessReviewStats)
+                .where(businessReviewStats.business.id.eq(businessId))
+                .fetchOne();
+
+        if (tuple == null) {
+            return null;
+        }
+        return new Totals(
+                tuple.get(businessReviewStats.reviewCount),
+                tuple.get(businessReviewStats.ratingSum)
+        );
+    }
+
+    private NumberPath<Long> ratingCount(int rating) {
+        return switch (rating) {
+            case 1 -> businessReviewStats.rating1Count;
+            case 2 -> businessReviewStats.rating2Count;
+            case 3 -> businessReviewStats.rating3Count;
+            case 4 -> businessReviewStats.rating4Count;
+            case 5 -> businessReviewStats.rating5Count;
+            default -> throw new IllegalArgumentException("평점은 1~5 사이여야 합니다: " + rating);
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package timefit.review.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import timefit.review.entity.BusinessReviewStats;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BusinessReviewStatsRepository extends JpaRepository<BusinessReviewStats, UUID> {
+
+    Optional<BusinessReviewStats> findByBusinessId(UUID businessId);
+}
@@ -0,0 +1,53 @@
+package timefit.scheduler.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대(lease) - 다중 노드 중 한 노드만 작업하도록 보장
+ * - 작업 이름당 1행, 보유 노드(ownerId) + 만료 시각(leasedUntil)
+ * - 만료 전에는 보유 노드만 연장 가능, 만료 후에는 어느 노드든 획득 가능
+ * - 보유 노드가 죽어도 leasedUntil 경과 후 다른 노드가 이어받음
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease extends BaseEntity {
+
+    /**
+     * 작업 이름 (예: reservation-lifecycle:3)
+     */
+    @NotBlank
+    @Column(name = "lease_name", nullable = false, unique = true, length = 100)
+    private String leaseName;
+
+    /**
+     * 보유 노드 식별자
+     */
+    @NotBlank
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    /**
+     * 임대 만료 시각
+     */
+    @NotNull
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+
+    public static SchedulerLease create(String leaseName, String ownerId, LocalDateTime leasedUntil) {
+        SchedulerLease lease = new SchedulerLease();
+        lease.leaseName = leaseName;
+        lease.ownerId = ownerId;
+        lease.leasedUntil = leasedUntil;
+        return lease;
+    }
+}
@@ -0,0 +1,42 @@
+package timefit.scheduler.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.scheduler.entity.SchedulerLease;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, UUID> {
+
+    boolean existsByLeaseName(String leaseName);
+
+    /**
+     * 임대 획득 / 연장 (조건부 UPDATE 1회 - 행 잠금으로 노드 간 직렬화)
+     * - 본인 보유 중이거나 만료된 경우에만 성공
+     *
+     * @return 1이면 획득, 0이면 다른 노드 보유 중 (또는 행 없음)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :ownerId, l.leasedUntil = :leasedUntil"
+            + " WHERE l.leaseName = :leaseName AND (l.ownerId = :ownerId OR l.leasedUntil <= :now)")
+    int acquire(
+            @Param("leaseName") String leaseName,
+            @Param("ownerId") String ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    /**
+     * 임대 반납 (본인 보유 중일 때만, 즉시 만료 처리)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leasedUntil = :now WHERE l.leaseName = :leaseName AND l.ownerId = :ownerId")
+    int release(
+            @Param("leaseName") String leaseName,
+            @Param("ownerId") String ownerId,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,50 @@
+package timefit.user.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import timefit.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT 토큰 (로그아웃 / Refresh Token 교체)
+ * - 공유 폐기 저장소(timefit.auth.revocation.store=shared) 사용 시에만 기록
+ * - 토큰 만료 이후에는 의미가 없으므로 expiresAt 기준으로 주기적 삭제
+ */
+@Entity
+@Table(
+        name = "revoked_token",
+        indexes = {
+                @Index(name = "idx_revoked_token_created_at", columnList = "created_at"),
+                @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken extends BaseEntity {
+
+    /**
+     * 토큰 식별자 (jti claim)
+     */
+    @NotBlank
+    @Column(name = "jti", nullable = false, unique = true, length = 36)
+    private String jti;
+
+    /**
+     * 원본 토큰 만료 시각
+     */
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static RevokedToken create(String jti, LocalDateTime expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.jti = jti;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+}
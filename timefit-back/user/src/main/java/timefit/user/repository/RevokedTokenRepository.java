@@ -0,0 +1,46 @@
+package timefit.user.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import timefit.user.entity.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * 폐기 기록 (이미 있으면 무시)
+     * - ON CONFLICT DO NOTHING → 노드 간 동시 폐기도 유니크 제약(jti) 예외 없이 한쪽만 기록
+     *   (충돌 대상 미지정 → PostgreSQL / H2 공통)
+     *
+     * @return 기록된 행 수 (0: 다른 노드에서 이미 폐기)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO revoked_token (id, jti, expires_at, created_at, updated_at)
+            VALUES (:id, :jti, :expiresAt, :now, :now)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("jti") String jti,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 동기화용 - 특정 시각 이후 기록된 미만료 폐기 토큰
+     */
+    List<RevokedToken> findByCreatedAtAfterAndExpiresAtAfter(LocalDateTime createdAfter, LocalDateTime now);
+
+    /**
+     * 만료된 폐기 기록 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
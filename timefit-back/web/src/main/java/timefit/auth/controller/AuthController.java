@@ -105,11 +105,13 @@ public class AuthController {
     @LogoutOperation
     @PostMapping("/logout")
     public ResponseEntity<ResponseData<Void>> logout(
-            @LogoutRequestBody @Valid @RequestBody AuthRequestDto.Logout request) {
+            @LogoutRequestBody @Valid @RequestBody AuthRequestDto.Logout request,
+            @Parameter(hidden = true) HttpServletRequest httpRequest) {
 
         log.info("로그아웃 요청");
 
-        authFacadeService.logout(request);
+        // JwtAuthFilter가 인증에 사용한 Access Token
+        authFacadeService.logout(request, (String) httpRequest.getAttribute("token"));
 
         log.info("로그아웃 완료");
 
@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import timefit.auth.service.validator.TokenValidator;
@@ -18,9 +17,7 @@ import timefit.exception.auth.AuthException;
 import timefit.exception.auth.AuthErrorCode;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -57,8 +54,8 @@ import java.util.UUID;
  *
  * SecurityConfig와의 관계:
  * - 이 필터는 SecurityFilterChain보다 먼저 실행됨
- * - GET 전용 공개 API는 이 필터에서 HTTP Method로 구분
- * - SecurityConfig의 permitAll()과 일치하도록 유지 필요
+ * - 공개 경로는 PublicRouteTable 한 곳에서 정의 (SecurityConfig permitAll()과 공유)
+ * - GET 전용 공개 API는 HTTP Method로 구분
  * - 이 필터에서 userId를 추출하고 Authentication을 설정하면, Spring Security의 .authenticated() 체크를 통과
  * - Controller에서 @CurrentUserId로 사용 가능
  *
@@ -74,53 +71,7 @@ import java.util.UUID;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final TokenValidator tokenValidator;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
-    /**
-     * 모든 HTTP Method에서 공개 API 경로 목록 (인증 불필요)
-     * SecurityConfig의 permitAll() 설정과 동일하게 유지해야 함
-     * AntPathMatcher를 사용하여 와일드카드 패턴 지원
-     *
-     * 공개 API 목록:
-     * 1. /api/auth/signup, /api/auth/signin, /api/auth/refresh, /api/auth/health
-     * 2. /api/business/search/** - 업체 검색 (쿼리 파라미터 포함)
-     * 3. /api/business/{businessId}/booking-slot/** - 예약 슬롯 조회 (GET 전용)
-     * 4. /api/validation/** - 검증 API
-     * 5. 개발/모니터링 도구
-     *
-     * 참고: GET 메서드만 공개인 경로는 requiresAuthentication()에서 별도 처리
-     *      예: GET /api/business/{businessId} (공개)
-     *         POST /api/business/{businessId} (인증 필요)
-     */
-    private static final List<String> PUBLIC_PATHS = Arrays.asList(
-            // 인증 관련 API (회원가입, 로그인만 공개)
-            "/api/auth/signup",
-            "/api/auth/signin",
-            "/api/auth/refresh",
-            "/api/auth/health",
-
-            // 업체 관련 공개 API
-            "/api/business/search",
-            "/api/business/search/**",                              // 업체 검색 (쿼리 파라미터 포함)
-
-//            // 예약 슬롯 (GET만 공개)
-//            "/api/business/*/booking-slot",
-//            "/api/business/*/booking-slot/range",
-//            "/api/business/*/booking-slot/menu/*",                  // GET 예약 슬롯 조회
-//            "/api/business/*/booking-slot/upcoming",
-
-            // 검증 API
-            "/api/validation/**",
-
-            // 테스트 API (개발용)
-            "/api/test/**",
-
-            // 개발/모니터링 도구
-            "/actuator/**",
-            "/swagger-ui/**",
-            "/v1/api-docs/**",
-            "/favicon.ico"
-    );
+    private final PublicRouteTable publicRouteTable;
 
     /**
      * 필터 실행 메서드
@@ -167,10 +118,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
      * HTTP Method와 URI를 모두 고려하여 인증 필요 여부를 판단합니다.
      *
      * 판단 로직:
-     * 1. GET 메서드 전용 공개 API 확인 (업체 조회, 메뉴 조회 등)
-     * 2. 모든 메서드 공개 API 확인 (PUBLIC_PATHS)
-     * 3. /api/로 시작하는 경로 → 인증 필요
-     * 4. 그 외 경로 → 인증 불필요
+     * 1. PublicRouteTable에 등록된 공개 경로 → 인증 불필요 (GET 전용 / 모든 Method 공개 구분)
+     * 2. /api/로 시작하는 경로 → 인증 필요
+     * 3. 그 외 경로 → 인증 불필요
      *
      * 예시:
      * - GET  /api/business/{businessId} → 공개 (고객이 업체 정보 조회)
@@ -183,99 +133,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
      */
     private boolean requiresAuthentication(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-
-        // ========== GET 메서드만 공개인 경로 확인 ==========
-        if ("GET".equals(method)) {
-            // 업체 상세 조회
-            if (pathMatcher.match("/api/business/*", requestURI)) {
-                log.debug("공개 API 접근 (GET): 업체 상세 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 영업시간 조회
-            if (pathMatcher.match("/api/business/*/operating-hours", requestURI)) {
-                log.debug("공개 API 접근 (GET): 영업시간 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 메뉴 목록 조회
-            if (pathMatcher.match("/api/business/*/menu", requestURI)) {
-                log.debug("공개 API 접근 (GET): 메뉴 목록 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 메뉴 상세 조회
-            if (pathMatcher.match("/api/business/*/menu/*", requestURI)) {
-                log.debug("공개 API 접근 (GET): 메뉴 상세 조회 - {}", requestURI);
-                return false;
-            }
-
-            // ========== 예약 슬롯 조회 (GET만 공개) ==========
-            // 특정 날짜 슬롯 조회
-            if (pathMatcher.match("/api/business/*/booking-slot", requestURI)) {
-                log.debug("공개 API 접근 (GET): 예약 슬롯 조회 - {}", requestURI);
-                return false;
-            }
 
-            // 기간별 슬롯 조회
-            if (pathMatcher.match("/api/business/*/booking-slot/range", requestURI)) {
-                log.debug("공개 API 접근 (GET): 기간별 슬롯 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 메뉴별 슬롯 조회
-            if (pathMatcher.match("/api/business/*/booking-slot/menu/*", requestURI)) {
-                log.debug("공개 API 접근 (GET): 메뉴별 슬롯 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 향후 활성 슬롯 조회
-            if (pathMatcher.match("/api/business/*/booking-slot/upcoming", requestURI)) {
-                log.debug("공개 API 접근 (GET): 향후 슬롯 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 기타 슬롯 관련 GET 요청
-            if (pathMatcher.match("/api/business/*/booking-slot/**", requestURI)) {
-                log.debug("공개 API 접근 (GET): 슬롯 관련 조회 - {}", requestURI);
-                return false;
-            }
-
-            // ========== 리뷰 조회 (GET만 공개) ==========
-            // 업체별 리뷰 목록 조회
-            if (pathMatcher.match("/api/public/business/*/reviews", requestURI)) {
-                log.debug("공개 API 접근 (GET): 업체 리뷰 목록 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 리뷰 통계 조회
-            if (pathMatcher.match("/api/public/business/*/reviews/statistics", requestURI)) {
-                log.debug("공개 API 접근 (GET): 리뷰 통계 조회 - {}", requestURI);
-                return false;
-            }
-
-            // 기타 공개 API
-            if (pathMatcher.match("/api/public/**", requestURI)) {
-                log.debug("공개 API 접근 (GET): 공개 API - {}", requestURI);
-                return false;
-            }
-        }
-
-        // ========== 모든 메서드 공개 API 확인 (PUBLIC_PATHS) ==========
-        for (String publicPath : PUBLIC_PATHS) {
-            if (pathMatcher.match(publicPath, requestURI)) {
-                log.debug("공개 API 접근 (모든 메서드): {} - {}", method, requestURI);
-                return false;
-            }
+        if (publicRouteTable.isPublic(request.getMethod(), requestURI)) {
+            return false;
         }
-
-        // ========== /api/로 시작하는 경로는 인증 필요 ==========
-        boolean requiresAuth = requestURI.startsWith("/api/");
-        if (requiresAuth) {
-            log.debug("인증 필요 API: {} {}", method, requestURI);
-        }
-        return requiresAuth;
+        return requestURI.startsWith("/api/");
     }
 
     /**
@@ -284,14 +146,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
      * 처리 흐름:
      * 1. Authorization 헤더에서 Bearer 토큰 추출 (extractToken)
      * 2. 토큰 존재 여부 확인
-     * 3. TokenValidator로 토큰 유효성 검증
-     * 4. 토큰에서 userId 추출
-     * 5. request.setAttribute("userId", userId) 저장 (Controller에서 @CurrentUserId로 사용)
-     * 6. request.setAttribute("token", token) 저장 (필요 시 재사용)
-     * 7. SecurityContext에 Authentication 설정 (Spring Security 인증 통과)
+     * 3. TokenValidator.authenticate로 검증 + userId 추출 (서명 검증 1회, 검증 캐시 적중 시 생략)
+     * 4. request.setAttribute("userId", userId) 저장 (Controller에서 @CurrentUserId로 사용)
+     * 5. request.setAttribute("token", token) 저장 (필요 시 재사용)
+     * 6. SecurityContext에 Authentication 설정 (Spring Security 인증 통과)
      *
      * @param request HTTP 요청
-     * @throws AuthException 토큰이 없거나 유효하지 않을 경우 (TOKEN_INVALID)
+     * @throws AuthException 토큰이 없거나 유효하지 않을 경우 (TOKEN_INVALID / TOKEN_EXPIRED)
      */
     private void validateTokenAndSetUser(HttpServletRequest request) {
         String token = extractToken(request);
@@ -300,13 +161,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throw new AuthException(AuthErrorCode.TOKEN_INVALID);
         }
 
-        // TokenValidator를 사용한 토큰 검증
-        if (!tokenValidator.isValidToken(token)) {
-            throw new AuthException(AuthErrorCode.TOKEN_INVALID);
-        }
-
-        // 토큰에서 사용자 ID 추출하여 요청에 설정
-        UUID userId = tokenValidator.getUserIdFromToken(token);
+        // TokenValidator를 사용한 토큰 검증 + 사용자 ID 추출 (1회)
+        UUID userId = tokenValidator.authenticate(token).userId();
         request.setAttribute("userId", userId);
         request.setAttribute("token", token);
 
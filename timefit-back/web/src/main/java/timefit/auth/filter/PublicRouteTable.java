@@ -0,0 +1,270 @@
+package timefit.auth.filter;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 API 경로 테이블 (인증 불필요 경로의 단일 정의)
+ *
+ * 역할:
+ * - JwtAuthFilter (토큰 검증 여부 판단)와 SecurityConfig (permitAll 등록)가 같은 규칙을 사용
+ *   → 두 설정이 어긋나는 문제 방지
+ * - 시작 시 규칙을 경로 세그먼트 트라이로 1회 컴파일
+ *
+ * 지원 패턴:
+ * - 리터럴 세그먼트: /api/auth/signin
+ * - 단일 세그먼트 와일드카드: /api/business/* (빈 세그먼트 제외)
+ * - 후행 다중 세그먼트 와일드카드: /api/public/** (0개 이상 세그먼트)
+ *
+ * 판정 (isPublic):
+ * - URI를 분리하지 않고 인덱스만 이동하며 트라이 탐색 → 요청당 객체 할당 없음
+ * - 리터럴 우선, 실패 시 * 자식으로 백트래킹
+ * - 노드별 허용 HTTP Method를 비트마스크로 보관 (GET 전용 공개 / 모든 Method 공개)
+ */
+@Component
+public class PublicRouteTable {
+
+    /**
+     * 공개 경로 규칙
+     *
+     * @param method 허용 HTTP Method (null이면 모든 Method)
+     * @param pattern 경로 패턴
+     */
+    public record PublicRoute(HttpMethod method, String pattern) {
+        static PublicRoute any(String pattern) {
+            return new PublicRoute(null, pattern);
+        }
+
+        static PublicRoute get(String pattern) {
+            return new PublicRoute(HttpMethod.GET, pattern);
+        }
+    }
+
+    private static final List<PublicRoute> DEFAULT_ROUTES = List.of(
+            // ========== 인증 관련 API (모든 Method) ==========
+            PublicRoute.any("/api/auth/signup"),
+            PublicRoute.any("/api/auth/signin"),
+            PublicRoute.any("/api/auth/refresh"),
+            PublicRoute.any("/api/auth/oauth"),
+            PublicRoute.any("/api/auth/health"),
+
+            // ========== 업체 검색 (모든 Method) ==========
+            PublicRoute.any("/api/business/search/**"),
+
+            // ========== 업체 조회 (GET만 공개) ==========
+            PublicRoute.get("/api/business/*"),                       // 업체 상세
+            PublicRoute.get("/api/business/*/public-profile"),        // 업체 공개 프로필 (묶음)
+            PublicRoute.get("/api/business/*/operating-hours"),       // 영업시간
+            PublicRoute.get("/api/business/*/operating-hours/date-overrides"), // 날짜별 영업 예외
+            PublicRoute.get("/api/business/*/menu"),                  // 메뉴 목록
+            PublicRoute.get("/api/business/*/menu/*"),                // 메뉴 상세
+
+            // ========== 예약 슬롯 조회 (GET만 공개) ==========
+            // 날짜별 / range / menu/{menuId} / upcoming 포함
+            PublicRoute.get("/api/business/*/booking-slot/**"),
+
+            // ========== 공개 조회 API (GET만 공개) ==========
+            // 리뷰 목록 / 리뷰 통계 포함
+            PublicRoute.get("/api/public/**"),
+
+            // ========== 검증 / 테스트 API ==========
+            PublicRoute.any("/api/validation/**"),
+            PublicRoute.any("/api/test/**"),
+
+            // ========== 개발/모니터링 도구 ==========
+            PublicRoute.any("/actuator/**"),
+            PublicRoute.any("/swagger-ui/**"),
+            PublicRoute.any("/v1/api-docs/**"),
+            PublicRoute.any("/favicon.ico")
+    );
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    // HTTP Method 비트 (OTHER: 표준 외 Method)
+    private static final int GET = 1;
+    private static final int HEAD = 1 << 1;
+    private static final int POST = 1 << 2;
+    private static final int PUT = 1 << 3;
+    private static final int PATCH = 1 << 4;
+    private static final int DELETE = 1 << 5;
+    private static final int OPTIONS = 1 << 6;
+    private static final int TRACE = 1 << 7;
+    private static final int OTHER = 1 << 8;
+    private static final int ALL_METHODS = (1 << 9) - 1;
+
+    private final List<PublicRoute> routes;
+    private final Node root = new Node();
+
+    public PublicRouteTable() {
+        this(DEFAULT_ROUTES);
+    }
+
+    public PublicRouteTable(List<PublicRoute> routes) {
+        this.routes = List.copyOf(routes);
+        for (PublicRoute route : this.routes) {
+            register(route);
+        }
+        root.freeze();
+    }
+
+    /**
+     * 등록된 공개 경로 규칙 (SecurityConfig permitAll 등록용)
+     */
+    public List<PublicRoute> routes() {
+        return routes;
+    }
+
+    /**
+     * 공개 경로 여부 판정
+     *
+     * @param method HTTP Method (예: "GET")
+     * @param uri 요청 URI (쿼리 스트링 제외)
+     * @return 공개 경로면 true
+     */
+    public boolean isPublic(String method, String uri) {
+        if (uri == null || uri.isEmpty() || uri.charAt(0) != '/') {
+            return false;
+        }
+        return matches(root, uri, 1, methodBit(method));
+    }
+
+    // pos: 현재 세그먼트 시작 인덱스 (직전 '/' 다음)
+    private static boolean matches(Node node, String uri, int pos, int methodBit) {
+        // '**': 남은 세그먼트 수와 무관하게 일치
+        if ((node.restMethods & methodBit) != 0) {
+            return true;
+        }
+
+        // '/' 로 끝나는 URI (빈 마지막 세그먼트)는 '**' 외 패턴과 불일치
+        int length = uri.length();
+        if (pos >= length) {
+            return false;
+        }
+
+        int end = uri.indexOf('/', pos);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - pos;
+        int next = end + 1;
+
+        // 빈 세그먼트 ('//')는 어떤 패턴과도 불일치
+        if (segmentLength == 0) {
+            return false;
+        }
+        boolean last = end == length;
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == segmentLength && uri.regionMatches(pos, literal, 0, segmentLength)) {
+                Node child = node.literalChildren[i];
+                if (last ? matchesEnd(child, methodBit) : matches(child, uri, next, methodBit)) {
+                    return true;
+                }
+                break;
+            }
+        }
+
+        Node wildcard = node.wildcardChild;
+        if (wildcard != null) {
+            return last ? matchesEnd(wildcard, methodBit) : matches(wildcard, uri, next, methodBit);
+        }
+        return false;
+    }
+
+    private static boolean matchesEnd(Node node, int methodBit) {
+        return ((node.exactMethods | node.restMethods) & methodBit) != 0;
+    }
+
+    private void register(PublicRoute route) {
+        String pattern = route.pattern();
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("공개 경로 패턴은 '/'로 시작해야 합니다: " + pattern);
+        }
+
+        int methods = route.method() == null ? ALL_METHODS : methodBit(route.method().name());
+        String[] segments = pattern.substring(1).split("/");
+
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**'는 패턴 마지막에만 사용할 수 있습니다: " + pattern);
+                }
+                node.restMethods |= methods;
+                return;
+            }
+            node = SINGLE_WILDCARD.equals(segment) ? node.wildcard() : node.literal(segment);
+        }
+        node.exactMethods |= methods;
+    }
+
+    private static int methodBit(String method) {
+        if (method == null) {
+            return OTHER;
+        }
+        return switch (method) {
+            case "GET" -> GET;
+            case "HEAD" -> HEAD;
+            case "POST" -> POST;
+            case "PUT" -> PUT;
+            case "PATCH" -> PATCH;
+            case "DELETE" -> DELETE;
+            case "OPTIONS" -> OPTIONS;
+            case "TRACE" -> TRACE;
+            default -> OTHER;
+        };
+    }
+
+    /**
+     * 트라이 노드
+     * - 구성 단계에서는 List로 자식 추가, freeze() 이후 배열로 고정 (탐색 시 반복자 할당 없음)
+     */
+    private static final class Node {
+        private final List<String> pendingLiterals = new ArrayList<>();
+        private final List<Node> pendingChildren = new ArrayList<>();
+
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node wildcardChild;
+
+        // 이 노드에서 경로가 끝날 때 허용 Method
+        private int exactMethods;
+        // 이 노드 이하 모든 경로('**')에 허용 Method
+        private int restMethods;
+
+        private Node literal(String segment) {
+            int index = pendingLiterals.indexOf(segment);
+            if (index >= 0) {
+                return pendingChildren.get(index);
+            }
+            Node child = new Node();
+            pendingLiterals.add(segment);
+            pendingChildren.add(child);
+            return child;
+        }
+
+        private Node wildcard() {
+            if (wildcardChild == null) {
+                wildcardChild = new Node();
+            }
+            return wildcardChild;
+        }
+
+        private void freeze() {
+            literals = pendingLiterals.toArray(new String[0]);
+            literalChildren = pendingChildren.toArray(new Node[0]);
+            for (Node child : literalChildren) {
+                child.freeze();
+            }
+            if (wildcardChild != null) {
+                wildcardChild.freeze();
+            }
+        }
+    }
+}
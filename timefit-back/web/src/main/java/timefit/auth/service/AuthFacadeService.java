@@ -38,14 +38,17 @@ public class AuthFacadeService {
         return userLoginService.loginOAuthUser(request);
     }
 
-    // 로그아웃
+    // 로그아웃 (요청 본문 토큰 + 인증에 사용된 Access Token 폐기)
     @Transactional
-    public void logout(AuthRequestDto.Logout request) {
+    public void logout(AuthRequestDto.Logout request, String accessToken) {
         log.info("로그아웃 처리");
 
         if (request.currentToken() != null) {
             authTokenService.invalidateToken(request.currentToken());
         }
+        if (accessToken != null && !accessToken.equals(request.currentToken())) {
+            authTokenService.invalidateToken(accessToken);
+        }
     }
 
     // 토큰 갱신
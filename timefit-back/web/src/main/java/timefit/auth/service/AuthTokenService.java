@@ -3,11 +3,12 @@ package timefit.auth.service;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
-import lombok.RequiredArgsConstructor;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import timefit.auth.dto.AuthRequestDto;
 import timefit.auth.dto.AuthResponseDto;
+import timefit.auth.service.revocation.TokenRevocationStore;
 import timefit.auth.service.validator.TokenValidator;
 import timefit.config.JwtConfig;
 import timefit.exception.auth.AuthErrorCode;
@@ -24,14 +25,31 @@ import java.util.UUID;
  * - Token 갱신
  * - Token 무효화 (로그아웃)
  * 검증 로직은 TokenValidator에 위임
+ * 서명 Algorithm은 생성 시 1회만 구성 (thread-safe)
+ * 폐기:
+ * - 모든 토큰에 jti(UUID) 부여 → TokenRevocationStore에 jti 단위로 폐기 기록
+ * - Refresh Token은 1회용 (갱신 시 기존 토큰 폐기, 재사용 시 거부)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthTokenService {
 
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtConfig jwtConfig;
     private final TokenValidator tokenValidator;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final Algorithm algorithm;
+
+    public AuthTokenService(JwtConfig jwtConfig,
+                            TokenValidator tokenValidator,
+                            TokenRevocationStore tokenRevocationStore) {
+        this.jwtConfig = jwtConfig;
+        this.tokenValidator = tokenValidator;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.algorithm = Algorithm.HMAC512(jwtConfig.getSecretKey());
+    }
 
     /**
      * Access Token 생성
@@ -41,13 +59,13 @@ public class AuthTokenService {
      */
     public String generateToken(UUID userId) {
         try {
-            Algorithm algorithm = Algorithm.HMAC512(jwtConfig.getSecretKey());
             Date now = new Date();
             Date expiryDate = new Date(now.getTime() + jwtConfig.getAccessTokenExpiration());
 
             return JWT.create()
                     .withIssuer(jwtConfig.getIssuer())
                     .withSubject(userId.toString())
+                    .withJWTId(UUID.randomUUID().toString())
                     .withIssuedAt(now)
                     .withExpiresAt(expiryDate)
                     .sign(algorithm);
@@ -66,16 +84,16 @@ public class AuthTokenService {
      */
     public String generateRefreshToken(UUID userId) {
         try {
-            Algorithm algorithm = Algorithm.HMAC512(jwtConfig.getSecretKey());
             Date now = new Date();
             Date expiryDate = new Date(now.getTime() + jwtConfig.getRefreshTokenExpiration());
 
             return JWT.create()
                     .withIssuer(jwtConfig.getIssuer())
                     .withSubject(userId.toString())
+                    .withJWTId(UUID.randomUUID().toString())
                     .withIssuedAt(now)
                     .withExpiresAt(expiryDate)
-                    .withClaim("tokenType", "refresh")
+                    .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                     .sign(algorithm);
 
         } catch (JWTCreationException e) {
@@ -86,26 +104,35 @@ public class AuthTokenService {
 
     /**
      * 토큰 갱신 (Refresh Token으로 새 Access + Refresh Token 발급)
+     * 1. Refresh Token 검증 (서명 검증 1회) + 토큰 타입 확인
+     * 2. 기존 Refresh Token 폐기 - 이미 폐기된 토큰이면 재사용으로 보고 거부
+     * 3. 새 토큰 쌍 발급
      *
      * @param request Refresh Token 요청 DTO
      * @return 새로운 Access Token과 Refresh Token
+     * @throws AuthException Refresh Token이 아니거나, 만료/폐기/유효하지 않을 시
      */
     public AuthResponseDto.TokenRefresh refreshToken(AuthRequestDto.TokenRefresh request) {
-        // 1. Refresh Token 유효성 검증 (TokenValidator에 위임)
-        if (!tokenValidator.isValidToken(request.refreshToken())) {
+        // 1. Refresh Token 검증 + 사용자 ID 추출 (TokenValidator에 위임, 서명 검증 1회)
+        DecodedJWT refreshJwt = tokenValidator.verifyToken(request.refreshToken());
+        if (!REFRESH_TOKEN_TYPE.equals(refreshJwt.getClaim(TOKEN_TYPE_CLAIM).asString())) {
             throw new AuthException(AuthErrorCode.TOKEN_INVALID);
         }
+        UUID userId = tokenValidator.extractUserId(refreshJwt);
 
-        // 2. 사용자 ID 추출 (TokenValidator에 위임)
-        UUID userId = tokenValidator.getUserIdFromToken(request.refreshToken());
+        // 2. 기존 Refresh Token 폐기 (동시 갱신 요청 중 하나만 성공)
+        if (refreshJwt.getId() != null
+                && !tokenRevocationStore.revoke(refreshJwt.getId(), refreshJwt.getExpiresAt().getTime())) {
+            log.warn("폐기된 Refresh Token 재사용 시도: userId={}", userId);
+            throw new AuthException(AuthErrorCode.TOKEN_REVOKED);
+        }
 
         // 3. 새 토큰 생성
         String newAccessToken = generateToken(userId);
         String newRefreshToken = generateRefreshToken(userId);
 
-        // 4. 만료 시간 계산 (TokenValidator에 위임)
-        Date expirationDate = tokenValidator.getExpirationDate(newAccessToken);
-        long expiresIn = (expirationDate.getTime() - System.currentTimeMillis()) / 1000;
+        // 4. 만료 시간 계산 (방금 발급한 토큰이므로 재검증 없이 설정값 사용)
+        long expiresIn = jwtConfig.getAccessTokenExpiration() / 1000;
 
         // 5. DTO 반환
         return AuthResponseDto.TokenRefresh.of(
@@ -119,9 +146,27 @@ public class AuthTokenService {
 
     /**
      * 토큰 무효화 (로그아웃)
-     * @param token JWT 토큰
+     * - 유효한 토큰의 jti를 만료 시각까지 폐기 목록에 등록
+     * - 이미 만료되었거나 유효하지 않은 토큰은 무시 (폐기할 필요 없음)
+     * - jti가 없는 토큰 (jti 도입 이전 발급)은 만료 시까지 유효
+     *
+     * @param token JWT 토큰 (Access 또는 Refresh)
      */
     public void invalidateToken(String token) {
-        log.info("토큰 무효화 요청: {}", token.substring(0, Math.min(20, token.length())));
+        DecodedJWT decodedJWT;
+        try {
+            decodedJWT = tokenValidator.verifyToken(token);
+        } catch (AuthException e) {
+            log.debug("토큰 무효화 생략 (만료 또는 유효하지 않은 토큰): {}", e.getMessage());
+            return;
+        }
+
+        if (decodedJWT.getId() == null) {
+            log.info("jti 없는 토큰 - 폐기 생략: userId={}", decodedJWT.getSubject());
+            return;
+        }
+
+        tokenRevocationStore.revoke(decodedJWT.getId(), decodedJWT.getExpiresAt().getTime());
+        log.info("토큰 무효화 완료: userId={}", decodedJWT.getSubject());
     }
-}
\ No newline at end of file
+}
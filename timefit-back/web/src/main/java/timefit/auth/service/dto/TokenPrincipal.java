@@ -0,0 +1,25 @@
+package timefit.auth.service.dto;
+
+import java.util.UUID;
+
+/**
+ * 검증된 JWT 토큰 정보 (Internal DTO)
+ * TokenValidator.authenticate 1회 검증 결과
+ *
+ * @param userId 토큰 subject (사용자 ID)
+ * @param jti 토큰 식별자 (폐기 확인용, jti 도입 이전 발급 토큰은 null)
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record TokenPrincipal(
+        UUID userId,
+        String jti,
+        long expiresAtMillis
+) {
+    public static TokenPrincipal of(UUID userId, String jti, long expiresAtMillis) {
+        return new TokenPrincipal(userId, jti, expiresAtMillis);
+    }
+
+    public boolean isExpiredAt(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
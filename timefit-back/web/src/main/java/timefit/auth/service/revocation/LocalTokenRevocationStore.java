@@ -0,0 +1,89 @@
+package timefit.auth.service.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * in-process 폐기 토큰 저장소 (시간 버킷 방식)
+ *
+ * [구조]
+ * - revoked: jti → 만료 시각 (조회 O(1))
+ * - buckets: 만료 시각을 1분 단위 버킷으로 묶은 jti 목록
+ *
+ * [자동 만료]
+ * - 조회/폐기 시 현재 분이 바뀌었으면 지난 버킷을 통째로 제거 (분당 1회, CAS로 한 스레드만 수행)
+ * - 별도 스케줄러 없이 메모리는 "미만료 폐기 토큰 수"에 비례
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "timefit.auth.revocation.store", havingValue = "local", matchIfMissing = true)
+public class LocalTokenRevocationStore implements TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+    private final AtomicLong purgedBucket = new AtomicLong();
+
+    @Override
+    public boolean revoke(String jti, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        purgeExpired(now);
+
+        // 이미 만료된 토큰은 서명 검증에서 거부되므로 보관 불필요
+        if (expiresAtMillis <= now) {
+            return !revoked.containsKey(jti);
+        }
+        if (revoked.putIfAbsent(jti, expiresAtMillis) != null) {
+            return false;
+        }
+
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), bucket -> new ConcurrentLinkedQueue<>()).add(jti);
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        purgeExpired(System.currentTimeMillis());
+        return revoked.containsKey(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 만료 시각이 현재 버킷 이전인 항목 일괄 제거
+    private void purgeExpired(long now) {
+        long current = bucketOf(now);
+        long purged = purgedBucket.get();
+        if (current <= purged || !purgedBucket.compareAndSet(purged, current)) {
+            return;
+        }
+
+        Map<Long, Queue<String>> expired = buckets.headMap(current);
+        int removed = 0;
+        for (Queue<String> jtis : expired.values()) {
+            for (String jti : jtis) {
+                revoked.remove(jti);
+                removed++;
+            }
+        }
+        expired.clear();
+
+        if (removed > 0) {
+            log.debug("만료된 폐기 토큰 정리: removed={}, remaining={}", removed, revoked.size());
+        }
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+}
@@ -0,0 +1,122 @@
+package timefit.auth.service.revocation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import timefit.user.entity.RevokedToken;
+import timefit.user.repository.RevokedTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 다중 노드 공유 폐기 토큰 저장소 (timefit.auth.revocation.store=shared)
+ *
+ * [구조]
+ * - 쓰기: revoked_token 테이블 기록 → 커밋 후 로컬 복제본 반영 (롤백된 폐기는 복제본에 남지 않음)
+ * - 읽기: 로컬 복제본(LocalTokenRevocationStore)만 조회 → 요청 경로에 DB 왕복 없음
+ * - 동기화: 주기적으로 마지막 동기화 이후 기록된 행을 로컬 복제본에 반영
+ *
+ * [정합성]
+ * - 다른 노드의 폐기는 최대 sync-interval 지연 후 반영
+ * - 노드 간 시계 오차를 고려해 동기화 구간을 SYNC_OVERLAP만큼 겹쳐 조회 (폐기는 멱등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.auth.revocation.store", havingValue = "shared")
+public class SharedTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
+    private static final LocalDateTime INITIAL_SYNC_POINT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final LocalTokenRevocationStore replica = new LocalTokenRevocationStore();
+
+    private volatile LocalDateTime lastSyncedAt = INITIAL_SYNC_POINT;
+
+    @Override
+    @Transactional
+    public boolean revoke(String jti, long expiresAtMillis) {
+        if (replica.isRevoked(jti)) {
+            return false;
+        }
+        // 이미 만료된 토큰은 서명 검증에서 거부되므로 기록 불필요
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return replica.revoke(jti, expiresAtMillis);
+        }
+
+        // 다른 노드에서 먼저 폐기된 경우 (아직 동기화 전) → 기록되지 않음
+        int inserted = revokedTokenRepository.insertIfAbsent(
+                UUID.randomUUID(), jti, toLocalDateTime(expiresAtMillis), LocalDateTime.now());
+
+        runAfterCommit(() -> replica.revoke(jti, expiresAtMillis));
+        return inserted == 1;
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return replica.isRevoked(jti);
+    }
+
+    /**
+     * 다른 노드의 폐기 기록을 로컬 복제본에 반영
+     */
+    @Scheduled(fixedDelayString = "${timefit.auth.revocation.sync-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == INITIAL_SYNC_POINT ? INITIAL_SYNC_POINT : lastSyncedAt.minus(SYNC_OVERLAP);
+
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(since, now);
+        for (RevokedToken revokedToken : revokedTokens) {
+            replica.revoke(revokedToken.getJti(), toEpochMillis(revokedToken.getExpiresAt()));
+        }
+
+        lastSyncedAt = now;
+        log.debug("폐기 토큰 동기화: fetched={}, replicaSize={}", revokedTokens.size(), replica.size());
+    }
+
+    /**
+     * 만료된 폐기 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${timefit.auth.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 기록 삭제: deleted={}", deleted);
+        }
+    }
+
+    // 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
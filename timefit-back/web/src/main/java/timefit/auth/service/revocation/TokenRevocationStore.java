@@ -0,0 +1,32 @@
+package timefit.auth.service.revocation;
+
+/**
+ * 폐기 토큰 저장소 (jti 기반 denylist)
+ *
+ * [구현]
+ * - LocalTokenRevocationStore: 단일 노드 in-process (기본값)
+ * - SharedTokenRevocationStore: DB 공유 + 노드별 in-process 복제 (다중 노드)
+ *
+ * [요구사항]
+ * - isRevoked는 요청 경로(JwtAuthFilter)에서 호출 → 외부 I/O 없이 O(1)
+ * - 항목은 원본 토큰 만료 시각이 지나면 자동 제거 (만료 토큰은 서명 검증 단계에서 이미 거부)
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰 폐기
+     *
+     * @param jti 토큰 식별자
+     * @param expiresAtMillis 원본 토큰 만료 시각 (epoch millis)
+     * @return 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    boolean revoke(String jti, long expiresAtMillis);
+
+    /**
+     * 폐기 여부 확인
+     *
+     * @param jti 토큰 식별자
+     * @return 폐기된 토큰이면 true
+     */
+    boolean isRevoked(String jti);
+}
@@ -0,0 +1,91 @@
+package timefit.auth.service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.auth.service.dto.TokenPrincipal;
+import timefit.common.cache.GenerationGuardedCache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 검증 완료된 Access Token 캐시 (최대 크기 제한)
+ *
+ * [역할]
+ * - 동일 토큰 재요청 시 HMAC 서명 검증 + Base64/JSON 디코딩 생략
+ * - 키: 토큰 SHA-256 해시 (원본 토큰 문자열은 보관하지 않음)
+ * - 값: 사용자 ID + 만료 시각
+ *
+ * [정합성]
+ * - 조회 시 만료 시각이 지났으면 즉시 제거하고 미스 처리 → 만료 토큰은 항상 재검증 경로로
+ * - 만료 시각은 토큰마다 다르므로 캐시 TTL 없이 조회 시점에 토큰 만료 시각으로 판단
+ *
+ * [동시성]
+ * - 모든 요청이 거치는 경로 → 전역 락 없이 GenerationGuardedCache (ConcurrentHashMap) 사용
+ * - 최대 크기 도달 시 한 스레드만 오래 사용되지 않은 항목 정리 (나머지 요청은 대기 없이 진행)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final GenerationGuardedCache<ByteBuffer, TokenPrincipal> entries;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new GenerationGuardedCache<>("verifiedToken", null, Math.max(1, maxSize));
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param token JWT 토큰
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 유효한 캐시 항목, 없거나 만료되었으면 null
+     */
+    public TokenPrincipal get(String token, long nowMillis) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        ByteBuffer key = hash(token);
+        TokenPrincipal principal = entries.getIfPresent(key);
+        if (principal != null && principal.isExpiredAt(nowMillis)) {
+            entries.evict(key);
+            return null;
+        }
+        return principal;
+    }
+
+    /**
+     * 검증 완료 토큰 저장
+     *
+     * @param token JWT 토큰
+     * @param principal 검증 결과
+     */
+    public void put(String token, TokenPrincipal principal) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        ByteBuffer key = hash(token);
+        entries.putIfUnchanged(key, principal, entries.generation(key));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM 구현에서 필수 지원
+            throw new IllegalStateException(e);
+        }
+    }
+}
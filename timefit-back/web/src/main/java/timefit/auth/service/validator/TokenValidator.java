@@ -6,9 +6,11 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import timefit.auth.service.dto.TokenPrincipal;
+import timefit.auth.service.revocation.TokenRevocationStore;
+import timefit.auth.service.util.VerifiedTokenCache;
 import timefit.config.JwtConfig;
 import timefit.exception.auth.AuthErrorCode;
 import timefit.exception.auth.AuthException;
@@ -25,13 +27,62 @@ import java.util.UUID;
  * 책임 분리:
  * - AuthTokenService: 토큰 생성, 갱신, 무효화
  * - TokenValidator: 토큰 검증 및 정보 추출
+ * 성능:
+ * - Algorithm / JWTVerifier는 생성 시 1회만 구성 (thread-safe, 요청마다 재생성하지 않음)
+ * - authenticate()는 서명 검증 1회로 사용자 ID + 만료 시각을 함께 반환
+ * - 검증 완료 토큰은 VerifiedTokenCache에 보관 → 동일 토큰 재요청 시 HMAC/디코딩 생략
+ * - 폐기(로그아웃) 여부는 캐시 적중 여부와 무관하게 TokenRevocationStore로 확인 (in-memory O(1))
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenValidator {
 
-    private final JwtConfig jwtConfig;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final JWTVerifier verifier;
+
+    public TokenValidator(JwtConfig jwtConfig,
+                          VerifiedTokenCache verifiedTokenCache,
+                          TokenRevocationStore tokenRevocationStore) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.verifier = JWT.require(Algorithm.HMAC512(jwtConfig.getSecretKey()))
+                .withIssuer(jwtConfig.getIssuer())
+                .build();
+    }
+
+    /**
+     * 토큰 인증 (요청 필터용 단일 검증)
+     * 1. 검증 캐시 조회 - 만료 전 항목이 있으면 즉시 반환
+     * 2. 캐시 미스 시 서명/만료/발행자 검증 1회
+     * 3. subject → UUID 파싱 후 캐시에 저장
+     * 4. 폐기된 토큰(jti)이면 거부
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws AuthException 토큰이 만료/폐기되었거나 유효하지 않을 시
+     */
+    public TokenPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+
+        TokenPrincipal principal = verifiedTokenCache.get(token, now);
+        if (principal == null) {
+            DecodedJWT decodedJWT = verifyToken(token);
+            Date expiresAt = decodedJWT.getExpiresAt();
+            principal = TokenPrincipal.of(
+                    extractUserId(decodedJWT),
+                    decodedJWT.getId(),
+                    // exp 없는 토큰은 캐시 유지하지 않음 (다음 조회 시 즉시 만료 처리)
+                    expiresAt != null ? expiresAt.getTime() : now
+            );
+            verifiedTokenCache.put(token, principal);
+        }
+
+        if (principal.jti() != null && tokenRevocationStore.isRevoked(principal.jti())) {
+            throw new AuthException(AuthErrorCode.TOKEN_REVOKED);
+        }
+        return principal;
+    }
 
     /**
      * 토큰 유효성 검증
@@ -57,14 +108,7 @@ public class TokenValidator {
      * @throws AuthException 토큰이 유효하지 않거나 UUID 파싱 실패 시
      */
     public UUID getUserIdFromToken(String token) {
-        try {
-            DecodedJWT decodedJWT = verifyToken(token);
-            String userId = decodedJWT.getSubject();
-            return UUID.fromString(userId);
-        } catch (IllegalArgumentException e) {
-            log.error("유효하지 않은 UUID의 token 입니다: {}", e.getMessage());
-            throw new AuthException(AuthErrorCode.TOKEN_INVALID);
-        }
+        return extractUserId(verifyToken(token));
     }
 
     /**
@@ -93,11 +137,6 @@ public class TokenValidator {
      */
     public DecodedJWT verifyToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC512(jwtConfig.getSecretKey());
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(jwtConfig.getIssuer())
-                    .build();
-
             return verifier.verify(token);
 
         } catch (TokenExpiredException e) {
@@ -108,4 +147,20 @@ public class TokenValidator {
             throw new AuthException(AuthErrorCode.TOKEN_INVALID);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증된 JWT에서 사용자 ID 추출
+     *
+     * @param decodedJWT verifyToken 결과
+     * @return 사용자 ID (UUID)
+     * @throws AuthException subject가 UUID 형식이 아닐 시
+     */
+    public UUID extractUserId(DecodedJWT decodedJWT) {
+        try {
+            return UUID.fromString(decodedJWT.getSubject());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.error("유효하지 않은 UUID의 token 입니다: {}", e.getMessage());
+            throw new AuthException(AuthErrorCode.TOKEN_INVALID);
+        }
+    }
+}
@@ -8,18 +8,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import timefit.booking.dto.BookingSlotRequest;
 import timefit.booking.dto.BookingSlotResponse;
 import timefit.booking.service.BookingSlotService;
 import timefit.common.ResponseData;
 import timefit.common.auth.CurrentUserId;
+import timefit.common.etag.ConditionalResponses;
+import timefit.common.etag.ContentVersionService;
 import timefit.common.swagger.operation.booking.*;
 import timefit.common.swagger.requestbody.booking.*;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
-@Tag(name = "06. 예약 슬롯", description = "예약 슬롯 생성, 조회, 관리 API (업체용)")
+@Tag(name = "06. 예약 슬롯", description = "예약 슬롯 생성, 조회, 관리 API (업체용) / 슬롯 선점 API (고객용)")
 @Slf4j
 @RestController
 @RequestMapping("/api/business/{businessId}/booking-slot")
@@ -27,6 +30,8 @@ import java.util.UUID;
 public class BookingSlotController {
 
     private final BookingSlotService bookingSlotService;
+    private final ContentVersionService contentVersionService;
+    private final ConditionalResponses conditionalResponses;
 
     @CreateSlotsOperation
     @PostMapping
@@ -52,14 +57,14 @@ public class BookingSlotController {
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
             @PathVariable UUID businessId,
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-10")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("특정 날짜 슬롯 조회 요청: businessId={}, date={}", businessId, date);
 
-        BookingSlotResponse.BookingSlotList response = bookingSlotService.getSlotsByDate(
-                businessId, date);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.slots(businessId, null, date, date),
+                () -> bookingSlotService.getSlotsByDate(businessId, date));
     }
 
     @GetSlotsByDateRangeOperation
@@ -70,15 +75,16 @@ public class BookingSlotController {
             @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-10")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-31")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("기간별 슬롯 조회 요청: businessId={}, startDate={}, endDate={}",
                 businessId, startDate, endDate);
 
-        BookingSlotResponse.BookingSlotList response = bookingSlotService.getSlotsByDateRange(
-                businessId, startDate, endDate);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest,
+                contentVersionService.slots(businessId, null, startDate, endDate),
+                () -> bookingSlotService.getSlotsByDateRange(businessId, startDate, endDate));
     }
 
     @GetSlotsByMenuOperation
@@ -91,26 +97,47 @@ public class BookingSlotController {
             @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-10")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-31")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("메뉴별 슬롯 조회 요청: businessId={}, menuId={}, startDate={}, endDate={}",
                 businessId, menuId, startDate, endDate);
 
-        BookingSlotResponse.BookingSlotList response = bookingSlotService.getSlotsByMenu(
-                businessId, menuId, startDate, endDate);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest,
+                contentVersionService.slots(businessId, menuId, startDate, endDate),
+                () -> bookingSlotService.getSlotsByMenu(businessId, menuId, startDate, endDate));
     }
 
     @GetUpcomingSlotsOperation
     @GetMapping("/upcoming")
     public ResponseEntity<ResponseData<BookingSlotResponse.BookingSlotList>> getUpcomingSlots(
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
-            @PathVariable UUID businessId) {
+            @PathVariable UUID businessId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("향후 활성 슬롯 조회 요청: businessId={}", businessId);
 
-        BookingSlotResponse.BookingSlotList response = bookingSlotService.getUpcomingSlots(businessId);
+        return conditionalResponses.ok(webRequest, contentVersionService.upcomingSlots(businessId),
+                () -> bookingSlotService.getUpcomingSlots(businessId));
+    }
+
+    @GetSlotAvailabilityOperation
+    @GetMapping("/availability")
+    public ResponseEntity<ResponseData<BookingSlotResponse.Availability>> getAvailability(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD)", required = true, example = "2025-01-10")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD, 최대 31일)", required = true, example = "2025-01-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.debug("예약 가능 현황 조회 요청: businessId={}, startDate={}, endDate={}",
+                businessId, startDate, endDate);
+
+        BookingSlotResponse.Availability response = bookingSlotService.getAvailability(
+                businessId, startDate, endDate);
 
         return ResponseEntity.ok(ResponseData.of(response));
     }
@@ -168,6 +195,40 @@ public class BookingSlotController {
         return ResponseEntity.ok(ResponseData.of(response));
     }
 
+    @HoldSlotOperation
+    @PostMapping("/{slotId}/hold")
+    public ResponseEntity<ResponseData<BookingSlotResponse.Hold>> holdSlot(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(description = "슬롯 ID", required = true, example = "50000000-0000-0000-0000-000000000001")
+            @PathVariable UUID slotId,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID customerId) {
+
+        log.info("슬롯 선점 요청: businessId={}, slotId={}, customerId={}", businessId, slotId, customerId);
+
+        BookingSlotResponse.Hold response = bookingSlotService.holdSlot(businessId, slotId, customerId);
+
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+
+    @ReleaseSlotHoldOperation
+    @DeleteMapping("/hold/{holdId}")
+    public ResponseEntity<ResponseData<Void>> releaseHold(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(description = "선점 ID", required = true, example = "a0000000-0000-0000-0000-000000000001")
+            @PathVariable UUID holdId,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID customerId) {
+
+        log.info("슬롯 선점 해제 요청: businessId={}, holdId={}, customerId={}", businessId, holdId, customerId);
+
+        bookingSlotService.releaseHold(holdId, customerId);
+
+        return ResponseEntity.ok(ResponseData.of(null));
+    }
+
     @DeletePastSlotsOperation
     @DeleteMapping("/past")
     public ResponseEntity<ResponseData<Integer>> deletePastSlots(
@@ -3,6 +3,7 @@ package timefit.booking.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
@@ -173,4 +174,132 @@ public class BookingSlotResponse {
             return new BookingSlotList(businessId, startDate, endDate, slots);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 슬롯 잔여 좌석 (예약 가능 현황 - 단일)
+     * 역할:
+     * - 고객 예약 화면용 최소 필드 (엔티티 상세 정보 제외)
+     * - remaining = 0 이면 마감
+     */
+    @Schema(description = "슬롯별 잔여 좌석")
+    public record SlotAvailability(
+            @Schema(
+                    description = "슬롯 고유 ID",
+                    example = "50000000-0000-0000-0000-000000000001"
+            )
+            UUID slotId,
+
+            @Schema(
+                    description = "연결된 메뉴 ID",
+                    example = "60000000-0000-0000-0000-000000000001"
+            )
+            UUID menuId,
+
+            @Schema(
+                    description = "슬롯 시작 시간",
+                    example = "09:00"
+            )
+            LocalTime startTime,
+
+            @Schema(
+                    description = "슬롯 종료 시간",
+                    example = "09:30"
+            )
+            LocalTime endTime,
+
+            @Schema(
+                    description = "잔여 좌석 수 (0이면 마감)",
+                    example = "1"
+            )
+            Integer remaining
+    ) {
+        public static SlotAvailability of(
+                UUID slotId, UUID menuId, LocalTime startTime, LocalTime endTime, int remaining) {
+            return new SlotAvailability(slotId, menuId, startTime, endTime, remaining);
+        }
+    }
+
+    /**
+     * 날짜별 예약 가능 현황
+     */
+    @Schema(description = "날짜별 슬롯 잔여 좌석 목록")
+    public record DayAvailability(
+            @Schema(
+                    description = "날짜",
+                    example = "2025-01-10"
+            )
+            LocalDate date,
+
+            @Schema(description = "해당 날짜의 활성 슬롯 잔여 좌석 목록 (시작 시간 순)")
+            List<SlotAvailability> slots
+    ) {
+        public static DayAvailability of(LocalDate date, List<SlotAvailability> slots) {
+            return new DayAvailability(date, slots);
+        }
+    }
+
+    /**
+     * 기간별 예약 가능 현황
+     * 사용 예시:
+     * - days: 조회 기간의 각 날짜 (슬롯이 없는 날짜도 빈 목록으로 포함)
+     */
+    @Schema(description = "기간별 예약 가능 현황")
+    public record Availability(
+            @Schema(
+                    description = "업체 ID",
+                    example = "30000000-0000-0000-0000-000000000001"
+            )
+            UUID businessId,
+
+            @Schema(
+                    description = "조회 시작 날짜",
+                    example = "2025-01-10"
+            )
+            LocalDate startDate,
+
+            @Schema(
+                    description = "조회 종료 날짜",
+                    example = "2025-01-16"
+            )
+            LocalDate endDate,
+
+            @Schema(description = "날짜별 예약 가능 현황")
+            List<DayAvailability> days
+    ) {
+        public static Availability of(
+                UUID businessId, LocalDate startDate, LocalDate endDate, List<DayAvailability> days) {
+            return new Availability(businessId, startDate, endDate, days);
+        }
+    }
+
+    /**
+     * 슬롯 선점 결과
+     * 사용 예시:
+     * - holdId: 예약 생성 요청(CreateReservation.holdId)에 전달
+     * - expiresAt 이후에는 선점이 해제되어 다른 고객이 예약 가능
+     */
+    @Schema(description = "슬롯 선점 결과")
+    public record Hold(
+            @Schema(
+                    description = "선점 ID (예약 생성 시 전달)",
+                    example = "a0000000-0000-0000-0000-000000000001"
+            )
+            UUID holdId,
+
+            @Schema(
+                    description = "선점한 슬롯 ID",
+                    example = "50000000-0000-0000-0000-000000000001"
+            )
+            UUID slotId,
+
+            @Schema(
+                    description = "선점 만료 시각",
+                    example = "2025-01-10T09:03:00"
+            )
+            LocalDateTime expiresAt
+    ) {
+        public static Hold of(UUID holdId, UUID slotId, LocalDateTime expiresAt) {
+            return new Hold(holdId, slotId, expiresAt);
+        }
+    }
+}
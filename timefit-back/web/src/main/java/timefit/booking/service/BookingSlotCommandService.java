@@ -11,6 +11,9 @@ import timefit.booking.entity.BookingSlot;
 import timefit.booking.repository.BookingSlotQueryRepository;
 import timefit.booking.repository.BookingSlotRepository;
 import timefit.booking.service.helper.BookingSlotCreationHelper;
+import timefit.booking.service.helper.BookingSlotHoldHelper;
+import timefit.booking.service.hold.SlotHold;
+import timefit.booking.service.util.BookingSlotAvailabilityCache;
 import timefit.booking.service.validator.BookingSlotValidator;
 import timefit.business.entity.Business;
 import timefit.business.service.validator.BusinessValidator;
@@ -19,11 +22,11 @@ import timefit.exception.booking.BookingException;
 import timefit.menu.entity.Menu;
 import timefit.menu.service.validator.MenuValidator;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,12 +34,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class BookingSlotCommandService {
 
+    // 집합 DELETE 청크 크기
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final BusinessValidator businessValidator;
     private final MenuValidator menuValidator;
     private final BookingSlotValidator bookingSlotValidator;
     private final BookingSlotRepository bookingSlotRepository;
     private final BookingSlotQueryRepository bookingSlotQueryRepository;
     private final BookingSlotCreationHelper bookingSlotCreationHelper;
+    private final BookingSlotHoldHelper bookingSlotHoldHelper;
+    private final BookingSlotAvailabilityCache availabilityCache;
 
     /**
      * BookingSlot 생성
@@ -67,12 +75,17 @@ public class BookingSlotCommandService {
         }
 
         // 4. Helper 호출 (비즈니스 로직)
-        return bookingSlotCreationHelper.createSlots(
+        BookingSlotResponse.CreationResult result = bookingSlotCreationHelper.createSlots(
                 business,
                 menu,
                 request.schedules(),
                 request.slotIntervalMinutes()
         );
+
+        // 5. 예약 가능 현황 캐시 무효화
+        availabilityCache.evictBusiness(businessId);
+
+        return result;
     }
 
     /**
@@ -95,6 +108,7 @@ public class BookingSlotCommandService {
 
         // 3. 삭제
         bookingSlotRepository.delete(slot);
+        availabilityCache.evict(businessId, slot.getSlotDate());
 
         log.info("슬롯 삭제 완료: slotId={}", slotId);
     }
@@ -119,6 +133,7 @@ public class BookingSlotCommandService {
 
         // 2. 비활성화
         slot.markAsUnavailable();
+        availabilityCache.evict(businessId, slot.getSlotDate());
 
         // 3. 저장 및 반환
         return saveAndConvertToResponse(slot, "비활성화");
@@ -145,16 +160,52 @@ public class BookingSlotCommandService {
 
         // 2. 활성화
         slot.markAsAvailable();
+        availabilityCache.evict(businessId, slot.getSlotDate());
 
         // 3. 저장 및 반환
         return saveAndConvertToResponse(slot, "재활성화");
     }
 
+    /**
+     * 슬롯 선점 (고객용)
+     * 1. 슬롯 조회 및 예약 가능 여부 검증
+     * 2. 선점 (잔여 좌석 - 다른 고객 선점 > 0 일 때만)
+     * @param businessId 업체 ID
+     * @param slotId 슬롯 ID
+     * @param customerId 고객 ID
+     * @return 선점 결과
+     */
+    public BookingSlotResponse.Hold holdSlot(UUID businessId, UUID slotId, UUID customerId) {
+        // 1. 슬롯 조회 및 검증
+        BookingSlot slot = bookingSlotValidator.validateSlotOfBusiness(slotId, businessId);
+        bookingSlotValidator.validateSlotAvailable(slot);
+        bookingSlotValidator.validateSlotNotPast(slot);
+
+        // 2. 선점
+        SlotHold hold = bookingSlotHoldHelper.hold(slot, customerId);
+
+        log.info("슬롯 선점 완료: slotId={}, holdId={}, customerId={}", slotId, hold.holdId(), customerId);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(hold.expiresAtMillis()), ZoneId.systemDefault());
+        return BookingSlotResponse.Hold.of(hold.holdId(), slotId, expiresAt);
+    }
+
+    /**
+     * 슬롯 선점 해제 (고객용)
+     * @param holdId 선점 ID
+     * @param customerId 고객 ID
+     */
+    public void releaseHold(UUID holdId, UUID customerId) {
+        bookingSlotHoldHelper.release(holdId, customerId);
+        log.info("슬롯 선점 해제 완료: holdId={}, customerId={}", holdId, customerId);
+    }
+
     /**
      * 과거 슬롯 일괄 삭제
      * 1. 권한 검증
-     * 2. 오늘 이전 날짜의 슬롯 조회
-     * 3. 일괄 삭제
+     * 2. 오늘 이전 날짜의 예약 없는 슬롯을 청크 단위 집합 DELETE
+     * [중요]
+     * - 예약 이력이 있는 슬롯은 보존 (Reservation은 스냅샷, 영구 보존)
      *
      * @param businessId 업체 ID
      * @param currentUserId 현재 사용자 ID
@@ -166,36 +217,33 @@ public class BookingSlotCommandService {
         // 1. 권한 검증
         businessValidator.validateManagerOrOwnerRole(currentUserId, businessId);
 
-        // 2. 오늘 이전 날짜의 슬롯 조회
+        // 2. 오늘 이전 날짜의 예약 없는 슬롯 삭제
         LocalDate today = LocalDate.now();
-        List<BookingSlot> pastSlots = bookingSlotRepository
-                .findByBusinessIdAndSlotDateBefore(businessId, today);
+        long count = 0;
+        long deleted;
+        do {
+            deleted = bookingSlotQueryRepository.deleteUnreservedSlotsBefore(businessId, today, DELETE_CHUNK_SIZE);
+            count += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
 
-        // 3. 일괄 삭제
-        int count = pastSlots.size();
-        bookingSlotRepository.deleteAll(pastSlots);
+        availabilityCache.evictBusiness(businessId);
 
         log.info("과거 슬롯 삭제 완료: businessId={}, count={}", businessId, count);
 
-        return count;
+        return Math.toIntExact(count);
     }
 
     /**
      * Menu 삭제 시 BookingSlot 일괄 삭제
      * [처리 흐름]
-     * 1. 해당 Menu의 모든 슬롯 조회
-     * 2. 예약이 있는 슬롯 ID 목록 조회 (단일 쿼리)
-     * 3. 예약이 없는 슬롯만 필터링 (메모리)
-     * 4. 일괄 삭제
+     * - 예약이 없는 슬롯만 청크 단위 집합 DELETE (WHERE NOT EXISTS reservation)
      * [트랜잭션]
      * - MANDATORY: Menu 삭제와 같은 트랜잭션
      * [성능]
-     * - N+1 문제 해결: 슬롯 100개도 쿼리 3번만 실행
-     * - Before: 101번 쿼리, 2초
-     * - After: 3번 쿼리, 50ms 이하
+     * - 슬롯 엔티티 로딩 / 행 단위 DELETE 없음: 청크당 SELECT id 1번 + DELETE 1번
      * [중요]
      * - Reservation은 스냅샷이므로 영구 보존
-     * - 예약 레코드가 하나라도 있는 슬롯은 삭제 불가 (FK 제약)
+     * - 예약 레코드가 하나라도 있는 슬롯은 삭제하지 않음
      *
      * @param businessId 업체 ID
      * @param menuId Menu ID
@@ -205,51 +253,33 @@ public class BookingSlotCommandService {
     public int deleteSlotsForMenu(UUID businessId, UUID menuId) {
         log.info("Menu 삭제용 슬롯 삭제 시작: businessId={}, menuId={}", businessId, menuId);
 
-        // 1. 해당 Menu의 모든 슬롯 조회
-        List<BookingSlot> existingSlots = bookingSlotRepository
-                .findByBusinessIdAndMenuId(businessId, menuId);
+        long count = 0;
+        long deleted;
+        do {
+            deleted = bookingSlotQueryRepository.deleteUnreservedSlotsByMenu(businessId, menuId, DELETE_CHUNK_SIZE);
+            count += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
 
-        if (existingSlots.isEmpty()) {
-            log.debug("삭제할 슬롯 없음: menuId={}", menuId);
-            return 0;
+        if (count > 0) {
+            availabilityCache.evictBusiness(businessId);
         }
 
-        int totalSlots = existingSlots.size();
-        log.debug("총 슬롯 개수: {} 개", totalSlots);
-
-        // 2. 예약이 있는 슬롯 ID 목록 조회 (단일 쿼리로 성능 최적화)
-        List<UUID> allSlotIds = existingSlots.stream()
-                .map(BookingSlot::getId)
-                .collect(Collectors.toList());
-
-        List<UUID> slotIdsWithReservations = bookingSlotQueryRepository
-                .findSlotIdsWithAnyReservations(allSlotIds);
-
-        log.debug("예약 있는 슬롯: {}개", slotIdsWithReservations.size());
-
-        // 3. 예약이 없는 슬롯만 필터링 (메모리에서 처리)
-        List<BookingSlot> deletableSlots = existingSlots.stream()
-                .filter(slot -> !slotIdsWithReservations.contains(slot.getId()))
-                .collect(Collectors.toList());
-
-        int skippedCount = totalSlots - deletableSlots.size();
+        log.info("Menu 삭제용 슬롯 삭제 완료: menuId={}, 삭제={}개 (예약 있는 슬롯은 보존)", menuId, count);
 
-        // 4. 삭제 가능한 슬롯만 일괄 삭제
-        if (!deletableSlots.isEmpty()) {
-            bookingSlotRepository.deleteAll(deletableSlots);
-            log.info("Menu 삭제용 슬롯 삭제 완료: menuId={}, 삭제={}개, 건너뜀={}개 (예약 보존)",
-                    menuId, deletableSlots.size(), skippedCount);
-        } else {
-            log.warn("삭제 가능한 슬롯 없음 (모든 슬롯에 예약 존재): menuId={}", menuId);
-        }
-
-        return deletableSlots.size();
+        return Math.toIntExact(count);
     }
 
-// ============================================
-// 필요한 import 문:
-// ============================================
-// import java.util.stream.Collectors;
+    /**
+     * 보관 기간이 지난 슬롯 정리 (전체 업체, 1 청크)
+     * - 스케줄러가 청크마다 호출 → 청크별 트랜잭션으로 잠금 시간 최소화
+     *
+     * @param beforeDate 이 날짜 이전 슬롯 삭제
+     * @param chunkSize 청크 크기
+     * @return 삭제된 슬롯 개수 (chunkSize보다 작으면 정리 완료)
+     */
+    public long purgeSlotsBefore(LocalDate beforeDate, int chunkSize) {
+        return bookingSlotQueryRepository.deleteUnreservedSlotsBefore(null, beforeDate, chunkSize);
+    }
 
     // ===== Private Helper Methods =====
 
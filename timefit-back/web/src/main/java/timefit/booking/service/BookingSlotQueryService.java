@@ -8,12 +8,14 @@ import timefit.booking.dto.BookingSlotResponse;
 import timefit.booking.entity.BookingSlot;
 import timefit.booking.repository.BookingSlotQueryRepository;
 import timefit.booking.repository.BookingSlotRepository;
+import timefit.booking.service.util.BookingSlotAvailabilityCache;
 import timefit.booking.service.util.BookingSlotDtoConverter;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.exception.booking.BookingErrorCode;
 import timefit.exception.booking.BookingException;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,10 +26,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookingSlotQueryService {
 
+    // 예약 가능 현황 최대 조회 일수
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final BookingSlotRepository bookingSlotRepository;
     private final BookingSlotQueryRepository bookingSlotQueryRepository;
     private final BusinessValidator businessValidator;
     private final BookingSlotDtoConverter dtoConverter;
+    private final BookingSlotAvailabilityCache availabilityCache;
 
     // 특정 날짜의 슬롯 조회
     public BookingSlotResponse.BookingSlotList getSlotsByDate(UUID businessId, LocalDate date) {
@@ -103,6 +109,35 @@ public class BookingSlotQueryService {
         return BookingSlotResponse.BookingSlotList.of(businessId, today, today.plusMonths(3), slotDetails);
     }
 
+    /**
+     * 예약 가능 현황 조회 (슬롯별 잔여 좌석)
+     * 1. 기간 검증 (최대 31일)
+     * 2. 캐시 조회 (기간 전체 적중 시 DB 조회 없음)
+     * 3. 캐시 미스 시 업체 검증 + 집계 쿼리 1회
+     *
+     * @param businessId 업체 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 날짜별 예약 가능 현황
+     */
+    public BookingSlotResponse.Availability getAvailability(
+            UUID businessId, LocalDate startDate, LocalDate endDate) {
+
+        validateDateRange(startDate, endDate);
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_AVAILABILITY_DAYS) {
+            throw new BookingException(BookingErrorCode.AVAILABILITY_RANGE_EXCEEDED);
+        }
+
+        List<BookingSlotResponse.DayAvailability> days =
+                availabilityCache.getIfCached(businessId, startDate, endDate);
+
+        if (days == null) {
+            businessValidator.validateBusinessExists(businessId);
+            days = availabilityCache.load(businessId, startDate, endDate);
+        }
+
+        return BookingSlotResponse.Availability.of(businessId, startDate, endDate, days);
+    }
 
     // 기간 유효성 검증
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
@@ -62,6 +62,22 @@ public class BookingSlotService {
         return bookingSlotCommandService.activateSlot(businessId, slotId, currentUserId);
     }
 
+    /**
+     * 슬롯 선점 (고객용)
+     */
+    @Transactional
+    public BookingSlotResponse.Hold holdSlot(UUID businessId, UUID slotId, UUID customerId) {
+        return bookingSlotCommandService.holdSlot(businessId, slotId, customerId);
+    }
+
+    /**
+     * 슬롯 선점 해제 (고객용)
+     */
+    @Transactional
+    public void releaseHold(UUID holdId, UUID customerId) {
+        bookingSlotCommandService.releaseHold(holdId, customerId);
+    }
+
     /**
      * 과거 슬롯 일괄 삭제
      */
@@ -106,4 +122,13 @@ public class BookingSlotService {
     public BookingSlotResponse.BookingSlotList getUpcomingSlots(UUID businessId) {
         return bookingSlotQueryService.getUpcomingSlots(businessId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약 가능 현황 조회 (슬롯별 잔여 좌석)
+     */
+    @Transactional(readOnly = true)
+    public BookingSlotResponse.Availability getAvailability(
+            UUID businessId, LocalDate startDate, LocalDate endDate) {
+        return bookingSlotQueryService.getAvailability(businessId, startDate, endDate);
+    }
+}
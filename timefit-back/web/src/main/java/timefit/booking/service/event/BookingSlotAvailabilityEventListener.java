@@ -0,0 +1,39 @@
+package timefit.booking.service.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import timefit.booking.service.util.BookingSlotAvailabilityCache;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+/**
+ * 예약 이벤트 → 예약 가능 현황 캐시 무효화
+ * - 커밋된 변경만 반영 (AFTER_COMMIT)
+ * - CONFIRMED 외 모든 상태 변경은 잔여 좌석이 달라지므로 해당 날짜 제거
+ * - RESCHEDULED: 이전 날짜도 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSlotAvailabilityEventListener {
+
+    private final BookingSlotAvailabilityCache availabilityCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.type() == ReservationChangedEvent.Type.CONFIRMED) {
+            // PENDING → CONFIRMED: 활성 예약 수 변화 없음
+            return;
+        }
+
+        availabilityCache.evict(event.businessId(), event.reservationDate());
+        if (event.previousDate() != null && !event.previousDate().equals(event.reservationDate())) {
+            availabilityCache.evict(event.businessId(), event.previousDate());
+        }
+
+        log.debug("예약 가능 현황 캐시 무효화: type={}, businessId={}, date={}",
+                event.type(), event.businessId(), event.reservationDate());
+    }
+}
@@ -1,55 +1,68 @@
 package timefit.booking.service.helper;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import timefit.booking.dto.BookingSlotResponse;
 import timefit.booking.entity.BookingSlot;
+import timefit.booking.repository.BookingSlotQueryRepository;
 import timefit.booking.repository.BookingSlotRepository;
-import timefit.booking.service.dto.AvailableTimeRange;
 import timefit.booking.service.dto.DailySlotSchedule;
-import timefit.booking.service.util.BookingSlotGenerationUtil;
+import timefit.booking.service.util.SlotKeySet;
+import timefit.booking.service.util.SlotPlan;
+import timefit.booking.service.util.SlotPlanner;
 import timefit.business.entity.Business;
-import timefit.business.entity.OperatingHours;
-import timefit.business.repository.OperatingHoursRepository;
-import timefit.common.entity.DayOfWeek;
 import timefit.exception.booking.BookingErrorCode;
 import timefit.exception.booking.BookingException;
 import timefit.menu.entity.Menu;
+import timefit.operatinghours.service.schedule.WeeklyScheduleCache;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BookingSlotCreationHelper {
 
+    // 청크 크기 (hibernate.jdbc.batch_size와 동일)
+    private static final int WRITE_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
     private final BookingSlotRepository bookingSlotRepository;
-    private final OperatingHoursRepository operatingHoursRepository;
-    private final BookingSlotGenerationUtil slotGenerationUtil;
+    private final BookingSlotQueryRepository bookingSlotQueryRepository;
+    private final WeeklyScheduleCache weeklyScheduleCache;
+
+    // 요청 1건당 생성 가능한 최대 슬롯 수
+    @Value("${timefit.booking.slot-creation.max-slots-per-request:50000}")
+    private int maxSlotsPerRequest;
 
     /**
-     * BookingSlot 일괄 생성
+     * BookingSlot 일괄 생성 (스트리밍)
      * [처리 흐름]
-     * 1. 날짜별 슬롯 생성 (OperatingHours 기반)
-     * 2. 중복 체크 (menu_id + date + startTime 기준) - 일괄 조회 최적화
-     * 3. 일괄 저장 (Batch Insert)
+     * 1. 업체 주간 스케줄(캐시) → 요청 단위 SlotPlanner 생성
+     * 2. 정확한 슬롯 수 계산 → 요청당 생성 한도 검증
+     * 3. 기존 슬롯 시작 시점을 primitive 키 집합으로 적재 (1번의 SELECT, 날짜/시간 컬럼만)
+     * 4. 날짜별 슬롯 계획(분 단위 int 배열, 같은 요일/시간대면 재사용) → 키 집합으로 중복 체크
+     * 5. 중복이 아닌 슬롯만 엔티티로 만들어 WRITE_CHUNK_SIZE 단위로 저장 → flush → 분리
      * [중복 체크 정책]
-     * - 같은 메뉴의 같은 시간대 슬롯만 중복으로 판단
+     * - 같은 메뉴의 같은 시간대 슬롯만 중복으로 판단 (요청 내 중복 포함)
      * - 다른 메뉴는 같은 시간대에 슬롯 생성 가능
-     * [변경 사항 perf]
-     * - 중복 체크: 390번 SELECT → 1번 SELECT
-     * - 저장: Batch Insert (1~2번)
+     * - 중복 발견 시 예외 → 트랜잭션 롤백 (이미 flush 된 청크 포함, All or Nothing)
+     * [메모리]
+     * - 전체 슬롯 목록을 만들지 않음: 계획(int 배열) + 청크 1개 + long 키 집합만 유지
+     * - 저장된 슬롯은 detach → 영속성 컨텍스트 크기 일정
      *
      * @param business 업체
      * @param menu 메뉴
      * @param schedules 날짜별 스케줄 목록
      * @param intervalMinutes 슬롯 간격 (분)
      * @return 생성 결과 (요청 개수 = 생성 개수)
-     * @throws timefit.exception.booking.BookingException 중복 슬롯 발견 시
+     * @throws timefit.exception.booking.BookingException 중복 슬롯 발견 / 생성 한도 초과 시
      */
     public BookingSlotResponse.CreationResult createSlots(
             Business business,
@@ -60,181 +73,133 @@ public class BookingSlotCreationHelper {
         log.info("BookingSlot 생성 시작: businessId={}, menuId={}, scheduleCount={}",
                 business.getId(), menu.getId(), schedules.size());
 
-        List<BookingSlot> createdSlots = new ArrayList<>();
+        if (schedules.isEmpty()) {
+            return new BookingSlotResponse.CreationResult(0, 0, 0);
+        }
 
-        // 0. OperatingHours 전체 조회 (1번의 SELECT)
-        Map<DayOfWeek, List<OperatingHours>> operatingHoursMap =
-                loadOperatingHoursMap(business.getId());
+        // 0. 주간 스케줄 (캐시 미스 시에만 SELECT) → 요청 단위 계획기
+        SlotPlanner planner = new SlotPlanner(
+                weeklyScheduleCache.get(business.getId()),
+                menu.getDurationMinutes(),
+                intervalMinutes
+        );
 
-        // 1. 날짜별 루프 - 모든 슬롯 생성
-        for (DailySlotSchedule schedule : schedules) {
-            // 1-1) 각 날짜의 슬롯 생성 (Map에서 조회)
-            List<BookingSlot> dailySlots = generateSlotsForDate(
-                    business,
-                    menu,
-                    schedule.date(),
-                    schedule.timeRanges(),
-                    intervalMinutes,
-                    operatingHoursMap
-            );
-
-            // 1-2) 생성 목록에 추가
-            createdSlots.addAll(dailySlots);
+        // 1. 정확한 슬롯 수로 생성 한도 검증
+        long requestedCount = planner.countSlots(schedules);
+        if (requestedCount > maxSlotsPerRequest) {
+            log.warn("슬롯 생성 한도 초과: menuId={}, 요청={}, 한도={}",
+                    menu.getId(), requestedCount, maxSlotsPerRequest);
+            throw new BookingException(
+                    BookingErrorCode.AVAILABLE_SLOT_BATCH_LIMIT_EXCEEDED,
+                    String.format("한 번에 생성할 수 있는 슬롯은 최대 %d개입니다 (요청: %d개)",
+                            maxSlotsPerRequest, requestedCount));
         }
 
-        // 2. 중복 체크 - 일괄 조회 (1번의 SELECT)
-        checkDuplicates(menu.getId(), createdSlots);
+        // 2. 기존 슬롯 키 적재 (1번의 SELECT)
+        SlotKeySet occupiedKeys = loadExistingSlotKeys(menu.getId(), schedules, (int) requestedCount);
 
-        // 3. 일괄 저장 (Batch Insert, 중복 없음이 보장됨)
-        bookingSlotRepository.saveAll(createdSlots);
+        List<BookingSlot> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        int createdCount = 0;
 
-        log.info("BookingSlot 생성 완료: menuId={}, 생성 개수={}",
-                menu.getId(), createdSlots.size());
+        // 3. 날짜별 계획 → 중복 체크 → 엔티티 생성 → 청크 저장
+        for (DailySlotSchedule schedule : schedules) {
+            LocalDate date = schedule.date();
+            SlotPlan plan = planner.plan(date, schedule.timeRanges());
+
+            if (plan.isEmpty()) {
+                log.debug("생성할 슬롯 없음 (휴무일 또는 영업시간 밖): businessId={}, date={}",
+                        business.getId(), date);
+                continue;
+            }
 
-        // 4. 결과 반환 (생략 없음 - All or Nothing)
+            long dayKey = SlotKeySet.dayKey(date);
+            for (int i = 0; i < plan.size(); i++) {
+                if (!occupiedKeys.add(dayKey + plan.startMinute(i))) {
+                    log.error("중복 슬롯 발견 - 전체 롤백: menuId={}, date={}, startTime={}",
+                            menu.getId(), date, plan.startTime(i));
+                    throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_CONFLICT);
+                }
+
+                chunk.add(BookingSlot.create(business, menu, date, plan.startTime(i), plan.endTime(i)));
+                if (chunk.size() == WRITE_CHUNK_SIZE) {
+                    createdCount += writeChunk(chunk);
+                }
+            }
+        }
+
+        // 4. 남은 청크 저장
+        createdCount += writeChunk(chunk);
+
+        log.info("BookingSlot 생성 완료: menuId={}, 생성 개수={}", menu.getId(), createdCount);
+
+        // 5. 결과 반환 (생략 없음 - All or Nothing)
         return new BookingSlotResponse.CreationResult(
-                createdSlots.size(),
-                createdSlots.size(),
+                createdCount,
+                createdCount,
                 0  // all or nothing이기 때문에 skip은 0 고정
         );
     }
 
     /**
-     * 특정 날짜의 슬롯 생성 (핵심 로직)
-     * 1. 요일 추출
-     * 2. 메모리 내 생성된 Map에서 해당 요일의 OperatingHours 조회
-     * 3. BookingSlotGenerationUtil 호출
+     * 청크 저장
+     * - saveAll → flush (hibernate.jdbc.batch_size 단위 batch insert)
+     * - 저장된 슬롯은 detach 하여 영속성 컨텍스트에 누적되지 않게 함
      *
-     * @param business 업체
-     * @param menu 메뉴
-     * @param date 대상 날짜
-     * @param timeRanges 시간대 목록 (null이면 전체 운영시간)
-     * @param intervalMinutes 슬롯 간격 (분)
-     * @param operatingHoursMap 요일별 운영시간 Map (캐싱)
-     * @return 생성된 BookingSlot 목록
+     * @param chunk 저장할 슬롯 (저장 후 비움)
+     * @return 저장된 개수
      */
-    private List<BookingSlot> generateSlotsForDate(
-            Business business,
-            Menu menu,
-            LocalDate date,
-            List<AvailableTimeRange> timeRanges,
-            Integer intervalMinutes,
-            Map<DayOfWeek, List<OperatingHours>> operatingHoursMap) {
-
-        // 1. 요일 추출
-        int dayOfWeekValue = date.getDayOfWeek().getValue();
-        DayOfWeek dayOfWeek = DayOfWeek.fromValue(dayOfWeekValue);
-
-        // 2. Map에서 OperatingHours 조회 (메모리)
-        List<OperatingHours> operatingHours = operatingHoursMap
-                .getOrDefault(dayOfWeek, Collections.emptyList())
-                .stream()
-                .filter(oh -> !oh.getIsClosed())
-                .collect(Collectors.toList());
-
-        // 3. 운영시간 없으면 빈 리스트 반환
-        if (operatingHours.isEmpty()) {
-            log.debug("운영시간 없음 또는 휴무일: businessId={}, date={}", business.getId(), date);
-            return new ArrayList<>();
+    private int writeChunk(List<BookingSlot> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
 
-        // 4. 슬롯 생성
-        return slotGenerationUtil.generateSlotsForDay(
-                business, menu, date, operatingHours, timeRanges, intervalMinutes
-        );
-    }
+        bookingSlotRepository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(entityManager::detach);
 
-    /**
-     * OperatingHours 전체 조회 및 캐싱
-     * [처리 흐름]
-     * 1. businessId로 전체 OperatingHours 조회 (1번의 SELECT)
-     * 2. DayOfWeek로 그룹핑하여 Map 생성
-     * 3. 이후 generateSlotsForDate에서 메모리 조회
-     *
-     * @param businessId 업체 ID
-     * @return 요일별 OperatingHours Map
-     */
-    private Map<DayOfWeek, List<OperatingHours>> loadOperatingHoursMap(UUID businessId) {
-        // 1. 전체 OperatingHours 조회 (1번의 SELECT) ✅
-        List<OperatingHours> allOperatingHours = operatingHoursRepository
-                .findByBusinessIdOrderByDayOfWeekAscSequenceAsc(businessId);
-
-        // 2. DayOfWeek로 그룹핑
-        Map<DayOfWeek, List<OperatingHours>> operatingHoursMap =
-                allOperatingHours.stream()
-                        .collect(Collectors.groupingBy(
-                                OperatingHours::getDayOfWeek,
-                                Collectors.toList()
-                        ));
-
-        log.debug("OperatingHours 캐싱 완료: businessId={}, 총 {}개, 요일 {}개",
-                businessId, allOperatingHours.size(), operatingHoursMap.size());
-
-        return operatingHoursMap;
+        int written = chunk.size();
+        chunk.clear();
+        return written;
     }
 
     /**
-     * 중복 체크 - 일괄 조회 최적화
+     * 기존 슬롯 키 적재
      * [처리 흐름]
-     * 1. 날짜 범위 추출 (min, max)
-     * 2. 기존 슬롯 일괄 조회 (1번의 SELECT)
-     * 3. 메모리에서 중복 체크 (Set 사용)
+     * 1. 스케줄 날짜 범위 추출 (min, max)
+     * 2. 기존 슬롯의 날짜/시작 시간만 조회 (1번의 SELECT)
+     * 3. primitive 키 집합에 적재
      *
      * [중복 판단 기준]
-     * - menu_id + slot_date + start_time
+     * - menu_id + slot_date + start_time(분)
      *
      * @param menuId 메뉴 ID
-     * @param slots 생성할 슬롯 목록
-     * @throws BookingException 중복 슬롯 발견 시
+     * @param schedules 날짜별 스케줄 목록
+     * @param requestedCount 요청 슬롯 수 (키 집합 초기 용량)
+     * @return 기존 슬롯 키 집합 (이후 신규 슬롯 키도 추가됨)
      */
-    private void checkDuplicates(UUID menuId, List<BookingSlot> slots) {
-        if (slots.isEmpty()) {
-            return;
+    private SlotKeySet loadExistingSlotKeys(UUID menuId, List<DailySlotSchedule> schedules, int requestedCount) {
+        LocalDate minDate = schedules.get(0).date();
+        LocalDate maxDate = minDate;
+        for (DailySlotSchedule schedule : schedules) {
+            if (schedule.date().isBefore(minDate)) {
+                minDate = schedule.date();
+            }
+            if (schedule.date().isAfter(maxDate)) {
+                maxDate = schedule.date();
+            }
         }
 
-        // 1. 날짜 범위 추출
-        LocalDate minDate = slots.stream()
-                .map(BookingSlot::getSlotDate)
-                .min(LocalDate::compareTo)
-                .orElseThrow();
-
-        LocalDate maxDate = slots.stream()
-                .map(BookingSlot::getSlotDate)
-                .max(LocalDate::compareTo)
-                .orElseThrow();
-
-        // 2. 기존 슬롯 일괄 조회 (1번의 SELECT)
-        List<BookingSlot> existingSlots = bookingSlotRepository
-                .findByMenuIdAndSlotDateBetween(menuId, minDate, maxDate);
-
-        // 3. 메모리에서 중복 체크 (Set 사용)
-        Set<String> existingKeys = existingSlots.stream()
-                .map(slot -> makeKey(slot.getSlotDate(), slot.getStartTime()))
-                .collect(Collectors.toSet());
-
-        // 4. 중복 검사
-        for (BookingSlot slot : slots) {
-            String key = makeKey(slot.getSlotDate(), slot.getStartTime());
-            if (existingKeys.contains(key)) {
-                log.error("중복 슬롯 발견 - 전체 롤백: menuId={}, date={}, startTime={}",
-                        menuId, slot.getSlotDate(), slot.getStartTime());
-                throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_CONFLICT);
-            }
+        List<BookingSlotQueryRepository.SlotStart> existingStarts = bookingSlotQueryRepository
+                .findSlotStartsByMenu(menuId, minDate, maxDate);
+
+        SlotKeySet keys = new SlotKeySet(existingStarts.size() + requestedCount);
+        for (BookingSlotQueryRepository.SlotStart start : existingStarts) {
+            keys.add(SlotKeySet.key(start.slotDate(), start.startTime()));
         }
 
-        log.debug("중복 체크 완료: menuId={}, 기존 슬롯={}, 신규 슬롯={}",
-                menuId, existingSlots.size(), slots.size());
-    }
+        log.debug("기존 슬롯 키 적재 완료: menuId={}, 기간={}~{}, 기존 슬롯={}",
+                menuId, minDate, maxDate, existingStarts.size());
 
-    /**
-     * 중복 체크용 키 생성
-     * Format: "YYYY-MM-DD_HH:mm:ss"
-     *
-     * @param date 슬롯 날짜
-     * @param time 시작 시간
-     * @return 중복 체크용 키
-     */
-    private String makeKey(LocalDate date, LocalTime time) {
-        return date.toString() + "_" + time.toString();
+        return keys;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package timefit.booking.service.helper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import timefit.booking.entity.BookingSlot;
+import timefit.booking.service.hold.SlotHold;
+import timefit.booking.service.hold.SlotHoldStore;
+import timefit.exception.booking.BookingErrorCode;
+import timefit.exception.booking.BookingException;
+
+import java.util.UUID;
+
+/**
+ * BookingSlot 선점(hold) 전담 클래스
+ *
+ * 역할:
+ * - 예약 정보 입력 전 슬롯 좌석을 TTL 동안 선점
+ * - 예약 생성 시 선점 검증 (본인 선점 / 다른 고객 선점으로 인한 마감)
+ * - 예약 생성 커밋 후 선점 전환(해제)
+ *
+ * [동시성]
+ * - 선점 경합은 SlotHoldStore 에서 거절 → 인기 슬롯의 좌석 점유 UPDATE 충돌 감소
+ * - 최종 좌석 점유는 여전히 BookingSlotSeatHelper.claimSeat (DB 조건부 UPDATE) 가 보장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSlotHoldHelper {
+
+    private final SlotHoldStore slotHoldStore;
+
+    // 선점 유지 시간 (초)
+    @Value("${timefit.booking.slot-hold.ttl-seconds:180}")
+    private long ttlSeconds;
+
+    /**
+     * 슬롯 선점 (같은 고객이 다시 요청하면 만료 시각 연장)
+     *
+     * @param slot 선점할 BookingSlot (활성 / 날짜 검증 완료)
+     * @param customerId 고객 ID
+     * @return 선점 정보
+     * @throws BookingException 마감 / 다른 고객 선점 중인 경우
+     */
+    public SlotHold hold(BookingSlot slot, UUID customerId) {
+        if (!slot.hasRemainingCapacity()) {
+            throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_FULLY_BOOKED);
+        }
+
+        long expiresAtMillis = System.currentTimeMillis() + ttlSeconds * 1000L;
+        SlotHold hold = slotHoldStore.hold(slot.getId(), customerId, slot.getRemainingCapacity(), expiresAtMillis);
+        if (hold == null) {
+            log.debug("슬롯 선점 거절: slotId={}, customerId={}", slot.getId(), customerId);
+            throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_HELD);
+        }
+
+        log.debug("슬롯 선점 완료: slotId={}, holdId={}", slot.getId(), hold.holdId());
+        return hold;
+    }
+
+    /**
+     * 선점 해제 (본인 선점만)
+     *
+     * @param holdId 선점 ID
+     * @param customerId 고객 ID
+     * @throws BookingException 선점이 없거나 만료된 경우
+     */
+    public void release(UUID holdId, UUID customerId) {
+        if (!slotHoldStore.release(holdId, customerId)) {
+            throw new BookingException(BookingErrorCode.SLOT_HOLD_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 예약 생성 전 선점 검증 (좌석 점유 UPDATE 이전, DB 쓰기 없이 거절)
+     * - holdId 지정: 본인의 해당 슬롯 유효 선점이어야 함
+     * - holdId 미지정: 다른 고객 선점을 제외한 잔여 좌석이 있어야 함
+     *
+     * @param slot 예약할 BookingSlot
+     * @param customerId 고객 ID
+     * @param holdId 선점 ID (nullable)
+     */
+    public void validateBeforeClaim(BookingSlot slot, UUID customerId, UUID holdId) {
+        if (holdId != null) {
+            SlotHold hold = slotHoldStore.find(holdId);
+            if (hold == null || !hold.isOwnedBy(slot.getId(), customerId)) {
+                throw new BookingException(BookingErrorCode.SLOT_HOLD_NOT_FOUND);
+            }
+            return;
+        }
+
+        int heldByOthers = slotHoldStore.countHeldByOthers(slot.getId(), customerId);
+        if (heldByOthers > 0 && heldByOthers >= slot.getRemainingCapacity()) {
+            throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_HELD);
+        }
+    }
+
+    /**
+     * 예약 생성 커밋 후 선점 해제 (좌석 점유로 전환 완료)
+     * - 롤백 시에는 선점 유지 → 같은 선점으로 재시도 가능
+     *
+     * @param holdId 선점 ID (null 이면 무시)
+     * @param customerId 고객 ID
+     */
+    public void releaseAfterCommit(UUID holdId, UUID customerId) {
+        if (holdId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            slotHoldStore.release(holdId, customerId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                slotHoldStore.release(holdId, customerId);
+            }
+        });
+    }
+}
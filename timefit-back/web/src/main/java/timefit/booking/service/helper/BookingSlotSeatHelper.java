@@ -0,0 +1,99 @@
+package timefit.booking.service.helper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import timefit.booking.entity.BookingSlot;
+import timefit.booking.repository.BookingSlotQueryRepository;
+import timefit.exception.booking.BookingErrorCode;
+import timefit.exception.booking.BookingException;
+import timefit.reservation.entity.Reservation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * BookingSlot 좌석(capacity) 점유/반환 전담 클래스
+ *
+ * 역할:
+ * - 예약 생성 시 슬롯 좌석 점유 (원자적 조건부 UPDATE 1회)
+ * - 예약 취소/거절 시 슬롯 좌석 반환 (일괄 거절 포함)
+ *
+ * [동시성]
+ * - UPDATE ... WHERE booked_count < capacity 는 행 잠금으로 직렬화됨
+ * - 읽고-검사하고-쓰는 과정이 없으므로 동시 요청에서도 초과 예약 불가
+ * - 호출 트랜잭션이 롤백되면 점유도 함께 롤백됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSlotSeatHelper {
+
+    private final BookingSlotQueryRepository bookingSlotQueryRepository;
+
+    /**
+     * 슬롯 좌석 점유
+     *
+     * @param slot 예약할 BookingSlot
+     * @throws BookingException 비활성 슬롯이거나 좌석이 마감된 경우
+     */
+    public void claimSeat(BookingSlot slot) {
+        if (!bookingSlotQueryRepository.claimSeat(slot.getId())) {
+            log.warn("슬롯 좌석 점유 실패: slotId={}, isAvailable={}", slot.getId(), slot.getIsAvailable());
+
+            if (!slot.isActiveForReservation()) {
+                throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_NOT_AVAILABLE);
+            }
+            throw new BookingException(BookingErrorCode.AVAILABLE_SLOT_FULLY_BOOKED);
+        }
+
+        log.debug("슬롯 좌석 점유 완료: slotId={}", slot.getId());
+    }
+
+    /**
+     * 슬롯 좌석 반환
+     * - ONDEMAND_BASED 예약(슬롯 없음)은 무시
+     *
+     * @param reservation 취소/거절된 예약
+     */
+    public void releaseSeat(Reservation reservation) {
+        if (!reservation.isReservationBased()) {
+            return;
+        }
+
+        if (!bookingSlotQueryRepository.releaseSeat(reservation.getBookingSlot().getId())) {
+            log.warn("반환할 슬롯 좌석 없음: reservationId={}, slotId={}",
+                    reservation.getId(), reservation.getBookingSlot().getId());
+        }
+    }
+
+    /**
+     * 슬롯 좌석 일괄 반환 (예약 일괄 거절 시)
+     * - 같은 슬롯이 여러 번 나오면 그 횟수만큼 반환
+     * - 반환 횟수별로 묶어 UPDATE (대부분 1회)
+     *
+     * @param bookingSlotIds 거절된 예약의 슬롯 ID (ONDEMAND_BASED 예약은 null)
+     */
+    public void releaseSeats(List<UUID> bookingSlotIds) {
+        Map<UUID, Integer> countsBySlot = new HashMap<>();
+        for (UUID slotId : bookingSlotIds) {
+            if (slotId != null) {
+                countsBySlot.merge(slotId, 1, Integer::sum);
+            }
+        }
+
+        Map<Integer, List<UUID>> slotsByCount = new HashMap<>();
+        countsBySlot.forEach((slotId, count) ->
+                slotsByCount.computeIfAbsent(count, key -> new ArrayList<>()).add(slotId));
+
+        slotsByCount.forEach((count, slotIds) -> {
+            long released = bookingSlotQueryRepository.releaseSeats(slotIds, count);
+            if (released < slotIds.size()) {
+                log.warn("반환할 슬롯 좌석 없음: count={}, slots={}, released={}", count, slotIds.size(), released);
+            }
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package timefit.booking.service.hold;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * in-process 슬롯 선점 저장소
+ *
+ * [구조]
+ * - holds: 선점 ID → 선점 (조회 O(1))
+ * - holdsBySlot: 슬롯 ID → 유효 선점 목록 (불변 스냅샷, 슬롯당 최대 capacity건)
+ *
+ * [동시성]
+ * - 슬롯 단위 변경은 ConcurrentHashMap.compute 로 직렬화 (같은 슬롯끼리만 경합)
+ * - 집계는 스냅샷 목록을 잠금 없이 순회
+ *
+ * [자동 만료]
+ * - 슬롯 변경 시 해당 슬롯의 만료 선점 제거
+ * - 변경이 없는 슬롯은 주기적 정리(purge-interval-ms)로 제거
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "timefit.booking.slot-hold.store", havingValue = "local", matchIfMissing = true)
+public class LocalSlotHoldStore implements SlotHoldStore {
+
+    private final Map<UUID, SlotHold> holds = new ConcurrentHashMap<>();
+    private final Map<UUID, List<SlotHold>> holdsBySlot = new ConcurrentHashMap<>();
+
+    @Override
+    public SlotHold hold(UUID bookingSlotId, UUID customerId, int freeSeats, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        SlotHold[] result = new SlotHold[1];
+
+        holdsBySlot.compute(bookingSlotId, (slotId, current) -> {
+            List<SlotHold> active = activeHolds(current, now);
+
+            int mine = indexOfCustomer(active, customerId);
+            if (mine >= 0) {
+                SlotHold extended = new SlotHold(active.get(mine).holdId(), slotId, customerId, expiresAtMillis);
+                active.set(mine, extended);
+                result[0] = extended;
+            } else if (active.size() < freeSeats) {
+                SlotHold created = new SlotHold(UUID.randomUUID(), slotId, customerId, expiresAtMillis);
+                active.add(created);
+                result[0] = created;
+            }
+
+            if (result[0] != null) {
+                holds.put(result[0].holdId(), result[0]);
+            }
+            return active.isEmpty() ? null : List.copyOf(active);
+        });
+
+        return result[0];
+    }
+
+    @Override
+    public SlotHold find(UUID holdId) {
+        SlotHold hold = holds.get(holdId);
+        if (hold == null || hold.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return hold;
+    }
+
+    @Override
+    public int countHeldByOthers(UUID bookingSlotId, UUID customerId) {
+        List<SlotHold> snapshot = holdsBySlot.get(bookingSlotId);
+        if (snapshot == null) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (SlotHold hold : snapshot) {
+            if (!hold.isExpired(now) && !hold.customerId().equals(customerId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean release(UUID holdId, UUID customerId) {
+        SlotHold hold = holds.get(holdId);
+        if (hold == null || !hold.customerId().equals(customerId)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        holdsBySlot.computeIfPresent(hold.bookingSlotId(), (slotId, current) -> {
+            List<SlotHold> active = activeHolds(current, now);
+            active.removeIf(candidate -> candidate.holdId().equals(holdId));
+            return active.isEmpty() ? null : List.copyOf(active);
+        });
+        holds.remove(holdId);
+        return true;
+    }
+
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * 변경이 없는 슬롯의 만료 선점 정리
+     */
+    @Scheduled(fixedDelayString = "${timefit.booking.slot-hold.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = holds.size();
+
+        for (UUID slotId : holdsBySlot.keySet()) {
+            holdsBySlot.computeIfPresent(slotId, (id, current) -> {
+                List<SlotHold> active = activeHolds(current, now);
+                return active.isEmpty() ? null : List.copyOf(active);
+            });
+        }
+
+        int removed = before - holds.size();
+        if (removed > 0) {
+            log.debug("만료된 슬롯 선점 정리: removed={}, remaining={}", removed, holds.size());
+        }
+    }
+
+    // 만료 선점을 제외한 변경 가능한 목록 (제외된 선점은 holds 에서도 제거)
+    private List<SlotHold> activeHolds(List<SlotHold> current, long now) {
+        List<SlotHold> active = new ArrayList<>();
+        if (current == null) {
+            return active;
+        }
+
+        for (SlotHold hold : current) {
+            if (hold.isExpired(now)) {
+                holds.remove(hold.holdId(), hold);
+            } else {
+                active.add(hold);
+            }
+        }
+        return active;
+    }
+
+    private static int indexOfCustomer(List<SlotHold> active, UUID customerId) {
+        for (int i = 0; i < active.size(); i++) {
+            if (active.get(i).customerId().equals(customerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
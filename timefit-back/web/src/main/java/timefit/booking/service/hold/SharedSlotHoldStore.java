@@ -0,0 +1,114 @@
+package timefit.booking.service.hold;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import timefit.booking.entity.BookingSlotHold;
+import timefit.booking.repository.BookingSlotHoldRepository;
+import timefit.booking.repository.BookingSlotRepository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 다중 노드 공유 슬롯 선점 저장소 (timefit.booking.slot-hold.store=shared)
+ *
+ * [구조]
+ * - booking_slot_hold 테이블에 선점 기록
+ * - 선점 시 슬롯 행을 잠가(SELECT ... FOR UPDATE) 같은 슬롯의 선점을 노드 간 직렬화
+ * - 조회/집계는 (booking_slot_id, expires_at) 인덱스 범위 조회
+ *
+ * [비용]
+ * - 선점 경합 거절이 DB 조회 1회로 처리되어 in-process 저장소보다 느리지만,
+ *   좌석 점유 UPDATE 충돌 없이 예약 생성 전에 거절됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.booking.slot-hold.store", havingValue = "shared")
+public class SharedSlotHoldStore implements SlotHoldStore {
+
+    private final BookingSlotRepository bookingSlotRepository;
+    private final BookingSlotHoldRepository bookingSlotHoldRepository;
+
+    @Override
+    @Transactional
+    public SlotHold hold(UUID bookingSlotId, UUID customerId, int freeSeats, long expiresAtMillis) {
+        if (bookingSlotRepository.findByIdForUpdate(bookingSlotId).isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = toLocalDateTime(expiresAtMillis);
+
+        Optional<BookingSlotHold> mine = bookingSlotHoldRepository
+                .findFirstByBookingSlotIdAndCustomerIdAndExpiresAtAfter(bookingSlotId, customerId, now);
+        if (mine.isPresent()) {
+            mine.get().extend(expiresAt);
+            return toSlotHold(mine.get());
+        }
+
+        long heldByOthers = bookingSlotHoldRepository
+                .countByBookingSlotIdAndCustomerIdNotAndExpiresAtAfter(bookingSlotId, customerId, now);
+        if (heldByOthers >= freeSeats) {
+            return null;
+        }
+
+        BookingSlotHold created = bookingSlotHoldRepository.save(
+                BookingSlotHold.create(bookingSlotId, customerId, expiresAt));
+        return toSlotHold(created);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SlotHold find(UUID holdId) {
+        return bookingSlotHoldRepository.findByIdAndExpiresAtAfter(holdId, LocalDateTime.now())
+                .map(SharedSlotHoldStore::toSlotHold)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int countHeldByOthers(UUID bookingSlotId, UUID customerId) {
+        return (int) bookingSlotHoldRepository
+                .countByBookingSlotIdAndCustomerIdNotAndExpiresAtAfter(bookingSlotId, customerId, LocalDateTime.now());
+    }
+
+    // 예약 생성 커밋 이후(afterCommit)에도 호출되므로 별도 트랜잭션으로 실행
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(UUID holdId, UUID customerId) {
+        return bookingSlotHoldRepository.deleteByIdAndCustomerId(holdId, customerId) > 0;
+    }
+
+    /**
+     * 만료된 선점 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${timefit.booking.slot-hold.purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = bookingSlotHoldRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("만료된 슬롯 선점 기록 삭제: deleted={}", deleted);
+        }
+    }
+
+    private static SlotHold toSlotHold(BookingSlotHold hold) {
+        return new SlotHold(hold.getId(), hold.getBookingSlotId(), hold.getCustomerId(), toEpochMillis(hold.getExpiresAt()));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
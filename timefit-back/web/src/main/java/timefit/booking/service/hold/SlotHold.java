@@ -0,0 +1,27 @@
+package timefit.booking.service.hold;
+
+import java.util.UUID;
+
+/**
+ * 슬롯 선점 정보
+ *
+ * @param holdId 선점 ID (예약 생성 시 전달)
+ * @param bookingSlotId 선점한 슬롯 ID
+ * @param customerId 선점한 고객 ID
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record SlotHold(
+        UUID holdId,
+        UUID bookingSlotId,
+        UUID customerId,
+        long expiresAtMillis
+) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    public boolean isOwnedBy(UUID bookingSlotId, UUID customerId) {
+        return this.bookingSlotId.equals(bookingSlotId) && this.customerId.equals(customerId);
+    }
+}
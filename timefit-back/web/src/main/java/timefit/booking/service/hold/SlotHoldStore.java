@@ -0,0 +1,55 @@
+package timefit.booking.service.hold;
+
+import java.util.UUID;
+
+/**
+ * 슬롯 선점 저장소
+ *
+ * [구현]
+ * - LocalSlotHoldStore: 단일 노드 in-process (기본값)
+ * - SharedSlotHoldStore: DB 공유 (다중 노드)
+ *
+ * [규칙]
+ * - 한 슬롯의 유효 선점 수는 선점 시점의 잔여 좌석 수를 넘지 않음
+ * - 고객당 슬롯별 선점은 1건 (재선점 시 만료 시각만 연장)
+ * - 만료된 선점은 조회/집계에서 제외되고 주기적으로 정리
+ */
+public interface SlotHoldStore {
+
+    /**
+     * 선점 시도
+     *
+     * @param bookingSlotId 슬롯 ID
+     * @param customerId 고객 ID
+     * @param freeSeats DB 기준 잔여 좌석 수 (capacity - bookedCount)
+     * @param expiresAtMillis 만료 시각 (epoch millis)
+     * @return 선점 정보, 다른 고객의 선점으로 잔여 좌석이 없으면 null
+     */
+    SlotHold hold(UUID bookingSlotId, UUID customerId, int freeSeats, long expiresAtMillis);
+
+    /**
+     * 유효한 선점 조회
+     *
+     * @param holdId 선점 ID
+     * @return 선점 정보, 없거나 만료되었으면 null
+     */
+    SlotHold find(UUID holdId);
+
+    /**
+     * 다른 고객의 유효한 선점 수
+     *
+     * @param bookingSlotId 슬롯 ID
+     * @param customerId 제외할 고객 ID
+     * @return 유효 선점 수
+     */
+    int countHeldByOthers(UUID bookingSlotId, UUID customerId);
+
+    /**
+     * 선점 해제 (본인 선점만)
+     *
+     * @param holdId 선점 ID
+     * @param customerId 고객 ID
+     * @return 해제되었으면 true
+     */
+    boolean release(UUID holdId, UUID customerId);
+}
@@ -0,0 +1,54 @@
+package timefit.booking.service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import timefit.booking.service.BookingSlotCommandService;
+
+import java.time.LocalDate;
+
+/**
+ * 지난 슬롯 야간 정리 작업
+ *
+ * [역할]
+ * - 보관 기간(retention-days)이 지난 슬롯 중 예약 없는 슬롯을 전체 업체 대상으로 삭제
+ * - 청크마다 별도 트랜잭션 (BookingSlotCommandService 호출 단위)
+ *
+ * [참고]
+ * - 삭제는 멱등이므로 여러 노드에서 동시에 실행되어도 결과는 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.booking.slot-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingSlotPurgeScheduler {
+
+    private final BookingSlotCommandService bookingSlotCommandService;
+
+    // 오늘 기준 보관 일수 (이 기간보다 오래된 슬롯 삭제)
+    @Value("${timefit.booking.slot-purge.retention-days:30}")
+    private int retentionDays;
+
+    // 청크 크기
+    @Value("${timefit.booking.slot-purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${timefit.booking.slot-purge.cron:0 30 3 * * *}")
+    public void purgeExpiredSlots() {
+        LocalDate beforeDate = LocalDate.now().minusDays(retentionDays);
+        long startedAt = System.currentTimeMillis();
+
+        long total = 0;
+        long deleted;
+        do {
+            deleted = bookingSlotCommandService.purgeSlotsBefore(beforeDate, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        log.info("지난 슬롯 정리 완료: beforeDate={}, deleted={}, elapsedMs={}",
+                beforeDate, total, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,150 @@
+package timefit.booking.service.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.booking.dto.BookingSlotResponse;
+import timefit.booking.repository.BookingSlotQueryRepository;
+import timefit.common.cache.GenerationGuardedCache;
+import timefit.operatinghours.service.schedule.WeeklySchedule;
+import timefit.operatinghours.service.schedule.WeeklyScheduleCache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * (업체, 날짜) 예약 가능 현황 캐시
+ *
+ * [역할]
+ * - 고객 예약 화면의 슬롯별 잔여 좌석 조회 결과를 짧은 TTL로 보관
+ * - 요청 기간의 모든 날짜가 캐시에 있으면 DB 조회 없이 응답
+ * - 하나라도 없으면 기간 전체를 슬롯 조회 1회(capacity - booked_count)로 읽은 후 날짜별로 적재 (슬롯 없는 날짜 포함)
+ * - 날짜 예외(휴무 / 단축 영업)로 막힌 슬롯은 제외 (주간 스케줄의 날짜 맵 조회)
+ *
+ * [무효화]
+ * - 예약 상태 변경 커밋 후 해당 날짜 제거 (BookingSlotAvailabilityEventListener)
+ * - 슬롯 생성 / 삭제 / 활성화 / 비활성화, 날짜 예외 변경 시 제거
+ * - 업체 단위 세대 번호(GenerationGuardedCache scope)로 "DB 조회 중 무효화 발생" 경합 감지 → 조회 결과 미적재
+ * - 다른 노드 변경은 TTL 경과 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingSlotAvailabilityCache {
+
+    private final BookingSlotQueryRepository bookingSlotQueryRepository;
+    private final WeeklyScheduleCache weeklyScheduleCache;
+
+    // 캐시 항목 유지 시간 (초)
+    @Value("${timefit.booking.availability-cache.ttl-seconds:5}")
+    private long ttlSeconds;
+
+    // 캐시 최대 키 수 (초과 시 만료 항목 → 오래 사용하지 않은 항목 순으로 정리)
+    @Value("${timefit.booking.availability-cache.max-entries:20000}")
+    private int maxEntries;
+
+    private GenerationGuardedCache<DayKey, BookingSlotResponse.DayAvailability> days;
+
+    @PostConstruct
+    void init() {
+        days = new GenerationGuardedCache<>(
+                "예약 가능 현황", Duration.ofSeconds(ttlSeconds), maxEntries, DayKey::businessId);
+    }
+
+    /**
+     * 캐시에서 기간 전체 조회
+     *
+     * @param businessId 업체 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 날짜순 예약 가능 현황, 한 날짜라도 캐시에 없으면 null
+     */
+    public List<BookingSlotResponse.DayAvailability> getIfCached(
+            UUID businessId, LocalDate startDate, LocalDate endDate) {
+
+        List<BookingSlotResponse.DayAvailability> result = new ArrayList<>();
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            BookingSlotResponse.DayAvailability cached = days.getIfPresent(new DayKey(businessId, date));
+            if (cached == null) {
+                return null;
+            }
+            result.add(cached);
+        }
+        return result;
+    }
+
+    /**
+     * 기간 전체 DB 조회 후 날짜별 적재
+     *
+     * @param businessId 업체 ID
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 날짜순 예약 가능 현황 (슬롯 없는 날짜는 빈 목록)
+     */
+    public List<BookingSlotResponse.DayAvailability> load(
+            UUID businessId, LocalDate startDate, LocalDate endDate) {
+
+        long generation = days.generation(new DayKey(businessId, startDate));
+
+        List<BookingSlotQueryRepository.SlotAvailability> rows =
+                bookingSlotQueryRepository.findSlotAvailability(businessId, startDate, endDate);
+        WeeklySchedule schedule = weeklyScheduleCache.get(businessId);
+
+        Map<LocalDate, List<BookingSlotResponse.SlotAvailability>> slotsByDate = new HashMap<>();
+        for (BookingSlotQueryRepository.SlotAvailability row : rows) {
+            if (schedule.isExcludedByOverride(row.slotDate(), row.startTime(), row.endTime())) {
+                continue;
+            }
+            slotsByDate.computeIfAbsent(row.slotDate(), date -> new ArrayList<>())
+                    .add(BookingSlotResponse.SlotAvailability.of(
+                            row.slotId(), row.menuId(), row.startTime(), row.endTime(), row.remaining()));
+        }
+
+        List<BookingSlotResponse.DayAvailability> result = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            List<BookingSlotResponse.SlotAvailability> slots = slotsByDate.get(date);
+            BookingSlotResponse.DayAvailability day = BookingSlotResponse.DayAvailability.of(
+                    date, slots == null ? List.of() : List.copyOf(slots));
+            result.add(day);
+
+            // 조회 도중 무효화가 있었다면 적재하지 않음
+            days.putIfUnchanged(new DayKey(businessId, date), day, generation);
+        }
+
+        log.debug("예약 가능 현황 로드: businessId={}, startDate={}, endDate={}, slots={}",
+                businessId, startDate, endDate, rows.size());
+
+        return result;
+    }
+
+    /**
+     * 특정 날짜 캐시 제거
+     *
+     * @param businessId 업체 ID
+     * @param date 날짜
+     */
+    public void evict(UUID businessId, LocalDate date) {
+        DayKey key = new DayKey(businessId, date);
+        GenerationGuardedCache.runNowAndAfterCompletion(() -> days.evict(key));
+    }
+
+    /**
+     * 업체 전체 날짜 캐시 제거
+     *
+     * @param businessId 업체 ID
+     */
+    public void evictBusiness(UUID businessId) {
+        GenerationGuardedCache.runNowAndAfterCompletion(() -> days.evictScope(businessId));
+    }
+
+    private record DayKey(UUID businessId, LocalDate date) {
+    }
+}
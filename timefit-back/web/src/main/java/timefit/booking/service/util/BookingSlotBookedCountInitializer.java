@@ -0,0 +1,56 @@
+package timefit.booking.service.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.booking.repository.BookingSlotQueryRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 슬롯 점유 좌석 수(booked_count) 이관 (기동 시 1회, 웹 서버 시작 전)
+ *
+ * - booked_count 컬럼 도입 이전 예약이 있던 슬롯은 0으로 시작 → 활성 예약(PENDING, CONFIRMED) 수로 재계산
+ * - 요청을 받기 전에 끝나야 claimSeat 이 초과 예약을 막을 수 있으므로 빈 초기화 단계에서 동기 실행
+ * - 청크 단위 트랜잭션, 값이 맞는 슬롯은 대상 아님 (재기동 시 대상 없음)
+ * - 실패 시 기동 중단 (좌석 수가 틀린 채로 예약을 받지 않음)
+ * - 대상 조회가 슬롯 전체를 훑으므로 기본 비활성
+ *   → booked_count 컬럼을 도입하는 배포에서만 timefit.booking.booked-count-backfill.enabled=true 로 1회 기동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.booking.booked-count-backfill.enabled", havingValue = "true")
+public class BookingSlotBookedCountInitializer implements SmartInitializingSingleton {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BookingSlotQueryRepository bookingSlotQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long total = 0;
+
+        while (true) {
+            Integer recounted = transactionTemplate.execute(status -> {
+                List<UUID> slotIds = bookingSlotQueryRepository.findSlotIdsWithMismatchedBookedCount(CHUNK_SIZE);
+                bookingSlotQueryRepository.recountBookedSeats(slotIds);
+                return slotIds.size();
+            });
+
+            total += recounted;
+            if (recounted < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("슬롯 점유 좌석 수 이관 완료: slots={}", total);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package timefit.booking.service.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 슬롯 시작 시점 primitive 키 집합 (중복 체크용)
+ *
+ * [키]
+ * - epochDay * 1440 + 자정 기준 분
+ * - 문자열 키 / 박싱 없이 long 하나로 표현
+ *
+ * [구조]
+ * - open addressing (linear probing) long 배열
+ * - 적재율 50% 초과 시 2배 확장
+ * - Long.MIN_VALUE를 빈 칸 표시로 사용 (실제 키로는 나올 수 없는 값)
+ */
+public final class SlotKeySet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    public SlotKeySet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    public static long key(LocalDate date, LocalTime startTime) {
+        return dayKey(date) + startTime.getHour() * 60 + startTime.getMinute();
+    }
+
+    // 날짜의 자정 키 (여기에 자정 기준 분을 더하면 슬롯 키)
+    public static long dayKey(LocalDate date) {
+        return date.toEpochDay() * 1440;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(long key) {
+        int index = indexOf(key);
+        if (table[index] == key) {
+            return false;
+        }
+
+        table[index] = key;
+        if (++size * 2 > table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return table[indexOf(key)] == key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 키가 있으면 해당 위치, 없으면 삽입할 빈 칸 위치
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (table[index] != EMPTY && table[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        long[] old = table;
+        allocate(old.length << 1);
+        for (long key : old) {
+            if (key != EMPTY) {
+                table[indexOf(key)] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,95 @@
+package timefit.booking.service.util;
+
+import java.time.LocalTime;
+
+/**
+ * 하루치 슬롯 시작/종료 시점 계획 (불변)
+ *
+ * [구조]
+ * - startMinutes[i]: 자정 기준 시작 분 (생성 순서 유지)
+ * - 종료 분 = 시작 분 + durationMinutes
+ * - 날짜와 무관 → 같은 요일 / 같은 시간대 조합의 모든 날짜에서 재사용
+ *
+ * [엔티티]
+ * - BookingSlot은 저장 직전에만 생성 (startTime / endTime 으로 변환)
+ */
+public final class SlotPlan {
+
+    private static final SlotPlan EMPTY = new SlotPlan(new int[0], 0);
+
+    private final int[] startMinutes;
+    private final int durationMinutes;
+
+    private SlotPlan(int[] startMinutes, int durationMinutes) {
+        this.startMinutes = startMinutes;
+        this.durationMinutes = durationMinutes;
+    }
+
+    public static SlotPlan empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 시간 구간 목록으로 슬롯 계획 생성
+     * - 구간마다 시작 분부터 간격만큼 이동하며, 종료 분(시작 + 소요 시간)이 구간 끝을 넘지 않는 슬롯만 포함
+     * - 끝이 시작보다 이르거나 같은 구간(자정 넘김 등)은 슬롯 없음
+     *
+     * @param windows [시작 분, 끝 분] 쌍을 이어 붙인 배열
+     * @param durationMinutes 슬롯 소요 시간 (분)
+     * @param intervalMinutes 슬롯 간격 (분)
+     * @return 슬롯 계획
+     */
+    public static SlotPlan of(int[] windows, int durationMinutes, int intervalMinutes) {
+        int size = 0;
+        for (int w = 0; w < windows.length; w += 2) {
+            size += countInWindow(windows[w], windows[w + 1], durationMinutes, intervalMinutes);
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        int[] startMinutes = new int[size];
+        int index = 0;
+        for (int w = 0; w < windows.length; w += 2) {
+            int lastStart = windows[w + 1] - durationMinutes;
+            for (int start = windows[w]; start <= lastStart; start += intervalMinutes) {
+                startMinutes[index++] = start;
+            }
+        }
+        return new SlotPlan(startMinutes, durationMinutes);
+    }
+
+    // 구간 내 슬롯 수 (정확한 값)
+    private static int countInWindow(int windowStart, int windowEnd, int durationMinutes, int intervalMinutes) {
+        int available = windowEnd - windowStart - durationMinutes;
+        return available < 0 ? 0 : available / intervalMinutes + 1;
+    }
+
+    public int size() {
+        return startMinutes.length;
+    }
+
+    public boolean isEmpty() {
+        return startMinutes.length == 0;
+    }
+
+    public int startMinute(int index) {
+        return startMinutes[index];
+    }
+
+    public int endMinute(int index) {
+        return startMinutes[index] + durationMinutes;
+    }
+
+    public LocalTime startTime(int index) {
+        return toLocalTime(startMinute(index));
+    }
+
+    public LocalTime endTime(int index) {
+        return toLocalTime(endMinute(index));
+    }
+
+    private static LocalTime toLocalTime(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,106 @@
+package timefit.booking.service.util;
+
+import timefit.booking.service.dto.AvailableTimeRange;
+import timefit.booking.service.dto.DailySlotSchedule;
+import timefit.operatinghours.service.schedule.DayWindows;
+import timefit.operatinghours.service.schedule.WeeklySchedule;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬롯 일괄 생성 요청 단위 계획기 (요청마다 새로 생성, 스레드 안전하지 않음)
+ *
+ * [역할]
+ * - 주간 스케줄(날짜별 예약 가능 구간, 날짜 예외 반영) + 사용자 지정 시간대 → 자정 기준 분(int) 구간으로 SlotPlan 계산
+ * - (예약 가능 구간, 시간대 목록) 조합별로 한 번만 계산하고 같은 조합의 모든 날짜에서 재사용
+ *   (보통 요일당 1개, 휴무 / 단축 영업 날짜는 해당 구간으로 계산)
+ *   (소요 시간 / 간격은 요청 내에서 고정)
+ * - 요청 전체의 정확한 슬롯 수 계산 (생성 한도 검증용)
+ *
+ * [시간대 규칙]
+ * - 시간대가 비어있으면 휴무가 아닌 영업시간 전체 사용
+ * - 시간대가 있으면 어느 한 영업시간 안에 완전히 포함되는 시간대만 사용
+ */
+public final class SlotPlanner {
+
+    private final WeeklySchedule schedule;
+    private final int durationMinutes;
+    private final int intervalMinutes;
+
+    private final Map<PlanKey, SlotPlan> plans = new HashMap<>();
+
+    /**
+     * @param schedule 업체 주간 스케줄
+     * @param durationMinutes 메뉴 소요 시간 (분)
+     * @param intervalMinutes 슬롯 간격 (분)
+     */
+    public SlotPlanner(
+            WeeklySchedule schedule,
+            int durationMinutes,
+            int intervalMinutes) {
+
+        if (durationMinutes <= 0 || intervalMinutes <= 0) {
+            throw new IllegalArgumentException("소요 시간과 슬롯 간격은 1분 이상이어야 합니다");
+        }
+        this.schedule = schedule;
+        this.durationMinutes = durationMinutes;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    /**
+     * 날짜별 슬롯 계획 (같은 예약 가능 구간 / 같은 시간대 목록이면 캐시된 계획 반환)
+     *
+     * @param date 날짜
+     * @param timeRanges 사용자 지정 시간대 (null 또는 비어있으면 영업시간 전체)
+     * @return 슬롯 계획
+     */
+    public SlotPlan plan(LocalDate date, List<AvailableTimeRange> timeRanges) {
+        DayWindows open = schedule.bookingWindowsFor(date);
+        List<AvailableTimeRange> ranges = timeRanges == null ? List.of() : timeRanges;
+
+        return plans.computeIfAbsent(new PlanKey(open, ranges), key -> SlotPlan.of(
+                windows(open, ranges),
+                durationMinutes,
+                intervalMinutes));
+    }
+
+    /**
+     * 요청 전체 슬롯 수 (정확한 값, 날짜 간 중복 여부와 무관)
+     *
+     * @param schedules 날짜별 스케줄 목록
+     * @return 생성될 슬롯 수
+     */
+    public long countSlots(List<DailySlotSchedule> schedules) {
+        long total = 0;
+        for (DailySlotSchedule schedule : schedules) {
+            total += plan(schedule.date(), schedule.timeRanges()).size();
+        }
+        return total;
+    }
+
+    // 예약 가능 구간 / 시간대 → [시작 분, 끝 분] 쌍 배열
+    private static int[] windows(DayWindows open, List<AvailableTimeRange> timeRanges) {
+        if (timeRanges.isEmpty()) {
+            return open.toArray();
+        }
+
+        int[] windows = new int[timeRanges.size() * 2];
+        int count = 0;
+        for (AvailableTimeRange timeRange : timeRanges) {
+            int start = DayWindows.toMinute(timeRange.startTime());
+            int end = DayWindows.toMinute(timeRange.endTime());
+            if (open.covers(start, end)) {
+                windows[count++] = start;
+                windows[count++] = end;
+            }
+        }
+        return count == windows.length ? windows : Arrays.copyOf(windows, count);
+    }
+
+    private record PlanKey(DayWindows open, List<AvailableTimeRange> timeRanges) {
+    }
+}
@@ -8,12 +8,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import timefit.business.dto.BusinessRequestDto;
 import timefit.business.dto.BusinessResponseDto;
 import timefit.business.entity.BusinessTypeCode;
 import timefit.business.service.BusinessService;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.common.ResponseData;
 import timefit.common.auth.CurrentUserId;
+import timefit.common.etag.ConditionalResponses;
+import timefit.common.etag.ContentVersionService;
 import timefit.common.swagger.operation.business.*;
 import timefit.common.swagger.requestbody.business.*;
 
@@ -34,6 +38,8 @@ import java.util.UUID;
 public class BusinessController {
 
     private final BusinessService businessService;
+    private final ContentVersionService contentVersionService;
+    private final ConditionalResponses conditionalResponses;
 
     // ========================================
     // 공개 API (인증 불필요)
@@ -43,12 +49,29 @@ public class BusinessController {
     @GetMapping("/{businessId}")
     public ResponseEntity<ResponseData<BusinessResponseDto.PublicBusinessResponse>> getBusinessDetail(
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
-            @PathVariable UUID businessId) {
+            @PathVariable UUID businessId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("업체 상세 조회 요청: businessId={}", businessId);
 
-        BusinessResponseDto.PublicBusinessResponse response = businessService.getPublicBusinessDetail(businessId);
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.businessDetail(businessId),
+                () -> businessService.getPublicBusinessDetail(businessId));
+    }
+
+    @GetBusinessPublicProfileOperation
+    @GetMapping("/{businessId}/public-profile")
+    public ResponseEntity<ResponseData<BusinessResponseDto.PublicProfileResponse>> getBusinessPublicProfile(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
+
+        log.info("업체 공개 프로필 조회 요청: businessId={}", businessId);
+
+        // 캐시 적중 + If-None-Match 일치 시 DB 조회 없이 304
+        BusinessPublicProfileCache.PublicProfile profile = businessService.getPublicProfile(businessId);
+        return conditionalResponses.ok(webRequest, profile.etag(), profile::response);
     }
 
     @SearchBusinessesOperation
@@ -73,6 +96,28 @@ public class BusinessController {
         return ResponseEntity.ok(ResponseData.of(response));
     }
 
+    @GetNearbyBusinessesOperation
+    @GetMapping("/nearby")
+    public ResponseEntity<ResponseData<BusinessResponseDto.NearbyBusinessListResponse>> findNearbyBusinesses(
+            @Parameter(description = "기준 위도", required = true, example = "37.4979")
+            @RequestParam double latitude,
+            @Parameter(description = "기준 경도", required = true, example = "127.0276")
+            @RequestParam double longitude,
+            @Parameter(description = "검색 반경 (km)", example = "3")
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @Parameter(description = "업종 코드", example = "BD008")
+            @RequestParam(required = false) BusinessTypeCode businessType,
+            @Parameter(description = "최대 결과 수", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("주변 업체 검색 요청: latitude={}, longitude={}, radiusKm={}, businessType={}, limit={}",
+                latitude, longitude, radiusKm, businessType, limit);
+
+        BusinessResponseDto.NearbyBusinessListResponse response = businessService.findNearbyBusinesses(
+                latitude, longitude, radiusKm, businessType, limit);
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+
     // ========================================
     // 인증 필요 API
     // ========================================
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import timefit.common.entity.BusinessRole;
 import timefit.business.entity.BusinessTypeCode;
+import timefit.business.entity.ReservationLifecyclePolicy;
 
 import java.util.Set;
 
@@ -91,7 +92,25 @@ public class BusinessRequestDto {
                     maxLength = 500
             )
             @Size(max = 500, message = "공지사항은 500자 이하여야 합니다")
-            String businessNotice
+            String businessNotice,
+
+            @Schema(
+                    description = "위도 (주변 업체 검색용, 경도와 함께 입력)",
+                    example = "37.5665",
+                    nullable = true
+            )
+            @DecimalMin(value = "-90.0", message = "위도는 -90.0~90.0 사이여야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 -90.0~90.0 사이여야 합니다")
+            Double latitude,
+
+            @Schema(
+                    description = "경도 (주변 업체 검색용, 위도와 함께 입력)",
+                    example = "126.9780",
+                    nullable = true
+            )
+            @DecimalMin(value = "-180.0", message = "경도는 -180.0~180.0 사이여야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 -180.0~180.0 사이여야 합니다")
+            Double longitude
     ) {}
 
     // 업체 정보 수정 요청
@@ -175,7 +194,57 @@ public class BusinessRequestDto {
                     maxLength = 500
             )
             @Size(max = 500, message = "공지사항은 500자 이하여야 합니다")
-            String businessNotice
+            String businessNotice,
+
+            @Schema(
+                    description = "위도 (경도와 함께 입력해야 반영)",
+                    example = "37.4979",
+                    nullable = true
+            )
+            @DecimalMin(value = "-90.0", message = "위도는 -90.0~90.0 사이여야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 -90.0~90.0 사이여야 합니다")
+            Double latitude,
+
+            @Schema(
+                    description = "경도 (위도와 함께 입력해야 반영)",
+                    example = "127.0276",
+                    nullable = true
+            )
+            @DecimalMin(value = "-180.0", message = "경도는 -180.0~180.0 사이여야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 -180.0~180.0 사이여야 합니다")
+            Double longitude,
+
+            @Schema(
+                    description = "지난 확정 예약 자동 완료 여부 (미설정 시 시스템 기본값, 기본 꺼짐)",
+                    example = "true",
+                    nullable = true
+            )
+            Boolean autoCompleteEnabled,
+
+            @Schema(
+                    description = "예약 종료 후 자동 완료까지 (분, 0~10080)",
+                    example = "60",
+                    nullable = true
+            )
+            @Min(value = 0, message = "자동 완료 지연 시간은 0분 이상이어야 합니다")
+            @Max(value = ReservationLifecyclePolicy.MAX_DELAY_MINUTES, message = "자동 완료 지연 시간은 7일을 초과할 수 없습니다")
+            Integer autoCompleteDelayMinutes,
+
+            @Schema(
+                    description = "지난 대기 예약 자동 만료(취소) 여부 (미설정 시 시스템 기본값, 기본 꺼짐)",
+                    example = "true",
+                    nullable = true
+            )
+            Boolean pendingExpiryEnabled,
+
+            @Schema(
+                    description = "예약 시작 후 대기 예약 만료까지 (분, 0~10080)",
+                    example = "30",
+                    nullable = true
+            )
+            @Min(value = 0, message = "대기 만료 지연 시간은 0분 이상이어야 합니다")
+            @Max(value = ReservationLifecyclePolicy.MAX_DELAY_MINUTES, message = "대기 만료 지연 시간은 7일을 초과할 수 없습니다")
+            Integer pendingExpiryDelayMinutes
     ) {}
 
     // 멤버 초대 요청
@@ -3,9 +3,13 @@ package timefit.business.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import timefit.business.entity.Business;
 import timefit.business.entity.BusinessTypeCode;
+import timefit.business.entity.ReservationLifecyclePolicy;
 import timefit.business.entity.UserBusinessRole;
 import timefit.common.entity.BusinessRole;
 import timefit.invitation.dto.InvitationResponseDto;
+import timefit.menu.dto.MenuResponseDto;
+import timefit.operatinghours.dto.OperatingHoursResponseDto;
+import timefit.review.dto.ReviewResponseDto;
 import timefit.user.entity.User;
 
 import java.time.LocalDateTime;
@@ -79,6 +83,9 @@ public class BusinessResponseDto {
             )
             String businessNotice,
 
+            @Schema(description = "예약 자동 처리 정책 (null 항목은 시스템 기본값 적용)")
+            ReservationPolicy reservationPolicy,
+
             @Schema(
                     description = "활성화 여부",
                     example = "true"
@@ -116,6 +123,7 @@ public class BusinessResponseDto {
                     business.getDescription(),
                     business.getLogoUrl(),
                     business.getBusinessNotice(),
+                    ReservationPolicy.of(business.getReservationLifecyclePolicy()),
                     business.getIsActive(),
                     userRole.getRole(),
                     business.getCreatedAt(),
@@ -124,6 +132,51 @@ public class BusinessResponseDto {
         }
     }
 
+    // 예약 자동 처리 정책
+    @Schema(description = "예약 자동 처리 정책")
+    public record ReservationPolicy(
+            @Schema(
+                    description = "지난 확정 예약 자동 완료 여부",
+                    example = "true",
+                    nullable = true
+            )
+            Boolean autoCompleteEnabled,
+
+            @Schema(
+                    description = "예약 종료 후 자동 완료까지 (분)",
+                    example = "60",
+                    nullable = true
+            )
+            Integer autoCompleteDelayMinutes,
+
+            @Schema(
+                    description = "지난 대기 예약 자동 만료(취소) 여부",
+                    example = "true",
+                    nullable = true
+            )
+            Boolean pendingExpiryEnabled,
+
+            @Schema(
+                    description = "예약 시작 후 대기 예약 만료까지 (분)",
+                    example = "0",
+                    nullable = true
+            )
+            Integer pendingExpiryDelayMinutes
+    ) {
+        // 정책 컬럼이 모두 null이면 임베디드 값 자체가 null로 로딩됨
+        public static ReservationPolicy of(ReservationLifecyclePolicy policy) {
+            if (policy == null) {
+                return new ReservationPolicy(null, null, null, null);
+            }
+            return new ReservationPolicy(
+                    policy.getAutoCompleteEnabled(),
+                    policy.getAutoCompleteDelayMinutes(),
+                    policy.getPendingExpiryEnabled(),
+                    policy.getPendingExpiryDelayMinutes()
+            );
+        }
+    }
+
     // 고객용 업체 공개 정보
     @Schema(description = "공개용 업체 상세 정보 (민감 정보 제외)")
     public record PublicBusinessResponse(
@@ -218,6 +271,35 @@ public class BusinessResponseDto {
         }
     }
 
+    // 고객용 업체 공개 프로필 (업체 화면 1회 조회용 묶음)
+    @Schema(description = "업체 공개 프로필 (업체 정보 + 영업시간 + 메뉴 + 리뷰 통계)")
+    public record PublicProfileResponse(
+            @Schema(description = "업체 공개 정보")
+            PublicBusinessResponse business,
+
+            @Schema(description = "영업시간")
+            OperatingHoursResponseDto.OperatingHours operatingHours,
+
+            @Schema(description = "활성 메뉴 목록")
+            MenuResponseDto.MenuList menus,
+
+            @Schema(description = "리뷰 통계")
+            ReviewResponseDto.ReviewStatistics reviewStatistics
+    ) {
+        public static PublicProfileResponse of(
+                Business business,
+                OperatingHoursResponseDto.OperatingHours operatingHours,
+                MenuResponseDto.MenuList menus,
+                ReviewResponseDto.ReviewStatistics reviewStatistics) {
+            return new PublicProfileResponse(
+                    PublicBusinessResponse.of(business),
+                    operatingHours,
+                    menus,
+                    reviewStatistics
+            );
+        }
+    }
+
     // 내 업체 목록 응답
     @Schema(description = "업체 목록 응답 (검색, 내 업체 목록)")
     public record BusinessListResponse(
@@ -299,6 +381,89 @@ public class BusinessResponseDto {
         }
     }
 
+    // 주변 업체 목록 응답
+    @Schema(description = "주변 업체 목록 응답 (거리순)")
+    public record NearbyBusinessListResponse(
+            @Schema(description = "업체 목록 (가까운 순)")
+            List<NearbyBusinessItem> businesses,
+
+            @Schema(
+                    description = "결과 업체 수",
+                    example = "20"
+            )
+            Integer totalCount
+    ) {
+        @Schema(description = "주변 업체 아이템")
+        public record NearbyBusinessItem(
+                @Schema(
+                        description = "업체 ID",
+                        example = "30000000-0000-0000-0000-000000000001"
+                )
+                UUID businessId,
+
+                @Schema(
+                        description = "업체명",
+                        example = "Owner Kim 미용실"
+                )
+                String businessName,
+
+                @Schema(
+                        description = "업종 코드 목록",
+                        example = "[\"BD008\"]"
+                )
+                Set<BusinessTypeCode> businessTypes,
+
+                @Schema(
+                        description = "업체 주소",
+                        example = "서울특별시 강남구 테헤란로 123"
+                )
+                String address,
+
+                @Schema(
+                        description = "로고 이미지 URL",
+                        example = "https://example.com/logo.png"
+                )
+                String logoUrl,
+
+                @Schema(description = "평균 평점 (0.0~5.0)", example = "4.5")
+                Double averageRating,
+
+                @Schema(description = "리뷰 개수", example = "120")
+                Integer reviewCount,
+
+                @Schema(description = "위도", example = "37.5665")
+                Double latitude,
+
+                @Schema(description = "경도", example = "126.9780")
+                Double longitude,
+
+                @Schema(
+                        description = "기준 좌표로부터 거리 (m)",
+                        example = "350"
+                )
+                Integer distanceMeters
+        ) {
+            public static NearbyBusinessItem of(Business business, double distanceMeters) {
+                return new NearbyBusinessItem(
+                        business.getId(),
+                        business.getBusinessName(),
+                        business.getBusinessTypes(),
+                        business.getAddress(),
+                        business.getLogoUrl(),
+                        business.getAverageRating(),
+                        business.getReviewCount(),
+                        business.getLatitude(),
+                        business.getLongitude(),
+                        (int) Math.round(distanceMeters)
+                );
+            }
+        }
+
+        public static NearbyBusinessListResponse of(List<NearbyBusinessItem> items) {
+            return new NearbyBusinessListResponse(items, items.size());
+        }
+    }
+
     // 팀원 목록 응답
     @Schema(description = "업체 구성원 목록 응답")
     public record MemberListResponse(
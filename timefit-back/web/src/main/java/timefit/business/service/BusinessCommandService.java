@@ -2,6 +2,7 @@ package timefit.business.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.auth.service.validator.AuthValidator;
@@ -13,6 +14,9 @@ import timefit.business.entity.UserBusinessRole;
 import timefit.business.repository.BusinessHoursRepository;
 import timefit.business.repository.BusinessRepository;
 import timefit.business.repository.UserBusinessRoleRepository;
+import timefit.business.service.event.BusinessChangedEvent;
+import timefit.business.service.util.BusinessAuthorizationCache;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.common.entity.BusinessRole;
 import timefit.exception.business.BusinessErrorCode;
@@ -37,6 +41,9 @@ public class BusinessCommandService {
     private final InvitationService invitationService;
     private final BusinessValidator businessValidator;
     private final AuthValidator authValidator;
+    private final BusinessAuthorizationCache businessAuthorizationCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusinessPublicProfileCache publicProfileCache;
 
     /**
      * 업체 생성
@@ -66,6 +73,7 @@ public class BusinessCommandService {
                 request.logoUrl(),
                 request.businessNotice()
         );
+        updateLocationIfPresent(business, request.latitude(), request.longitude());
 
         Business savedBusiness = businessRepository.save(business);
         log.info("업체 생성 완료: businessId={}", savedBusiness.getId());
@@ -76,6 +84,7 @@ public class BusinessCommandService {
         );
 
         UserBusinessRole savedOwnerRole = userBusinessRoleRepository.save(ownerRole);
+        businessAuthorizationCache.evict(ownerId, savedBusiness.getId());
         log.info("OWNER 권한 부여 완료: userId={}, businessId={}, role=OWNER",
                 ownerId, savedBusiness.getId());
 
@@ -84,6 +93,8 @@ public class BusinessCommandService {
                 BusinessHoursDefaultConfig.createDefaultBusinessHours(business);
         businessHoursRepository.saveAll(defaultHours);
 
+        eventPublisher.publishEvent(BusinessChangedEvent.of(savedBusiness));
+
         return BusinessResponseDto.BusinessResponse.of(savedBusiness, savedOwnerRole);
     }
 
@@ -126,6 +137,16 @@ public class BusinessCommandService {
                 request.logoUrl(),
                 request.businessNotice()
         );
+        updateLocationIfPresent(business, request.latitude(), request.longitude());
+        business.updateReservationLifecyclePolicy(
+                request.autoCompleteEnabled(),
+                request.autoCompleteDelayMinutes(),
+                request.pendingExpiryEnabled(),
+                request.pendingExpiryDelayMinutes()
+        );
+
+        eventPublisher.publishEvent(BusinessChangedEvent.of(business));
+        publicProfileCache.evict(businessId);
 
         log.info("업체 정보 수정 완료: businessId={}", businessId);
 
@@ -158,6 +179,8 @@ public class BusinessCommandService {
 
         // 5. 업체 비활성화 (Soft Delete)
         business.deactivate();
+        eventPublisher.publishEvent(BusinessChangedEvent.of(business));
+        publicProfileCache.evict(businessId);
 
         log.info("업체 삭제 완료: businessId={}, deleteReason={}",
                 businessId, validatedRequest.deleteReason());
@@ -227,6 +250,7 @@ public class BusinessCommandService {
 
         // 6. 권한 변경
         targetRole.changeRole(request.newRole());
+        businessAuthorizationCache.evict(targetUserId, businessId);
 
         log.info("구성원 권한 변경 완료: targetUserId={}, newRole={}", targetUserId, request.newRole());
     }
@@ -274,6 +298,7 @@ public class BusinessCommandService {
 
         // 7. 구성원 제거 (논리적 삭제)
         targetRole.deactivate();
+        businessAuthorizationCache.evict(targetUserId, businessId);
 
         log.info("구성원 제거 완료: targetUserId={}, businessId={}", targetUserId, businessId);
     }
@@ -307,6 +332,7 @@ public class BusinessCommandService {
 
         // 4. 활성화
         targetRole.activate();
+        businessAuthorizationCache.evict(targetUserId, businessId);
 
         log.info("구성원 활성화 완료: targetUserId={}, businessId={}", targetUserId, businessId);
     }
@@ -340,7 +366,15 @@ public class BusinessCommandService {
 
         // 5. 비활성화
         targetRole.deactivate();
+        businessAuthorizationCache.evict(targetUserId, businessId);
 
         log.info("구성원 비활성화 완료: targetUserId={}, businessId={}", targetUserId, businessId);
     }
-}
\ No newline at end of file
+
+    // 위도/경도가 모두 있을 때만 위치 갱신 (하나만 오면 무시)
+    private void updateLocationIfPresent(Business business, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            business.updateLocation(latitude, longitude);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package timefit.business.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -10,11 +11,21 @@ import timefit.business.dto.BusinessResponseDto;
 import timefit.business.entity.Business;
 import timefit.business.entity.BusinessTypeCode;
 import timefit.business.entity.UserBusinessRole;
-import timefit.business.repository.BusinessRepositoryCustom;
 import timefit.business.repository.UserBusinessRoleRepository;
+import timefit.business.repository.BusinessRepositoryCustom;
+import timefit.business.service.geo.BusinessGeoIndex;
+import timefit.business.service.search.BusinessSearchEngine;
 import timefit.business.service.validator.BusinessValidator;
-
+import timefit.exception.business.BusinessErrorCode;
+import timefit.exception.business.BusinessException;
+import timefit.menu.service.MenuQueryService;
+import timefit.operatinghours.service.OperatingHoursQueryService;
+import timefit.review.service.ReviewQueryService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -28,9 +39,20 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class BusinessQueryService {
 
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final UserBusinessRoleRepository userBusinessRoleRepository;
+    private final BusinessSearchEngine businessSearchEngine;
     private final BusinessRepositoryCustom businessRepositoryCustom;
+    private final BusinessGeoIndex businessGeoIndex;
     private final BusinessValidator businessValidator;
+    private final OperatingHoursQueryService operatingHoursQueryService;
+    private final MenuQueryService menuQueryService;
+    private final ReviewQueryService reviewQueryService;
+
+    // 주변 업체 검색 최대 반경 (km)
+    @Value("${timefit.business.geo-index.max-radius-km:20}")
+    private double maxRadiusKm;
 
     /**
      * 공개 업체 상세 조회
@@ -44,6 +66,27 @@ public class BusinessQueryService {
         return BusinessResponseDto.PublicBusinessResponse.of(business);
     }
 
+    /**
+     * 공개 업체 프로필 조회 (업체 정보 + 영업시간 + 활성 메뉴 + 리뷰 통계)
+     * 권한: 누구나 조회 가능
+     *
+     * 프로세스:
+     * 1. 업체 존재 확인 (1회)
+     * 2. 영업시간 / 활성 메뉴 / 리뷰 통계를 같은 읽기 트랜잭션에서 조회
+     */
+    public BusinessResponseDto.PublicProfileResponse getPublicProfile(UUID businessId) {
+        log.info("공개 업체 프로필 조회: businessId={}", businessId);
+
+        Business business = businessValidator.validateBusinessExists(businessId);
+
+        return BusinessResponseDto.PublicProfileResponse.of(
+                business,
+                operatingHoursQueryService.getOperatingHours(business),
+                menuQueryService.getMenuList(business),
+                reviewQueryService.getReviewStatistics(businessId)
+        );
+    }
+
     /**
      * 사업자용 업체 상세 조회
      * 권한: OWNER/MANAGER/MEMBER
@@ -110,7 +153,7 @@ public class BusinessQueryService {
         log.info("업체 검색: keyword={}, type={}, region={}", keyword, businessType, region);
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Business> businessPage = businessRepositoryCustom.searchBusinesses(
+        Page<Business> businessPage = businessSearchEngine.search(
                 keyword, businessType, region, pageRequest);
 
         // DTO 변환
@@ -132,4 +175,64 @@ public class BusinessQueryService {
                 (int) businessPage.getTotalElements()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 주변 업체 검색 (거리순)
+     *
+     * 1. 좌표 / 반경 / 개수 검증
+     * 2. 위치 격자 인덱스에서 반경 내 가까운 업체 ID 조회 (DB 스캔 없음)
+     * 3. ID 목록으로 업체 일괄 조회 (인덱스 반영 전 비활성화된 업체 제외)
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param businessType 업종 필터 (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 가까운 순 업체 목록
+     */
+    public BusinessResponseDto.NearbyBusinessListResponse findNearbyBusinesses(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            BusinessTypeCode businessType,
+            int limit) {
+
+        validateNearbyRequest(latitude, longitude, radiusKm, limit);
+
+        List<BusinessGeoIndex.Nearby> nearby =
+                businessGeoIndex.findNearest(latitude, longitude, radiusKm, businessType, limit);
+
+        Map<UUID, Double> distances = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(nearby.size());
+        for (BusinessGeoIndex.Nearby item : nearby) {
+            distances.put(item.businessId(), item.distanceMeters());
+            ids.add(item.businessId());
+        }
+
+        List<BusinessResponseDto.NearbyBusinessListResponse.NearbyBusinessItem> items =
+                businessRepositoryCustom.findAllByIdInOrder(ids).stream()
+                        .filter(Business::isActive)
+                        .filter(business -> businessType == null || business.hasBusinessType(businessType))
+                        .map(business -> BusinessResponseDto.NearbyBusinessListResponse.NearbyBusinessItem.of(
+                                business, distances.get(business.getId())))
+                        .toList();
+
+        log.debug("주변 업체 검색: lat={}, lng={}, radiusKm={}, type={}, results={}",
+                latitude, longitude, radiusKm, businessType, items.size());
+
+        return BusinessResponseDto.NearbyBusinessListResponse.of(items);
+    }
+
+    private void validateNearbyRequest(double latitude, double longitude, double radiusKm, int limit) {
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0
+                || Double.isNaN(latitude) || Double.isNaN(longitude)) {
+            throw new BusinessException(BusinessErrorCode.INVALID_LOCATION);
+        }
+        if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+            throw new BusinessException(BusinessErrorCode.INVALID_SEARCH_RADIUS);
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new BusinessException(BusinessErrorCode.INVALID_PAGE_SIZE);
+        }
+    }
+}
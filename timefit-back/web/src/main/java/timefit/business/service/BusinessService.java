@@ -3,10 +3,12 @@ package timefit.business.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.dto.BusinessRequestDto;
 import timefit.business.dto.BusinessResponseDto;
 import timefit.business.entity.BusinessTypeCode;
+import timefit.business.service.util.BusinessPublicProfileCache;
 
 import java.util.UUID;
 
@@ -23,6 +25,7 @@ public class BusinessService {
 
     private final BusinessQueryService businessQueryService;
     private final BusinessCommandService businessCommandService;
+    private final BusinessPublicProfileCache publicProfileCache;
 
     // ========================================
     // 조회 작업 (Query)
@@ -36,6 +39,16 @@ public class BusinessService {
         return businessQueryService.getPublicBusinessDetail(businessId);
     }
 
+    /**
+     * 공개 업체 프로필 조회 (업체 정보 + 영업시간 + 메뉴 + 리뷰 통계)
+     * 권한: 누구나 조회 가능
+     * - 캐시 적중 시 트랜잭션을 열지 않음 (SUPPORTS), 미스 시에만 읽기 트랜잭션에서 조회
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BusinessPublicProfileCache.PublicProfile getPublicProfile(UUID businessId) {
+        return publicProfileCache.get(businessId, () -> businessQueryService.getPublicProfile(businessId));
+    }
+
     /**
      * 사업자용 업체 상세 조회
      * 권한: OWNER/MANAGER/MEMBER
@@ -67,6 +80,19 @@ public class BusinessService {
         return businessQueryService.searchBusinesses(keyword, businessType, region, page, size);
     }
 
+    /**
+     * 주변 업체 검색 (거리순)
+     * 권한: 누구나 검색 가능
+     */
+    public BusinessResponseDto.NearbyBusinessListResponse findNearbyBusinesses(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            BusinessTypeCode businessType,
+            int limit) {
+        return businessQueryService.findNearbyBusinesses(latitude, longitude, radiusKm, businessType, limit);
+    }
+
     /**
      * 구성원 목록 조회
      * 권한: OWNER, MANAGER, MEMBER
@@ -0,0 +1,34 @@
+package timefit.business.service.event;
+
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessTypeCode;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 업체 정보 변경 이벤트
+ * - 업체 생성/수정/삭제(비활성화) 시 발행
+ * - 트랜잭션 커밋 이후 리스너에서 처리 (위치 인덱스 갱신 등)
+ *
+ * [주의]
+ * 커밋 이후에는 지연 로딩이 불가하므로 필요한 값은 발행 시점(트랜잭션 내부)에 복사한다.
+ */
+public record BusinessChangedEvent(
+        UUID businessId,
+        boolean active,
+        Double latitude,
+        Double longitude,
+        Set<BusinessTypeCode> businessTypes
+) {
+
+    public static BusinessChangedEvent of(Business business) {
+        return new BusinessChangedEvent(
+                business.getId(),
+                business.isActive(),
+                business.getLatitude(),
+                business.getLongitude(),
+                Set.copyOf(business.getBusinessTypes())
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package timefit.business.service.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import timefit.business.service.geo.BusinessGeoIndex;
+
+/**
+ * 업체 변경 이벤트 → 위치 인덱스 갱신
+ * - 커밋된 변경만 반영 (AFTER_COMMIT)
+ * - 비활성 업체 / 좌표 없는 업체는 인덱스에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessGeoIndexEventListener {
+
+    private final BusinessGeoIndex businessGeoIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBusinessChanged(BusinessChangedEvent event) {
+        if (event.active() && event.latitude() != null && event.longitude() != null) {
+            businessGeoIndex.put(event.businessId(), event.latitude(), event.longitude(), event.businessTypes());
+        } else {
+            businessGeoIndex.remove(event.businessId());
+        }
+
+        log.debug("업체 위치 인덱스 갱신: businessId={}, active={}", event.businessId(), event.active());
+    }
+}
@@ -0,0 +1,293 @@
+package timefit.business.service.geo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.business.repository.BusinessRepositoryCustom;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업체 위치 격자 인덱스 (in-memory)
+ *
+ * [구조]
+ * - 위도/경도를 CELL_DEGREES(0.01도, 약 1.1km) 격자로 나눠 셀별 업체 좌표 보관
+ * - 활성 + 좌표 있는 업체만 보관, 업종은 비트마스크로 보관
+ *
+ * [조회 (findNearest)]
+ * - 요청 좌표의 셀부터 바깥 고리(ring) 순으로 셀 탐색, 반경 내 업체를 거리순 상위 N개로 유지
+ * - 고리 r까지 탐색 후 아직 안 본 업체는 최소 r 셀 거리 이상 → 상위 N개가 모두 그 안쪽이면 조기 종료
+ *
+ * [갱신]
+ * - 기동 완료 시 / rebuild-interval 주기로 DB에서 전체 재구성 (다른 노드 변경 반영)
+ * - 업체 생성/수정/삭제 커밋 후 즉시 반영 (BusinessGeoIndexEventListener)
+ * - 재구성 도중 들어온 변경은 기록해 두었다가 새 인덱스 교체 시 다시 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessGeoIndex {
+
+    static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double MAX_LATITUDE_FOR_CELL_WIDTH = 89.0;
+
+    private final BusinessRepositoryCustom businessRepositoryCustom;
+
+    private final Object writeLock = new Object();
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+    private boolean rebuilding;
+
+    private volatile Grid grid = new Grid();
+
+    /**
+     * 주변 업체 조회 (거리순)
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param businessType 업종 필터 (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 거리 오름차순 업체 ID / 거리(m)
+     */
+    public List<Nearby> findNearest(
+            double latitude, double longitude, double radiusKm, BusinessTypeCode businessType, int limit) {
+
+        Grid current = grid;
+        int typeMask = businessType == null ? -1 : typeBit(businessType);
+        double radiusMeters = radiusKm * 1000;
+
+        // 탐색 범위 내 가장 좁은 셀 폭 (고위도일수록 경도 1도 거리가 짧음)
+        double farthestLatitude = Math.min(MAX_LATITUDE_FOR_CELL_WIDTH, Math.abs(latitude) + radiusKm / KM_PER_DEGREE);
+        double cellMeters = CELL_DEGREES * KM_PER_DEGREE * 1000 * Math.cos(Math.toRadians(farthestLatitude));
+        int maxRing = (int) Math.ceil(radiusMeters / cellMeters);
+
+        int centerLat = cellIndex(latitude);
+        int centerLon = cellIndex(longitude);
+
+        // 거리 내림차순 힙 (peek = 현재 상위 N개 중 가장 먼 업체)
+        PriorityQueue<Nearby> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Nearby::distanceMeters).reversed());
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                boolean edgeRow = Math.abs(dLat) == ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int dLon = -ring; dLon <= ring; dLon += step) {
+                    Set<Point> cell = current.cells.get(cellKey(centerLat + dLat, centerLon + dLon));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Point point : cell) {
+                        if ((point.typeMask() & typeMask) == 0) {
+                            continue;
+                        }
+                        double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+                        if (distance > radiusMeters) {
+                            continue;
+                        }
+                        if (nearest.size() < limit) {
+                            nearest.offer(new Nearby(point.businessId(), distance));
+                        } else if (distance < nearest.peek().distanceMeters()) {
+                            nearest.poll();
+                            nearest.offer(new Nearby(point.businessId(), distance));
+                        }
+                    }
+                }
+            }
+
+            // 남은 셀은 모두 ring * cellMeters 이상 떨어져 있음
+            if (nearest.size() == limit && nearest.peek().distanceMeters() <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<Nearby> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 업체 좌표 추가/변경
+     *
+     * @param businessId 업체 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param businessTypes 업종 목록
+     */
+    public void put(UUID businessId, double latitude, double longitude, Set<BusinessTypeCode> businessTypes) {
+        int typeMask = 0;
+        for (BusinessTypeCode businessType : businessTypes) {
+            typeMask |= typeBit(businessType);
+        }
+        apply(new PendingChange(businessId, new Point(businessId, latitude, longitude, typeMask)));
+    }
+
+    /**
+     * 업체 제거 (비활성화 / 좌표 삭제)
+     *
+     * @param businessId 업체 ID
+     */
+    public void remove(UUID businessId) {
+        apply(new PendingChange(businessId, null));
+    }
+
+    public int size() {
+        return grid.points.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 전체 재구성 (다른 노드 변경 반영)
+     */
+    @Scheduled(
+            initialDelayString = "${timefit.business.geo-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${timefit.business.geo-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (writeLock) {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+            pendingChanges.clear();
+        }
+
+        try {
+            List<BusinessRepositoryCustom.GeoPoint> rows = businessRepositoryCustom.findActiveGeoPoints();
+
+            Map<UUID, Point> points = new HashMap<>();
+            for (BusinessRepositoryCustom.GeoPoint row : rows) {
+                points.merge(
+                        row.businessId(),
+                        new Point(row.businessId(), row.latitude(), row.longitude(), typeBit(row.businessType())),
+                        (a, b) -> new Point(a.businessId(), a.latitude(), a.longitude(), a.typeMask() | b.typeMask()));
+            }
+
+            Grid rebuilt = new Grid();
+            points.values().forEach(rebuilt::put);
+
+            synchronized (writeLock) {
+                // 조회 이후 커밋된 변경 재적용
+                for (PendingChange change : pendingChanges) {
+                    change.applyTo(rebuilt);
+                }
+                grid = rebuilt;
+            }
+
+            log.info("업체 위치 인덱스 재구성 완료: businesses={}", rebuilt.points.size());
+        } catch (RuntimeException e) {
+            log.error("업체 위치 인덱스 재구성 실패 - 기존 인덱스 유지", e);
+        } finally {
+            synchronized (writeLock) {
+                rebuilding = false;
+                pendingChanges.clear();
+            }
+        }
+    }
+
+    private void apply(PendingChange change) {
+        synchronized (writeLock) {
+            change.applyTo(grid);
+            if (rebuilding) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private static int typeBit(BusinessTypeCode businessType) {
+        return 1 << businessType.ordinal();
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return ((long) latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    // 하버사인 거리 (m)
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param businessId 업체 ID
+     * @param distanceMeters 기준 좌표로부터 거리 (m)
+     */
+    public record Nearby(UUID businessId, double distanceMeters) {
+    }
+
+    private record Point(UUID businessId, double latitude, double longitude, int typeMask) {
+    }
+
+    // point == null 이면 제거
+    private record PendingChange(UUID businessId, Point point) {
+        void applyTo(Grid target) {
+            if (point == null) {
+                target.remove(businessId);
+            } else {
+                target.put(point);
+            }
+        }
+    }
+
+    /**
+     * 격자 본체
+     * - 쓰기는 writeLock 안에서만 (단일 writer), 읽기는 잠금 없이 동시 수행
+     */
+    private static final class Grid {
+        private final Map<UUID, Point> points = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Point>> cells = new ConcurrentHashMap<>();
+
+        private void put(Point point) {
+            Point previous = points.put(point.businessId(), point);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(keyOf(point), key -> ConcurrentHashMap.newKeySet()).add(point);
+        }
+
+        private void remove(UUID businessId) {
+            Point previous = points.remove(businessId);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+        }
+
+        private void removeFromCell(Point point) {
+            cells.computeIfPresent(keyOf(point), (key, cell) -> {
+                cell.remove(point);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+
+        private static long keyOf(Point point) {
+            return cellKey(cellIndex(point.latitude()), cellIndex(point.longitude()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package timefit.business.service.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessTypeCode;
+
+/**
+ * 업체 통합 검색 엔진
+ *
+ * [구현]
+ * - PostgresBusinessSearchEngine: pg_trgm / tsvector GIN 인덱스 기반 관련도순 검색 (기본값)
+ * - LikeBusinessSearchEngine: DB 종류 무관 LIKE 검색 (H2 테스트 환경)
+ *
+ * [선택]
+ * - timefit.business.search.engine = postgres | like
+ */
+public interface BusinessSearchEngine {
+
+    /**
+     * 업체 검색 (활성 업체만)
+     *
+     * @param keyword 업체명 또는 주소 검색어 (접두 일치 포함)
+     * @param businessType 업종 코드
+     * @param region 지역 검색어
+     * @param pageable 페이지 정보
+     * @return 관련도순 검색 결과
+     */
+    Page<Business> search(String keyword, BusinessTypeCode businessType, String region, Pageable pageable);
+}
@@ -0,0 +1,95 @@
+package timefit.business.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 업체 검색용 PostgreSQL 확장 / 인덱스 준비 (기동 완료 시 1회, 멱등)
+ * - ddl-auto로 business 테이블이 만들어진 뒤 실행되도록 ApplicationReadyEvent 시점에 수행
+ *
+ * [대상]
+ * - pg_trgm 확장 (ILIKE '%검색어%' 인덱스 검색, similarity 정렬)
+ * - business.business_name / address trigram GIN 인덱스
+ * - 업체명 + 주소 tsvector('simple') 식 GIN 인덱스
+ *   → 식은 BusinessRepositoryImpl.SEARCH_VECTOR 와 동일해야 함
+ *
+ * [실패 처리]
+ * - 확장 생성 권한이 없으면 trigram 유사도 정렬만 제외하고 검색은 계속 동작
+ * - 인덱스 생성 실패는 경고 로그만 남김 (검색 결과는 같고 속도만 저하)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.business.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class BusinessSearchIndexInitializer {
+
+    private static final String CREATE_TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private static final String TRIGRAM_EXTENSION_EXISTS =
+            "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+
+    private static final List<String> TRIGRAM_INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_business_name_trgm"
+                    + " ON business USING gin (business_name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_business_address_trgm"
+                    + " ON business USING gin (address gin_trgm_ops)"
+    );
+
+    private static final String FULL_TEXT_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_business_search_tsv ON business USING gin"
+                    + " (to_tsvector('simple', coalesce(business_name, '') || ' ' || coalesce(address, '')))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean trigramAvailable;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        trigramAvailable = ensureTrigramExtension();
+
+        if (trigramAvailable) {
+            TRIGRAM_INDEXES.forEach(this::execute);
+        }
+        execute(FULL_TEXT_INDEX);
+
+        log.info("업체 검색 인덱스 준비 완료: trigram={}", trigramAvailable);
+    }
+
+    /**
+     * pg_trgm 사용 가능 여부 (false면 similarity 정렬 제외)
+     */
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    private boolean ensureTrigramExtension() {
+        try {
+            jdbcTemplate.execute(CREATE_TRIGRAM_EXTENSION);
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm 확장 생성 실패 (권한 확인 필요): {}", e.getMostSpecificCause().getMessage());
+        }
+
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRIGRAM_EXTENSION_EXISTS, Boolean.class));
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm 확장 확인 실패: {}", e.getMostSpecificCause().getMessage());
+            return false;
+        }
+    }
+
+    private void execute(String ddl) {
+        try {
+            jdbcTemplate.execute(ddl);
+        } catch (DataAccessException e) {
+            log.warn("업체 검색 인덱스 생성 실패: ddl={}, cause={}", ddl, e.getMostSpecificCause().getMessage());
+        }
+    }
+}
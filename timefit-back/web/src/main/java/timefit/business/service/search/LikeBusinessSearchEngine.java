@@ -0,0 +1,28 @@
+package timefit.business.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.business.repository.BusinessRepositoryCustom;
+
+/**
+ * LIKE 기반 업체 검색 (timefit.business.search.engine=like)
+ * - 전용 인덱스 없이 동작 → H2 등 PostgreSQL 외 환경용
+ * - 업체명 일치 / 접두 일치 / 포함 / 주소 일치 순으로 정렬
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.business.search.engine", havingValue = "like")
+public class LikeBusinessSearchEngine implements BusinessSearchEngine {
+
+    private final BusinessRepositoryCustom businessRepositoryCustom;
+
+    @Override
+    public Page<Business> search(String keyword, BusinessTypeCode businessType, String region, Pageable pageable) {
+        return businessRepositoryCustom.searchBusinesses(keyword, businessType, region, pageable);
+    }
+}
@@ -0,0 +1,38 @@
+package timefit.business.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.business.repository.BusinessRepositoryCustom;
+
+/**
+ * PostgreSQL 전문 검색 기반 업체 검색 (timefit.business.search.engine=postgres, 기본값)
+ *
+ * [매칭]
+ * - 단어 접두 일치: tsvector('simple') @@ "단어:*" → "강남" 으로 "강남역점" 검색 (한글/영문 공통)
+ * - 부분 일치: 업체명/주소 ILIKE '%검색어%' → pg_trgm GIN 인덱스 사용 (3자 이상)
+ *
+ * [정렬]
+ * - 업체명 접두 일치 가산 + ts_rank + 업체명 trigram 유사도
+ *
+ * [페이징]
+ * - COUNT(*) OVER() 로 페이지와 전체 건수를 한 번에 조회 (별도 count 쿼리 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.business.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresBusinessSearchEngine implements BusinessSearchEngine {
+
+    private final BusinessRepositoryCustom businessRepositoryCustom;
+    private final BusinessSearchIndexInitializer indexInitializer;
+
+    @Override
+    public Page<Business> search(String keyword, BusinessTypeCode businessType, String region, Pageable pageable) {
+        return businessRepositoryCustom.searchBusinessesByRelevance(
+                keyword, businessType, region, indexInitializer.isTrigramAvailable(), pageable);
+    }
+}
@@ -0,0 +1,81 @@
+package timefit.business.service.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.UserBusinessRole;
+import timefit.business.repository.UserBusinessRoleRepository;
+import timefit.common.cache.GenerationGuardedCache;
+import timefit.common.entity.BusinessRole;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * (사용자, 업체) 권한 read-through 캐시
+ *
+ * [역할]
+ * - BusinessValidator 권한 검증 시 UserBusinessRole 조회를 캐시
+ * - 값: 활성 역할 (활성 권한이 없으면 "권한 없음"도 캐시)
+ *
+ * [무효화]
+ * - 구성원 권한 변경 / 제거 / 활성화 / 비활성화, 초대 수락 시 evict 호출
+ * - 조회 중 무효화 경합은 GenerationGuardedCache가 감지
+ * - 다른 노드 변경은 TTL 경과 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessAuthorizationCache {
+
+    private final UserBusinessRoleRepository userBusinessRoleRepository;
+
+    // 캐시 항목 유지 시간 (초)
+    @Value("${timefit.business.authorization-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // 캐시 최대 키 수 (초과 시 만료 항목 → 오래 사용하지 않은 항목 순으로 정리)
+    @Value("${timefit.business.authorization-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 활성 권한이 없는 경우도 캐시 (Optional.empty)
+    private GenerationGuardedCache<MembershipKey, Optional<BusinessRole>> memberships;
+
+    @PostConstruct
+    void init() {
+        memberships = new GenerationGuardedCache<>("업체 권한", Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    /**
+     * 활성 역할 조회 (캐시 미스 시 DB 조회)
+     *
+     * @param userId 사용자 ID
+     * @param businessId 업체 ID
+     * @return 활성 역할, 활성 권한이 없으면 null
+     */
+    public BusinessRole getActiveRole(UUID userId, UUID businessId) {
+        return memberships.get(new MembershipKey(userId, businessId), () -> userBusinessRoleRepository
+                        .findByUserIdAndBusinessIdAndIsActive(userId, businessId, true)
+                        .map(UserBusinessRole::getRole))
+                .orElse(null);
+    }
+
+    /**
+     * 권한 캐시 제거
+     *
+     * @param userId 사용자 ID
+     * @param businessId 업체 ID
+     */
+    public void evict(UUID userId, UUID businessId) {
+        MembershipKey key = new MembershipKey(userId, businessId);
+        GenerationGuardedCache.runNowAndAfterCompletion(() -> memberships.evict(key));
+
+        log.debug("업체 권한 캐시 제거: userId={}, businessId={}", userId, businessId);
+    }
+
+    private record MembershipKey(UUID userId, UUID businessId) {
+    }
+}
@@ -0,0 +1,101 @@
+package timefit.business.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.business.dto.BusinessResponseDto;
+import timefit.common.cache.GenerationGuardedCache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 업체 공개 프로필 묶음 캐시 (businessId → 프로필 + ETag)
+ *
+ * [역할]
+ * - 업체 상세 / 영업시간 / 메뉴 목록 / 리뷰 통계를 합친 응답을 보관
+ * - 캐시 적중 시 트랜잭션 / DB 조회 없이 응답 (If-None-Match 일치 시 304)
+ * - ETag: 응답 JSON의 SHA-256 → 노드 / 재기동과 무관하게 내용이 같으면 같은 값
+ *
+ * [무효화]
+ * - 업체 / 메뉴 / 카테고리 / 영업시간 변경, 리뷰 평점 변경 시 evict 호출
+ * - 조회 중 무효화 경합은 GenerationGuardedCache가 감지
+ * - 다른 노드 변경은 TTL 경과 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessPublicProfileCache {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+
+    // 캐시 항목 유지 시간 (초)
+    @Value("${timefit.business.public-profile-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // 캐시 최대 업체 수 (초과 시 만료 항목 → 오래 사용하지 않은 항목 순으로 정리)
+    @Value("${timefit.business.public-profile-cache.max-entries:5000}")
+    private int maxEntries;
+
+    private GenerationGuardedCache<UUID, PublicProfile> profiles;
+
+    @PostConstruct
+    void init() {
+        profiles = new GenerationGuardedCache<>("업체 공개 프로필", Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    /**
+     * 공개 프로필 조회 (캐시 미스 시 loader 호출)
+     *
+     * @param businessId 업체 ID
+     * @param loader 프로필 조회 (캐시 미스 시에만 호출)
+     * @return 프로필 + ETag
+     */
+    public PublicProfile get(UUID businessId, Supplier<BusinessResponseDto.PublicProfileResponse> loader) {
+        return profiles.get(businessId, () -> {
+            BusinessResponseDto.PublicProfileResponse response = loader.get();
+            PublicProfile profile = new PublicProfile(response, etagOf(response));
+            log.debug("업체 공개 프로필 로드: businessId={}, etag={}", businessId, profile.etag());
+            return profile;
+        });
+    }
+
+    /**
+     * 업체 프로필 캐시 제거
+     *
+     * @param businessId 업체 ID
+     */
+    public void evict(UUID businessId) {
+        GenerationGuardedCache.runNowAndAfterCompletion(() -> profiles.evict(businessId));
+    }
+
+    // 강한 ETag ("..." 형식, SHA-256 앞 16바이트 hex)
+    private String etagOf(BusinessResponseDto.PublicProfileResponse response) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(response));
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("업체 공개 프로필 ETag 계산 실패", e);
+        }
+    }
+
+    /**
+     * 캐시된 공개 프로필
+     *
+     * @param response 프로필 응답
+     * @param etag 강한 ETag (따옴표 포함)
+     */
+    public record PublicProfile(BusinessResponseDto.PublicProfileResponse response, String etag) {
+    }
+}
@@ -8,6 +8,7 @@ import timefit.business.entity.Business;
 import timefit.business.entity.UserBusinessRole;
 import timefit.business.repository.BusinessRepository;
 import timefit.business.repository.UserBusinessRoleRepository;
+import timefit.business.service.util.BusinessAuthorizationCache;
 import timefit.common.entity.BusinessRole;
 import timefit.exception.business.BusinessErrorCode;
 import timefit.exception.business.BusinessException;
@@ -23,6 +24,8 @@ import java.util.UUID;
 /**
  * Business 도메인 공통 검증 클래스
  * - Service 계층의 중복된 검증 로직 제거
+ * - 역할만 확인하는 권한 검증(validateManagerOrOwnerRole / validateOwnerRole / validateBusinessAccess)은
+ *   BusinessAuthorizationCache 사용 (엔티티가 필요한 검증은 DB 직접 조회)
  */
 @Slf4j
 @Component
@@ -33,6 +36,7 @@ public class BusinessValidator {
     private final UserBusinessRoleRepository userBusinessRoleRepository;
     private final ReservationRepository reservationRepository;
     private final MenuRepository menuRepository;
+    private final BusinessAuthorizationCache businessAuthorizationCache;
 
     /**
      * Business 존재 여부 검증 및 조회
@@ -116,11 +120,11 @@ public class BusinessValidator {
      * @throws BusinessException Manager 또는 Owner 권한이 없을 경우
      */
     public void validateManagerOrOwnerRole(UUID userId, UUID businessId) {
-        UserBusinessRole role = validateUserBusinessRole(userId, businessId);
+        BusinessRole role = getCachedActiveRole(userId, businessId);
 
-        if (role.getRole() != BusinessRole.MANAGER && role.getRole() != BusinessRole.OWNER) {
+        if (role != BusinessRole.MANAGER && role != BusinessRole.OWNER) {
             log.warn("관리자 권한 없음: userId={}, businessId={}, role={}",
-                    userId, businessId, role.getRole());
+                    userId, businessId, role);
             throw new BusinessException(BusinessErrorCode.INSUFFICIENT_PERMISSION);
         }
     }
@@ -133,11 +137,11 @@ public class BusinessValidator {
      * @throws BusinessException Owner 권한이 없을 경우
      */
     public void validateOwnerRole(UUID userId, UUID businessId) {
-        UserBusinessRole role = validateUserBusinessRole(userId, businessId);
+        BusinessRole role = getCachedActiveRole(userId, businessId);
 
-        if (role.getRole() != BusinessRole.OWNER) {
+        if (role != BusinessRole.OWNER) {
             log.warn("소유자 권한 없음: userId={}, businessId={}, role={}",
-                    userId, businessId, role.getRole());
+                    userId, businessId, role);
             throw new BusinessException(BusinessErrorCode.CANNOT_CHANGE_TO_OWNER);
         }
     }
@@ -157,16 +161,33 @@ public class BusinessValidator {
 
     /**
      * 사용자의 업체 권한 및 Manager/Owner 역할 동시 검증 (가장 많이 사용)
+     * - 활성 권한이 있으면 업체는 반드시 존재 (FK) → 업체 SELECT 없이 참조(프록시) 반환
+     * - 권한이 없을 때만 업체 존재 여부를 확인 (BUSINESS_NOT_FOUND 우선)
      *
      * @param userId 검증할 사용자 ID
      * @param businessId 업체 ID
-     * @return 조회된 Business 엔티티
+     * @return Business 엔티티 (필드 접근 시 지연 조회)
      * @throws BusinessException 권한이 없거나 업체가 없을 경우
      */
     public Business validateBusinessAccess(UUID userId, UUID businessId) {
-        Business business = validateBusinessExists(businessId);
+        BusinessRole role = businessAuthorizationCache.getActiveRole(userId, businessId);
+
+        if (role == null) {
+            validateBusinessExists(businessId);
+        }
         validateManagerOrOwnerRole(userId, businessId);
-        return business;
+
+        return businessRepository.getReferenceById(businessId);
+    }
+
+    // 캐시된 활성 역할 조회 (활성 권한 없으면 INSUFFICIENT_PERMISSION)
+    private BusinessRole getCachedActiveRole(UUID userId, UUID businessId) {
+        BusinessRole role = businessAuthorizationCache.getActiveRole(userId, businessId);
+        if (role == null) {
+            log.warn("업체 권한 없음: userId={}, businessId={}", userId, businessId);
+            throw new BusinessException(BusinessErrorCode.INSUFFICIENT_PERMISSION);
+        }
+        return role;
     }
 
     /**
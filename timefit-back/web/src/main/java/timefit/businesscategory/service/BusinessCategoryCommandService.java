@@ -8,6 +8,7 @@ import timefit.business.entity.Business;
 import timefit.business.entity.BusinessCategory;
 import timefit.business.repository.BusinessCategoryRepository;
 import timefit.business.repository.BusinessRepository;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.businesscategory.dto.BusinessCategoryRequestDto;
 import timefit.businesscategory.dto.BusinessCategoryResponseDto;
@@ -27,6 +28,7 @@ public class BusinessCategoryCommandService {
     private final BusinessRepository businessRepository;
     private final BusinessValidator businessValidator;
     private final BusinessCategoryValidator businessCategoryValidator;
+    private final BusinessPublicProfileCache publicProfileCache;
 
     /**
      * 카테고리 생성
@@ -136,6 +138,9 @@ public class BusinessCategoryCommandService {
                     categoryId, request.isActive());
         }
 
+        // 메뉴 목록의 카테고리명 / 활성 여부가 바뀔 수 있음
+        publicProfileCache.evict(businessId);
+
         log.info("카테고리 수정 완료: categoryId={}", categoryId);
 
         // 6. DTO 변환 (변경 감지로 저장은 자동)
@@ -0,0 +1,257 @@
+package timefit.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 세대(generation) 번호로 보호되는 in-memory TTL 캐시
+ *
+ * [적재]
+ * - 캐시 미스 시 loader 호출 전 세대 번호를 읽고, 적재 직전 다시 비교
+ *   → 조회 도중 무효화(evict)가 있었다면 조회 결과를 적재하지 않음 (이전 값이 캐시에 남지 않음)
+ * - 세대 번호는 scope 단위 (기본: 키 자신, 업체 단위 무효화가 필요하면 업체 ID)
+ *   고정 크기 stripe 배열로 관리 → 키 수와 무관하게 메모리 일정
+ *
+ * [정리]
+ * - 최대 키 수 도달 시 만료 항목 → 최근 사용이 가장 오래된 항목 순으로 정리 (최대 키 수의 10%까지 여유 확보)
+ *
+ * @param <K> 캐시 키
+ * @param <V> 캐시 값 (null 불가, "없음"도 캐시하려면 Optional 등으로 감쌈)
+ */
+@Slf4j
+public class GenerationGuardedCache<K, V> {
+
+    private static final int GENERATION_STRIPES = 1024;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final String name;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Function<? super K, ?> scopeOf;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+
+    /**
+     * @param name 로그용 캐시 이름
+     * @param ttl 항목 유지 시간 (null이면 만료 없음)
+     * @param maxEntries 최대 키 수
+     * @param scopeOf 키 → 세대 번호 scope (같은 scope의 키는 evictScope로 함께 무효화)
+     */
+    public GenerationGuardedCache(String name, Duration ttl, int maxEntries, Function<? super K, ?> scopeOf) {
+        this.name = name;
+        this.ttlMillis = ttl == null ? NO_EXPIRY : ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.scopeOf = scopeOf;
+    }
+
+    public GenerationGuardedCache(String name, Duration ttl, int maxEntries) {
+        this(name, ttl, maxEntries, Function.identity());
+    }
+
+    /**
+     * 캐시 조회 (만료 항목은 없는 것으로 취급)
+     *
+     * @return 캐시 값, 없거나 만료되었으면 null
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        entry.touch();
+        return entry.value();
+    }
+
+    /**
+     * 캐시 조회 (캐시 미스 시 loader 호출 후 적재)
+     *
+     * @param loader 값 조회 (캐시 미스 시에만 호출)
+     * @return 캐시 값 또는 새로 조회한 값
+     */
+    public V get(K key, Supplier<? extends V> loader) {
+        return get(key, generation -> loader.get());
+    }
+
+    /**
+     * 캐시 조회 (캐시 미스 시 loader 호출 후 적재)
+     *
+     * @param loader 값 조회 (조회 시작 시점의 세대 번호를 받음, 캐시 미스 시에만 호출)
+     * @return 캐시 값 또는 새로 조회한 값
+     */
+    public V get(K key, LongFunction<? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generation(key);
+        V loaded = loader.apply(generation);
+        putIfUnchanged(key, loaded, generation);
+        return loaded;
+    }
+
+    /**
+     * 현재 세대 번호 (loader 호출 전에 읽어 putIfUnchanged에 전달)
+     */
+    public long generation(K key) {
+        return generations.get(stripe(scopeOf.apply(key)));
+    }
+
+    /**
+     * 세대 번호가 그대로일 때만 적재 (조회 도중 무효화가 있었다면 기존 값 유지)
+     *
+     * @param generation 조회 시작 시점의 세대 번호
+     * @return 적재 여부
+     */
+    public boolean putIfUnchanged(K key, V value, long generation) {
+        Objects.requireNonNull(value, "value");
+        ensureCapacity();
+
+        int stripe = stripe(scopeOf.apply(key));
+        Entry<V> loaded = new Entry<>(value, expiresAt(System.currentTimeMillis()));
+        Entry<V> installed = entries.compute(key, (k, current) ->
+                generations.get(stripe) == generation ? loaded : current);
+        return installed == loaded;
+    }
+
+    /**
+     * 캐시에 있을 때만 값 변경 (세대 번호 증가 → 진행 중인 조회 결과는 적재되지 않음)
+     * - 만료 시각은 유지
+     */
+    public void updateIfPresent(K key, UnaryOperator<V> update) {
+        generations.incrementAndGet(stripe(scopeOf.apply(key)));
+        entries.computeIfPresent(key, (k, current) ->
+                new Entry<>(update.apply(current.value()), current.expiresAtMillis()));
+    }
+
+    /**
+     * 키 무효화
+     */
+    public void evict(K key) {
+        generations.incrementAndGet(stripe(scopeOf.apply(key)));
+        entries.remove(key);
+    }
+
+    /**
+     * scope 전체 무효화 (scope에 속한 키 전부 제거)
+     */
+    public void evictScope(Object scope) {
+        generations.incrementAndGet(stripe(scope));
+        entries.keySet().removeIf(key -> scope.equals(scopeOf.apply(key)));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 즉시 1회 + 현재 트랜잭션 종료 후 1회 실행 (커밋 전 값이 다시 적재되는 경우 방지)
+     */
+    public static void runNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    // 최대 키 수 도달 시 만료 항목 → LRU 순으로 정리 (동시에 한 스레드만)
+    private void ensureCapacity() {
+        if (entries.size() < maxEntries || !cleaning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+
+            int excess = entries.size() - (maxEntries - Math.max(1, maxEntries / 10));
+            if (excess <= 0) {
+                return;
+            }
+
+            // 정렬 중 접근 시각이 바뀌지 않도록 스냅샷 기준으로 정렬
+            List<EvictionCandidate<K, V>> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(new EvictionCandidate<>(key, entry, entry.lastAccessNanos())));
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+
+            int evicted = 0;
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                EvictionCandidate<K, V> candidate = candidates.get(i);
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    evicted++;
+                }
+            }
+
+            log.debug("{} 캐시 최대 크기 도달 - 오래 사용하지 않은 항목 정리: evicted={}, size={}",
+                    name, evicted, entries.size());
+        } finally {
+            cleaning.set(false);
+        }
+    }
+
+    private long expiresAt(long now) {
+        return ttlMillis == NO_EXPIRY ? NO_EXPIRY : now + ttlMillis;
+    }
+
+    private int stripe(Object scope) {
+        return (scope.hashCode() & 0x7fffffff) % GENERATION_STRIPES;
+    }
+
+    private record EvictionCandidate<K, V>(K key, Entry<V> entry, long lastAccessNanos) {
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAtMillis;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        V value() {
+            return value;
+        }
+
+        long expiresAtMillis() {
+            return expiresAtMillis;
+        }
+
+        long lastAccessNanos() {
+            return lastAccessNanos;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+
+        void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+}
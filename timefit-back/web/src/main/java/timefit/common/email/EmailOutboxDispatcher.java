@@ -0,0 +1,173 @@
+package timefit.common.email;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.common.lease.SchedulerLeaseManager;
+import timefit.email.entity.EmailOutbox;
+import timefit.email.entity.EmailOutboxStatus;
+import timefit.email.repository.EmailOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이메일 발송 대기열 디스패처
+ *
+ * [처리]
+ * - DB 임대(scheduler_lease) 보유 노드 한 곳만 실행 → 노드 간 중복 발송 방지
+ * - 배치마다: 대상 조회(트랜잭션) → SMTP 연결 1회로 일괄 발송 → 결과 반영(트랜잭션)
+ * - SMTP 발송 중에는 DB 트랜잭션 / 커넥션을 잡고 있지 않음
+ * - 배치가 가득 차면 바로 다음 배치 처리 (1회 실행당 최대 max-batches-per-run)
+ *
+ * [재시도]
+ * - 실패 시 retry-base-seconds × 2^(시도 횟수 - 1) 후 재시도 (최대 retry-max-seconds)
+ * - max-attempts 회 실패하면 FAILED 로 남김 (수동 확인)
+ * - 발송 직후 결과 반영 전에 노드가 죽으면 재발송될 수 있음 (최소 1회 발송)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.email.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private static final String LEASE_NAME = "email-outbox";
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final SchedulerLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    // SMTP 연결 1회당 발송 건수
+    @Value("${timefit.email.outbox.batch-size:100}")
+    private int batchSize;
+
+    // 1회 실행 최대 배치 수 (남은 메일은 다음 실행에서 처리)
+    @Value("${timefit.email.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    // 디스패처 임대 기간 (배치 1회 발송 시간보다 충분히 길게)
+    @Value("${timefit.email.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${timefit.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${timefit.email.outbox.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${timefit.email.outbox.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    // 발송 완료 기록 보관 일수
+    @Value("${timefit.email.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${timefit.email.outbox.interval-ms:2000}")
+    public void dispatch() {
+        Duration leaseDuration = Duration.ofSeconds(leaseSeconds);
+        if (!leaseManager.tryAcquire(LEASE_NAME, leaseDuration)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int sent = 0;
+        int failed = 0;
+
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                // 배치마다 임대 연장 (다른 노드가 가져갔으면 중단)
+                if (batch > 0 && !leaseManager.tryAcquire(LEASE_NAME, leaseDuration)) {
+                    log.warn("이메일 발송 임대 상실 - 중단: batch={}", batch);
+                    break;
+                }
+
+                BatchResult result = dispatchBatch();
+                sent += result.sent();
+                failed += result.failed();
+
+                if (result.fetched() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("이메일 발송 대기열 처리 실패", e);
+        } finally {
+            leaseManager.release(LEASE_NAME);
+        }
+
+        if (sent > 0 || failed > 0) {
+            log.info("이메일 발송 대기열 처리 완료: sent={}, failed={}, elapsedMs={}",
+                    sent, failed, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 기록 삭제
+     */
+    @Scheduled(cron = "${timefit.email.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteSentBefore(EmailOutboxStatus.SENT, before));
+
+        if (deleted != null && deleted > 0) {
+            log.info("발송 완료 이메일 기록 삭제: deleted={}", deleted);
+        }
+    }
+
+    private BatchResult dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 발송 대상 조회
+        List<EmailOutbox> due = transactionTemplate.execute(status -> emailOutboxRepository.findDue(
+                EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize)));
+        if (due == null || due.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        // 2. 일괄 발송 (트랜잭션 밖)
+        Map<UUID, String> failures = emailService.sendBatch(due);
+
+        // 3. 결과 반영
+        List<UUID> ids = due.stream().map(EmailOutbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> applyResults(ids, failures));
+
+        return new BatchResult(due.size(), due.size() - failures.size(), failures.size());
+    }
+
+    private void applyResults(List<UUID> ids, Map<UUID, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (EmailOutbox outbox : emailOutboxRepository.findAllById(ids)) {
+            String error = failures.get(outbox.getId());
+            if (error == null) {
+                outbox.markSent(now);
+                continue;
+            }
+
+            outbox.markAttemptFailed(error, now.plus(backoff(outbox.getAttemptCount())), maxAttempts);
+            if (outbox.getStatus() == EmailOutboxStatus.FAILED) {
+                log.error("이메일 발송 최종 실패: outboxId={}, recipient={}, attempts={}, error={}",
+                        outbox.getId(), outbox.getRecipient(), outbox.getAttemptCount(), error);
+            }
+        }
+    }
+
+    // 이전 시도 횟수 기준 지수 백오프
+    private Duration backoff(int previousAttempts) {
+        long seconds = retryBaseSeconds << Math.min(previousAttempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, retryMaxSeconds));
+    }
+
+    private record BatchResult(int fetched, int sent, int failed) {
+    }
+}
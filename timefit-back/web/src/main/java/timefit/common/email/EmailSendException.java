@@ -1,12 +0,0 @@
-package timefit.common.email;
-
-public class EmailSendException extends RuntimeException {
-
-    public EmailSendException(String message) {
-        super(message);
-    }
-
-    public EmailSendException(String message, Throwable cause) {
-        super(message, cause);
-    }
-}
\ No newline at end of file
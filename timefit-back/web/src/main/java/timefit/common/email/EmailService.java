@@ -5,24 +5,34 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import timefit.email.entity.EmailOutbox;
+import timefit.email.repository.EmailOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * 이메일 발송 서비스
  *
- * [목적]
- * HTML 이메일을 비동기로 발송하여 API 응답 속도를 개선합니다.
+ * [구조]
+ * - enqueueHtmlEmail: 발송 대기열(email_outbox)에 기록, 호출자의 트랜잭션에 참여
+ *   → 업무 데이터가 커밋된 경우에만 발송되고, 프로세스가 죽어도 대기열에 남음
+ * - sendBatch: EmailOutboxDispatcher 전용, SMTP 연결 1회로 여러 통 발송
  *
  * [현재 사용처]
  * - InvitationCommandService.sendInvitationEmail() : 초대 이메일 발송
- *
- * [비동기 처리]
- * AsyncConfig에서 설정한 스레드 풀을 사용하여 백그라운드에서 이메일을 발송합니다.
- * 이메일 발송 실패 시 EmailSendException이 발생하지만, 비동기 메서드이므로
- * 호출자에게 전파되지 않고 로그로만 기록됩니다.
  */
 @Slf4j
 @Service
@@ -30,54 +40,86 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
 
     /**
-     * HTML 이메일 발송 (비동기)
-     *
-     * [동작 방식]
-     * 1. 요청 스레드에서 즉시 반환
-     * 2. AsyncConfig의 스레드 풀에서 실제 발송 처리
-     * 3. 발송 성공/실패 로그 기록
+     * HTML 이메일 발송 등록
+     * - 반드시 업무 트랜잭션 안에서 호출 (같은 트랜잭션으로 기록)
      *
      * @param to          수신자 이메일
      * @param subject     제목
      * @param htmlContent HTML 본문
      */
-    @Async
-    public void sendHtmlEmailAsync(String to, String subject, String htmlContent) {
-        sendHtmlEmail(to, subject, htmlContent);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueHtmlEmail(String to, String subject, String htmlContent) {
+        EmailOutbox outbox = emailOutboxRepository.save(
+                EmailOutbox.create(to, subject, htmlContent, LocalDateTime.now()));
+        log.info("HTML 이메일 발송 등록 - outboxId: {}, 수신자: {}, 제목: {}", outbox.getId(), to, subject);
     }
 
     /**
-     * HTML 이메일 발송 (내부 전용)
-     * - sendHtmlEmailAsync에서 호출됨
-     * - Gmail SMTP를 통해 발송
+     * HTML 이메일 일괄 발송 (SMTP 연결 1회 재사용)
+     * - 메시지별 실패는 다른 메시지 발송에 영향 없음
+     * - 연결 / 인증 실패 시 배치 전체 실패
      *
-     * @param to          수신자 이메일
-     * @param subject     제목
-     * @param htmlContent HTML 본문
-     * @throws EmailSendException 발송 실패 시
+     * @param emails 발송 대상
+     * @return 실패한 대기열 ID → 실패 사유 (전부 성공이면 빈 Map)
      */
-    private void sendHtmlEmail(String to, String subject, String htmlContent) {
-        log.info("HTML 이메일 발송 시작 - 수신자: {}, 제목: {}", to, subject);
+    public Map<UUID, String> sendBatch(List<EmailOutbox> emails) {
+        Map<UUID, String> failures = new HashMap<>();
+        Map<MimeMessage, UUID> outboxIds = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+
+        for (EmailOutbox email : emails) {
+            try {
+                MimeMessage message = createHtmlMessage(email.getRecipient(), email.getSubject(), email.getBody());
+                outboxIds.put(message, email.getId());
+                messages.add(message);
+            } catch (MessagingException e) {
+                failures.put(email.getId(), describe(e));
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
 
         try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                outboxIds.values().forEach(id -> failures.put(id, describe(e)));
+            }
+            failedMessages.forEach((message, cause) -> {
+                UUID id = outboxIds.get(message);
+                if (id != null) {
+                    failures.put(id, describe(cause));
+                }
+            });
+        } catch (MailException e) {
+            log.error("HTML 이메일 일괄 발송 실패 - 건수: {}, 오류: {}", messages.size(), e.getMessage());
+            outboxIds.values().forEach(id -> failures.put(id, describe(e)));
+        }
 
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);  // true = HTML
+        log.info("HTML 이메일 일괄 발송 - 요청: {}, 실패: {}", emails.size(), failures.size());
+        return failures;
+    }
 
-            mailSender.send(mimeMessage);
-            log.info("HTML 이메일 발송 성공 - 수신자: {}", to);
-        } catch (MessagingException e) {
-            log.error("HTML 이메일 발송 실패 - 수신자: {}, 오류: {}", to, e.getMessage(), e);
-            throw new EmailSendException("HTML 이메일 발송에 실패했습니다: " + to, e);
-        }
+    private MimeMessage createHtmlMessage(String to, String subject, String htmlContent) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);  // true = HTML
+        return mimeMessage;
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package timefit.common.email;
+
+import lombok.Getter;
+
+/**
+ * 이메일 HTML 템플릿
+ * - 템플릿의 {{KEY}} 자리에 변수 값이 들어감
+ * - 기동 시 EmailTemplateRenderer가 한 번 읽어 컴파일
+ */
+@Getter
+public enum EmailTemplate {
+
+    INVITATION("public/email/invitation.html"),
+    RESERVATION_REMINDER("public/email/reservation-reminder.html");
+
+    private final String path;
+
+    EmailTemplate(String path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,116 @@
+package timefit.common.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+import timefit.exception.system.SystemErrorCode;
+import timefit.exception.system.SystemException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이메일 템플릿 렌더러
+ *
+ * [컴파일]
+ * - 기동 시 모든 EmailTemplate을 읽어 "고정 문자열 / 변수 이름" 조각으로 분해해 메모리에 보관
+ * - 발송마다 classpath 읽기 / 전체 문자열 치환 반복 없이 조각을 한 번에 이어붙임
+ * - 템플릿 파일이 없으면 기동 실패 (발송 시점이 아닌 배포 시점에 발견)
+ *
+ * [변수]
+ * - 값은 HTML 이스케이프 후 삽입 (업체명 등 사용자 입력 포함)
+ * - 템플릿에 있는 변수가 누락되면 예외
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final Map<EmailTemplate, CompiledTemplate> compiled = new EnumMap<>(EmailTemplate.class);
+
+    @PostConstruct
+    void compileAll() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            CompiledTemplate compiledTemplate = compile(load(template));
+            compiled.put(template, compiledTemplate);
+            log.info("이메일 템플릿 컴파일 완료: template={}, variables={}", template, compiledTemplate.keys().length);
+        }
+    }
+
+    /**
+     * 템플릿 렌더링
+     *
+     * @param template 템플릿
+     * @param variables 변수 이름 → 값 (HTML 이스케이프 전 원문)
+     * @return 렌더링된 HTML
+     */
+    public String render(EmailTemplate template, Map<String, String> variables) {
+        CompiledTemplate compiledTemplate = compiled.get(template);
+        String[] literals = compiledTemplate.literals();
+        String[] keys = compiledTemplate.keys();
+
+        StringBuilder html = new StringBuilder(compiledTemplate.literalLength() + keys.length * 32);
+        html.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            String value = variables.get(keys[i]);
+            if (value == null) {
+                throw new SystemException(
+                        SystemErrorCode.INTERNAL_SERVER_ERROR,
+                        "이메일 템플릿 변수가 누락되었습니다: " + template + "." + keys[i]
+                );
+            }
+            html.append(HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()));
+            html.append(literals[i + 1]);
+        }
+        return html.toString();
+    }
+
+    private static String load(EmailTemplate template) {
+        try (InputStream inputStream = new ClassPathResource(template.getPath()).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SystemException(
+                    SystemErrorCode.FILE_STORAGE_ERROR,
+                    "이메일 템플릿 파일을 찾을 수 없습니다: " + template.getPath()
+            );
+        }
+    }
+
+    // "고정 문자열, 변수, 고정 문자열, ..., 고정 문자열" 형태로 분해 (literals = keys + 1)
+    private static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            keys.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new), keys.toArray(String[]::new), literalLength);
+    }
+
+    private record CompiledTemplate(String[] literals, String[] keys, int literalLength) {
+    }
+}
@@ -0,0 +1,74 @@
+package timefit.common.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import timefit.common.ResponseData;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 응답 생성 (ETag / If-None-Match)
+ *
+ * [흐름]
+ * 1. 컨트롤러가 ContentVersionService 등으로 ETag 먼저 계산
+ * 2. If-None-Match 가 일치하면 본문 조회 없이 304
+ * 3. 불일치 / 헤더 없음이면 본문 조회 후 ETag와 함께 200
+ *
+ * [캐시 정책]
+ * - Cache-Control: no-cache, public → 브라우저 / CDN 보관 가능, 사용 전 매번 재검증
+ * - ETag가 null이면 (대상 없음 등) 조건부 처리 없이 본문 조회 (404 등은 기존 예외 처리)
+ */
+@Component
+public class ConditionalResponses {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * @param webRequest 현재 요청 (If-None-Match 확인)
+     * @param etag 현재 버전의 강한 ETag (따옴표 포함), null이면 조건부 처리 생략
+     * @param loader 본문 조회 (304가 아닐 때만 호출)
+     */
+    public <T> ResponseEntity<ResponseData<T>> ok(WebRequest webRequest, String etag, Supplier<T> loader) {
+        if (etag == null) {
+            return ResponseEntity.ok(ResponseData.of(loader.get()));
+        }
+
+        if (matches(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(ResponseData.of(loader.get()));
+    }
+
+    // If-None-Match: "*" 또는 쉼표 구분 목록, 약한 비교 (W/ 무시)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
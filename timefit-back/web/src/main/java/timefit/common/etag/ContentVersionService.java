@@ -0,0 +1,140 @@
+package timefit.common.etag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import timefit.business.repository.BusinessContentVersionQueryRepository;
+import timefit.business.repository.BusinessContentVersionQueryRepository.ContentVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 공개 조회 API 응답 버전 (강한 ETag) 계산
+ *
+ * [방식]
+ * - 응답을 구성하는 집합별 버전(행 수 + 최종 수정 시각)만 집계 쿼리로 조회 → 엔티티 그래프 로딩 전 판단
+ * - 리소스 이름 + 요청 키 + 버전들을 SHA-256 → ETag (노드 / 재기동과 무관하게 같은 상태면 같은 값)
+ * - 응답 형식이 바뀌면 FORMAT_VERSION 을 올려 기존 ETag 무효화
+ *
+ * [규칙]
+ * - 업체가 없으면 null → 조건부 처리 없이 기존 조회 경로에서 404 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContentVersionService {
+
+    private static final String FORMAT_VERSION = "v1";
+    private static final int ETAG_BYTES = 16;
+
+    private final BusinessContentVersionQueryRepository versionQueryRepository;
+
+    // 업체 공개 상세 (평점 / 리뷰 수 포함 → 업체 행 updatedAt으로 충분)
+    public String businessDetail(UUID businessId) {
+        ContentVersion business = versionQueryRepository.findBusinessVersion(businessId);
+        if (business == null) {
+            return null;
+        }
+        return etag("business", businessId, business);
+    }
+
+    // 메뉴 목록 (필터 조건과 무관하게 업체 메뉴 / 카테고리 집합 기준)
+    public String menuList(UUID businessId) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        return etag("menus", businessId, menuVersion(businessId), categoryVersion(businessId));
+    }
+
+    // 메뉴 상세 (카테고리명 포함)
+    public String menu(UUID businessId, UUID menuId) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        return etag("menu", businessId, menuId, menuVersion(businessId), categoryVersion(businessId));
+    }
+
+    // 영업시간 (업체명 + BusinessHours + OperatingHours)
+    public String operatingHours(UUID businessId) {
+        ContentVersion business = versionQueryRepository.findBusinessVersion(businessId);
+        if (business == null) {
+            return null;
+        }
+        return etag("operating-hours", businessId, business,
+                versionQueryRepository.findBusinessHoursVersion(businessId),
+                versionQueryRepository.findOperatingHoursVersion(businessId));
+    }
+
+    /**
+     * 기간 내 슬롯 목록 (메뉴명 포함)
+     *
+     * @param businessId 업체 ID
+     * @param menuId 메뉴 ID (null이면 업체 전체)
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     */
+    public String slots(UUID businessId, UUID menuId, LocalDate startDate, LocalDate endDate) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        return etag("slots", businessId, menuId, startDate, endDate,
+                versionQueryRepository.findSlotVersion(businessId, menuId, startDate, endDate),
+                menuVersion(businessId));
+    }
+
+    // 오늘 이후 슬롯 목록 (기준 날짜가 바뀌면 다른 ETag)
+    public String upcomingSlots(UUID businessId) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        LocalDate today = LocalDate.now();
+        return etag("upcoming-slots", businessId, today,
+                versionQueryRepository.findSlotVersion(businessId, null, today, null),
+                menuVersion(businessId));
+    }
+
+    // 리뷰 목록 페이지 (통계 포함, 필터 / 페이지는 URL로 구분, 작성자 이름 변경은 버전에 미포함)
+    public String reviewList(UUID businessId) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        return etag("reviews", businessId, versionQueryRepository.findReviewVersion(businessId));
+    }
+
+    // 리뷰 통계
+    public String reviewStatistics(UUID businessId) {
+        if (versionQueryRepository.findBusinessVersion(businessId) == null) {
+            return null;
+        }
+        return etag("review-statistics", businessId, versionQueryRepository.findReviewVersion(businessId));
+    }
+
+    private ContentVersion menuVersion(UUID businessId) {
+        return versionQueryRepository.findMenuVersion(businessId);
+    }
+
+    private ContentVersion categoryVersion(UUID businessId) {
+        return versionQueryRepository.findCategoryVersion(businessId);
+    }
+
+    // 강한 ETag ("..." 형식, SHA-256 앞 16바이트 hex)
+    private static String etag(String resource, Object... parts) {
+        StringBuilder source = new StringBuilder(FORMAT_VERSION).append('|').append(resource);
+        for (Object part : parts) {
+            source.append('|').append(part);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("ETag 계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package timefit.common.lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.scheduler.entity.SchedulerLease;
+import timefit.scheduler.repository.SchedulerLeaseRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업 DB 임대(lease) 관리
+ *
+ * [용도]
+ * - 여러 노드에서 같은 스케줄 작업이 돌 때 작업 단위(lease 이름)별로 한 노드만 처리
+ * - 획득 / 연장 / 반납 모두 짧은 별도 트랜잭션 (작업 트랜잭션과 무관하게 즉시 커밋)
+ *
+ * [주의]
+ * - 만료 판단은 각 노드 시계 기준이므로 임대 기간은 노드 간 시계 오차보다 충분히 길게 설정
+ * - 작업이 임대 기간보다 길어질 수 있으면 중간중간 tryAcquire로 연장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaseManager {
+
+    // 노드 식별자 (프로세스 이름 + 기동 시 난수, 같은 호스트의 여러 인스턴스 구분)
+    private static final String OWNER_ID =
+            ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 임대 획득 또는 연장
+     *
+     * @param leaseName 작업 단위 이름
+     * @param leaseDuration 임대 기간
+     * @return 이 노드가 보유하게 되었으면 true
+     */
+    public boolean tryAcquire(String leaseName, Duration leaseDuration) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime leasedUntil = now.plus(leaseDuration);
+
+                if (schedulerLeaseRepository.acquire(leaseName, OWNER_ID, now, leasedUntil) == 1) {
+                    return true;
+                }
+                if (schedulerLeaseRepository.existsByLeaseName(leaseName)) {
+                    return false;
+                }
+                // 첫 획득: 동시에 생성하면 lease_name 유니크 제약으로 한쪽만 성공
+                schedulerLeaseRepository.saveAndFlush(SchedulerLease.create(leaseName, OWNER_ID, leasedUntil));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("임대 생성 경합 - 다른 노드가 먼저 획득: leaseName={}", leaseName);
+            return false;
+        }
+    }
+
+    /**
+     * 임대 반납 (이 노드가 보유 중일 때만)
+     *
+     * @param leaseName 작업 단위 이름
+     */
+    public void release(String leaseName) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.release(leaseName, OWNER_ID, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 반납 실패 시에도 임대 기간 경과 후 자동 만료
+            log.warn("임대 반납 실패: leaseName={}", leaseName, e);
+        }
+    }
+
+    public String ownerId() {
+        return OWNER_ID;
+    }
+}
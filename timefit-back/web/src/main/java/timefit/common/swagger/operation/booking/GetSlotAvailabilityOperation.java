@@ -0,0 +1,72 @@
+package timefit.common.swagger.operation.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.booking.dto.BookingSlotResponse;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "예약 가능 현황 조회",
+        description = """
+            기간 내 활성 슬롯별 잔여 좌석을 날짜별로 조회합니다. (고객 예약 화면용)
+            
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+            
+            2. Query Parameter 필수값
+               - startDate: 조회 시작 날짜 (YYYY-MM-DD)
+               - endDate: 조회 종료 날짜 (YYYY-MM-DD, 시작 날짜 포함 최대 31일)
+            
+            3. 응답
+               - businessId: 업체 ID
+               - startDate / endDate: 조회 기간
+               - days: 날짜별 슬롯 목록 (슬롯이 없는 날짜는 빈 목록)
+                 - slotId, menuId, startTime, endTime, remaining (잔여 좌석, 0이면 마감)
+            
+            4. 참고
+               - 비활성 슬롯은 제외
+               - 짧은 시간 캐시되며, 예약 생성/취소 등 상태 변경 시 즉시 갱신
+            
+            5. 권한
+               - 인증 불필요 (공개 조회)
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "예약 가능 현황 조회 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BookingSlotResponse.Availability.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                    요청 값 검증 실패
+                    - AVAILABLE_SLOT_INVALID_TIME: 시작 날짜가 종료 날짜보다 늦음
+                    - AVAILABILITY_RANGE_EXCEEDED: 조회 기간 31일 초과
+                    """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "BUSINESS_NOT_FOUND - 업체를 찾을 수 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface GetSlotAvailabilityOperation {
+}
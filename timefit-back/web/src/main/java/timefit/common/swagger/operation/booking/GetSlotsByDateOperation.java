@@ -42,6 +42,10 @@ import java.lang.annotation.*;
                         schema = @Schema(implementation = BookingSlotResponse.BookingSlotList.class)
                 )
         ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "변경 없음 - If-None-Match 가 현재 ETag와 일치 (본문 없음)"
+        ),
         @ApiResponse(
                 responseCode = "404",
                 description = "BUSINESS_NOT_FOUND - 업체를 찾을 수 없음",
@@ -40,6 +40,10 @@ import java.lang.annotation.*;
                         schema = @Schema(implementation = BookingSlotResponse.BookingSlotList.class)
                 )
         ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "변경 없음 - If-None-Match 가 현재 ETag와 일치 (본문 없음)"
+        ),
         @ApiResponse(
                 responseCode = "400",
                 description = "INVALID_DATE_RANGE - 시작일이 종료일보다 늦음",
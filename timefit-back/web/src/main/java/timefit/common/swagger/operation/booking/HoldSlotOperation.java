@@ -0,0 +1,78 @@
+package timefit.common.swagger.operation.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.booking.dto.BookingSlotResponse;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "예약 슬롯 선점 (고객용)",
+        description = """
+            예약 정보 입력 전에 슬롯 좌석 1개를 일정 시간 동안 선점합니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+               - slotId: 슬롯 ID (UUID)
+
+            2. 처리 내용
+               - 잔여 좌석에서 다른 고객의 선점을 뺀 좌석이 있으면 선점
+               - 선점 유지 시간: 기본 3분 (timefit.booking.slot-hold.ttl-seconds)
+               - 같은 고객이 다시 요청하면 기존 선점의 만료 시각만 연장
+               - 예약 생성 시 holdId를 전달하면 선점이 예약으로 전환됨
+               - 만료된 선점은 자동 해제
+
+            3. 권한
+               - 로그인 사용자
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "슬롯 선점 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BookingSlotResponse.Hold.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                AVAILABLE_SLOT_NOT_AVAILABLE - 비활성 슬롯
+
+                AVAILABLE_SLOT_PAST_DATE - 과거 날짜 슬롯
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "AVAILABLE_SLOT_NOT_FOUND - 슬롯을 찾을 수 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "409",
+                description = """
+                AVAILABLE_SLOT_FULLY_BOOKED - 예약 마감
+
+                AVAILABLE_SLOT_HELD - 다른 고객이 예약 진행 중 (선점으로 잔여 좌석 없음)
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface HoldSlotOperation {
+}
@@ -0,0 +1,50 @@
+package timefit.common.swagger.operation.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "예약 슬롯 선점 해제 (고객용)",
+        description = """
+            예약을 진행하지 않을 때 선점한 좌석을 즉시 반환합니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+               - holdId: 선점 ID (UUID)
+
+            2. 처리 내용
+               - 본인 선점만 해제 가능
+               - 해제하지 않아도 만료 시각이 지나면 자동 해제
+
+            3. 권한
+               - 로그인 사용자 (선점한 본인)
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "선점 해제 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "SLOT_HOLD_NOT_FOUND - 선점 정보가 없거나 만료됨",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface ReleaseSlotHoldOperation {
+}
@@ -0,0 +1,65 @@
+package timefit.common.swagger.operation.business;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.business.dto.BusinessResponseDto;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "업체 공개 프로필 조회 (묶음)",
+        description = """
+            업체 화면에 필요한 공개 정보를 한 번에 조회합니다.
+            
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+            
+            2. 제공 정보
+               - 업체 공개 정보 (업체 상세 조회와 동일)
+               - 영업시간 (영업시간 조회와 동일)
+               - 활성 메뉴 목록
+               - 리뷰 통계 (평균 평점, 리뷰 수, 평점별 분포)
+            
+            3. 캐시
+               - 응답에 ETag 헤더 포함 (Cache-Control: no-cache, public)
+               - If-None-Match 헤더가 현재 ETag와 같으면 본문 없이 304 반환
+               - 업체 / 메뉴 / 카테고리 / 영업시간 / 리뷰 평점 변경 시 갱신
+               - 다중 서버 환경에서는 최대 60초 지연 반영
+            
+            4. 권한
+               - 인증 불필요 (공개 조회)
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "조회 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BusinessResponseDto.PublicProfileResponse.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "변경 없음 (If-None-Match 일치)"
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "BUSINESS_NOT_FOUND - 업체를 찾을 수 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface GetBusinessPublicProfileOperation {
+}
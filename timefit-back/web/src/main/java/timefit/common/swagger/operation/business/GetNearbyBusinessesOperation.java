@@ -0,0 +1,64 @@
+package timefit.common.swagger.operation.business;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.business.dto.BusinessResponseDto;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "주변 업체 검색 (거리순)",
+        description = """
+            기준 좌표에서 가까운 활성 업체를 거리순으로 조회합니다.
+            
+            1. Query Parameter
+               - latitude: 기준 위도 (필수, -90.0 ~ 90.0)
+               - longitude: 기준 경도 (필수, -180.0 ~ 180.0)
+               - radiusKm: 검색 반경 km (기본값: 3, 최대 20)
+               - businessType: 업종 코드 (선택, BD000 ~ BD013)
+               - limit: 최대 결과 수 (기본값: 20, 최대 100)
+            
+            2. 검색 대상
+               - 좌표(위도/경도)가 등록된 활성 업체만 포함
+               - 업체 생성/수정 시 위도/경도를 함께 입력하면 검색 대상에 포함
+            
+            3. 응답
+               - businesses: 가까운 순 업체 목록 (distanceMeters: 기준 좌표로부터 거리, m)
+               - totalCount: 결과 업체 수
+            
+            4. 권한
+               - 인증 불필요 (공개 검색)
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "검색 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BusinessResponseDto.NearbyBusinessListResponse.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                INVALID_LOCATION - 위도/경도 범위가 올바르지 않음
+                
+                INVALID_SEARCH_RADIUS - 검색 반경이 올바르지 않음 (0 이하 또는 최대 반경 초과)
+                
+                INVALID_PAGE_SIZE - 최대 결과 수가 올바르지 않음 (1 미만 또는 100 초과)
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface GetNearbyBusinessesOperation {
+}
@@ -18,7 +18,7 @@ import java.lang.annotation.*;
             키워드, 업종, 지역을 조건으로 업체를 검색합니다.
             
             1. Query Parameter (모두 선택)
-               - keyword: 검색 키워드 (업체명, 설명에서 검색)
+               - keyword: 검색 키워드 (업체명, 주소에서 검색 / 단어 접두 일치 지원)
                - businessType: 업종 코드 (BD000 ~ BD013)
                - region: 지역 (주소에서 검색)
                - page: 페이지 번호 (0부터 시작, 기본값: 0)
@@ -29,11 +29,15 @@ import java.lang.annotation.*;
                - 조건이 없으면 전체 업체 조회
                - 조건이 있으면 AND 조건으로 검색
             
-            3. 응답
+            3. 정렬
+               - keyword가 있으면 관련도순 (업체명 접두 일치 → 단어 일치 → 유사도)
+               - keyword가 없으면 업체명순
+            
+            4. 응답
                - businesses: 업체 목록
                - totalCount: 전체 업체 수
             
-            4. 권한
+            5. 권한
                - 인증 불필요 (공개 검색)
             """
 )
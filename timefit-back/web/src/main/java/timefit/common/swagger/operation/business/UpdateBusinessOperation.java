@@ -29,6 +29,8 @@ import java.lang.annotation.*;
                - description: 업체 설명 (최대 1000자)
                - logoUrl: 로고 이미지 URL
                - businessNotice: 업체 공지사항 (최대 500자)
+               - autoCompleteEnabled / autoCompleteDelayMinutes: 지난 확정 예약 자동 완료 여부 / 종료 후 지연(분, 0-10080)
+               - pendingExpiryEnabled / pendingExpiryDelayMinutes: 지난 대기 예약 자동 만료 여부 / 시작 후 지연(분, 0-10080)
             
             3. 수정 규칙
                - null이 아닌 필드만 수정
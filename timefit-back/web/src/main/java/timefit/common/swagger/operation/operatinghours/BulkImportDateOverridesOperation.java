@@ -0,0 +1,66 @@
+package timefit.common.swagger.operation.operatinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+import timefit.operatinghours.dto.OperatingHoursResponseDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "날짜별 영업 예외 일괄 등록",
+        description = """
+            여러 업체에 같은 날짜별 영업 예외(공휴일 등)를 한 번에 등록합니다.
+
+            1. Request Body
+               - businessIds: 대상 업체 ID 목록 (최대 500개)
+               - overrides: 모든 업체에 적용할 날짜별 영업 예외 목록 (최대 366건)
+
+            2. 처리 규칙
+               - 업체 수 × 날짜 수가 최대 허용치(기본 20,000건) 이하
+               - 대상 업체 / 날짜의 기존 예외는 교체
+               - 단일 트랜잭션 처리 (하나라도 실패하면 전체 롤백)
+
+            3. 권한
+               - 모든 대상 업체의 OWNER 또는 MANAGER
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "일괄 등록 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = OperatingHoursResponseDto.BulkDateOverrideResult.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                DATE_OVERRIDE_IMPORT_LIMIT_EXCEEDED - 업체 수 × 날짜 수가 최대 허용치 초과
+
+                INVALID_DATE_OVERRIDE - 지난 날짜, 중복 날짜, 단축 영업 시간 누락 또는 휴무일에 시간 지정
+
+                VALIDATION_ERROR - 업체 500개 또는 예외 366건 초과
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "403",
+                description = "INSUFFICIENT_PERMISSION - 권한 없는 업체 포함",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface BulkImportDateOverridesOperation {
+}
@@ -0,0 +1,58 @@
+package timefit.common.swagger.operation.operatinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "날짜별 영업 예외 삭제",
+        description = """
+            특정 날짜의 영업 예외를 삭제합니다. 해당 날짜는 요일별 영업시간으로 돌아갑니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+               - date: 삭제할 날짜 (yyyy-MM-dd)
+
+            2. 권한
+               - OWNER, MANAGER
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "삭제 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "403",
+                description = "INSUFFICIENT_PERMISSION - 업체 접근 권한 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = """
+                BUSINESS_NOT_FOUND - 업체를 찾을 수 없음
+
+                DATE_OVERRIDE_NOT_FOUND - 해당 날짜의 영업 예외가 없음
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface DeleteDateOverrideOperation {
+}
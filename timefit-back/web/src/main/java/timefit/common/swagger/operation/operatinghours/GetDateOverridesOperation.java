@@ -0,0 +1,65 @@
+package timefit.common.swagger.operation.operatinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+import timefit.operatinghours.dto.OperatingHoursResponseDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "날짜별 영업 예외 조회",
+        description = """
+            업체의 날짜별 영업 예외(공휴일 휴무, 단축 영업)를 조회합니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+
+            2. Query Parameter
+               - startDate: 조회 시작 날짜 (선택, 기본값 오늘)
+               - endDate: 조회 종료 날짜 (선택, 기본값 시작 날짜 + 365일)
+               - 최대 조회 기간 366일
+
+            3. 예외 정보
+               - date: 적용 날짜
+               - isClosed: 전체 휴무 여부
+               - openTime / closeTime: 단축 영업 시간 (휴무인 경우 null)
+               - reason: 사유
+
+            4. 권한
+               - 인증 불필요 (공개 조회)
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "조회 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = OperatingHoursResponseDto.DateOverrideList.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "INVALID_DATE_OVERRIDE_RANGE - 종료 날짜가 시작 날짜보다 이르거나 366일 초과",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "BUSINESS_NOT_FOUND - 업체를 찾을 수 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface GetDateOverridesOperation {
+}
@@ -0,0 +1,79 @@
+package timefit.common.swagger.operation.operatinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+import timefit.operatinghours.dto.OperatingHoursResponseDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "날짜별 영업 예외 설정",
+        description = """
+            특정 날짜의 휴무 / 단축 영업을 설정합니다. 요청한 날짜의 기존 예외는 교체됩니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+
+            2. Request Body
+               - overrides: 날짜별 영업 예외 목록 (최대 366건)
+                 - date: 적용 날짜 (오늘 이후, 중복 불가)
+                 - isClosed: true(전체 휴무) / false(단축 영업)
+                 - openTime / closeTime: 단축 영업 시간 (HH:mm, 단축 영업인 경우 필수)
+                 - reason: 사유 (선택, 최대 100자)
+
+            3. 적용 규칙
+               - 요일별 영업시간보다 우선 적용
+               - 휴무: 해당 날짜 예약 불가, 슬롯 조회에서 제외
+               - 단축 영업: 요일별 예약 가능 시간대 중 영업 시간 안의 구간만 예약 가능
+               - 기존 예약은 유지, 신규 예약만 차단
+
+            4. 권한
+               - OWNER, MANAGER
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "설정 성공 (요청 날짜 범위의 예외 목록 반환)",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = OperatingHoursResponseDto.DateOverrideList.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                INVALID_DATE_OVERRIDE - 지난 날짜, 중복 날짜, 단축 영업 시간 누락 또는 휴무일에 시간 지정
+
+                INVALID_OPERATING_HOURS - 종료 시간이 시작 시간보다 이름
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "403",
+                description = "INSUFFICIENT_PERMISSION - 업체 접근 권한 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "BUSINESS_NOT_FOUND - 업체를 찾을 수 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface SetDateOverridesOperation {
+}
@@ -0,0 +1,72 @@
+package timefit.common.swagger.operation.reservation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import timefit.common.ResponseData;
+import timefit.reservation.dto.ReservationResponseDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "예약 일괄 상태 변경 (업체용)",
+        description = """
+            여러 예약을 한 번에 승인 / 거절 / 완료 / 노쇼 처리합니다.
+
+            1. Path Parameter
+               - businessId: 업체 ID (UUID)
+
+            2. Request Body
+               - action: APPROVE / REJECT / COMPLETE / NO_SHOW
+               - reservationIds: 대상 예약 ID 목록 (최대 500건)
+               - reservationDate: 대상 예약 날짜 (해당 날짜의 처리 가능한 예약 전체)
+               - notes: 사유 / 메모 (선택)
+
+            3. 처리 규칙
+               - reservationIds / reservationDate 중 하나만 지정
+               - APPROVE, REJECT: PENDING 예약만 처리 (REJECT는 슬롯 좌석 반환)
+               - COMPLETE, NO_SHOW: CONFIRMED 예약만 처리
+               - 처리할 수 없는 예약은 건너뛰고 예약별 결과에 실패 사유 기록
+                 (RESERVATION_NOT_FOUND, RESERVATION_INVALID_STATUS)
+               - reservationDate 지정 시 실제로 변경된 예약만 결과에 포함
+
+            4. 권한
+               - OWNER, MANAGER
+            """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "일괄 처리 완료 (일부 실패 포함)",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ReservationResponseDto.BulkActionResult.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = """
+                INVALID_BULK_TARGET - 예약 ID 목록 / 예약 날짜 중 하나만 지정해야 함
+
+                VALIDATION_ERROR - 처리 유형 누락 또는 500건 초과
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "403",
+                description = "BUSINESS_ACCESS_DENIED - 업체 접근 권한 없음",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        )
+})
+public @interface BulkChangeReservationStatusOperation {
+}
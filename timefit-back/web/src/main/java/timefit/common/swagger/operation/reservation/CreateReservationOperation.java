@@ -31,9 +31,11 @@ import java.lang.annotation.*;
                - reservationDate: 예약 날짜 (ONDEMAND_BASED일 때 필수)
                - reservationTime: 예약 시간 (ONDEMAND_BASED일 때 필수)
                - notes: 메모
+               - holdId: 슬롯 선점 ID (RESERVATION_BASED, 선점 API 응답값)
             
             3. 예약 유형
                - RESERVATION_BASED: bookingSlotId 제공
+                 (holdId 제공 시 본인 선점 좌석으로 예약, 미제공 시 다른 고객 선점 좌석은 제외)
                - ONDEMAND_BASED: reservationDate, reservationTime 제공
             
             4. 제약사항
@@ -99,6 +101,20 @@ import java.lang.annotation.*;
                 MENU_NOT_FOUND - 메뉴를 찾을 수 없음
                 
                 BOOKING_SLOT_NOT_FOUND - 슬롯을 찾을 수 없음
+                
+                SLOT_HOLD_NOT_FOUND - 슬롯 선점 정보가 없거나 만료됨
+                """,
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ResponseData.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "409",
+                description = """
+                AVAILABLE_SLOT_FULLY_BOOKED - 예약 마감
+                
+                AVAILABLE_SLOT_HELD - 다른 고객이 예약 진행 중 (선점으로 잔여 좌석 없음)
                 """,
                 content = @Content(
                         mediaType = "application/json",
@@ -24,6 +24,14 @@ import java.lang.annotation.*;
                - businessId: 업체 ID 필터
                - page: 페이지 번호 (0부터 시작, 기본값: 0)
                - size: 페이지 크기 (기본값: 20)
+               - cursor: 커서 모드 사용 시 지정 (빈 값 = 첫 페이지)
+               - withTotal: 커서 모드에서 전체 개수 포함 여부 (기본값: false)
+            
+            페이징 방식
+               - 기본 (page): 예약 날짜/시간 최신순, 전체 개수/페이지 수 포함
+               - 커서 (cursor): 예약 날짜/시간 최신순, 응답의 pagination.nextCursor를 다음 요청에 전달
+                 깊은 페이지도 조회 비용이 일정 (무한 스크롤용)
+                 currentPage는 null, totalElements/totalPages는 withTotal=true일 때만 포함
             
             2. 예약 상태
                - PENDING: 대기중
@@ -48,7 +56,11 @@ import java.lang.annotation.*;
         ),
         @ApiResponse(
                 responseCode = "400",
-                description = "INVALID_PARAMETER - 잘못된 파라미터",
+                description = """
+                    잘못된 요청
+                    - INVALID_PARAMETER: 잘못된 파라미터
+                    - INVALID_CURSOR: 커서 형식이 올바르지 않음
+                    """,
                 content = @Content(
                         mediaType = "application/json",
                         schema = @Schema(implementation = ResponseData.class)
@@ -25,7 +25,9 @@ import java.lang.annotation.*;
                       "contactPhone": "02-1111-1111",
                       "description": "20년 경력의 전문 미용실입니다.",
                       "logoUrl": "https://example.com/logo.png",
-                      "businessNotice": "영업시간 변경: 평일 10:00-20:00"
+                      "businessNotice": "영업시간 변경: 평일 10:00-20:00",
+                      "latitude": 37.5665,
+                      "longitude": 126.9780
                     }
                     """
                 )
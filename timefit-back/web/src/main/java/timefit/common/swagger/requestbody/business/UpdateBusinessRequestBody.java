@@ -25,7 +25,13 @@ import java.lang.annotation.*;
                       "contactPhone": "02-2222-2222",
                       "description": "트렌디한 헤어 디자인 전문",
                       "logoUrl": "https://example.com/new-logo.png",
-                      "businessNotice": "주차 가능합니다"
+                      "businessNotice": "주차 가능합니다",
+                      "latitude": 37.4979,
+                      "longitude": 127.0276,
+                      "autoCompleteEnabled": true,
+                      "autoCompleteDelayMinutes": 60,
+                      "pendingExpiryEnabled": true,
+                      "pendingExpiryDelayMinutes": 30
                     }
                     """
                 )
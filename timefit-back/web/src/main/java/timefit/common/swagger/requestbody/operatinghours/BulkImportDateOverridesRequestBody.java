@@ -0,0 +1,44 @@
+package timefit.common.swagger.requestbody.operatinghours;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import timefit.operatinghours.dto.OperatingHoursRequestDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "날짜별 영업 예외 일괄 등록 요청",
+        required = true,
+        content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = OperatingHoursRequestDto.BulkDateOverrides.class),
+                examples = @ExampleObject(
+                        name = "여러 업체 공휴일 휴무",
+                        value = """
+                            {
+                              "businessIds": [
+                                "30000000-0000-0000-0000-000000000001",
+                                "30000000-0000-0000-0000-000000000002"
+                              ],
+                              "overrides": [
+                                {
+                                  "date": "2025-03-01",
+                                  "isClosed": true,
+                                  "reason": "삼일절"
+                                },
+                                {
+                                  "date": "2025-05-05",
+                                  "isClosed": true,
+                                  "reason": "어린이날"
+                                }
+                              ]
+                            }
+                            """
+                )
+        )
+)
+public @interface BulkImportDateOverridesRequestBody {
+}
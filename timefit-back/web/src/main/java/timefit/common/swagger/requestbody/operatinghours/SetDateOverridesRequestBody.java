@@ -0,0 +1,47 @@
+package timefit.common.swagger.requestbody.operatinghours;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import timefit.operatinghours.dto.OperatingHoursRequestDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "날짜별 영업 예외 설정 요청",
+        required = true,
+        content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = OperatingHoursRequestDto.SetDateOverrides.class),
+                examples = @ExampleObject(
+                        name = "설 연휴 휴무 + 전날 단축 영업",
+                        value = """
+                            {
+                              "overrides": [
+                                {
+                                  "date": "2025-01-27",
+                                  "isClosed": false,
+                                  "openTime": "10:00",
+                                  "closeTime": "15:00",
+                                  "reason": "설 연휴 전날 단축 영업"
+                                },
+                                {
+                                  "date": "2025-01-28",
+                                  "isClosed": true,
+                                  "reason": "설날"
+                                },
+                                {
+                                  "date": "2025-01-29",
+                                  "isClosed": true,
+                                  "reason": "설날"
+                                }
+                              ]
+                            }
+                            """
+                )
+        )
+)
+public @interface SetDateOverridesRequestBody {
+}
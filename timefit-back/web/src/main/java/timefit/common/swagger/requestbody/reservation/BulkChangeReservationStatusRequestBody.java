@@ -0,0 +1,45 @@
+package timefit.common.swagger.requestbody.reservation;
+
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import timefit.reservation.dto.ReservationRequestDto;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "예약 일괄 상태 변경 요청",
+        required = true,
+        content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationRequestDto.BulkStatusChange.class),
+                examples = {
+                        @ExampleObject(
+                                name = "예약 ID 목록 승인",
+                                value = """
+                            {
+                              "action": "APPROVE",
+                              "reservationIds": [
+                                "10000000-0000-0000-0000-000000000001",
+                                "10000000-0000-0000-0000-000000000002"
+                              ]
+                            }
+                            """
+                        ),
+                        @ExampleObject(
+                                name = "날짜 전체 완료",
+                                value = """
+                            {
+                              "action": "COMPLETE",
+                              "reservationDate": "2025-01-10",
+                              "notes": "영업 종료 후 일괄 완료 처리"
+                            }
+                            """
+                        )
+                }
+        )
+)
+public @interface BulkChangeReservationStatusRequestBody {
+}
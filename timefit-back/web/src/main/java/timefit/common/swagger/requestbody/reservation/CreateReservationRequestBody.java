@@ -27,7 +27,8 @@ import java.lang.annotation.*;
                           "totalPrice": 30000,
                           "customerName": "Owner Kim",
                           "customerPhone": "010-1111-1111",
-                          "notes": "처음 방문입니다"
+                          "notes": "처음 방문입니다",
+                          "holdId": "a0000000-0000-0000-0000-000000000001"
                         }
                         """
                         ),
@@ -12,7 +12,7 @@ import java.util.concurrent.Executor;
  * 비동기 작업 실행 설정
  * Async 어노테이션이 붙은 메서드를 별도 스레드에서 실행하기 위한 설정입니다.
  * [목적]
- * 이메일 발송, 외부 API 호출 등 시간이 걸리는 작업을 요청 스레드와 분리하여 API 응답 속도를 개선합니다.
+ * 외부 API 호출 등 시간이 걸리는 작업을 요청 스레드와 분리하여 API 응답 속도를 개선합니다.
  * [중요 제약사항]
  * 1. @Async는 같은 클래스 내부에서 호출 시 작동하지 않음 (프록시 미적용)
  *    → 반드시 다른 빈에서 호출해야 함
@@ -34,7 +34,8 @@ public class AsyncConfig implements AsyncConfigurer {
      * 3. 큐가 가득 차면 최대 스레드(MaxPoolSize)까지 추가 생성
      * 4. 그래도 처리 못하면 RejectedExecutionException 발생
      * [튜닝]
-     * - 이메일 발송만 사용: 현재 설정(2/5/100) 기본 스레드 , 최대 , 대기 큐 사이즈
+     * - 현재 설정(2/5/100) 기본 스레드 , 최대 , 대기 큐 사이즈
+     * - 이메일 발송은 발송 대기열(EmailOutboxDispatcher)로 이전되어 이 풀을 사용하지 않음
      * - 외부 API 호출 추가할 경우, MaxPoolSize 10~20으로 증가 할것을 권장 받음.
      */
     @Override
@@ -0,0 +1,17 @@
+package timefit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화
+ * - 공유 폐기 토큰 저장소 동기화 / 만료 기록 정리 (SharedTokenRevocationStore)
+ * - 예약 자동 완료 / 대기 만료 (ReservationLifecycleScheduler)
+ * - 만료된 슬롯 선점 정리 (LocalSlotHoldStore / SharedSlotHoldStore)
+ * - 이메일 발송 대기열 처리 / 발송 기록 정리 (EmailOutboxDispatcher)
+ * - 예약 알림 적재 / 발송 / 발송 기록 정리 (ReservationReminderScheduler)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
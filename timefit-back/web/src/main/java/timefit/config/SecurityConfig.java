@@ -3,7 +3,6 @@ package timefit.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -16,6 +15,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import timefit.auth.filter.JwtAuthFilter;
+import timefit.auth.filter.PublicRouteTable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -50,11 +50,11 @@ import java.util.List;
  *
  * JwtAuthFilter와의 관계:
  * - JwtAuthFilter를 SecurityFilterChain에 등록하여 JWT 인증 처리
- * - JwtAuthFilter의 PUBLIC_PATHS와 이 클래스의 permitAll() 설정이 일치해야 함
- * - 두 설정이 불일치하면 인증 오류 발생 가능
+ * - 공개 경로는 PublicRouteTable 한 곳에서 정의하고 JwtAuthFilter와 permitAll()이 함께 사용
+ * - 새 공개 API는 PublicRouteTable에만 추가
  *
  * 주의사항:
- * - requestMatchers() 순서가 중요 (구체적 → 포괄적 순서)
+ * - requestMatchers() 순서가 중요 (공개 경로 permitAll → /api/** authenticated 순서)
  * - permitAll()과 authenticated()의 순서를 잘못 설정하면 의도하지 않은 접근 차단 발생
  * - CORS 설정은 프론트엔드 도메인과 일치해야 함
  */
@@ -64,6 +64,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final PublicRouteTable publicRouteTable;
 
     /**
      * 비밀번호 암호화 엔코더
@@ -103,65 +104,16 @@ public class SecurityConfig {
                 )
 
                 // 경로별 접근 권한 설정
-                .authorizeHttpRequests(auth -> auth
-                        // ========== 인증 관련 API ==========
-                        .requestMatchers("/api/auth/signup", "/api/auth/signin",
-                                "/api/auth/refresh", "/api/auth/oauth",
-                                "/api/auth/health").permitAll()
-                        .requestMatchers("/api/auth/**").authenticated()   // 나머지는 인증 필요 (logout, refresh 등)
-
-                        // ========== 업체 관련 공개 API ==========
-                        .requestMatchers("/api/business/search", "/api/business/search/**").permitAll()  // 업체 검색 (쿼리 파라미터 포함) |  ** 와일드 카드를 통해 ?name=헤어샵&page=1 같은 쿼리 지원
-                        .requestMatchers(HttpMethod.GET, "/api/business/*").permitAll()                      // 업체 상세
-                        .requestMatchers(HttpMethod.GET, "/api/business/*/operating-hours").permitAll()      // 영업시간
-                        .requestMatchers(HttpMethod.GET, "/api/business/*/menu").permitAll()                 // 메뉴 목록
-                        .requestMatchers(HttpMethod.GET, "/api/business/*/menu/*").permitAll()
-
-                        // ========== 예약 슬롯 조회 (공개) ==========
-                        .requestMatchers(HttpMethod.GET,
-                                "/api/business/*/booking-slot",
-                                "/api/business/*/booking-slot/range",
-                                "/api/business/*/booking-slot/menu/*",
-                                "/api/business/*/booking-slot/upcoming",
-                                "/api/business/*/booking-slot/**"
-                        ).permitAll()
-
-                        // ========== 리뷰 조회 (공개) ==========
-                        .requestMatchers(HttpMethod.GET,
-                                "/api/public/business/*/reviews",
-                                "/api/public/business/*/reviews/statistics",
-                                "/api/public/**"
-                        ).permitAll()
-
-                        // ========== 업체 관련 인증 필요 API ==========
-                        .requestMatchers("/api/business/**").authenticated()  // 나머지 업체 API는 인증 필요
-
-                        // ========== 예약 관련 API (인증 필요) ==========
-                        .requestMatchers("/api/reservation/**").authenticated()
-                        .requestMatchers("/api/reservations/**").authenticated()
-
-                        // ========== 초대 관련 API (인증 필요) ==========
-                        .requestMatchers("/api/invitation/**").authenticated()
-
-                        // ========== 사용자 API (인증 필요) ==========
-                        .requestMatchers("/api/user/**").authenticated()
-
-                        // ========== 검증 API (공개) ==========
-                        .requestMatchers("/api/validation/**").permitAll()
-
-                        // ========== 테스트 API (개발용) ==========
-                        .requestMatchers("/api/test/**").permitAll()
-
-                        // ========== 개발/모니터링 도구 ==========
-                        .requestMatchers("/actuator/**").permitAll()
-                        .requestMatchers("/swagger-ui/**").permitAll()
-                        .requestMatchers("/v1/api-docs/**").permitAll()
-                        .requestMatchers("/favicon.ico").permitAll()
-
-                        // ========== 기타 ==========
-                        .requestMatchers("/api/**").authenticated()  // 나머지 모든 /api/** 는 인증 필요
-                        .anyRequest().permitAll()  // 그 외 요청 허용
-                )
+                .authorizeHttpRequests(auth -> {
+                    // ========== 공개 API (PublicRouteTable - JwtAuthFilter와 공유) ==========
+                    for (PublicRouteTable.PublicRoute route : publicRouteTable.routes()) {
+                        auth.requestMatchers(route.method(), route.pattern()).permitAll();
+                    }
+
+                    // ========== 기타 ==========
+                    auth.requestMatchers("/api/**").authenticated()  // 나머지 모든 /api/** 는 인증 필요
+                            .anyRequest().permitAll();  // 그 외 요청 허용
+                })
 
                 // JWT 인증 필터 추가
                 // UsernamePasswordAuthenticationFilter 앞에 배치하여
@@ -22,6 +22,7 @@ public enum AuthErrorCode {
 
     // 토큰 관련 (새로 추가)
     TOKEN_NOT_PROVIDED("토큰이 제공되지 않았습니다", HttpStatus.UNAUTHORIZED),
+    TOKEN_REVOKED("로그아웃되었거나 더 이상 사용할 수 없는 토큰입니다", HttpStatus.UNAUTHORIZED),
 
     // 권한 관련
     ACCESS_DENIED("접근 권한이 없습니다", HttpStatus.FORBIDDEN),
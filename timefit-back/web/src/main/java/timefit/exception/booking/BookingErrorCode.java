@@ -16,12 +16,16 @@ public enum BookingErrorCode {
     AVAILABLE_SLOT_HAS_ACTIVE_RESERVATIONS("활성 예약이 있는 슬롯은 삭제할 수 없습니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_CAPACITY_EXCEEDED("슬롯 수용 인원을 초과했습니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_NOT_AVAILABLE("해당 슬롯은 현재 예약할 수 없습니다", HttpStatus.BAD_REQUEST),
+    AVAILABLE_SLOT_FULLY_BOOKED("해당 슬롯의 예약이 마감되었습니다", HttpStatus.CONFLICT),
     BUSINESS_CLOSED("해당 날짜는 영업일이 아닙니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_NOT_MODIFIABLE("활성 예약이 있는 슬롯은 수정할 수 없습니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_TIME_FORMAT_INVALID("슬롯 시간 형식이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_CAPACITY_INVALID("슬롯 용량은 1명 이상이어야 합니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_BATCH_LIMIT_EXCEEDED("한 번에 생성할 수 있는 슬롯 개수를 초과했습니다", HttpStatus.BAD_REQUEST),
     AVAILABLE_SLOT_DATE_RANGE_EXCEEDED("슬롯 생성 가능 기간을 초과했습니다", HttpStatus.BAD_REQUEST),
+    AVAILABLE_SLOT_HELD("다른 고객이 예약 진행 중인 슬롯입니다", HttpStatus.CONFLICT),
+    SLOT_HOLD_NOT_FOUND("슬롯 선점 정보가 없거나 만료되었습니다", HttpStatus.NOT_FOUND),
+    AVAILABILITY_RANGE_EXCEEDED("예약 가능 현황 조회 기간을 초과했습니다", HttpStatus.BAD_REQUEST),
     SLOT_INVALID_MENU_TYPE("예약형 메뉴만 슬롯을 생성할 수 있습니다", HttpStatus.BAD_REQUEST);
 
     private final String message;
@@ -31,6 +31,10 @@ public enum BusinessErrorCode {
     INVALID_PAGE_NUMBER("페이지 번호가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     INVALID_PAGE_SIZE("페이지 크기가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
 
+    // 위치 검색
+    INVALID_LOCATION("위치 좌표가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_SEARCH_RADIUS("검색 반경이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+
     // 삭제 관련
     DELETE_CONFIRMATION_REQUIRED("삭제 확인이 필요합니다", HttpStatus.BAD_REQUEST),
     BUSINESS_ALREADY_DELETED("이미 삭제된 업체입니다", HttpStatus.BAD_REQUEST),
@@ -43,7 +47,13 @@ public enum BusinessErrorCode {
     // 영업시간 검증 관련
     INVALID_OPERATING_HOURS("유효하지 않은 영업시간입니다", HttpStatus.BAD_REQUEST),
     OPERATING_HOURS_OUT_OF_RANGE("예약 가능 시간대가 영업시간 범위를 벗어났습니다", HttpStatus.BAD_REQUEST),
-    OPERATING_HOURS_HAS_FUTURE_RESERVATIONS("진행 중인 예약이 있어 영업시간을 변경할 수 없습니다", HttpStatus.CONFLICT);
+    OPERATING_HOURS_HAS_FUTURE_RESERVATIONS("진행 중인 예약이 있어 영업시간을 변경할 수 없습니다", HttpStatus.CONFLICT),
+
+    // 날짜별 영업 예외 관련
+    DATE_OVERRIDE_NOT_FOUND("해당 날짜의 영업 예외를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    INVALID_DATE_OVERRIDE("유효하지 않은 날짜별 영업 예외입니다", HttpStatus.BAD_REQUEST),
+    INVALID_DATE_OVERRIDE_RANGE("영업 예외 조회 기간이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    DATE_OVERRIDE_IMPORT_LIMIT_EXCEEDED("한 번에 등록할 수 있는 영업 예외 건수를 초과했습니다", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -38,7 +38,9 @@ public enum ReservationErrorCode {
     INVALID_DATE_FORMAT("날짜 형식이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     INVALID_RESERVATION_TYPE("유효하지 않은 예약 타입입니다. RESERVATION_BASED 또는 ONDEMAND_BASED 중 하나를 선택해야 합니다.", HttpStatus.BAD_REQUEST),
     INVALID_PAGE_NUMBER("페이지 번호가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
-    INVALID_PAGE_SIZE("페이지 크기가 올바르지 않습니다", HttpStatus.BAD_REQUEST);
+    INVALID_PAGE_SIZE("페이지 크기가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("페이지 커서가 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_BULK_TARGET("일괄 처리 대상은 예약 ID 목록 또는 예약 날짜 중 하나만 지정해야 합니다", HttpStatus.BAD_REQUEST);
 
 
 
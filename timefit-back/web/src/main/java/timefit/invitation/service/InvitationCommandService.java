@@ -3,19 +3,18 @@ package timefit.invitation.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.FileCopyUtils;
 import timefit.auth.service.validator.AuthValidator;
 import timefit.business.entity.Business;
 import timefit.business.entity.UserBusinessRole;
 import timefit.business.repository.UserBusinessRoleRepository;
+import timefit.business.service.util.BusinessAuthorizationCache;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.common.email.EmailService;
+import timefit.common.email.EmailTemplate;
+import timefit.common.email.EmailTemplateRenderer;
 import timefit.common.entity.BusinessRole;
-import timefit.exception.system.SystemErrorCode;
-import timefit.exception.system.SystemException;
 import timefit.invitation.dto.InvitationResponseDto;
 import timefit.invitation.entity.Invitation;
 import timefit.invitation.entity.InvitationStatus;
@@ -23,10 +22,7 @@ import timefit.invitation.repository.InvitationRepository;
 import timefit.invitation.service.validator.InvitationValidator;
 import timefit.user.entity.User;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,7 +38,9 @@ public class InvitationCommandService {
     private final BusinessValidator businessValidator;
     private final AuthValidator authValidator;
     private final UserBusinessRoleRepository userBusinessRoleRepository;
+    private final BusinessAuthorizationCache businessAuthorizationCache;
     private final EmailService emailService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
 
     //    [설정 항목]
     //    1. base-url: 프론트엔드 서버의 기본 URL
@@ -98,7 +96,7 @@ public class InvitationCommandService {
         log.info("초대 생성 완료: invitationId={}, businessId={}, email={}, role={}",
                 saved.getId(), businessId, email, role);
 
-        // 5. 이메일 발송 (비동기)
+        // 5. 이메일 발송 등록 (커밋 후 발송)
         sendInvitationEmail(saved);
 
         return InvitationResponseDto.Invitation.from(saved);
@@ -135,7 +133,7 @@ public class InvitationCommandService {
         log.info("초대 만료 시간 연장: invitationId={}, newExpiresAt={}",
                 invitationId, invitation.getExpiresAt());
 
-        // 4. 이메일 재발송 (비동기)
+        // 4. 이메일 재발송 등록 (커밋 후 발송)
         sendInvitationEmail(invitation);
 
         return InvitationResponseDto.Invitation.from(invitation);
@@ -176,6 +174,7 @@ public class InvitationCommandService {
                 invitation.getInvitedBy()
         );
         userBusinessRoleRepository.save(userBusinessRole);
+        businessAuthorizationCache.evict(currentUserId, invitation.getBusiness().getId());
 
         log.info("구성원 추가 완료: userId={}, businessId={}, role={}",
                 currentUserId, invitation.getBusiness().getId(), invitation.getRole());
@@ -217,37 +216,25 @@ public class InvitationCommandService {
     }
 
     /**
-     * 초대 이메일 발송 (비동기)
+     * 초대 이메일 발송 등록 (초대 생성 / 연장과 같은 트랜잭션)
+     * - 커밋 후 EmailOutboxDispatcher가 발송, 실패 시 자동 재시도
      */
     private void sendInvitationEmail(Invitation invitation) {
-        try {
-            String inviteLink = generateInviteLink(invitation.getToken());
-            String subject = String.format("[Timefit] %s 초대장",
-                    invitation.getBusiness().getBusinessName());
-
-            // HTML 템플릿 파일에서 콘텐츠 생성
-            String htmlContent = loadEmailTemplate(
-                    invitation.getBusiness().getBusinessName(),
-                    invitation.getInvitedBy().getName(),
-                    invitation.getRole().name(),
-                    inviteLink,
-                    invitation.getExpiresAt().toString()
-            );
-
-            emailService.sendHtmlEmailAsync(
-                    invitation.getEmail(),
-                    subject,
-                    htmlContent
-            );
-
-            log.info("초대 이메일 발송 요청: email={}, token={}",
-                    invitation.getEmail(), invitation.getToken());
-
-        } catch (Exception e) {
-            log.error("초대 이메일 발송 실패: invitationId={}, email={}",
-                    invitation.getId(), invitation.getEmail(), e);
-            // 이메일 발송 실패해도 초대는 생성됨 (재발송 가능)
-        }
+        String subject = String.format("[Timefit] %s 초대장",
+                invitation.getBusiness().getBusinessName());
+
+        String htmlContent = emailTemplateRenderer.render(EmailTemplate.INVITATION, Map.of(
+                "BUSINESS_NAME", invitation.getBusiness().getBusinessName(),
+                "INVITER_NAME", invitation.getInvitedBy().getName(),
+                "ROLE_NAME", invitation.getRole().name(),
+                "INVITE_LINK", generateInviteLink(invitation.getToken()),
+                "EXPIRES_AT", invitation.getExpiresAt().toString()
+        ));
+
+        emailService.enqueueHtmlEmail(invitation.getEmail(), subject, htmlContent);
+
+        log.info("초대 이메일 발송 등록: invitationId={}, email={}",
+                invitation.getId(), invitation.getEmail());
     }
 
     /**
@@ -257,37 +244,4 @@ public class InvitationCommandService {
     private String generateInviteLink(String token) {
         return frontendBaseUrl + frontendInvitePath + "/" + token;
     }
-
-    /**
-     * HTML template file load 및 placeholder 치환
-     */
-    private String loadEmailTemplate(
-            String businessName,
-            String inviterName,
-            String roleName,
-            String inviteLink,
-            String expiresAt) {
-
-        try {
-            // resources/public/email/invitation.html 읽기
-            ClassPathResource resource = new ClassPathResource("public/email/invitation.html");
-            Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
-            String template = FileCopyUtils.copyToString(reader);
-
-            // placeholder 치환
-            return template
-                    .replace("{{BUSINESS_NAME}}", businessName)
-                    .replace("{{INVITER_NAME}}", inviterName)
-                    .replace("{{ROLE_NAME}}", roleName)
-                    .replace("{{INVITE_LINK}}", inviteLink)
-                    .replace("{{EXPIRES_AT}}", expiresAt);
-
-        } catch (IOException e) {
-            log.error("이메일 템플릿 로드 실패: {}", e.getMessage(), e);
-            throw new SystemException(
-                    SystemErrorCode.FILE_STORAGE_ERROR,
-                    "이메일 템플릿 파일을 찾을 수 없습니다"
-            );
-        }
-    }
-}
\ No newline at end of file
+}
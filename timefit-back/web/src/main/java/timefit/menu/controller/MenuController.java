@@ -8,8 +8,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import timefit.common.ResponseData;
 import timefit.common.auth.CurrentUserId;
+import timefit.common.etag.ConditionalResponses;
+import timefit.common.etag.ContentVersionService;
 import timefit.common.swagger.operation.menu.*;
 import timefit.common.swagger.requestbody.menu.*;
 import timefit.menu.dto.MenuRequestDto;
@@ -26,6 +29,8 @@ import java.util.UUID;
 public class MenuController {
 
     private final MenuService menuService;
+    private final ContentVersionService contentVersionService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMenuOperation
     @GetMapping("/{menuId}")
@@ -33,12 +38,14 @@ public class MenuController {
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
             @PathVariable UUID businessId,
             @Parameter(description = "메뉴 ID", required = true, example = "10000000-0000-0000-0000-000000000001")
-            @PathVariable UUID menuId) {
+            @PathVariable UUID menuId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("메뉴 상세 조회 요청: businessId={}, menuId={}", businessId, menuId);
 
-        MenuResponseDto.Menu response = menuService.getMenu(businessId, menuId);
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.menu(businessId, menuId),
+                () -> menuService.getMenu(businessId, menuId));
     }
 
     @GetMenuListOperation
@@ -55,15 +62,16 @@ public class MenuController {
             @Parameter(description = "최대 가격", example = "50000")
             @RequestParam(required = false) Integer maxPrice,
             @Parameter(description = "활성 상태", example = "true")
-            @RequestParam(required = false) Boolean isActive) {
+            @RequestParam(required = false) Boolean isActive,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("메뉴 목록 조회: businessId={}, filters=[name={}, category={}, price={}-{}, active={}]",
                 businessId, serviceName, businessCategoryId, minPrice, maxPrice, isActive);
 
-        MenuResponseDto.MenuList response = menuService.getMenuListWithFilters(
-                businessId, serviceName, businessCategoryId, minPrice, maxPrice, isActive);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.menuList(businessId),
+                () -> menuService.getMenuListWithFilters(
+                        businessId, serviceName, businessCategoryId, minPrice, maxPrice, isActive));
     }
 
     @CreateMenuOperation
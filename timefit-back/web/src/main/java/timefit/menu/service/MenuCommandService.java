@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.entity.Business;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.menu.dto.MenuRequestDto;
 import timefit.menu.dto.MenuResponseDto;
@@ -39,6 +40,7 @@ public class MenuCommandService {
     private final MenuEntityFactory menuEntityFactory;
     private final MenuUpdateHelper menuUpdateHelper;
     private final MenuBookingSlotHelper menuBookingSlotHelper;
+    private final BusinessPublicProfileCache publicProfileCache;
 
     /**
      * 메뉴 생성
@@ -71,6 +73,7 @@ public class MenuCommandService {
 
         // 5. Menu DB에 저장
         menuRepository.save(menu);
+        publicProfileCache.evict(businessId);
         log.info("메뉴 생성 완료: menuId={}, serviceName={}",
                 menu.getId(), menu.getServiceName());
 
@@ -109,6 +112,7 @@ public class MenuCommandService {
 
         // 4. Menu 데이터 수정
         menuUpdateHelper.updateMenuData(menu, request, businessId);
+        publicProfileCache.evict(businessId);
         log.info("메뉴 수정 완료: menuId={}", menuId);
 
         // 5. BookingSlot 재생성 위임
@@ -139,6 +143,7 @@ public class MenuCommandService {
 
         // 3. 활성 상태 토글
         menuUpdateHelper.toggleActive(menu);
+        publicProfileCache.evict(businessId);
 
         log.info("메뉴 활성상태 토글 완료: menuId={}, isActive={}",
                 menuId, menu.getIsActive());
@@ -175,6 +180,7 @@ public class MenuCommandService {
 
         // 5. CASCADE 삭제
         menuRepository.delete(menu);
+        publicProfileCache.evict(businessId);
 
         log.info("메뉴 삭제 완료: menuId={}, menuName={}", menuId, menuName);
 
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import timefit.business.entity.Business;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.menu.dto.MenuResponseDto;
 import timefit.menu.entity.Menu;
@@ -28,10 +29,15 @@ public class MenuQueryService {
     public MenuResponseDto.MenuList getMenuList(UUID businessId) {
         log.info("메뉴 목록 조회 시작: businessId={}", businessId);
 
-        businessValidator.validateBusinessExists(businessId);
-        List<Menu> menuList = menuQueryRepository.findActiveMenusByBusinessId(businessId);
+        Business business = businessValidator.validateBusinessExists(businessId);
+        return getMenuList(business);
+    }
+
+    // 메뉴 목록 조회 (존재 확인된 업체, 공개 프로필 묶음 조회용)
+    public MenuResponseDto.MenuList getMenuList(Business business) {
+        List<Menu> menuList = menuQueryRepository.findActiveMenusByBusinessId(business.getId());
 
-        log.info("메뉴 목록 조회 완료: businessId={}, count={}", businessId, menuList.size());
+        log.info("메뉴 목록 조회 완료: businessId={}, count={}", business.getId(), menuList.size());
         return MenuResponseDto.MenuList.of(menuList);
     }
 
@@ -0,0 +1,55 @@
+package timefit.notification.channel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import timefit.common.email.EmailService;
+import timefit.common.email.EmailTemplate;
+import timefit.common.email.EmailTemplateRenderer;
+import timefit.notification.service.ReminderMessage;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이메일 알림 채널
+ * - 발송 대기열(email_outbox)에 등록 → EmailOutboxDispatcher가 배치 발송
+ * - 고객 계정 이메일로 발송
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.notification.reminder.channels.email.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailReminderChannel implements ReminderChannel {
+
+    private final EmailService emailService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public int send(List<ReminderMessage> messages) {
+        int sent = 0;
+        for (ReminderMessage message : messages) {
+            if (message.customerEmail() == null || message.customerEmail().isBlank()) {
+                continue;
+            }
+
+            String subject = String.format("[Timefit] %s 예약 알림 - %s %s",
+                    message.businessName(), message.reservationDate(), message.reservationTime());
+            String htmlContent = emailTemplateRenderer.render(EmailTemplate.RESERVATION_REMINDER, Map.of(
+                    "BUSINESS_NAME", message.businessName(),
+                    "CUSTOMER_NAME", message.customerName(),
+                    "MENU_NAME", message.menuName(),
+                    "RESERVATION_DATE", message.reservationDate().toString(),
+                    "RESERVATION_TIME", message.reservationTime().toString()
+            ));
+
+            emailService.enqueueHtmlEmail(message.customerEmail(), subject, htmlContent);
+            sent++;
+        }
+        return sent;
+    }
+}
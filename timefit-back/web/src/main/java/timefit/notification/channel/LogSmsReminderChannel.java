@@ -0,0 +1,43 @@
+package timefit.notification.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import timefit.notification.service.ReminderMessage;
+
+import java.util.List;
+
+/**
+ * SMS 알림 채널 - 대체 구현 (로그 출력)
+ * - 실제 SMS 게이트웨이 연동 전까지 "timefit.notification.sms" 로거로 발송 내용을 기록
+ * - logback 설정으로 해당 로거만 별도 파일에 남길 수 있음
+ * - 게이트웨이 연동 시 ReminderChannel 구현을 추가하고 이 채널은 비활성화
+ */
+@Component
+@ConditionalOnProperty(name = "timefit.notification.reminder.channels.sms.enabled", havingValue = "true", matchIfMissing = true)
+public class LogSmsReminderChannel implements ReminderChannel {
+
+    private static final Logger smsLog = LoggerFactory.getLogger("timefit.notification.sms");
+
+    @Override
+    public String name() {
+        return "sms";
+    }
+
+    @Override
+    public int send(List<ReminderMessage> messages) {
+        int sent = 0;
+        for (ReminderMessage message : messages) {
+            if (message.customerPhone() == null || message.customerPhone().isBlank()) {
+                continue;
+            }
+
+            smsLog.info("SMS to={} text=[Timefit] {}님, {} {} {} {} 예약이 있습니다.",
+                    message.customerPhone(), message.customerName(), message.businessName(),
+                    message.reservationDate(), message.reservationTime(), message.menuName());
+            sent++;
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,33 @@
+package timefit.notification.channel;
+
+import timefit.notification.service.ReminderMessage;
+
+import java.util.List;
+
+/**
+ * 예약 알림 발송 채널 (SPI)
+ *
+ * [구현]
+ * - EmailReminderChannel: 이메일 발송 대기열(EmailService) 등록
+ * - LogSmsReminderChannel: SMS 대체 구현 (전용 로거 출력)
+ *
+ * [규칙]
+ * - 채널별 발송 기록 선점과 같은 트랜잭션 안에서 배치 단위로 호출됨
+ * - 예외를 던지면 이 채널의 선점만 롤백되고 재시도됨 (다른 채널 발송에는 영향 없음)
+ * - 연락처가 없는 메시지는 채널에서 건너뜀
+ */
+public interface ReminderChannel {
+
+    /**
+     * 채널 이름 (발송 기록 / 로그용, 20자 이내)
+     */
+    String name();
+
+    /**
+     * 알림 일괄 발송
+     *
+     * @param messages 발송할 알림
+     * @return 실제 발송(등록)한 건수
+     */
+    int send(List<ReminderMessage> messages);
+}
@@ -0,0 +1,22 @@
+package timefit.notification.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 채널로 전달되는 예약 알림 내용
+ * - 발송 직전 DB에서 다시 읽은 값 (취소 / 일정 변경 반영)
+ */
+public record ReminderMessage(
+        UUID reservationId,
+        int offsetMinutes,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        String customerName,
+        String customerPhone,
+        String customerEmail,
+        String businessName,
+        String menuName
+) {
+}
@@ -0,0 +1,32 @@
+package timefit.notification.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 발송 대기 중인 예약 알림 (타이밍 휠 항목)
+ *
+ * @param reservationId 예약 ID
+ * @param offsetMinutes 예약 시작 몇 분 전 알림인지
+ * @param reservationDate 적재 시점의 예약 날짜 (발송 직전 현재 값과 비교)
+ * @param reservationTime 적재 시점의 예약 시간
+ */
+public record ReservationReminder(
+        UUID reservationId,
+        int offsetMinutes,
+        LocalDate reservationDate,
+        LocalTime reservationTime
+) {
+
+    public static ReservationReminder of(
+            UUID reservationId, int offsetMinutes, LocalDate reservationDate, LocalTime reservationTime) {
+        return new ReservationReminder(reservationId, offsetMinutes, reservationDate, reservationTime);
+    }
+
+    // 발송 예정 시각 (예약 일시 - offsetMinutes)
+    public LocalDateTime remindAt() {
+        return LocalDateTime.of(reservationDate, reservationTime).minusMinutes(offsetMinutes);
+    }
+}
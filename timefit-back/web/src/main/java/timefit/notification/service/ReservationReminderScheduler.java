@@ -0,0 +1,230 @@
+package timefit.notification.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import timefit.common.lease.SchedulerLeaseManager;
+import timefit.notification.service.util.ReminderTimingWheel;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 알림 스케줄러 (기본: 24시간 전 / 1시간 전)
+ *
+ * [다중 노드]
+ * - DB 임대(scheduler_lease) 보유 노드 한 곳만 타이밍 휠을 운영 / 발송
+ * - 매 실행마다 임대 연장, 잃으면 휠 비우고 대기 → 다른 노드가 catch-up 구간부터 다시 적재
+ * - 인계 중 겹친 알림은 발송 기록(reservation_reminder_log)으로 중복 제외
+ *
+ * [적재]
+ * - 발송 시각 기준 앞으로 lookahead 분 구간만 휠에 적재 (예약 전체를 메모리에 두지 않음)
+ * - 구간은 이어서 조회 (status + 날짜 인덱스 범위 조회, 행 단위 폴링 없음)
+ * - 이 노드의 예약 이벤트는 바로 반영, 다른 노드의 변경은 reload 주기마다 구간을 다시 읽어 반영
+ * - 취소 / 일정 변경은 휠에서 바로 제거, 놓친 변경은 발송 직전 재확인으로 제외
+ *
+ * [발송]
+ * - 분 단위 버킷에서 발송 시각이 된 알림을 꺼내 batch-size 단위로 채널에 일괄 전달
+ * - 채널 발송이 실패한 알림은 다음 실행에서 다시 전달 (발송 시각 + catch-up 구간이 지나면 포기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.notification.reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationReminderScheduler {
+
+    private static final String LEASE_NAME = "reservation-reminder";
+
+    private final ReservationReminderService reminderService;
+    private final SchedulerLeaseManager leaseManager;
+
+    // 알림 시점 (예약 시작 몇 분 전)
+    @Value("${timefit.notification.reminder.offsets-minutes:1440,60}")
+    private List<Integer> offsetsMinutes;
+
+    // 휠에 미리 적재할 구간 (분)
+    @Value("${timefit.notification.reminder.lookahead-minutes:60}")
+    private int lookaheadMinutes;
+
+    // 임대 획득 시 지난 발송 시각을 어디까지 다시 볼지 (분, 노드 인계 공백 보정)
+    @Value("${timefit.notification.reminder.catch-up-minutes:10}")
+    private int catchUpMinutes;
+
+    // 다른 노드의 예약 변경을 반영하기 위해 구간을 다시 읽는 주기 (분)
+    @Value("${timefit.notification.reminder.reload-minutes:5}")
+    private int reloadMinutes;
+
+    // 발송 배치 당 최대 알림 수 (배치마다 채널별 트랜잭션 1회)
+    @Value("${timefit.notification.reminder.batch-size:200}")
+    private int batchSize;
+
+    // 스케줄러 임대 기간 (실행 주기보다 충분히 길게)
+    @Value("${timefit.notification.reminder.lease-seconds:120}")
+    private long leaseSeconds;
+
+    // 발송 기록 보관 일수
+    @Value("${timefit.notification.reminder.retention-days:7}")
+    private int retentionDays;
+
+    private ReminderTimingWheel wheel;
+
+    // 적재 상태 (tick / 이벤트 리스너 스레드 공유, loadLock 으로 보호)
+    private final Object loadLock = new Object();
+    private boolean active;
+    private LocalDateTime loadedUntil;
+    private LocalDateTime lastReloadAt;
+
+    // 채널 발송 실패로 다음 실행에서 다시 전달할 알림 (tick 스레드 전용)
+    private List<ReservationReminder> retries = List.of();
+
+    @PostConstruct
+    void init() {
+        offsetsMinutes = offsetsMinutes.stream().filter(offset -> offset > 0).distinct().toList();
+        // 적재 구간 + catch-up 구간 + 여유 슬롯
+        wheel = new ReminderTimingWheel(lookaheadMinutes + catchUpMinutes + 2);
+    }
+
+    @Scheduled(fixedDelayString = "${timefit.notification.reminder.tick-ms:15000}")
+    public void tick() {
+        if (!leaseManager.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseSeconds))) {
+            deactivate();
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            load(now);
+
+            List<ReservationReminder> due = new ArrayList<>(takeRetries(now));
+            due.addAll(wheel.advance(now));
+            if (!due.isEmpty()) {
+                dispatch(due);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 알림 처리 실패", e);
+        }
+    }
+
+    /**
+     * 예약 이벤트 반영 (이 노드가 휠을 운영 중일 때만)
+     * - 적재가 끝난 구간의 알림만 휠에 직접 추가, 이후 구간은 로더가 적재
+     */
+    public void onReservationChanged(ReservationChangedEvent event) {
+        synchronized (loadLock) {
+            if (!active) {
+                return;
+            }
+
+            wheel.cancel(event.reservationId());
+
+            switch (event.type()) {
+                case CREATED, CONFIRMED, RESCHEDULED -> {
+                    for (int offsetMinutes : offsetsMinutes) {
+                        ReservationReminder reminder = ReservationReminder.of(event.reservationId(), offsetMinutes,
+                                event.reservationDate(), event.reservationTime());
+                        if (reminder.remindAt().isBefore(loadedUntil)) {
+                            wheel.schedule(reminder);
+                        }
+                    }
+                }
+                case CANCELLED, COMPLETED, NO_SHOW -> {
+                    // 제거만
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 기록 삭제
+     */
+    @Scheduled(cron = "${timefit.notification.reminder.purge-cron:0 30 4 * * *}")
+    public void purgeLogs() {
+        int deleted = reminderService.purgeLogs(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("예약 알림 발송 기록 삭제: deleted={}", deleted);
+        }
+    }
+
+    // 다음 적재 구간 조회 후 휠에 추가
+    private void load(LocalDateTime now) {
+        synchronized (loadLock) {
+            if (!active) {
+                wheel.reset(now.minusMinutes(catchUpMinutes));
+                loadedUntil = wheel.cursor();
+                lastReloadAt = now;
+                active = true;
+                log.info("예약 알림 스케줄러 활성화: from={}", loadedUntil);
+            } else if (!now.isBefore(lastReloadAt.plusMinutes(reloadMinutes))) {
+                loadedUntil = wheel.cursor();
+                lastReloadAt = now;
+            }
+
+            LocalDateTime loadUntil = now.plusMinutes(lookaheadMinutes);
+            if (loadUntil.isAfter(wheel.horizon())) {
+                loadUntil = wheel.horizon();
+            }
+            if (!loadUntil.isAfter(loadedUntil)) {
+                return;
+            }
+
+            List<ReservationReminder> reminders = reminderService.findReminders(loadedUntil, loadUntil, offsetsMinutes);
+            reminders.forEach(wheel::schedule);
+            loadedUntil = loadUntil;
+
+            log.debug("예약 알림 적재: loaded={}, until={}, pending={}", reminders.size(), loadUntil, wheel.size());
+        }
+    }
+
+    private void dispatch(List<ReservationReminder> due) {
+        int sent = 0;
+        List<ReservationReminder> failed = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<ReservationReminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                ReservationReminderService.DispatchResult result = reminderService.dispatch(batch);
+                sent += result.sent();
+                failed.addAll(result.failed());
+            } catch (RuntimeException e) {
+                log.error("예약 알림 배치 발송 실패: size={}", batch.size(), e);
+                failed.addAll(batch);
+            }
+        }
+        retries = failed;
+        log.info("예약 알림 발송: due={}, sent={}, retry={}", due.size(), sent, failed.size());
+    }
+
+    // 재시도할 알림 (발송 시각 + catch-up 구간이 지난 알림은 포기)
+    private List<ReservationReminder> takeRetries(LocalDateTime now) {
+        if (retries.isEmpty()) {
+            return retries;
+        }
+
+        LocalDateTime giveUpBefore = now.minusMinutes(catchUpMinutes);
+        List<ReservationReminder> pending = retries.stream()
+                .filter(reminder -> !reminder.remindAt().isBefore(giveUpBefore))
+                .toList();
+        if (pending.size() < retries.size()) {
+            log.warn("예약 알림 재시도 포기: dropped={}", retries.size() - pending.size());
+        }
+        retries = List.of();
+        return pending;
+    }
+
+    private void deactivate() {
+        synchronized (loadLock) {
+            if (active) {
+                active = false;
+                retries = List.of();
+                wheel.reset(LocalDateTime.now());
+                log.info("예약 알림 스케줄러 비활성화 (임대 없음)");
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package timefit.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.notification.channel.ReminderChannel;
+import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationQueryRepository.ReminderTarget;
+import timefit.reservation.repository.ReservationReminderLogQueryRepository;
+import timefit.reservation.repository.ReservationReminderLogQueryRepository.ReminderLogKey;
+import timefit.reservation.repository.ReservationReminderLogRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 알림 적재 대상 조회 / 배치 발송
+ *
+ * [발송 배치]
+ * 1. 예약 현재 상태 재조회 (CONFIRMED만) → 취소 / 완료 / 노쇼 예약 제외
+ * 2. 적재 시점 일정과 현재 일정 비교 → 일정 변경된 예약 제외 (새 일정으로 다시 적재됨)
+ * 3. 채널마다 트랜잭션 1회: 채널 발송 기록 선점 (ON CONFLICT DO NOTHING) → 이번에 기록된 알림만 채널 발송
+ *    (이미 보낸 알림 / 다른 노드가 먼저 선점한 알림은 건너뜀, 배치의 나머지 알림은 그대로 발송)
+ * 4. 채널 발송 실패 시 해당 채널 트랜잭션만 롤백 (선점 취소) → 실패 알림을 돌려주어 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationReminderService {
+
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final ReservationReminderLogRepository reminderLogRepository;
+    private final ReservationReminderLogQueryRepository reminderLogQueryRepository;
+    private final List<ReminderChannel> channels;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 발송 예정 시각이 [from, to) 인 알림 조회
+     *
+     * @param from 시작 (포함)
+     * @param to 끝 (제외)
+     * @param offsetsMinutes 알림 시점 (예약 시작 몇 분 전)
+     * @return 적재할 알림
+     */
+    @Transactional(readOnly = true)
+    public List<ReservationReminder> findReminders(LocalDateTime from, LocalDateTime to, List<Integer> offsetsMinutes) {
+        List<ReservationReminder> reminders = new ArrayList<>();
+
+        // 발송 시각 구간 = 예약 일시 구간 - offset
+        for (int offsetMinutes : offsetsMinutes) {
+            reservationQueryRepository
+                    .findReminderSchedules(from.plusMinutes(offsetMinutes), to.plusMinutes(offsetMinutes))
+                    .forEach(schedule -> reminders.add(ReservationReminder.of(
+                            schedule.reservationId(), offsetMinutes,
+                            schedule.reservationDate(), schedule.reservationTime())));
+        }
+        return reminders;
+    }
+
+    /**
+     * 알림 일괄 발송
+     *
+     * @param reminders 발송 시각이 된 알림
+     * @return 발송 결과 (채널별 발송 건수 합계, 채널 발송이 실패해 재시도할 알림)
+     */
+    public DispatchResult dispatch(List<ReservationReminder> reminders) {
+        if (reminders.isEmpty()) {
+            return DispatchResult.EMPTY;
+        }
+
+        Set<UUID> reservationIds = reminders.stream()
+                .map(ReservationReminder::reservationId)
+                .collect(Collectors.toSet());
+
+        // 1. 현재 상태 / 일정
+        Map<UUID, ReminderTarget> targets = transactionTemplate.execute(status ->
+                reservationQueryRepository.findReminderTargets(reservationIds).stream()
+                        .collect(Collectors.toMap(ReminderTarget::reservationId, Function.identity())));
+
+        // 2. 발송 대상 선별 (배치 내 중복 제외)
+        Map<ReminderLogKey, Candidate> candidates = new LinkedHashMap<>();
+        for (ReservationReminder reminder : reminders) {
+            ReminderTarget target = targets.get(reminder.reservationId());
+            if (target == null
+                    || !target.reservationDate().equals(reminder.reservationDate())
+                    || !target.reservationTime().equals(reminder.reservationTime())) {
+                continue;
+            }
+            candidates.putIfAbsent(
+                    new ReminderLogKey(reminder.reservationId(), reminder.offsetMinutes(), reminder.remindAt()),
+                    new Candidate(reminder, toMessage(reminder, target)));
+        }
+
+        if (candidates.isEmpty()) {
+            return DispatchResult.EMPTY;
+        }
+
+        // 3. 채널별 선점 + 발송 (채널 하나가 실패해도 나머지 채널은 발송)
+        List<ReminderLogKey> keys = List.copyOf(candidates.keySet());
+        Map<ReminderLogKey, ReservationReminder> failed = new LinkedHashMap<>();
+        int sent = 0;
+        for (ReminderChannel channel : channels) {
+            try {
+                Integer channelSent = transactionTemplate.execute(status -> sendToChannel(channel, keys, candidates));
+                sent += channelSent == null ? 0 : channelSent;
+            } catch (RuntimeException e) {
+                // 채널 트랜잭션 롤백 → 선점 취소, 재시도 시 이 채널만 다시 발송
+                log.error("예약 알림 채널 발송 실패: channel={}, messages={}", channel.name(), keys.size(), e);
+                keys.forEach(key -> failed.putIfAbsent(key, candidates.get(key).reminder()));
+            }
+        }
+        return new DispatchResult(sent, List.copyOf(failed.values()));
+    }
+
+    /**
+     * 발송 예정 시각이 before 이전인 발송 기록 삭제
+     */
+    @Transactional
+    public int purgeLogs(LocalDateTime before) {
+        return reminderLogRepository.deleteRemindedBefore(before);
+    }
+
+    // 채널 발송 기록 선점 (이미 기록된 알림은 건너뛰고, 이번에 기록된 알림만 발송)
+    private int sendToChannel(
+            ReminderChannel channel, List<ReminderLogKey> keys, Map<ReminderLogKey, Candidate> candidates) {
+        List<ReminderMessage> messages = reminderLogQueryRepository
+                .claim(channel.name(), keys, LocalDateTime.now()).stream()
+                .map(key -> candidates.get(key).message())
+                .toList();
+
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        int sent = channel.send(messages);
+        log.debug("예약 알림 채널 발송: channel={}, claimed={}, sent={}", channel.name(), messages.size(), sent);
+        return sent;
+    }
+
+    private ReminderMessage toMessage(ReservationReminder reminder, ReminderTarget target) {
+        return new ReminderMessage(
+                target.reservationId(),
+                reminder.offsetMinutes(),
+                target.reservationDate(),
+                target.reservationTime(),
+                target.customerName(),
+                target.customerPhone(),
+                target.customerEmail(),
+                target.businessName(),
+                target.menuName()
+        );
+    }
+
+    /**
+     * 발송 결과
+     *
+     * @param sent 채널별 발송(등록) 건수 합계
+     * @param failed 채널 발송이 실패한 알림 (성공한 채널은 발송 기록으로 제외되므로 그대로 다시 전달)
+     */
+    public record DispatchResult(int sent, List<ReservationReminder> failed) {
+        static final DispatchResult EMPTY = new DispatchResult(0, List.of());
+    }
+
+    private record Candidate(ReservationReminder reminder, ReminderMessage message) {
+    }
+}
@@ -0,0 +1,29 @@
+package timefit.notification.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import timefit.notification.service.ReservationReminderScheduler;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+/**
+ * 예약 이벤트 → 알림 타이밍 휠 반영
+ * - 커밋된 변경만 반영 (AFTER_COMMIT)
+ * - CANCELLED / COMPLETED / NO_SHOW: 알림 제거
+ * - CREATED / CONFIRMED / RESCHEDULED: 기존 알림 제거 후 현재 일정으로 다시 추가
+ *   (CONFIRMED가 아닌 예약은 발송 직전 재확인에서 제외)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.notification.reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationReminderEventListener {
+
+    private final ReservationReminderScheduler reminderScheduler;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        reminderScheduler.onReservationChanged(event);
+    }
+}
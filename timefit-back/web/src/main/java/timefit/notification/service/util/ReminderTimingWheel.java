@@ -0,0 +1,167 @@
+package timefit.notification.service.util;
+
+import timefit.notification.service.ReservationReminder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 분 단위 타이밍 휠 (예약 알림 발송 대기열)
+ *
+ * [구조]
+ * - slots[발송 분 % 슬롯 수]: 해당 분에 발송할 알림 (발송 시각 기준 버킷)
+ * - byReservation: 예약 ID → (알림 시점 → 발송 분), 취소 / 일정 변경 시 슬롯을 바로 찾아 제거
+ * - cursorMinute: 다음에 꺼낼 분 (현재 분 포함), 휠 범위는 [cursorMinute, cursorMinute + 슬롯 수)
+ *
+ * [비용]
+ * - 적재 / 제거 O(1), 분마다 해당 슬롯만 꺼냄 (행 단위 폴링 없음)
+ * - 범위를 벗어난 알림은 받지 않음 → 범위에 들어올 때 로더가 다시 적재
+ *
+ * [동시성]
+ * - 진행(스케줄러) / 적재(로더) / 제거(이벤트 리스너) 스레드가 함께 사용 → 메서드 단위 동기화
+ */
+public class ReminderTimingWheel {
+
+    private final List<Map<ReminderKey, ReservationReminder>> slots;
+    private final Map<UUID, Map<Integer, Long>> byReservation = new HashMap<>();
+
+    private long cursorMinute;
+    private int size;
+
+    public ReminderTimingWheel(int slotCount) {
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 휠 비우고 시작 분 지정 (임대 획득 시)
+     */
+    public synchronized void reset(LocalDateTime start) {
+        slots.forEach(Map::clear);
+        byReservation.clear();
+        cursorMinute = epochMinute(start);
+        size = 0;
+    }
+
+    /**
+     * 알림 적재 (같은 예약 / 알림 시점이 이미 있으면 교체)
+     *
+     * @return 휠 범위 안이라 적재되었으면 true
+     */
+    public synchronized boolean schedule(ReservationReminder reminder) {
+        long minute = epochMinute(reminder.remindAt());
+        if (minute < cursorMinute || minute >= cursorMinute + slots.size()) {
+            return false;
+        }
+
+        remove(reminder.reservationId(), reminder.offsetMinutes());
+
+        slots.get(slotOf(minute)).put(new ReminderKey(reminder.reservationId(), reminder.offsetMinutes()), reminder);
+        byReservation.computeIfAbsent(reminder.reservationId(), id -> new HashMap<>(4))
+                .put(reminder.offsetMinutes(), minute);
+        size++;
+        return true;
+    }
+
+    /**
+     * 예약의 모든 알림 제거
+     */
+    public synchronized void cancel(UUID reservationId) {
+        Map<Integer, Long> scheduled = byReservation.remove(reservationId);
+        if (scheduled == null) {
+            return;
+        }
+        scheduled.forEach((offsetMinutes, minute) -> {
+            if (slots.get(slotOf(minute)).remove(new ReminderKey(reservationId, offsetMinutes)) != null) {
+                size--;
+            }
+        });
+    }
+
+    /**
+     * now 까지 발송 시각이 된 알림 꺼내기
+     *
+     * @param now 현재 시각
+     * @return 발송할 알림 (발송 분 순)
+     */
+    public synchronized List<ReservationReminder> advance(LocalDateTime now) {
+        long nowMinute = epochMinute(now);
+        List<ReservationReminder> due = new ArrayList<>();
+
+        // 한 바퀴 이상 밀렸으면 모든 슬롯이 지난 분이므로 한 바퀴만 비움
+        long until = Math.min(nowMinute, cursorMinute + slots.size() - 1);
+        for (long minute = cursorMinute; minute <= until; minute++) {
+            Map<ReminderKey, ReservationReminder> slot = slots.get(slotOf(minute));
+            for (ReservationReminder reminder : slot.values()) {
+                due.add(reminder);
+                unindex(reminder.reservationId(), reminder.offsetMinutes());
+            }
+            size -= slot.size();
+            slot.clear();
+        }
+
+        // 현재 분 버킷은 분이 끝날 때까지 열어 둠 (같은 분에 추가된 알림도 다음 진행에서 발송)
+        cursorMinute = Math.max(cursorMinute, nowMinute);
+        return due;
+    }
+
+    /**
+     * 휠 범위 시작 (포함, 아직 꺼내지 않은 첫 분)
+     */
+    public synchronized LocalDateTime cursor() {
+        return toDateTime(cursorMinute);
+    }
+
+    /**
+     * 휠 범위 끝 (제외)
+     */
+    public synchronized LocalDateTime horizon() {
+        return toDateTime(cursorMinute + slots.size());
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void remove(UUID reservationId, int offsetMinutes) {
+        Long minute = unindex(reservationId, offsetMinutes);
+        if (minute != null && slots.get(slotOf(minute)).remove(new ReminderKey(reservationId, offsetMinutes)) != null) {
+            size--;
+        }
+    }
+
+    private Long unindex(UUID reservationId, int offsetMinutes) {
+        Map<Integer, Long> scheduled = byReservation.get(reservationId);
+        if (scheduled == null) {
+            return null;
+        }
+        Long minute = scheduled.remove(offsetMinutes);
+        if (scheduled.isEmpty()) {
+            byReservation.remove(reservationId);
+        }
+        return minute;
+    }
+
+    private int slotOf(long minute) {
+        return (int) Math.floorMod(minute, (long) slots.size());
+    }
+
+    // 휠 내부 시각은 벽시계(LocalDateTime) 기준 분 번호로만 사용
+    private static long epochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private record ReminderKey(UUID reservationId, int offsetMinutes) {
+    }
+}
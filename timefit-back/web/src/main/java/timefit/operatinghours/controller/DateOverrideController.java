@@ -0,0 +1,107 @@
+package timefit.operatinghours.controller;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import timefit.common.ResponseData;
+import timefit.common.auth.CurrentUserId;
+import timefit.common.swagger.operation.operatinghours.*;
+import timefit.common.swagger.requestbody.operatinghours.*;
+import timefit.operatinghours.dto.OperatingHoursRequestDto;
+import timefit.operatinghours.dto.OperatingHoursResponseDto;
+import timefit.operatinghours.service.OperatingHoursService;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 날짜별 영업 예외 (공휴일 휴무, 단축 영업)
+ * - 요일별 영업시간보다 우선 적용
+ * - 기존 예약은 유지, 신규 예약만 차단 (BH-04-v2 정책과 동일)
+ */
+@Tag(name = "03. 영업시간 관리", description = "업체의 영업시간 및 예약 가능 시간대 관리 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/business")
+@RequiredArgsConstructor
+public class DateOverrideController {
+
+    private final OperatingHoursService operatingHoursService;
+
+    @GetDateOverridesOperation
+    @GetMapping("/{businessId}/operating-hours/date-overrides")
+    public ResponseEntity<ResponseData<OperatingHoursResponseDto.DateOverrideList>> getDateOverrides(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(description = "조회 시작 날짜 (미지정 시 오늘)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료 날짜 (미지정 시 시작 날짜 + 365일)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("날짜별 영업 예외 조회 요청: businessId={}, startDate={}, endDate={}",
+                businessId, startDate, endDate);
+
+        OperatingHoursResponseDto.DateOverrideList response =
+                operatingHoursService.getDateOverrides(businessId, startDate, endDate);
+
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+
+    @SetDateOverridesOperation
+    @PutMapping("/{businessId}/operating-hours/date-overrides")
+    public ResponseEntity<ResponseData<OperatingHoursResponseDto.DateOverrideList>> setDateOverrides(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @SetDateOverridesRequestBody
+            @Valid @RequestBody OperatingHoursRequestDto.SetDateOverrides request,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID currentUserId) {
+
+        log.info("날짜별 영업 예외 설정 요청: businessId={}, count={}, userId={}",
+                businessId, request.overrides().size(), currentUserId);
+
+        OperatingHoursResponseDto.DateOverrideList response =
+                operatingHoursService.setDateOverrides(businessId, request, currentUserId);
+
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+
+    @DeleteDateOverrideOperation
+    @DeleteMapping("/{businessId}/operating-hours/date-overrides/{date}")
+    public ResponseEntity<ResponseData<Void>> deleteDateOverride(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @Parameter(description = "삭제할 날짜", required = true, example = "2025-01-29")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID currentUserId) {
+
+        log.info("날짜별 영업 예외 삭제 요청: businessId={}, date={}, userId={}", businessId, date, currentUserId);
+
+        operatingHoursService.deleteDateOverride(businessId, date, currentUserId);
+
+        return ResponseEntity.ok(ResponseData.of(null));
+    }
+
+    @BulkImportDateOverridesOperation
+    @PostMapping("/operating-hours/date-overrides/bulk")
+    public ResponseEntity<ResponseData<OperatingHoursResponseDto.BulkDateOverrideResult>> bulkImportDateOverrides(
+            @BulkImportDateOverridesRequestBody
+            @Valid @RequestBody OperatingHoursRequestDto.BulkDateOverrides request,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID currentUserId) {
+
+        log.info("날짜별 영업 예외 일괄 등록 요청: businesses={}, dates={}, userId={}",
+                request.businessIds().size(), request.overrides().size(), currentUserId);
+
+        OperatingHoursResponseDto.BulkDateOverrideResult response =
+                operatingHoursService.bulkImportDateOverrides(request, currentUserId);
+
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+}
@@ -9,8 +9,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import timefit.common.ResponseData;
 import timefit.common.auth.CurrentUserId;
+import timefit.common.etag.ConditionalResponses;
+import timefit.common.etag.ContentVersionService;
 import timefit.common.swagger.operation.operatinghours.*;
 import timefit.common.swagger.requestbody.operatinghours.*;
 import timefit.operatinghours.dto.OperatingHoursRequestDto;
@@ -27,19 +30,21 @@ import java.util.UUID;
 public class OperatingHoursController {
 
     private final OperatingHoursService operatingHoursService;
+    private final ContentVersionService contentVersionService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetOperatingHoursOperation
     @GetMapping
     public ResponseEntity<ResponseData<OperatingHoursResponseDto.OperatingHours>> getOperatingHours(
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
-            @PathVariable UUID businessId) {
+            @PathVariable UUID businessId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("영업시간 조회 요청: businessId={}", businessId);
 
-        OperatingHoursResponseDto.OperatingHours response =
-                operatingHoursService.getOperatingHours(businessId);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.operatingHours(businessId),
+                () -> operatingHoursService.getOperatingHours(businessId));
     }
 
     @SetOperatingHoursOperation
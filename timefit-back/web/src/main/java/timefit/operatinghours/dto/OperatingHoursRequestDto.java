@@ -1,12 +1,15 @@
 package timefit.operatinghours.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Schema(description = "영업시간 관리 요청")
 public class OperatingHoursRequestDto {
@@ -85,4 +88,78 @@ public class OperatingHoursRequestDto {
             @NotNull(message = "종료 시간은 필수입니다")
             String endTime
     ) {}
-}
\ No newline at end of file
+
+    // 날짜별 영업 예외 설정 (해당 날짜들의 기존 예외는 교체)
+    @Schema(description = "날짜별 영업 예외 설정 요청")
+    public record SetDateOverrides(
+            @Schema(
+                    description = "날짜별 영업 예외 목록 (최대 366건)",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "영업 예외 목록은 필수입니다")
+            @Size(min = 1, max = 366, message = "영업 예외는 1건 이상 366건 이하로 요청해야 합니다")
+            List<@Valid DateOverride> overrides
+    ) {}
+
+    // 여러 업체 날짜별 영업 예외 일괄 등록 (공휴일 일괄 반영 등)
+    @Schema(description = "날짜별 영업 예외 일괄 등록 요청")
+    public record BulkDateOverrides(
+            @Schema(
+                    description = "대상 업체 ID 목록 (최대 500개)",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "업체 ID 목록은 필수입니다")
+            @Size(min = 1, max = 500, message = "업체는 1개 이상 500개 이하로 요청해야 합니다")
+            List<UUID> businessIds,
+
+            @Schema(
+                    description = "모든 대상 업체에 적용할 날짜별 영업 예외 목록 (최대 366건)",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "영업 예외 목록은 필수입니다")
+            @Size(min = 1, max = 366, message = "영업 예외는 1건 이상 366건 이하로 요청해야 합니다")
+            List<@Valid DateOverride> overrides
+    ) {}
+
+    // 날짜별 영업 예외
+    @Schema(description = "날짜별 영업 예외 (휴무 / 단축 영업)")
+    public record DateOverride(
+            @Schema(
+                    description = "적용 날짜",
+                    example = "2025-01-29",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "적용 날짜는 필수입니다")
+            LocalDate date,
+
+            @Schema(
+                    description = "휴무 여부 (true: 전체 휴무, false: 단축 영업)",
+                    example = "true",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "휴무 여부는 필수입니다")
+            Boolean isClosed,
+
+            @Schema(
+                    description = "영업 시작 시간 (HH:mm 형식). 단축 영업인 경우 필수",
+                    example = "10:00",
+                    nullable = true
+            )
+            String openTime,
+
+            @Schema(
+                    description = "영업 종료 시간 (HH:mm 형식). 단축 영업인 경우 필수",
+                    example = "15:00",
+                    nullable = true
+            )
+            String closeTime,
+
+            @Schema(
+                    description = "사유 (최대 100자)",
+                    example = "설날",
+                    nullable = true
+            )
+            @Size(max = 100, message = "사유는 100자 이하여야 합니다")
+            String reason
+    ) {}
+}
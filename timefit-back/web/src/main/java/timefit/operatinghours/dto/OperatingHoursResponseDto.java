@@ -2,6 +2,7 @@ package timefit.operatinghours.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -84,4 +85,66 @@ public class OperatingHoursResponseDto {
             @Schema(description = "이 시간대 휴무 여부", example = "false")
             Boolean isClosed
     ) {}
-}
\ No newline at end of file
+
+    // 날짜별 영업 예외 조회 결과
+    @Schema(description = "날짜별 영업 예외 목록")
+    public record DateOverrideList(
+            @Schema(
+                    description = "업체 ID",
+                    example = "30000000-0000-0000-0000-000000000001"
+            )
+            UUID businessId,
+
+            @Schema(description = "조회 시작 날짜", example = "2025-01-01")
+            LocalDate startDate,
+
+            @Schema(description = "조회 종료 날짜", example = "2025-12-31")
+            LocalDate endDate,
+
+            @Schema(description = "날짜별 영업 예외 목록 (날짜순)")
+            List<DateOverride> overrides
+    ) {}
+
+    // 날짜별 영업 예외
+    @Schema(description = "날짜별 영업 예외 (휴무 / 단축 영업)")
+    public record DateOverride(
+            @Schema(description = "적용 날짜", example = "2025-01-29")
+            LocalDate date,
+
+            @Schema(description = "휴무 여부", example = "false")
+            Boolean isClosed,
+
+            @Schema(
+                    description = "영업 시작 시간 (HH:mm)",
+                    example = "10:00",
+                    nullable = true
+            )
+            String openTime,
+
+            @Schema(
+                    description = "영업 종료 시간 (HH:mm)",
+                    example = "15:00",
+                    nullable = true
+            )
+            String closeTime,
+
+            @Schema(description = "사유", example = "설날", nullable = true)
+            String reason
+    ) {}
+
+    // 날짜별 영업 예외 일괄 등록 결과
+    @Schema(description = "날짜별 영업 예외 일괄 등록 결과")
+    public record BulkDateOverrideResult(
+            @Schema(description = "대상 업체 수", example = "120")
+            int businessCount,
+
+            @Schema(description = "업체당 적용 날짜 수", example = "15")
+            int dateCount,
+
+            @Schema(description = "교체된 기존 예외 수", example = "30")
+            int replacedCount,
+
+            @Schema(description = "저장된 예외 수 (업체 수 × 날짜 수)", example = "1800")
+            int savedCount
+    ) {}
+}
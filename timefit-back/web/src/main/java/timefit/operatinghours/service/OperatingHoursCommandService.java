@@ -2,22 +2,33 @@ package timefit.operatinghours.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.entity.Business;
+import timefit.business.entity.BusinessDateOverride;
 import timefit.business.entity.BusinessHours;
 import timefit.business.entity.OperatingHours;
+import timefit.booking.service.util.BookingSlotAvailabilityCache;
+import timefit.business.repository.BusinessDateOverrideRepository;
 import timefit.business.repository.BusinessHoursRepository;
 import timefit.business.repository.OperatingHoursRepository;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.common.entity.DayOfWeek;
+import timefit.exception.business.BusinessErrorCode;
+import timefit.exception.business.BusinessException;
 import timefit.operatinghours.dto.OperatingHoursRequestDto;
 import timefit.operatinghours.dto.OperatingHoursResponseDto;
 import timefit.operatinghours.service.helper.BusinessHoursHelper;
+import timefit.operatinghours.service.helper.DateOverrideHelper;
 import timefit.operatinghours.service.helper.OperatingHoursHelper;
+import timefit.operatinghours.service.schedule.WeeklyScheduleCache;
 import timefit.operatinghours.service.util.OperatingHoursResponseGenerator;
 import timefit.operatinghours.service.validator.OperatingHoursValidator;
 
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,6 +53,7 @@ public class OperatingHoursCommandService {
     // Repository
     private final BusinessHoursRepository businessHoursRepository;
     private final OperatingHoursRepository operatingHoursRepository;
+    private final BusinessDateOverrideRepository dateOverrideRepository;
 
     // Validator
     private final BusinessValidator businessValidator;
@@ -50,9 +62,17 @@ public class OperatingHoursCommandService {
     // Helper
     private final BusinessHoursHelper businessHoursHelper;
     private final OperatingHoursHelper operatingHoursHelper;
+    private final DateOverrideHelper dateOverrideHelper;
 
     // Util
     private final OperatingHoursResponseGenerator responseGenerator;
+    private final BusinessPublicProfileCache publicProfileCache;
+    private final WeeklyScheduleCache weeklyScheduleCache;
+    private final BookingSlotAvailabilityCache availabilityCache;
+
+    // 일괄 등록 1회당 저장 가능한 최대 예외 수 (업체 수 × 날짜 수)
+    @Value("${timefit.business.date-override.max-rows-per-import:20000}")
+    private int maxRowsPerImport;
 
     /**
      * 영업시간 설정 (BusinessHours + OperatingHours 통합)
@@ -89,6 +109,8 @@ public class OperatingHoursCommandService {
         // 4. OperatingHours 재생성 (Helper + OH-05-v2)
         List<OperatingHours> newOperatingHours =
                 operatingHoursHelper.recreateOperatingHours(business, request);
+        publicProfileCache.evict(businessId);
+        weeklyScheduleCache.invalidate(businessId);
 
         log.info("영업시간 설정 완료: businessId={}, businessHours={}, operatingHours={}",
                 businessId, updatedBusinessHours.size(), newOperatingHours.size());
@@ -130,6 +152,8 @@ public class OperatingHoursCommandService {
 
         // 3. OperatingHours 삭제 (디폴트는 예약 시간대 없음)
         operatingHoursRepository.deleteByBusinessId(businessId);
+        publicProfileCache.evict(businessId);
+        weeklyScheduleCache.invalidate(businessId);
 
         log.info("영업시간 리셋 완료: businessId={}, 디폴트 설정 적용", businessId);
 
@@ -178,6 +202,8 @@ public class OperatingHoursCommandService {
 
         // 3. OperatingHours 토글 (Helper)
         operatingHoursHelper.toggleOperatingHoursForDay(businessId, day);
+        publicProfileCache.evict(businessId);
+        weeklyScheduleCache.invalidate(businessId);
 
         log.info("요일 전체 휴무 토글 완료: businessId={}, dayOfWeek={}",
                 businessId, dayOfWeek);
@@ -196,4 +222,147 @@ public class OperatingHoursCommandService {
                 operatingHours
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 날짜별 영업 예외 설정 (요청 날짜의 기존 예외는 교체)
+     *
+     * BH-04-v2 정책과 동일: 휴무 / 단축 영업으로 바뀌어도 기존 예약은 유지, 신규 예약만 차단
+     *
+     * 1. 권한 검증
+     * 2. Request 검증 (Validator)
+     * 3. 기존 예외 교체 (Helper)
+     * 4. 스케줄 / 예약 가능 현황 캐시 무효화
+     * 5. 요청 기간 조회 결과 Response
+     *
+     * @param businessId 업체 ID
+     * @param request 날짜별 영업 예외 설정 요청
+     * @param currentUserId 현재 사용자 ID
+     * @return 요청 날짜 범위의 영업 예외 목록
+     */
+    public OperatingHoursResponseDto.DateOverrideList setDateOverrides(
+            UUID businessId,
+            OperatingHoursRequestDto.SetDateOverrides request,
+            UUID currentUserId) {
+
+        log.info("날짜별 영업 예외 설정 시작: businessId={}, count={}", businessId, request.overrides().size());
+
+        // 1. 권한 검증
+        Business business = businessValidator.validateBusinessAccess(currentUserId, businessId);
+
+        // 2. Request 검증
+        validator.validateDateOverrides(request.overrides(), LocalDate.now());
+
+        // 3. 기존 예외 교체
+        DateOverrideHelper.ReplaceResult result =
+                dateOverrideHelper.replaceOverrides(List.of(business), request.overrides());
+
+        // 4. 캐시 무효화
+        invalidateSchedules(businessId);
+
+        log.info("날짜별 영업 예외 설정 완료: businessId={}, replaced={}, saved={}",
+                businessId, result.deleted(), result.saved());
+
+        // 5. Response 생성
+        LocalDate startDate = request.overrides().stream()
+                .map(OperatingHoursRequestDto.DateOverride::date)
+                .min(LocalDate::compareTo)
+                .orElseThrow();
+        LocalDate endDate = request.overrides().stream()
+                .map(OperatingHoursRequestDto.DateOverride::date)
+                .max(LocalDate::compareTo)
+                .orElseThrow();
+
+        List<BusinessDateOverride> overrides = dateOverrideRepository
+                .findByBusinessIdAndOverrideDateBetweenOrderByOverrideDateAsc(businessId, startDate, endDate);
+
+        return responseGenerator.generateDateOverrideList(businessId, startDate, endDate, overrides);
+    }
+
+    /**
+     * 특정 날짜 영업 예외 삭제 (요일별 영업시간으로 복귀)
+     *
+     * @param businessId 업체 ID
+     * @param date 삭제할 날짜
+     * @param currentUserId 현재 사용자 ID
+     */
+    public void deleteDateOverride(UUID businessId, LocalDate date, UUID currentUserId) {
+
+        log.info("날짜별 영업 예외 삭제 시작: businessId={}, date={}", businessId, date);
+
+        // 1. 권한 검증
+        businessValidator.validateBusinessAccess(currentUserId, businessId);
+
+        // 2. 조회 및 삭제
+        BusinessDateOverride override = dateOverrideRepository
+                .findByBusinessIdAndOverrideDate(businessId, date)
+                .orElseThrow(() -> new BusinessException(BusinessErrorCode.DATE_OVERRIDE_NOT_FOUND));
+        dateOverrideRepository.delete(override);
+
+        // 3. 캐시 무효화
+        invalidateSchedules(businessId);
+
+        log.info("날짜별 영업 예외 삭제 완료: businessId={}, date={}", businessId, date);
+    }
+
+    /**
+     * 여러 업체 날짜별 영업 예외 일괄 등록 (공휴일 일괄 반영 등)
+     *
+     * - 업체별 OWNER / MANAGER 권한 필요 (권한 없는 업체가 하나라도 있으면 전체 거부)
+     * - 업체 수 × 날짜 수가 max-rows-per-import 이하
+     * - 기존 예외 삭제 1번 + batch insert, 단일 트랜잭션 (All or Nothing)
+     *
+     * @param request 일괄 등록 요청
+     * @param currentUserId 현재 사용자 ID
+     * @return 일괄 등록 결과
+     */
+    public OperatingHoursResponseDto.BulkDateOverrideResult bulkImportDateOverrides(
+            OperatingHoursRequestDto.BulkDateOverrides request,
+            UUID currentUserId) {
+
+        List<UUID> businessIds = List.copyOf(new LinkedHashSet<>(request.businessIds()));
+        int dateCount = request.overrides().size();
+
+        log.info("날짜별 영업 예외 일괄 등록 시작: businesses={}, dates={}, userId={}",
+                businessIds.size(), dateCount, currentUserId);
+
+        // 1. 건수 제한
+        long rows = (long) businessIds.size() * dateCount;
+        if (rows > maxRowsPerImport) {
+            throw new BusinessException(
+                    BusinessErrorCode.DATE_OVERRIDE_IMPORT_LIMIT_EXCEEDED,
+                    String.format("일괄 등록 건수(%d)가 최대 허용치(%d)를 초과합니다.", rows, maxRowsPerImport)
+            );
+        }
+
+        // 2. Request 검증
+        validator.validateDateOverrides(request.overrides(), LocalDate.now());
+
+        // 3. 업체별 권한 검증 (캐시)
+        List<Business> businesses = businessIds.stream()
+                .map(businessId -> businessValidator.validateBusinessAccess(currentUserId, businessId))
+                .toList();
+
+        // 4. 기존 예외 교체
+        DateOverrideHelper.ReplaceResult result =
+                dateOverrideHelper.replaceOverrides(businesses, request.overrides());
+
+        // 5. 캐시 무효화
+        businessIds.forEach(this::invalidateSchedules);
+
+        log.info("날짜별 영업 예외 일괄 등록 완료: businesses={}, dates={}, replaced={}, saved={}",
+                businessIds.size(), dateCount, result.deleted(), result.saved());
+
+        return new OperatingHoursResponseDto.BulkDateOverrideResult(
+                businessIds.size(),
+                dateCount,
+                result.deleted(),
+                result.saved()
+        );
+    }
+
+    // 업체 주간 스케줄 + 날짜별 예약 가능 현황 캐시 무효화
+    private void invalidateSchedules(UUID businessId) {
+        weeklyScheduleCache.invalidate(businessId);
+        availabilityCache.evictBusiness(businessId);
+    }
+}
@@ -7,12 +7,18 @@ import org.springframework.transaction.annotation.Transactional;
 import timefit.business.entity.Business;
 import timefit.business.entity.BusinessHours;
 import timefit.business.entity.OperatingHours;
+import timefit.business.entity.BusinessDateOverride;
+import timefit.business.repository.BusinessDateOverrideRepository;
 import timefit.business.repository.BusinessHoursRepository;
 import timefit.business.repository.OperatingHoursRepository;
 import timefit.business.service.validator.BusinessValidator;
+import timefit.exception.business.BusinessErrorCode;
+import timefit.exception.business.BusinessException;
 import timefit.operatinghours.dto.OperatingHoursResponseDto;
 import timefit.operatinghours.service.util.OperatingHoursResponseGenerator;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,8 +28,12 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class OperatingHoursQueryService {
 
+    // 날짜별 영업 예외 조회 최대 기간 (일)
+    private static final int MAX_DATE_OVERRIDE_RANGE_DAYS = 366;
+
     private final BusinessHoursRepository businessHoursRepository;
     private final OperatingHoursRepository operatingHoursRepository;
+    private final BusinessDateOverrideRepository dateOverrideRepository;
     private final BusinessValidator businessValidator;
     private final OperatingHoursResponseGenerator responseGenerator;
 
@@ -37,6 +47,15 @@ public class OperatingHoursQueryService {
         // 1. Business 조회
         Business business = businessValidator.validateBusinessExists(businessId);
 
+        return getOperatingHours(business);
+    }
+
+    /**
+     * 영업시간 조회 (존재 확인된 업체, 공개 프로필 묶음 조회용)
+     */
+    public OperatingHoursResponseDto.OperatingHours getOperatingHours(Business business) {
+        UUID businessId = business.getId();
+
         // 2. BusinessHours 조회
         List<BusinessHours> businessHours =
                 businessHoursRepository.findByBusinessIdOrderByDayOfWeekAsc(businessId);
@@ -56,4 +75,36 @@ public class OperatingHoursQueryService {
                 operatingHours
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 날짜별 영업 예외 조회
+     * - startDate 미지정: 오늘부터
+     * - endDate 미지정: startDate + 365일까지
+     * - 최대 조회 기간 366일
+     */
+    public OperatingHoursResponseDto.DateOverrideList getDateOverrides(
+            UUID businessId,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        LocalDate start = startDate != null ? startDate : LocalDate.now();
+        LocalDate end = endDate != null ? endDate : start.plusDays(MAX_DATE_OVERRIDE_RANGE_DAYS - 1);
+
+        if (end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= MAX_DATE_OVERRIDE_RANGE_DAYS) {
+            throw new BusinessException(
+                    BusinessErrorCode.INVALID_DATE_OVERRIDE_RANGE,
+                    String.format("조회 기간(%s ~ %s)은 시작 날짜부터 %d일 이내여야 합니다.", start, end, MAX_DATE_OVERRIDE_RANGE_DAYS)
+            );
+        }
+
+        businessValidator.validateBusinessExists(businessId);
+
+        List<BusinessDateOverride> overrides = dateOverrideRepository
+                .findByBusinessIdAndOverrideDateBetweenOrderByOverrideDateAsc(businessId, start, end);
+
+        log.info("날짜별 영업 예외 조회 완료: businessId={}, startDate={}, endDate={}, count={}",
+                businessId, start, end, overrides.size());
+
+        return responseGenerator.generateDateOverrideList(businessId, start, end, overrides);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import timefit.operatinghours.dto.OperatingHoursRequestDto;
 import timefit.operatinghours.dto.OperatingHoursResponseDto;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Service
@@ -49,4 +50,38 @@ public class OperatingHoursService {
 
         return commandService.resetToDefault(businessId, currentUserId);
     }
-}
\ No newline at end of file
+
+    // 날짜별 영업 예외 조회
+    public OperatingHoursResponseDto.DateOverrideList getDateOverrides(
+            UUID businessId,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        return queryService.getDateOverrides(businessId, startDate, endDate);
+    }
+
+    // 날짜별 영업 예외 설정
+    @Transactional
+    public OperatingHoursResponseDto.DateOverrideList setDateOverrides(
+            UUID businessId,
+            OperatingHoursRequestDto.SetDateOverrides request,
+            UUID currentUserId) {
+
+        return commandService.setDateOverrides(businessId, request, currentUserId);
+    }
+
+    // 특정 날짜 영업 예외 삭제
+    @Transactional
+    public void deleteDateOverride(UUID businessId, LocalDate date, UUID currentUserId) {
+        commandService.deleteDateOverride(businessId, date, currentUserId);
+    }
+
+    // 여러 업체 날짜별 영업 예외 일괄 등록
+    @Transactional
+    public OperatingHoursResponseDto.BulkDateOverrideResult bulkImportDateOverrides(
+            OperatingHoursRequestDto.BulkDateOverrides request,
+            UUID currentUserId) {
+
+        return commandService.bulkImportDateOverrides(request, currentUserId);
+    }
+}
@@ -0,0 +1,115 @@
+package timefit.operatinghours.service.helper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessDateOverride;
+import timefit.business.repository.BusinessDateOverrideRepository;
+import timefit.operatinghours.dto.OperatingHoursRequestDto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 날짜별 영업 예외(BusinessDateOverride) 저장 Helper
+ * - 여러 업체 × 여러 날짜 예외 교체 (기존 값 삭제 → batch insert)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DateOverrideHelper {
+
+    // 청크 크기 (hibernate.jdbc.batch_size와 동일)
+    private static final int WRITE_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final BusinessDateOverrideRepository dateOverrideRepository;
+
+    /**
+     * 날짜별 영업 예외 교체
+     * [처리 흐름]
+     * 1. 대상 업체 × 대상 날짜의 기존 예외를 DELETE 1번으로 삭제
+     * 2. 업체 × 날짜 예외 엔티티를 WRITE_CHUNK_SIZE 단위로 저장 → flush → 분리
+     * - 호출 트랜잭션 안에서 실행 → 실패 시 전체 롤백 (All or Nothing)
+     *
+     * @param businesses 대상 업체 (참조만 사용)
+     * @param overrides 검증된 날짜별 영업 예외 목록
+     * @return 삭제된 기존 예외 수, 저장된 예외 수
+     */
+    public ReplaceResult replaceOverrides(List<Business> businesses,
+                                          List<OperatingHoursRequestDto.DateOverride> overrides) {
+
+        List<UUID> businessIds = businesses.stream().map(Business::getId).toList();
+        List<LocalDate> dates = overrides.stream().map(OperatingHoursRequestDto.DateOverride::date).toList();
+
+        // 1. 기존 예외 삭제
+        int deleted = dateOverrideRepository.deleteByBusinessIdsAndDates(businessIds, dates);
+
+        // 2. 청크 단위 저장
+        List<BusinessDateOverride> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        int saved = 0;
+
+        for (Business business : businesses) {
+            for (OperatingHoursRequestDto.DateOverride override : overrides) {
+                chunk.add(toEntity(business, override));
+                if (chunk.size() == WRITE_CHUNK_SIZE) {
+                    saved += writeChunk(chunk);
+                }
+            }
+        }
+        saved += writeChunk(chunk);
+
+        log.debug("날짜별 영업 예외 교체: businesses={}, dates={}, deleted={}, saved={}",
+                businesses.size(), dates.size(), deleted, saved);
+
+        return new ReplaceResult(deleted, saved);
+    }
+
+    private BusinessDateOverride toEntity(Business business, OperatingHoursRequestDto.DateOverride override) {
+        if (Boolean.TRUE.equals(override.isClosed())) {
+            return BusinessDateOverride.createClosedDay(business, override.date(), override.reason());
+        }
+        return BusinessDateOverride.createSpecialHours(
+                business,
+                override.date(),
+                LocalTime.parse(override.openTime()),
+                LocalTime.parse(override.closeTime()),
+                override.reason()
+        );
+    }
+
+    /**
+     * 청크 저장
+     * - saveAll → flush (hibernate.jdbc.batch_size 단위 batch insert)
+     * - 저장된 엔티티 detach → 영속성 컨텍스트 크기 일정
+     *
+     * @param chunk 저장할 예외 (저장 후 비움)
+     * @return 저장 건수
+     */
+    private int writeChunk(List<BusinessDateOverride> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        dateOverrideRepository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(entityManager::detach);
+
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    /**
+     * 교체 결과
+     *
+     * @param deleted 삭제된 기존 예외 수
+     * @param saved 저장된 예외 수
+     */
+    public record ReplaceResult(int deleted, int saved) {}
+}
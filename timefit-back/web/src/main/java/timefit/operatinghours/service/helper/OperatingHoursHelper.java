@@ -8,9 +8,13 @@ import timefit.business.entity.OperatingHours;
 import timefit.business.repository.OperatingHoursRepository;
 import timefit.common.entity.DayOfWeek;
 import timefit.operatinghours.dto.OperatingHoursRequestDto;
+import timefit.operatinghours.service.schedule.DayWindows;
+import timefit.operatinghours.service.schedule.WeeklySchedule;
 import timefit.operatinghours.service.util.OperatingHoursConverter;
 import timefit.operatinghours.service.validator.OperatingHoursReservationValidator;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -34,7 +38,9 @@ public class OperatingHoursHelper {
      * 개수가 가변적이므로 DELETE + INSERT 방식 사용
      *
      * 미래 예약 보호 검증 추가
-     * - 각 요일별로 bookingTimeRanges가 있으면 미래 예약 확인
+     * - bookingTimeRanges가 있는 요일의 미래 예약 확인 (변경 요일 전체 1번의 집계 조회)
+     * - 현재 예약 가능 구간과 같은 요일은 검증 생략 (변경 없음)
+     *   비교 기준은 이 트랜잭션에서 읽은 OperatingHours (캐시된 스케줄은 다른 노드 변경이 늦게 반영될 수 있음)
      * - 진행 중인 예약이 있으면 Exception
      *
      * CommandService의 private recreateOperatingHours() 로직 이동
@@ -52,21 +58,26 @@ public class OperatingHoursHelper {
 
         // 미래 예약 보호 검증
         // deleteByBusinessId() 실행 전에 검증해야 함!
+        List<OperatingHours> currentOperatingHours =
+                operatingHoursRepository.findByBusinessIdOrderByDayOfWeekAscSequenceAsc(business.getId());
+        WeeklySchedule current = WeeklySchedule.compile(
+                business.getId(), 0L, List.of(), currentOperatingHours, LocalDate.now(), List.of());
+        List<DayOfWeek> changedDays = new ArrayList<>();
         for (OperatingHoursRequestDto.DaySchedule schedule : request.schedules()) {
             DayOfWeek dayOfWeek = DayOfWeek.fromValue(schedule.dayOfWeek());
 
-            // 예약 가능 시간대가 있는 경우만 검증
+            // 예약 가능 시간대가 있고 기존과 달라지는 경우만 검증
             if (schedule.bookingTimeRanges() != null &&
-                    !schedule.bookingTimeRanges().isEmpty()) {
-
-                log.debug("미래 예약 검증 실행: dayOfWeek={}", dayOfWeek);
-                reservationValidator.validateNoFutureReservations(
-                        business.getId(),
-                        dayOfWeek
-                );
+                    !schedule.bookingTimeRanges().isEmpty() &&
+                    !current.bookingWindows(dayOfWeek).equals(toWindows(schedule.bookingTimeRanges()))) {
+                changedDays.add(dayOfWeek);
             }
         }
 
+        // 변경 요일 전체를 1번의 집계 조회로 검증
+        log.debug("미래 예약 검증 실행: days={}", changedDays);
+        reservationValidator.validateNoFutureReservationsForDays(business.getId(), changedDays);
+
         log.debug("미래 예약 검증 통과: 모든 요일 예약 없음");
 
         // 1. 기존 데이터 삭제
@@ -129,4 +140,15 @@ public class OperatingHoursHelper {
 
         log.debug("OperatingHours 토글 완료: count={}", operatingHoursList.size());
     }
-}
\ No newline at end of file
+
+    // 요청 시간대 → 하루치 구간 (주간 스케줄과 비교용)
+    private DayWindows toWindows(List<OperatingHoursRequestDto.TimeRange> ranges) {
+        int[] bounds = new int[ranges.size() * 2];
+        int i = 0;
+        for (OperatingHoursRequestDto.TimeRange range : ranges) {
+            bounds[i++] = DayWindows.toMinute(LocalTime.parse(range.startTime()));
+            bounds[i++] = DayWindows.toMinute(LocalTime.parse(range.endTime()));
+        }
+        return DayWindows.of(bounds);
+    }
+}
@@ -0,0 +1,149 @@
+package timefit.operatinghours.service.schedule;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 하루치 시간 구간 목록 (불변)
+ *
+ * [구조]
+ * - bounds: [시작 분, 끝 분) 쌍을 이어 붙인 배열 (자정 기준 분, 입력 순서 유지)
+ * - minuteBits: 하루 1440분 비트셋 (구간에 포함된 분이면 1) → 특정 분 포함 여부 O(1)
+ *
+ * [규칙]
+ * - 끝이 시작보다 이르거나 같은 구간(자정 넘김 등)은 제외 (슬롯 계획과 동일)
+ * - 구간은 병합하지 않음 → "시간대가 어느 한 구간 안에 완전히 포함되는지" 판단 유지
+ */
+public final class DayWindows {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final DayWindows EMPTY = new DayWindows(new int[0]);
+
+    private final int[] bounds;
+    private final long[] minuteBits;
+    private final int hash;
+
+    private DayWindows(int[] bounds) {
+        this.bounds = bounds;
+        this.hash = Arrays.hashCode(bounds);
+        this.minuteBits = new long[(MINUTES_PER_DAY + 63) / 64];
+        for (int i = 0; i < bounds.length; i += 2) {
+            for (int minute = bounds[i]; minute < bounds[i + 1]; minute++) {
+                minuteBits[minute >>> 6] |= 1L << minute;
+            }
+        }
+    }
+
+    public static DayWindows empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 구간 배열로 생성 (유효하지 않은 구간 제외)
+     *
+     * @param bounds [시작 분, 끝 분) 쌍을 이어 붙인 배열
+     */
+    public static DayWindows of(int[] bounds) {
+        int[] valid = new int[bounds.length];
+        int count = 0;
+        for (int i = 0; i + 1 < bounds.length; i += 2) {
+            int start = Math.max(bounds[i], 0);
+            int end = Math.min(bounds[i + 1], MINUTES_PER_DAY);
+            if (start < end) {
+                valid[count++] = start;
+                valid[count++] = end;
+            }
+        }
+        return count == 0 ? EMPTY : new DayWindows(Arrays.copyOf(valid, count));
+    }
+
+    public int size() {
+        return bounds.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    public int startMinute(int index) {
+        return bounds[index * 2];
+    }
+
+    public int endMinute(int index) {
+        return bounds[index * 2 + 1];
+    }
+
+    /**
+     * 특정 분이 어느 구간에 포함되는지 (O(1))
+     */
+    public boolean contains(int minute) {
+        if (minute < 0 || minute >= MINUTES_PER_DAY) {
+            return false;
+        }
+        return (minuteBits[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    public boolean contains(LocalTime time) {
+        return contains(toMinute(time));
+    }
+
+    /**
+     * [start, end) 가 어느 한 구간 안에 완전히 포함되는지
+     */
+    public boolean covers(int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (start >= bounds[i] && end <= bounds[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean covers(LocalTime start, LocalTime end) {
+        return covers(toMinute(start), toMinute(end));
+    }
+
+    /**
+     * [start, end) 와 겹치는 부분만 남긴 구간
+     */
+    public DayWindows intersect(int start, int end) {
+        if (start >= end || isEmpty()) {
+            return EMPTY;
+        }
+        int[] clipped = new int[bounds.length];
+        for (int i = 0; i < bounds.length; i += 2) {
+            clipped[i] = Math.max(bounds[i], start);
+            clipped[i + 1] = Math.min(bounds[i + 1], end);
+        }
+        return of(clipped);
+    }
+
+    public DayWindows intersect(LocalTime start, LocalTime end) {
+        return intersect(toMinute(start), toMinute(end));
+    }
+
+    /**
+     * 구간 배열 복사본 ([시작 분, 끝 분) 쌍)
+     */
+    public int[] toArray() {
+        return bounds.clone();
+    }
+
+    public static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof DayWindows other && Arrays.equals(bounds, other.bounds));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,241 @@
+package timefit.operatinghours.service.schedule;
+
+import timefit.business.entity.BusinessDateOverride;
+import timefit.business.entity.BusinessHours;
+import timefit.business.entity.OperatingHours;
+import timefit.common.entity.DayOfWeek;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 업체 주간 영업 스케줄 (컴파일 결과, 불변)
+ *
+ * [구조]
+ * - 요일(DayOfWeek.value 0~6) 인덱스 배열 2개
+ *   - businessHours: BusinessHours 영업시간 (고객 표시용, 휴무면 비어있음)
+ *   - bookingWindows: OperatingHours 예약 가능 시간대 (휴무 행 제외, sequence 순)
+ * - overrides: 날짜 → 날짜별 예외 (BusinessDateOverride, overridesFrom 이후 날짜만 보관)
+ *   - 휴무: 영업시간 / 예약 가능 시간대 모두 비어있음
+ *   - 단축 영업: 영업시간 = 지정 시간, 예약 가능 시간대 = 요일별 시간대 ∩ 지정 시간
+ * - version: 컴파일 시점 세대 번호 (영업시간 / 날짜 예외 변경마다 증가, WeeklyScheduleCache 참고)
+ *
+ * [날짜 조회]
+ * - *For(LocalDate) 메서드는 날짜 예외를 먼저 확인하고 없으면 요일별 값 사용
+ * - 요일 인자 메서드는 날짜 예외와 무관한 주간 패턴
+ *
+ * [용도]
+ * - 슬롯 생성 / 영업시간 변경 검증 / 예약 시간 검증이 같은 표현을 공유
+ * - 엔티티 / 스트림 그룹핑 없이 배열 인덱스 + 비트셋으로 조회
+ */
+public final class WeeklySchedule {
+
+    private static final int DAYS = DayOfWeek.values().length;
+
+    private final UUID businessId;
+    private final long version;
+    private final DayWindows[] businessHours;
+    private final DayWindows[] bookingWindows;
+    private final LocalDate overridesFrom;
+    private final Map<LocalDate, DateOverride> overrides;
+
+    private WeeklySchedule(UUID businessId, long version, DayWindows[] businessHours, DayWindows[] bookingWindows,
+                           LocalDate overridesFrom, Map<LocalDate, DateOverride> overrides) {
+        this.businessId = businessId;
+        this.version = version;
+        this.businessHours = businessHours;
+        this.bookingWindows = bookingWindows;
+        this.overridesFrom = overridesFrom;
+        this.overrides = overrides;
+    }
+
+    /**
+     * 영업시간 엔티티 → 주간 스케줄
+     *
+     * @param businessId 업체 ID
+     * @param version 세대 번호
+     * @param businessHoursList 요일별 영업시간
+     * @param operatingHoursList 예약 가능 시간대 (요일, sequence 순)
+     * @param overridesFrom 날짜 예외 조회 시작일 (이전 날짜는 요일별 값만 사용)
+     * @param overrideList overridesFrom 이후 날짜 예외
+     */
+    public static WeeklySchedule compile(
+            UUID businessId,
+            long version,
+            List<BusinessHours> businessHoursList,
+            List<OperatingHours> operatingHoursList,
+            LocalDate overridesFrom,
+            List<BusinessDateOverride> overrideList) {
+
+        DayWindows[] businessHours = new DayWindows[DAYS];
+        for (BusinessHours hours : businessHoursList) {
+            if (Boolean.TRUE.equals(hours.getIsClosed()) || hours.getOpenTime() == null || hours.getCloseTime() == null) {
+                continue;
+            }
+            businessHours[hours.getDayOfWeek().getValue()] = DayWindows.of(new int[]{
+                    DayWindows.toMinute(hours.getOpenTime()), DayWindows.toMinute(hours.getCloseTime())});
+        }
+
+        int[][] bounds = new int[DAYS][];
+        int[] counts = new int[DAYS];
+        for (OperatingHours hours : operatingHoursList) {
+            if (Boolean.TRUE.equals(hours.getIsClosed()) || hours.getOpenTime() == null || hours.getCloseTime() == null) {
+                continue;
+            }
+            int day = hours.getDayOfWeek().getValue();
+            if (bounds[day] == null) {
+                bounds[day] = new int[8];
+            } else if (counts[day] == bounds[day].length) {
+                bounds[day] = Arrays.copyOf(bounds[day], counts[day] * 2);
+            }
+            bounds[day][counts[day]++] = DayWindows.toMinute(hours.getOpenTime());
+            bounds[day][counts[day]++] = DayWindows.toMinute(hours.getCloseTime());
+        }
+
+        DayWindows[] bookingWindows = new DayWindows[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            if (businessHours[day] == null) {
+                businessHours[day] = DayWindows.empty();
+            }
+            bookingWindows[day] = bounds[day] == null
+                    ? DayWindows.empty()
+                    : DayWindows.of(Arrays.copyOf(bounds[day], counts[day]));
+        }
+
+        Map<LocalDate, DateOverride> overrides = new HashMap<>(Math.max(16, overrideList.size() * 2));
+        for (BusinessDateOverride override : overrideList) {
+            LocalDate date = override.getOverrideDate();
+            if (date.isBefore(overridesFrom)) {
+                continue;
+            }
+            overrides.put(date, DateOverride.of(override, bookingWindows[dayOf(date).getValue()]));
+        }
+
+        return new WeeklySchedule(businessId, version, businessHours, bookingWindows, overridesFrom, Map.copyOf(overrides));
+    }
+
+    public UUID businessId() {
+        return businessId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // ========== 요일 / 날짜별 구간 ==========
+
+    public DayWindows businessHours(DayOfWeek dayOfWeek) {
+        return businessHours[dayOfWeek.getValue()];
+    }
+
+    public DayWindows businessHoursFor(LocalDate date) {
+        DateOverride override = overrides.get(date);
+        return override != null ? override.businessHours() : businessHours(dayOf(date));
+    }
+
+    public DayWindows bookingWindows(DayOfWeek dayOfWeek) {
+        return bookingWindows[dayOfWeek.getValue()];
+    }
+
+    public DayWindows bookingWindowsFor(LocalDate date) {
+        DateOverride override = overrides.get(date);
+        return override != null ? override.bookingWindows() : bookingWindows(dayOf(date));
+    }
+
+    // ========== 날짜 예외 ==========
+
+    /**
+     * 날짜 예외 (없으면 null, overridesFrom 이전 날짜는 항상 null)
+     */
+    public DateOverride overrideOn(LocalDate date) {
+        return overrides.get(date);
+    }
+
+    public LocalDate overridesFrom() {
+        return overridesFrom;
+    }
+
+    /**
+     * 날짜 예외 때문에 [start, end) 예약이 막히는지
+     * - 예외 없음: false (요일별 시간대 검증은 슬롯 생성 단계 책임)
+     * - 휴무: true
+     * - 단축 영업: 지정 시간 안에 완전히 포함되지 않으면 true
+     */
+    public boolean isExcludedByOverride(LocalDate date, LocalTime start, LocalTime end) {
+        DateOverride override = overrides.get(date);
+        return override != null && (override.closed() || !override.businessHours().covers(start, end));
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 영업 중인지 (영업시간 기준, 마감 시각 제외, O(1))
+     */
+    public boolean isOpenAt(LocalDateTime dateTime) {
+        return businessHoursFor(dateTime.toLocalDate()).contains(dateTime.toLocalTime());
+    }
+
+    /**
+     * 예약 가능 시간대인지 (OperatingHours 기준, 종료 시각 제외, O(1))
+     */
+    public boolean isBookableAt(LocalDateTime dateTime) {
+        return bookingWindowsFor(dateTime.toLocalDate()).contains(dateTime.toLocalTime());
+    }
+
+    /**
+     * 해당 날짜 [start, end) 가 어느 한 예약 가능 시간대 안에 완전히 포함되는지
+     */
+    public boolean coversBooking(LocalDate date, LocalTime start, LocalTime end) {
+        return bookingWindowsFor(date).covers(start, end);
+    }
+
+    /**
+     * 해당 날짜 예약 가능 시간대 중 [start, end) 와 겹치는 부분
+     */
+    public DayWindows intersectBooking(LocalDate date, LocalTime start, LocalTime end) {
+        return bookingWindowsFor(date).intersect(start, end);
+    }
+
+    public static DayOfWeek dayOf(LocalDate date) {
+        return DayOfWeek.fromValue(date.getDayOfWeek().getValue());
+    }
+
+    /**
+     * 날짜 예외 (컴파일 결과)
+     *
+     * @param date 날짜
+     * @param closed 휴무 여부
+     * @param businessHours 영업 구간 (휴무면 비어있음)
+     * @param bookingWindows 예약 가능 구간 (요일별 시간대 ∩ 영업 구간)
+     * @param reason 사유
+     */
+    public record DateOverride(
+            LocalDate date,
+            boolean closed,
+            DayWindows businessHours,
+            DayWindows bookingWindows,
+            String reason
+    ) {
+
+        static DateOverride of(BusinessDateOverride override, DayWindows weeklyBookingWindows) {
+            if (Boolean.TRUE.equals(override.getIsClosed())
+                    || override.getOpenTime() == null || override.getCloseTime() == null) {
+                return new DateOverride(override.getOverrideDate(), true,
+                        DayWindows.empty(), DayWindows.empty(), override.getReason());
+            }
+
+            int open = DayWindows.toMinute(override.getOpenTime());
+            int close = DayWindows.toMinute(override.getCloseTime());
+            return new DateOverride(override.getOverrideDate(), false,
+                    DayWindows.of(new int[]{open, close}),
+                    weeklyBookingWindows.intersect(open, close),
+                    override.getReason());
+        }
+    }
+}
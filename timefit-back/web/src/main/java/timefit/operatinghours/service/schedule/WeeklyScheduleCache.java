@@ -0,0 +1,93 @@
+package timefit.operatinghours.service.schedule;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.business.entity.BusinessDateOverride;
+import timefit.business.entity.BusinessHours;
+import timefit.business.entity.OperatingHours;
+import timefit.business.repository.BusinessDateOverrideRepository;
+import timefit.business.repository.BusinessHoursRepository;
+import timefit.business.repository.OperatingHoursRepository;
+import timefit.common.cache.GenerationGuardedCache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업체 주간 영업 스케줄 캐시 (businessId → WeeklySchedule)
+ *
+ * [적재]
+ * - 캐시 미스 시 BusinessHours / OperatingHours / 어제 이후 날짜 예외 각 1번 SELECT → 컴파일
+ * - 슬롯 생성 / 영업시간 변경 검증 등 모든 소비자가 같은 컴파일 결과 공유
+ *
+ * [버전 / 무효화]
+ * - GenerationGuardedCache 세대 번호 = 스케줄 version, 영업시간 / 날짜 예외 변경(invalidate)마다 증가
+ * - 조회 도중 세대가 바뀌면 결과 미적재
+ * - 다른 노드 변경은 TTL 경과 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyScheduleCache {
+
+    private final BusinessHoursRepository businessHoursRepository;
+    private final OperatingHoursRepository operatingHoursRepository;
+    private final BusinessDateOverrideRepository dateOverrideRepository;
+
+    // 캐시 항목 유지 시간 (초)
+    @Value("${timefit.business.schedule-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // 캐시 최대 업체 수 (초과 시 만료 항목 → 오래 사용하지 않은 항목 순으로 정리)
+    @Value("${timefit.business.schedule-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private GenerationGuardedCache<UUID, WeeklySchedule> schedules;
+
+    @PostConstruct
+    void init() {
+        schedules = new GenerationGuardedCache<>("주간 스케줄", Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    /**
+     * 업체 주간 스케줄 조회 (캐시 미스 시 DB 조회 후 컴파일)
+     *
+     * @param businessId 업체 ID
+     * @return 주간 스케줄
+     */
+    public WeeklySchedule get(UUID businessId) {
+        return schedules.get(businessId, generation -> load(businessId, generation));
+    }
+
+    private WeeklySchedule load(UUID businessId, long generation) {
+        List<BusinessHours> businessHours =
+                businessHoursRepository.findByBusinessIdOrderByDayOfWeekAsc(businessId);
+        List<OperatingHours> operatingHours =
+                operatingHoursRepository.findByBusinessIdOrderByDayOfWeekAscSequenceAsc(businessId);
+        // 자정 전후 요청을 위해 하루 여유
+        LocalDate overridesFrom = LocalDate.now().minusDays(1);
+        List<BusinessDateOverride> overrides = dateOverrideRepository
+                .findByBusinessIdAndOverrideDateGreaterThanEqualOrderByOverrideDateAsc(businessId, overridesFrom);
+        WeeklySchedule schedule = WeeklySchedule.compile(
+                businessId, generation, businessHours, operatingHours, overridesFrom, overrides);
+
+        log.debug("주간 스케줄 컴파일: businessId={}, version={}, businessHours={}, operatingHours={}, overrides={}",
+                businessId, generation, businessHours.size(), operatingHours.size(), overrides.size());
+
+        return schedule;
+    }
+
+    /**
+     * 영업시간 / 날짜 예외 변경 시 호출
+     *
+     * @param businessId 업체 ID
+     */
+    public void invalidate(UUID businessId) {
+        GenerationGuardedCache.runNowAndAfterCompletion(() -> schedules.evict(businessId));
+    }
+}
@@ -1,11 +1,13 @@
 package timefit.operatinghours.service.util;
 
 import org.springframework.stereotype.Component;
+import timefit.business.entity.BusinessDateOverride;
 import timefit.business.entity.BusinessHours;
 import timefit.business.entity.OperatingHours;
 import timefit.common.entity.DayOfWeek;
 import timefit.operatinghours.dto.OperatingHoursResponseDto;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -111,4 +113,37 @@ public class OperatingHoursResponseGenerator {
                 hours.getIsClosed()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * BusinessDateOverride → DateOverrideList Response DTO 변환
+     *
+     * @param businessId 업체 ID
+     * @param startDate 조회 시작 날짜
+     * @param endDate 조회 종료 날짜
+     * @param overrides 날짜순 영업 예외 엔티티 리스트
+     * @return DateOverrideList Response DTO
+     */
+    public OperatingHoursResponseDto.DateOverrideList generateDateOverrideList(
+            UUID businessId,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<BusinessDateOverride> overrides) {
+
+        List<OperatingHoursResponseDto.DateOverride> items = overrides.stream()
+                .map(this::convertToDateOverride)
+                .toList();
+
+        return new OperatingHoursResponseDto.DateOverrideList(businessId, startDate, endDate, items);
+    }
+
+    private OperatingHoursResponseDto.DateOverride convertToDateOverride(BusinessDateOverride override) {
+        boolean closed = Boolean.TRUE.equals(override.getIsClosed());
+        return new OperatingHoursResponseDto.DateOverride(
+                override.getOverrideDate(),
+                closed,
+                closed ? null : override.getOpenTime().toString(),
+                closed ? null : override.getCloseTime().toString(),
+                override.getReason()
+        );
+    }
+}
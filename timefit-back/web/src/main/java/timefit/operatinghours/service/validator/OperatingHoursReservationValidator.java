@@ -6,8 +6,8 @@ import org.springframework.stereotype.Component;
 import timefit.common.entity.DayOfWeek;
 import timefit.exception.business.BusinessErrorCode;
 import timefit.exception.business.BusinessException;
-import timefit.reservation.entity.Reservation;
 import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationQueryRepository.FutureReservationSummary;
 
 import java.time.LocalDate;
 import java.util.Comparator;
@@ -36,29 +36,52 @@ public class OperatingHoursReservationValidator {
             UUID businessId,
             DayOfWeek dayOfWeek) {
 
-        log.debug("미래 예약 검증 시작: businessId={}, dayOfWeek={}", businessId, dayOfWeek);
+        validateNoFutureReservationsForDays(businessId, List.of(dayOfWeek));
+    }
+
+    /**
+     * 여러 요일에 대한 미래 예약 일괄 검증
+     * - 요일별 건수 + 가장 빠른 예약을 1번의 집계 조회로 확인 (예약 엔티티 적재 없음)
+     *
+     * @param businessId 업체 ID
+     * @param daysOfWeek 검증할 요일 목록
+     * @throws BusinessException 하나라도 예약이 있는 경우
+     */
+    public void validateNoFutureReservationsForDays(
+            UUID businessId,
+            List<DayOfWeek> daysOfWeek) {
 
-        // 1. 해당 요일의 미래 예약 조회
-        List<Reservation> futureReservations =
-                reservationQueryRepository.findFutureReservationsByBusinessAndDayOfWeek(
+        if (daysOfWeek.isEmpty()) {
+            return;
+        }
+
+        log.debug("미래 예약 검증 시작: businessId={}, days={}", businessId, daysOfWeek);
+
+        // 1. 요일별 미래 예약 집계
+        List<FutureReservationSummary> summaries =
+                reservationQueryRepository.summarizeFutureReservationsByDayOfWeek(
                         businessId,
-                        dayOfWeek,
+                        daysOfWeek,
                         LocalDate.now()
                 );
 
         // 2. 예약 존재 시 Exception
-        if (!futureReservations.isEmpty()) {
+        if (!summaries.isEmpty()) {
+
+            long reservationCount = summaries.stream()
+                    .mapToLong(FutureReservationSummary::reservationCount)
+                    .sum();
 
             // 가장 빠른 예약 찾기 (날짜 -> 시간 순)
-            Reservation earliest = futureReservations.stream()
-                    .min(Comparator.comparing(Reservation::getReservationDate)
-                            .thenComparing(Reservation::getReservationTime))
+            FutureReservationSummary earliest = summaries.stream()
+                    .min(Comparator.comparing(FutureReservationSummary::earliestDate)
+                            .thenComparing(FutureReservationSummary::earliestTime))
                     .orElseThrow();
 
-            log.warn("미래 예약 존재로 영업시간 변경 불가: businessId={}, dayOfWeek={}, " +
+            log.warn("미래 예약 존재로 영업시간 변경 불가: businessId={}, days={}, " +
                             "reservationCount={}, earliestDate={}, earliestTime={}",
-                    businessId, dayOfWeek, futureReservations.size(),
-                    earliest.getReservationDate(), earliest.getReservationTime());
+                    businessId, summaries.stream().map(FutureReservationSummary::dayOfWeek).toList(),
+                    reservationCount, earliest.earliestDate(), earliest.earliestTime());
 
             throw new BusinessException(
                     BusinessErrorCode.OPERATING_HOURS_HAS_FUTURE_RESERVATIONS,
@@ -66,34 +89,13 @@ public class OperatingHoursReservationValidator {
                             "해당 시간대에 %d건의 예약이 예정되어 있습니다. " +
                                     "(가장 빠른 예약: %s %s) " +
                                     "먼저 고객과 협의 후 예약을 취소하거나 변경해주세요.",
-                            futureReservations.size(),
-                            earliest.getReservationDate(),
-                            earliest.getReservationTime()
+                            reservationCount,
+                            earliest.earliestDate(),
+                            earliest.earliestTime()
                     )
             );
         }
 
         log.debug("미래 예약 검증 완료: 진행 중인 예약 없음");
     }
-
-    /**
-     * 여러 요일에 대한 미래 예약 일괄 검증
-     *
-     * @param businessId 업체 ID
-     * @param daysOfWeek 검증할 요일 목록
-     * @throws BusinessException 하나라도 예약이 있는 경우
-     */
-    public void validateNoFutureReservationsForDays(
-            UUID businessId,
-            List<DayOfWeek> daysOfWeek) {
-
-        log.debug("여러 요일 미래 예약 검증 시작: businessId={}, days={}",
-                businessId, daysOfWeek.size());
-
-        for (DayOfWeek dayOfWeek : daysOfWeek) {
-            validateNoFutureReservations(businessId, dayOfWeek);
-        }
-
-        log.debug("여러 요일 미래 예약 검증 완료");
-    }
-}
\ No newline at end of file
+}
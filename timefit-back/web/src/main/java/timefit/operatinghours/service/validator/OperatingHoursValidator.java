@@ -7,13 +7,18 @@ import timefit.exception.business.BusinessErrorCode;
 import timefit.exception.business.BusinessException;
 import timefit.operatinghours.dto.OperatingHoursRequestDto;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * OperatingHours 도메인 공통 검증 로직
  * - 시간 순서 검증
  * - 영업 시간 범위 검증
  * - Request 기본 검증
+ * - 날짜별 영업 예외 검증
  */
 @Slf4j
 @Component
@@ -151,4 +156,59 @@ public class OperatingHoursValidator {
 
         log.debug("영업시간 설정 요청 검증 완료");
     }
-}
\ No newline at end of file
+
+    /**
+     * 날짜별 영업 예외 목록 검증
+     * - 지난 날짜 / 중복 날짜 불가
+     * - 휴무: 시간 지정 불가
+     * - 단축 영업: 시작/종료 시간 필수, 시간 순서 검증
+     *
+     * @param overrides 날짜별 영업 예외 목록
+     * @param today 기준 날짜 (이전 날짜 거부)
+     * @throws BusinessException 검증 실패 시
+     */
+    public void validateDateOverrides(List<OperatingHoursRequestDto.DateOverride> overrides, LocalDate today) {
+
+        Set<LocalDate> dates = new HashSet<>();
+
+        for (OperatingHoursRequestDto.DateOverride override : overrides) {
+
+            if (override.date().isBefore(today)) {
+                log.warn("지난 날짜 영업 예외: date={}", override.date());
+                throw new BusinessException(
+                        BusinessErrorCode.INVALID_DATE_OVERRIDE,
+                        String.format("지난 날짜(%s)에는 영업 예외를 설정할 수 없습니다.", override.date())
+                );
+            }
+
+            if (!dates.add(override.date())) {
+                log.warn("중복 날짜 영업 예외: date={}", override.date());
+                throw new BusinessException(
+                        BusinessErrorCode.INVALID_DATE_OVERRIDE,
+                        String.format("같은 날짜(%s)의 영업 예외가 중복되었습니다.", override.date())
+                );
+            }
+
+            if (Boolean.TRUE.equals(override.isClosed())) {
+                if (override.openTime() != null || override.closeTime() != null) {
+                    log.warn("휴무 영업 예외에 시간 지정: date={}", override.date());
+                    throw new BusinessException(
+                            BusinessErrorCode.INVALID_DATE_OVERRIDE,
+                            String.format("휴무일(%s)에는 영업 시간을 지정할 수 없습니다.", override.date())
+                    );
+                }
+                continue;
+            }
+
+            if (override.openTime() == null || override.closeTime() == null) {
+                log.warn("단축 영업 시간 누락: date={}", override.date());
+                throw new BusinessException(
+                        BusinessErrorCode.INVALID_DATE_OVERRIDE,
+                        String.format("단축 영업일(%s)인 경우 영업 시작/종료 시간은 필수입니다.", override.date())
+                );
+            }
+
+            validateTimeOrder(LocalTime.parse(override.openTime()), LocalTime.parse(override.closeTime()));
+        }
+    }
+}
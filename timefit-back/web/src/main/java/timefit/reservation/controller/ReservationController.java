@@ -67,12 +67,16 @@ public class ReservationController {
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "커서 (지정 시 커서 모드, 빈 값 = 첫 페이지, 이후 pagination.nextCursor 전달)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 모드에서 전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @Parameter(hidden = true)
             @CurrentUserId UUID customerId) {
 
         log.info("내 예약 목록 조회 요청: customerId={}, status={}, page={}", customerId, status, page);
         ReservationResponseDto.CustomerReservationList response = reservationService.getMyReservations(
-                customerId, status, startDate, endDate, businessId, page, size);
+                customerId, status, startDate, endDate, businessId, page, size, cursor, withTotal);
 
         return ResponseEntity.ok(ResponseData.of(response));
     }
@@ -145,6 +149,10 @@ public class ReservationController {
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "커서 (지정 시 커서 모드, 빈 값 = 첫 페이지, 이후 pagination.nextCursor 전달)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 모드에서 전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @Parameter(hidden = true)
             @CurrentUserId UUID currentUserId) {
 
@@ -152,7 +160,7 @@ public class ReservationController {
                 businessId, currentUserId, status);
 
         ReservationResponseDto.BusinessReservationList response = reservationService.getBusinessReservations(
-                businessId, currentUserId, status, startDate, endDate, page, size);
+                businessId, currentUserId, status, startDate, endDate, page, size, cursor, withTotal);
 
         return ResponseEntity.ok(ResponseData.of(response));
     }
@@ -256,4 +264,23 @@ public class ReservationController {
 
         return ResponseEntity.ok(ResponseData.of(response));
     }
-}
\ No newline at end of file
+
+    @BulkChangeReservationStatusOperation
+    @PostMapping("/api/business/{businessId}/reservations/bulk-status")
+    public ResponseEntity<ResponseData<ReservationResponseDto.BulkActionResult>> changeStatusInBulk(
+            @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
+            @PathVariable UUID businessId,
+            @BulkChangeReservationStatusRequestBody
+            @Valid @RequestBody ReservationRequestDto.BulkStatusChange request,
+            @Parameter(hidden = true)
+            @CurrentUserId UUID currentUserId) {
+
+        log.info("예약 일괄 상태 변경 요청: businessId={}, action={}, userId={}",
+                businessId, request.action(), currentUserId);
+
+        ReservationResponseDto.BulkActionResult response = reservationService.changeStatusInBulk(
+                businessId, request, currentUserId);
+
+        return ResponseEntity.ok(ResponseData.of(response));
+    }
+}
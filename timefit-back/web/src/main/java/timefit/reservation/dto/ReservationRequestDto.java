@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 @Schema(description = "예약 요청")
@@ -98,18 +99,26 @@ public class ReservationRequestDto {
                     nullable = true
             )
             @Size(max = 500, message = "메모는 500자를 초과할 수 없습니다")
-            String notes
+            String notes,
+
+            // RESERVATION_BASED 예약 시 선택 (슬롯 선점 API 응답의 holdId)
+            @Schema(
+                    description = "슬롯 선점 ID (선점한 좌석으로 예약할 때)",
+                    example = "a0000000-0000-0000-0000-000000000001",
+                    nullable = true
+            )
+            UUID holdId
     ) {
         public static CreateReservation of(
                 UUID businessId, UUID menuId, UUID bookingSlotId,
                 LocalDate reservationDate, LocalTime reservationTime,
                 Integer durationMinutes, Integer totalPrice,
-                String customerName, String customerPhone, String notes) {
+                String customerName, String customerPhone, String notes, UUID holdId) {
             return new CreateReservation(
                     businessId, menuId, bookingSlotId,
                     reservationDate, reservationTime,
                     durationMinutes, totalPrice,
-                    customerName, customerPhone, notes
+                    customerName, customerPhone, notes, holdId
             );
         }
     }
@@ -194,4 +203,63 @@ public class ReservationRequestDto {
             return new CancelReservation(reason);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약 일괄 상태 변경 요청 (업체용)
+     * - 예약 ID 목록 또는 예약 날짜 중 하나만 지정
+     */
+    @Schema(description = "예약 일괄 상태 변경")
+    public record BulkStatusChange(
+            @Schema(
+                    description = "처리 유형",
+                    example = "COMPLETE",
+                    requiredMode = Schema.RequiredMode.REQUIRED
+            )
+            @NotNull(message = "처리 유형은 필수입니다")
+            BulkAction action,
+
+            @Schema(
+                    description = "대상 예약 ID 목록 (최대 500건, reservationDate와 동시 지정 불가)",
+                    example = "[\"10000000-0000-0000-0000-000000000001\"]",
+                    nullable = true
+            )
+            @Size(max = 500, message = "한 번에 최대 500건까지 처리할 수 있습니다")
+            List<@NotNull(message = "예약 ID는 필수입니다") UUID> reservationIds,
+
+            @Schema(
+                    description = "대상 예약 날짜 (해당 날짜의 처리 가능한 예약 전체, reservationIds와 동시 지정 불가)",
+                    example = "2025-01-10",
+                    nullable = true
+            )
+            LocalDate reservationDate,
+
+            @Schema(
+                    description = "사유 / 메모 (최대 200자)",
+                    example = "영업 종료 후 일괄 완료 처리",
+                    nullable = true
+            )
+            @Size(max = 200, message = "사유는 200자를 초과할 수 없습니다")
+            String notes
+    ) {
+        public static BulkStatusChange of(
+                BulkAction action, List<UUID> reservationIds,
+                LocalDate reservationDate, String notes) {
+            return new BulkStatusChange(action, reservationIds, reservationDate, notes);
+        }
+    }
+
+    /**
+     * 일괄 처리 유형
+     * - APPROVE: PENDING → CONFIRMED
+     * - REJECT: PENDING → CANCELLED (슬롯 좌석 반환)
+     * - COMPLETE: CONFIRMED → COMPLETED
+     * - NO_SHOW: CONFIRMED → NO_SHOW
+     */
+    @Schema(description = "일괄 처리 유형")
+    public enum BulkAction {
+        APPROVE,
+        REJECT,
+        COMPLETE,
+        NO_SHOW
+    }
+}
@@ -736,6 +736,98 @@ public class ReservationResponseDto {
         }
     }
 
+    /**
+     * 예약 일괄 상태 변경 결과
+     * - 예약 ID 목록 지정 시: 요청한 ID 전부에 대해 성공/실패 항목 포함
+     * - 예약 날짜 지정 시: 실제로 변경된 예약만 포함
+     */
+    @Schema(description = "예약 일괄 상태 변경 결과")
+    public record BulkActionResult(
+            @Schema(
+                    description = "처리 유형",
+                    example = "COMPLETE"
+            )
+            ReservationRequestDto.BulkAction action,
+
+            @Schema(
+                    description = "성공 건수",
+                    example = "12"
+            )
+            Integer succeededCount,
+
+            @Schema(
+                    description = "실패 건수",
+                    example = "1"
+            )
+            Integer failedCount,
+
+            @Schema(
+                    description = "결과 메시지",
+                    example = "12건 서비스가 완료되었습니다"
+            )
+            String message,
+
+            @Schema(
+                    description = "액션 수행 일시",
+                    example = "2025-11-23T15:30:00"
+            )
+            LocalDateTime actionAt,
+
+            @Schema(description = "예약별 처리 결과")
+            List<BulkActionItem> results
+    ) {
+        public static BulkActionResult of(
+                ReservationRequestDto.BulkAction action,
+                int succeededCount,
+                List<BulkActionItem> results,
+                String message,
+                LocalDateTime actionAt) {
+
+            return new BulkActionResult(
+                    action, succeededCount, results.size() - succeededCount, message, actionAt, results);
+        }
+    }
+
+    /**
+     * 예약별 일괄 처리 결과
+     */
+    @Schema(description = "예약별 일괄 처리 결과")
+    public record BulkActionItem(
+            @Schema(
+                    description = "예약 ID",
+                    example = "10000000-0000-0000-0000-000000000001"
+            )
+            UUID reservationId,
+
+            @Schema(
+                    description = "성공 여부",
+                    example = "true"
+            )
+            Boolean success,
+
+            @Schema(
+                    description = "처리 후 상태 (실패 시 현재 상태, 예약이 없으면 null)",
+                    example = "COMPLETED",
+                    nullable = true
+            )
+            ReservationStatus currentStatus,
+
+            @Schema(
+                    description = "실패 사유 코드 (성공 시 null)",
+                    example = "RESERVATION_INVALID_STATUS",
+                    nullable = true
+            )
+            String errorCode
+    ) {
+        public static BulkActionItem succeeded(UUID reservationId, ReservationStatus currentStatus) {
+            return new BulkActionItem(reservationId, true, currentStatus, null);
+        }
+
+        public static BulkActionItem failed(UUID reservationId, ReservationStatus currentStatus, String errorCode) {
+            return new BulkActionItem(reservationId, false, currentStatus, errorCode);
+        }
+    }
+
     // ========================================
     // 4. 공통 DTO
     // ========================================
@@ -779,7 +871,13 @@ public class ReservationResponseDto {
                     description = "이전 페이지 존재 여부",
                     example = "false"
             )
-            Boolean hasPrevious
+            Boolean hasPrevious,
+
+            @Schema(
+                    description = "다음 페이지 커서 (커서 모드에서만, 마지막 페이지면 null)",
+                    example = "djF8MjAyNS0xMS0yMHwxNDozMHwxMDAwMDAwMC0wMDAwLTAwMDAtMDAwMC0wMDAwMDAwMDAwMDE"
+            )
+            String nextCursor
     ) {
         public static PaginationInfo of(
                 Integer currentPage,
@@ -790,7 +888,27 @@ public class ReservationResponseDto {
                 Boolean hasPrevious) {
             return new PaginationInfo(
                     currentPage, totalPages, totalElements,
-                    size, hasNext, hasPrevious
+                    size, hasNext, hasPrevious, null
+            );
+        }
+
+        /**
+         * 커서 모드 페이지네이션 정보
+         * - currentPage: 없음 (null)
+         * - totalElements / totalPages: 전체 개수 요청 시에만 채움
+         */
+        public static PaginationInfo ofCursor(
+                Integer size,
+                Boolean hasNext,
+                Boolean hasPrevious,
+                Long totalElements,
+                String nextCursor) {
+            Integer totalPages = totalElements != null
+                    ? (int) ((totalElements + size - 1) / size)
+                    : null;
+            return new PaginationInfo(
+                    null, totalPages, totalElements,
+                    size, hasNext, hasPrevious, nextCursor
             );
         }
     }
@@ -2,20 +2,27 @@ package timefit.reservation.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import timefit.booking.service.helper.BookingSlotSeatHelper;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.reservation.dto.ReservationRequestDto;
 import timefit.reservation.dto.ReservationResponseDto;
 import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
 import timefit.reservation.repository.ReservationRepository;
+import timefit.reservation.service.event.ReservationChangedEvent;
+import timefit.reservation.service.helper.ReservationBulkStatusHelper;
 import timefit.reservation.service.helper.ReservationCreationHelper;
 import timefit.reservation.service.helper.ReservationUpdateHelper;
 import timefit.reservation.service.util.ReservationConverter;
 import timefit.reservation.service.util.ReservationMessageUtil;
 import timefit.reservation.service.validator.ReservationValidator;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -30,6 +37,8 @@ public class ReservationCommandService {
     // Helper
     private final ReservationCreationHelper creationHelper;
     private final ReservationUpdateHelper updateHelper;
+    private final BookingSlotSeatHelper seatHelper;
+    private final ReservationBulkStatusHelper bulkStatusHelper;
 
     // Validator
     private final ReservationValidator reservationValidator;
@@ -39,6 +48,9 @@ public class ReservationCommandService {
     private final ReservationConverter converter;
     private final ReservationMessageUtil messageUtil;
 
+    // Event
+    private final ApplicationEventPublisher eventPublisher;
+
     // ========== 예약 생성 ==========
 
     /**
@@ -60,6 +72,7 @@ public class ReservationCommandService {
 
         // 2. 저장
         Reservation saved = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.created(saved));
 
         log.info("예약 생성 완료: reservationId={}, reservationNumber={}",
                 saved.getId(), saved.getReservationNumber());
@@ -90,8 +103,13 @@ public class ReservationCommandService {
         reservationValidator.validateOwner(reservation, customerId);
 
         // 2. 수정 (Helper 위임)
+        LocalDate previousDate = reservation.getReservationDate();
         updateHelper.update(reservation, request);
 
+        if (request.reservationDate() != null && request.reservationTime() != null) {
+            eventPublisher.publishEvent(ReservationChangedEvent.rescheduled(reservation, previousDate));
+        }
+
         log.info("예약 수정 완료: reservationId={}", reservationId);
 
         // 3. DTO 변환
@@ -122,8 +140,11 @@ public class ReservationCommandService {
         // 2. 이전 상태 저장
         ReservationStatus previousStatus = reservation.getStatus();
 
-        // 3. 취소 처리
+        // 3. 취소 처리 (슬롯 좌석 반환)
         reservation.cancel();
+        seatHelper.releaseSeat(reservation);
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(ReservationChangedEvent.Type.CANCELLED, reservation));
 
         log.info("예약 취소 완료: reservationId={}", reservationId);
 
@@ -166,6 +187,8 @@ public class ReservationCommandService {
 
         // 4. 승인 처리
         reservation.confirm();
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(ReservationChangedEvent.Type.CONFIRMED, reservation));
 
         log.info("예약 승인 완료: reservationId={}", reservationId);
 
@@ -205,8 +228,11 @@ public class ReservationCommandService {
         // 3. 이전 상태 저장
         ReservationStatus previousStatus = reservation.getStatus();
 
-        // 4. 거절 처리 (취소와 동일)
+        // 4. 거절 처리 (취소와 동일, 슬롯 좌석 반환)
         reservation.cancel();
+        seatHelper.releaseSeat(reservation);
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(ReservationChangedEvent.Type.CANCELLED, reservation));
 
         log.info("예약 거절 완료: reservationId={}", reservationId);
 
@@ -249,6 +275,8 @@ public class ReservationCommandService {
 
         // 4. 완료 처리
         reservation.complete();
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(ReservationChangedEvent.Type.COMPLETED, reservation));
 
         log.info("예약 완료 처리 완료: reservationId={}", reservationId);
 
@@ -289,6 +317,8 @@ public class ReservationCommandService {
 
         // 4. 노쇼 처리
         reservation.markAsNoShow();
+        eventPublisher.publishEvent(
+                ReservationChangedEvent.statusChanged(ReservationChangedEvent.Type.NO_SHOW, reservation));
 
         log.info("노쇼 처리 완료: reservationId={}", reservationId);
 
@@ -298,4 +328,60 @@ public class ReservationCommandService {
         // 6. DTO 변환
         return converter.toActionResult(reservation, previousStatus, message);
     }
-}
\ No newline at end of file
+
+    // ========== 예약 일괄 상태 변경 (업체) ==========
+
+    /**
+     * 예약 일괄 상태 변경 (승인 / 거절 / 완료 / 노쇼)
+     *
+     * 구조:
+     * 1. 권한 검증 (1회)
+     * 2. 대상 검증 (예약 ID 목록 또는 예약 날짜)
+     * 3. 상태 전이 (Helper 위임 - 대상 행 잠금 + UPDATE 1회)
+     * 4. 메시지 생성 (MessageUtil)
+     * 5. DTO 변환
+     */
+    public ReservationResponseDto.BulkActionResult changeStatusInBulk(
+            UUID businessId,
+            ReservationRequestDto.BulkStatusChange request,
+            UUID currentUserId) {
+
+        log.info("예약 일괄 상태 변경: businessId={}, action={}, ids={}, date={}, userId={}",
+                businessId, request.action(),
+                request.reservationIds() != null ? request.reservationIds().size() : 0,
+                request.reservationDate(), currentUserId);
+
+        // 1. 권한 검증
+        businessValidator.validateManagerOrOwnerRole(currentUserId, businessId);
+
+        // 2. 대상 검증
+        reservationValidator.validateBulkTarget(request.reservationIds(), request.reservationDate());
+
+        // 3. 상태 전이 (Helper 위임)
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationResponseDto.BulkActionItem> results = bulkStatusHelper.transition(businessId, request, now);
+
+        int succeededCount = 0;
+        for (ReservationResponseDto.BulkActionItem item : results) {
+            if (item.success()) {
+                succeededCount++;
+            }
+        }
+
+        log.info("예약 일괄 상태 변경 완료: businessId={}, action={}, succeeded={}, failed={}",
+                businessId, request.action(), succeededCount, results.size() - succeededCount);
+
+        // 4. 메시지 생성 (Util 위임)
+        String actionMessage = switch (request.action()) {
+            case APPROVE -> messageUtil.buildApproveMessage();
+            case REJECT -> messageUtil.buildRejectMessage(request.notes());
+            case COMPLETE -> messageUtil.buildCompleteMessage(request.notes());
+            case NO_SHOW -> messageUtil.buildNoShowMessage(request.notes());
+        };
+        String message = messageUtil.buildBulkMessage(
+                actionMessage, succeededCount, results.size() - succeededCount);
+
+        // 5. DTO 변환
+        return ReservationResponseDto.BulkActionResult.of(request.action(), succeededCount, results, message, now);
+    }
+}
@@ -5,7 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.entity.Business;
@@ -14,7 +13,9 @@ import timefit.reservation.dto.ReservationResponseDto;
 import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
 import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationQueryRepository.SeekKey;
 import timefit.reservation.service.util.ReservationConverter;
+import timefit.reservation.service.util.ReservationCursorCodec;
 import timefit.reservation.service.validator.ReservationValidator;
 
 import java.time.LocalDate;
@@ -35,35 +36,59 @@ public class ReservationQueryService {
     private final ReservationValidator reservationValidator;
     private final BusinessValidator businessValidator;
     private final ReservationConverter converter;
+    private final ReservationCursorCodec cursorCodec;
 
     // ========== 고객용 조회 ==========
 
     /**
      * 내 예약 목록 조회 (고객)
+     * - cursor가 null이면 OFFSET 페이징 (page 사용, 전체 개수 포함)
+     * - cursor가 있으면 keyset 페이징 (빈 문자열 = 첫 페이지, withTotal일 때만 전체 개수 조회)
+     * - 두 방식 모두 예약 날짜/시간 최신순 (같은 조건이면 같은 순서)
      */
     public ReservationResponseDto.CustomerReservationList getMyReservations(
             UUID customerId, String status, String startDate, String endDate,
-            UUID businessId, int page, int size) {
+            UUID businessId, int page, int size, String cursor, boolean withTotal) {
 
-        log.info("내 예약 목록 조회: customerId={}, status={}, page={}", customerId, status, page);
+        log.info("내 예약 목록 조회: customerId={}, status={}, page={}, cursorMode={}",
+                customerId, status, page, cursor != null);
 
-        // Pageable 생성, 파라미터 파싱
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 파라미터 파싱
         ReservationStatus reservationStatus = status != null ? ReservationStatus.valueOf(status) : null;
         LocalDate startLocalDate = startDate != null ? LocalDate.parse(startDate) : null;
         LocalDate endLocalDate = endDate != null ? LocalDate.parse(endDate) : null;
 
-        Page<Reservation> reservationPage = reservationQueryRepository.findMyReservationsWithFilters(
-                customerId, reservationStatus, startLocalDate, endLocalDate, businessId, pageable);
+        List<Reservation> reservations;
+        ReservationResponseDto.PaginationInfo pagination;
+
+        if (cursor != null) {
+            SeekKey after = cursorCodec.decode(cursor);
+            List<Reservation> fetched = reservationQueryRepository.findMyReservationsAfter(
+                    customerId, reservationStatus, startLocalDate, endLocalDate, businessId, after, size + 1);
+
+            boolean hasNext = fetched.size() > size;
+            reservations = hasNext ? fetched.subList(0, size) : fetched;
+            Long total = withTotal
+                    ? reservationQueryRepository.countMyReservations(
+                            customerId, reservationStatus, startLocalDate, endLocalDate, businessId)
+                    : null;
+
+            pagination = converter.toCursorPaginationInfo(reservations, size, hasNext, after != null, total);
+        } else {
+            Pageable pageable = PageRequest.of(page, size);
+            Page<Reservation> reservationPage = reservationQueryRepository.findMyReservationsWithFilters(
+                    customerId, reservationStatus, startLocalDate, endLocalDate, businessId, pageable);
+
+            reservations = reservationPage.getContent();
+            pagination = converter.toPaginationInfo(reservationPage);
+        }
 
         // Converter를 사용한 변환
-        List<ReservationResponseDto.CustomerReservationItem> items = reservationPage.getContent()
+        List<ReservationResponseDto.CustomerReservationItem> items = reservations
                 .stream()
                 .map(converter::toCustomerReservationItem)
                 .collect(Collectors.toList());
 
-        ReservationResponseDto.PaginationInfo pagination = converter.toPaginationInfo(reservationPage);
-
         return ReservationResponseDto.CustomerReservationList.of(items, pagination);
     }
 
@@ -91,19 +116,21 @@ public class ReservationQueryService {
      * @param businessId 업체 ID
      * @param currentUserId 현재 사용자 ID
      * @param status 예약 상태 필터 (선택)
-     * @param customerName 고객명 검색 (선택) - 대소문자 무시
-     * @param startDate 시작 날짜 (선택, 기본값: 30일 전)
-     * @param endDate 종료 날짜 (선택, 기본값: 오늘)
-     * @param page 페이지 번호 (0부터 시작)
+     * @param startDate 시작 날짜 (선택)
+     * @param endDate 종료 날짜 (선택)
+     * @param page 페이지 번호 (0부터 시작, OFFSET 모드)
      * @param size 페이지 크기 (1-100)
+     * @param cursor keyset 커서 (선택, 빈 문자열 = 첫 페이지, null이면 OFFSET 모드)
+     * @param withTotal 커서 모드에서 전체 개수 조회 여부
      * @return 업체 예약 목록 및 페이징 정보
      */
     public ReservationResponseDto.BusinessReservationList getBusinessReservations(
             UUID businessId, UUID currentUserId, String status,
-            LocalDate startDate, LocalDate endDate, int page, int size) {
+            LocalDate startDate, LocalDate endDate, int page, int size,
+            String cursor, boolean withTotal) {
 
-        log.info("업체 예약 목록 조회: businessId={}, userId={}, status={}",
-                businessId, currentUserId, status);
+        log.info("업체 예약 목록 조회: businessId={}, userId={}, status={}, cursorMode={}",
+                businessId, currentUserId, status, cursor != null);
 
         // 권한 검증
         businessValidator.validateManagerOrOwnerRole(currentUserId, businessId);
@@ -111,21 +138,40 @@ public class ReservationQueryService {
         // 업체 정보 조회
         Business business = businessValidator.validateBusinessExists(businessId);
 
-        // Pageable 생성, 파라미터 파싱
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 파라미터 파싱
         ReservationStatus reservationStatus = status != null ? ReservationStatus.valueOf(status) : null;
 
-        Page<Reservation> reservationPage = reservationQueryRepository.findBusinessReservationsWithFilters(
-                businessId, reservationStatus, null, startDate, endDate, pageable);
+        List<Reservation> reservations;
+        ReservationResponseDto.PaginationInfo pagination;
+
+        if (cursor != null) {
+            SeekKey after = cursorCodec.decode(cursor);
+            List<Reservation> fetched = reservationQueryRepository.findBusinessReservationsAfter(
+                    businessId, reservationStatus, null, startDate, endDate, after, size + 1);
+
+            boolean hasNext = fetched.size() > size;
+            reservations = hasNext ? fetched.subList(0, size) : fetched;
+            Long total = withTotal
+                    ? reservationQueryRepository.countBusinessReservations(
+                            businessId, reservationStatus, null, startDate, endDate)
+                    : null;
+
+            pagination = converter.toCursorPaginationInfo(reservations, size, hasNext, after != null, total);
+        } else {
+            Pageable pageable = PageRequest.of(page, size);
+            Page<Reservation> reservationPage = reservationQueryRepository.findBusinessReservationsWithFilters(
+                    businessId, reservationStatus, null, startDate, endDate, pageable);
+
+            reservations = reservationPage.getContent();
+            pagination = converter.toPaginationInfo(reservationPage);
+        }
 
         // Converter를 사용한 변환
-        List<ReservationResponseDto.BusinessReservationItem> items = reservationPage.getContent()
+        List<ReservationResponseDto.BusinessReservationItem> items = reservations
                 .stream()
                 .map(converter::toBusinessReservationItem)
                 .collect(Collectors.toList());
 
-        ReservationResponseDto.PaginationInfo pagination = converter.toPaginationInfo(reservationPage);
-
         return ReservationResponseDto.BusinessReservationList.of(
                 business.getId(),
                 business.getBusinessName(),
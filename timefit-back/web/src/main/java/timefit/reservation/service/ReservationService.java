@@ -53,8 +53,9 @@ public class ReservationService {
 
     public ReservationResponseDto.CustomerReservationList getMyReservations(
             UUID customerId, String status, String startDate, String endDate,
-            UUID businessId, int page, int size) {
-        return queryService.getMyReservations(customerId, status, startDate, endDate, businessId, page, size);
+            UUID businessId, int page, int size, String cursor, boolean withTotal) {
+        return queryService.getMyReservations(
+                customerId, status, startDate, endDate, businessId, page, size, cursor, withTotal);
     }
 
     public ReservationResponseDto.CustomerReservation getReservationDetail(
@@ -66,8 +67,10 @@ public class ReservationService {
 
     public ReservationResponseDto.BusinessReservationList getBusinessReservations(
             UUID businessId, UUID currentUserId, String status,
-            LocalDate startDate, LocalDate endDate, int page, int size) {
-        return queryService.getBusinessReservations(businessId, currentUserId, status, startDate, endDate, page, size);
+            LocalDate startDate, LocalDate endDate, int page, int size,
+            String cursor, boolean withTotal) {
+        return queryService.getBusinessReservations(
+                businessId, currentUserId, status, startDate, endDate, page, size, cursor, withTotal);
     }
 
     public ReservationResponseDto.BusinessReservation getBusinessReservationDetail(
@@ -98,4 +101,10 @@ public class ReservationService {
             UUID businessId, UUID reservationId, UUID currentUserId, String notes) {
         return commandService.markAsNoShow(businessId, reservationId, currentUserId, notes);
     }
-}
\ No newline at end of file
+
+    @Transactional
+    public ReservationResponseDto.BulkActionResult changeStatusInBulk(
+            UUID businessId, ReservationRequestDto.BulkStatusChange request, UUID currentUserId) {
+        return commandService.changeStatusInBulk(businessId, request, currentUserId);
+    }
+}
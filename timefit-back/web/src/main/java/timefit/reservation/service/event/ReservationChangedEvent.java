@@ -0,0 +1,99 @@
+package timefit.reservation.service.event;
+
+import timefit.reservation.entity.Reservation;
+import timefit.reservation.repository.ReservationQueryRepository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 예약 상태 변경 이벤트
+ * - 예약 생성/확정/취소/완료/노쇼/일정 변경 시 발행
+ * - 트랜잭션 커밋 이후 리스너에서 처리 (캐시/인덱스 갱신 등)
+ *
+ * [주의]
+ * 커밋 이후에는 지연 로딩이 불가하므로 필요한 값은 발행 시점(트랜잭션 내부)에 복사한다.
+ */
+public record ReservationChangedEvent(
+        Type type,
+        UUID reservationId,
+        UUID businessId,
+        UUID menuId,
+        String menuName,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        Integer durationMinutes,
+        LocalDate previousDate
+) {
+
+    public enum Type {
+        CREATED,
+        CONFIRMED,
+        CANCELLED,
+        COMPLETED,
+        NO_SHOW,
+        RESCHEDULED
+    }
+
+    // 예약 생성 이벤트 (메뉴명 포함 - 생성 시 menu는 이미 fetch join 되어 있음)
+    public static ReservationChangedEvent created(Reservation reservation) {
+        return new ReservationChangedEvent(
+                Type.CREATED,
+                reservation.getId(),
+                reservation.getBusiness().getId(),
+                reservation.getMenu().getId(),
+                reservation.getMenu().getServiceName(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getReservationDuration(),
+                null
+        );
+    }
+
+    // 상태 변경 이벤트 (확정/취소/완료/노쇼)
+    public static ReservationChangedEvent statusChanged(Type type, Reservation reservation) {
+        return new ReservationChangedEvent(
+                type,
+                reservation.getId(),
+                reservation.getBusiness().getId(),
+                reservation.getMenu().getId(),
+                null,
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getReservationDuration(),
+                null
+        );
+    }
+
+    // 일괄 상태 변경 이벤트 (엔티티 로딩 없이 일괄 전이 결과로 발행)
+    public static ReservationChangedEvent statusChanged(
+            Type type, ReservationQueryRepository.StatusTransition transition) {
+        return new ReservationChangedEvent(
+                type,
+                transition.reservationId(),
+                transition.businessId(),
+                transition.menuId(),
+                null,
+                transition.reservationDate(),
+                transition.reservationTime(),
+                transition.durationMinutes(),
+                null
+        );
+    }
+
+    // 일정 변경 이벤트 (이전 날짜 포함)
+    public static ReservationChangedEvent rescheduled(Reservation reservation, LocalDate previousDate) {
+        return new ReservationChangedEvent(
+                Type.RESCHEDULED,
+                reservation.getId(),
+                reservation.getBusiness().getId(),
+                reservation.getMenu().getId(),
+                null,
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getReservationDuration(),
+                previousDate
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package timefit.reservation.service.helper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import timefit.booking.service.helper.BookingSlotSeatHelper;
+import timefit.exception.reservation.ReservationErrorCode;
+import timefit.reservation.dto.ReservationRequestDto;
+import timefit.reservation.dto.ReservationResponseDto;
+import timefit.reservation.entity.ReservationStatus;
+import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationQueryRepository.StatusTransition;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reservation 일괄 상태 변경 전담 클래스
+ *
+ * 역할:
+ * - 처리 유형별 상태 전이 (from → to) 를 대상 행 잠금 + UPDATE 1회로 수행
+ * - 거절 시 슬롯 좌석 일괄 반환
+ * - 변경된 예약마다 ReservationChangedEvent 발행 (캐시 / 타임라인 갱신)
+ * - 변경되지 않은 예약은 현재 상태를 조회해 실패 사유 기록
+ *
+ * [동시성]
+ * - 전이 조건(status = from)을 행 잠금 후 평가하므로 단건 처리와 겹쳐도 한쪽만 성공
+ * - 엔티티를 로딩하지 않으므로 호출 트랜잭션에서 대상 예약을 미리 로딩하지 않아야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationBulkStatusHelper {
+
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final BookingSlotSeatHelper seatHelper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일괄 상태 변경
+     *
+     * @param businessId 업체 ID
+     * @param request 일괄 변경 요청 (대상 검증 완료)
+     * @param now 변경 시각
+     * @return 예약별 처리 결과 (ID 목록 지정 시 요청 순서, 날짜 지정 시 변경된 예약만)
+     */
+    public List<ReservationResponseDto.BulkActionItem> transition(
+            UUID businessId, ReservationRequestDto.BulkStatusChange request, LocalDateTime now) {
+
+        Rule rule = Rule.of(request.action());
+
+        if (request.reservationDate() != null) {
+            List<StatusTransition> transitions = reservationQueryRepository.transitionStatusByDate(
+                    businessId, request.reservationDate(), rule.from(), rule.to(), now);
+            afterTransition(businessId, rule, transitions);
+
+            List<ReservationResponseDto.BulkActionItem> results = new ArrayList<>(transitions.size());
+            for (StatusTransition transition : transitions) {
+                results.add(ReservationResponseDto.BulkActionItem.succeeded(transition.reservationId(), rule.to()));
+            }
+            return results;
+        }
+
+        Set<UUID> reservationIds = new LinkedHashSet<>(request.reservationIds());
+        List<StatusTransition> transitions = reservationQueryRepository.transitionStatusByIds(
+                businessId, reservationIds, rule.from(), rule.to(), now);
+        afterTransition(businessId, rule, transitions);
+
+        Set<UUID> transitioned = new HashSet<>();
+        for (StatusTransition transition : transitions) {
+            transitioned.add(transition.reservationId());
+        }
+
+        // 변경되지 않은 예약만 현재 상태 조회 (실패 사유 구분)
+        List<UUID> untouched = new ArrayList<>();
+        for (UUID reservationId : reservationIds) {
+            if (!transitioned.contains(reservationId)) {
+                untouched.add(reservationId);
+            }
+        }
+        Map<UUID, ReservationStatus> currentStatuses = reservationQueryRepository.findStatusesByIds(businessId, untouched);
+
+        List<ReservationResponseDto.BulkActionItem> results = new ArrayList<>(reservationIds.size());
+        for (UUID reservationId : reservationIds) {
+            if (transitioned.contains(reservationId)) {
+                results.add(ReservationResponseDto.BulkActionItem.succeeded(reservationId, rule.to()));
+                continue;
+            }
+
+            ReservationStatus currentStatus = currentStatuses.get(reservationId);
+            ReservationErrorCode errorCode = currentStatus == null
+                    ? ReservationErrorCode.RESERVATION_NOT_FOUND
+                    : ReservationErrorCode.RESERVATION_INVALID_STATUS;
+            results.add(ReservationResponseDto.BulkActionItem.failed(reservationId, currentStatus, errorCode.name()));
+        }
+        return results;
+    }
+
+    /**
+     * 전이 후처리
+     * - 취소(거절 / 대기 만료)면 슬롯 좌석 반환
+     * - 변경된 예약마다 ReservationChangedEvent 발행
+     * - 자동 완료 / 대기 만료 스케줄러에서도 사용
+     *
+     * @param to 전이 후 상태
+     * @param eventType 발행할 이벤트 유형
+     * @param transitions 실제로 변경된 예약
+     */
+    public void afterTransition(
+            ReservationStatus to, ReservationChangedEvent.Type eventType, List<StatusTransition> transitions) {
+
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        if (to == ReservationStatus.CANCELLED) {
+            List<UUID> bookingSlotIds = new ArrayList<>(transitions.size());
+            for (StatusTransition transition : transitions) {
+                bookingSlotIds.add(transition.bookingSlotId());
+            }
+            seatHelper.releaseSeats(bookingSlotIds);
+        }
+
+        for (StatusTransition transition : transitions) {
+            eventPublisher.publishEvent(ReservationChangedEvent.statusChanged(eventType, transition));
+        }
+    }
+
+    private void afterTransition(UUID businessId, Rule rule, List<StatusTransition> transitions) {
+        afterTransition(rule.to(), rule.eventType(), transitions);
+
+        log.info("예약 일괄 상태 변경: businessId={}, {} → {}, count={}",
+                businessId, rule.from(), rule.to(), transitions.size());
+    }
+
+    /**
+     * 처리 유형별 상태 전이 규칙 (단건 처리의 엔티티 검증과 동일)
+     */
+    private record Rule(ReservationStatus from, ReservationStatus to, ReservationChangedEvent.Type eventType) {
+
+        static Rule of(ReservationRequestDto.BulkAction action) {
+            return switch (action) {
+                case APPROVE -> new Rule(
+                        ReservationStatus.PENDING, ReservationStatus.CONFIRMED, ReservationChangedEvent.Type.CONFIRMED);
+                case REJECT -> new Rule(
+                        ReservationStatus.PENDING, ReservationStatus.CANCELLED, ReservationChangedEvent.Type.CANCELLED);
+                case COMPLETE -> new Rule(
+                        ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED, ReservationChangedEvent.Type.COMPLETED);
+                case NO_SHOW -> new Rule(
+                        ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, ReservationChangedEvent.Type.NO_SHOW);
+            };
+        }
+    }
+}
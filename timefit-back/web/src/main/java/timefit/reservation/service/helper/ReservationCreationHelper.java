@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import timefit.booking.entity.BookingSlot;
+import timefit.booking.service.helper.BookingSlotHoldHelper;
+import timefit.booking.service.helper.BookingSlotSeatHelper;
 import timefit.business.entity.Business;
 import timefit.menu.entity.Menu;
 import timefit.reservation.dto.ReservationRequestDto;
@@ -35,6 +37,8 @@ public class ReservationCreationHelper {
 
     private final ReservationEntityLoader entityLoader;
     private final ReservationValidator validator;
+    private final BookingSlotSeatHelper seatHelper;
+    private final BookingSlotHoldHelper holdHelper;
 
     /**
      * 예약 생성 (RESERVATION_BASED / ONDEMAND_BASED 통합)
@@ -68,8 +72,10 @@ public class ReservationCreationHelper {
      * 1. 엔티티 조회 (User + BookingSlot[Business, Menu])
      * 2. 연관관계 검증
      * 3. 날짜 검증
-     * 4. 시간대 충돌 검증
-     * 5. Reservation 엔티티 생성
+     * 4. 슬롯 선점 검증 (다른 고객 선점으로 마감이면 DB 쓰기 없이 거절)
+     * 5. 슬롯 좌석 점유 (원자적 조건부 UPDATE, 마감 시 즉시 거절)
+     * 6. 시간대 충돌 검증
+     * 7. Reservation 엔티티 생성 (커밋 후 선점 해제)
      */
     private Reservation createReservationBased(
             ReservationRequestDto.CreateReservation request,
@@ -88,10 +94,18 @@ public class ReservationCreationHelper {
         // 2. 연관관계 검증 (Menu가 Business에 속하는지)
         validator.validateMenuBelongsToBusiness(menu, business.getId());
 
-        // 3. 날짜 검증
+        // 3. 날짜 검증 (과거 날짜, 휴무 / 단축 영업)
         validator.validateNotPastDate(bookingSlot.getSlotDate());
+        validator.validateNotExcludedByDateOverride(business.getId(), bookingSlot.getSlotDate(),
+                bookingSlot.getStartTime(), bookingSlot.getEndTime());
 
-        // 4. 시간대 충돌 검증
+        // 4. 슬롯 선점 검증
+        holdHelper.validateBeforeClaim(bookingSlot, customerId, request.holdId());
+
+        // 5. 슬롯 좌석 점유 (이후 단계 실패 시 트랜잭션 롤백으로 함께 취소)
+        seatHelper.claimSeat(bookingSlot);
+
+        // 6. 시간대 충돌 검증
         LocalTime startTime = bookingSlot.getStartTime();
         LocalTime endTime = startTime.plusMinutes(menu.getDurationMinutes());
 
@@ -103,7 +117,8 @@ public class ReservationCreationHelper {
                 menu.getId()
         );
 
-        // 5. Reservation 엔티티 생성
+        // 7. Reservation 엔티티 생성 (선점은 좌석 점유로 전환되었으므로 커밋 후 해제)
+        holdHelper.releaseAfterCommit(request.holdId(), customerId);
         return Reservation.createReservationBased(
                 customer,
                 business,
@@ -140,8 +155,10 @@ public class ReservationCreationHelper {
         // 2. 연관관계 검증 (Menu가 Business에 속하는지)
         validator.validateMenuBelongsToBusiness(menu, business.getId());
 
-        // 3. 날짜 검증
+        // 3. 날짜 검증 (과거 날짜, 휴무 / 단축 영업)
         validator.validateNotPastDate(request.reservationDate());
+        validator.validateNotExcludedByDateOverride(business.getId(), request.reservationDate(),
+                request.reservationTime(), request.reservationTime().plusMinutes(menu.getDurationMinutes()));
 
         // 4. Reservation 엔티티 생성 (ONDEMAND는 시간대 충돌 체크 불필요)
         return Reservation.createOnDemandBased(
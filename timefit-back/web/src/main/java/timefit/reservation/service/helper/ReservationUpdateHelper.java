@@ -44,6 +44,9 @@ public class ReservationUpdateHelper {
         // 2. 날짜/시간 수정
         if (request.reservationDate() != null && request.reservationTime() != null) {
             validator.validateNotPastDate(request.reservationDate());
+            validator.validateNotExcludedByDateOverride(reservation.getBusiness().getId(),
+                    request.reservationDate(), request.reservationTime(),
+                    request.reservationTime().plusMinutes(reservation.getReservationDuration()));
             reservation.updateReservationDateTime(request.reservationDate(), request.reservationTime());
         }
 
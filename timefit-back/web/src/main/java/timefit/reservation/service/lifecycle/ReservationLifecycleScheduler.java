@@ -0,0 +1,114 @@
+package timefit.reservation.service.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import timefit.common.lease.SchedulerLeaseManager;
+import timefit.reservation.repository.ReservationQueryRepository.LifecycleCursor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 예약 자동 처리 스케줄러 (자동 완료 / 대기 만료)
+ *
+ * [분할 / 다중 노드]
+ * - 업체 ID 범위로 shard-count 개 구간으로 나누고 구간마다 DB 임대(scheduler_lease) 획득 후 처리
+ * - 노드마다 임의 구간부터 돌기 때문에 동시에 실행되면 노드끼리 구간을 나눠 처리
+ * - 배치마다 임대를 연장하고, 연장 실패(다른 노드가 가져감) 시 해당 구간 즉시 중단
+ * - 구간 처리 후 임대 반납, 노드가 죽으면 lease-seconds 경과 후 다른 노드가 이어받음
+ *
+ * [배치]
+ * - 배치(트랜잭션)마다 최대 batch-size 건 조회, 구간당 최대 max-batches-per-run 회
+ * - 전이 조건이 UPDATE 안에 있으므로 중복 실행되어도 같은 예약이 두 번 처리되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.reservation.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationLifecycleScheduler {
+
+    private final ReservationLifecycleService lifecycleService;
+    private final SchedulerLeaseManager leaseManager;
+
+    // 업체 ID 구간 수 (노드 수 이상 권장)
+    @Value("${timefit.reservation.lifecycle.shard-count:8}")
+    private int shardCount;
+
+    // 배치(트랜잭션) 당 최대 조회 건수
+    @Value("${timefit.reservation.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    // 구간당 1회 실행 최대 배치 수 (남은 예약은 다음 실행에서 처리)
+    @Value("${timefit.reservation.lifecycle.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    // 구간 임대 기간 (배치 1회 처리 시간보다 충분히 길게)
+    @Value("${timefit.reservation.lifecycle.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Scheduled(
+            initialDelayString = "${timefit.reservation.lifecycle.interval-ms:300000}",
+            fixedDelayString = "${timefit.reservation.lifecycle.interval-ms:300000}")
+    public void run() {
+        long startedAt = System.currentTimeMillis();
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+
+        int shardsProcessed = 0;
+        long completed = 0;
+        long expired = 0;
+
+        for (int i = 0; i < shardCount; i++) {
+            ReservationLifecycleShard shard = ReservationLifecycleShard.of((offset + i) % shardCount, shardCount);
+            Duration leaseDuration = Duration.ofSeconds(leaseSeconds);
+
+            if (!leaseManager.tryAcquire(shard.leaseName(), leaseDuration)) {
+                continue;
+            }
+
+            try {
+                // 대기 만료 먼저 (좌석 반환), 이후 자동 완료
+                expired += runTask(ReservationLifecycleTask.PENDING_EXPIRY, shard, leaseDuration);
+                completed += runTask(ReservationLifecycleTask.AUTO_COMPLETE, shard, leaseDuration);
+                shardsProcessed++;
+            } catch (RuntimeException e) {
+                log.error("예약 자동 처리 실패: shard={}", shard.index(), e);
+            } finally {
+                leaseManager.release(shard.leaseName());
+            }
+        }
+
+        if (completed > 0 || expired > 0) {
+            log.info("예약 자동 처리 완료: shards={}/{}, completed={}, expired={}, elapsedMs={}",
+                    shardsProcessed, shardCount, completed, expired, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private long runTask(ReservationLifecycleTask task, ReservationLifecycleShard shard, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        LifecycleCursor cursor = null;
+        long transitioned = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            // 배치마다 임대 연장 (다른 노드가 가져갔으면 중단)
+            if (batch > 0 && !leaseManager.tryAcquire(shard.leaseName(), leaseDuration)) {
+                log.warn("예약 자동 처리 임대 상실 - 구간 중단: shard={}, task={}", shard.index(), task);
+                break;
+            }
+
+            ReservationLifecycleService.BatchResult result =
+                    lifecycleService.runBatch(task, shard, cursor, batchSize, now);
+            transitioned += result.transitioned();
+            cursor = result.next();
+
+            if (result.scanned() < batchSize) {
+                break;
+            }
+        }
+        return transitioned;
+    }
+}
@@ -0,0 +1,133 @@
+package timefit.reservation.service.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationQueryRepository.LifecycleCandidate;
+import timefit.reservation.repository.ReservationQueryRepository.LifecycleCursor;
+import timefit.reservation.repository.ReservationQueryRepository.StatusTransition;
+import timefit.reservation.service.helper.ReservationBulkStatusHelper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 자동 처리 (자동 완료 / 대기 만료) 배치 단위 실행
+ *
+ * [배치 1회 = 트랜잭션 1회]
+ * 1. 후보 조회: 상태 + 예약 날짜 인덱스 범위(최근 lookback-days 일), 업체 ID 구간, (날짜, ID) keyset, 최대 batchSize
+ * 2. 업체 정책(없으면 기본값) 지연 시간으로 기한 지난 예약만 선별
+ * 3. 기한 지난 예약 행 잠금 + UPDATE 1회 (그사이 단건 처리된 예약은 자동 제외)
+ * 4. 좌석 반환 / 이벤트 발행 (ReservationBulkStatusHelper)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReservationLifecycleService {
+
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final ReservationBulkStatusHelper bulkStatusHelper;
+
+    // 자동 처리 대상 예약 날짜 범위 (오늘 기준 며칠 전까지, 그 이전 예약은 건드리지 않음)
+    @Value("${timefit.reservation.lifecycle.lookback-days:7}")
+    private int lookbackDays;
+
+    // 정책 미설정 업체의 자동 완료 여부 (기본 꺼짐, 업체 정책으로 opt-in)
+    @Value("${timefit.reservation.lifecycle.auto-complete.enabled-by-default:false}")
+    private boolean autoCompleteEnabledByDefault;
+
+    // 정책 미설정 업체의 자동 완료 지연 (예약 종료 후, 분)
+    @Value("${timefit.reservation.lifecycle.auto-complete.delay-minutes:60}")
+    private int autoCompleteDelayMinutes;
+
+    // 정책 미설정 업체의 대기 만료 여부 (기본 꺼짐, 업체 정책으로 opt-in)
+    @Value("${timefit.reservation.lifecycle.pending-expiry.enabled-by-default:false}")
+    private boolean pendingExpiryEnabledByDefault;
+
+    // 정책 미설정 업체의 대기 만료 지연 (예약 시작 후, 분)
+    @Value("${timefit.reservation.lifecycle.pending-expiry.delay-minutes:30}")
+    private int pendingExpiryDelayMinutes;
+
+    /**
+     * 배치 1회 실행
+     *
+     * @param task 처리 유형
+     * @param shard 업체 ID 구간
+     * @param after 이전 배치 마지막 위치 (첫 배치는 null)
+     * @param batchSize 후보 최대 건수
+     * @param now 기준 시각
+     * @return 조회 / 변경 건수 + 다음 배치 위치
+     */
+    public BatchResult runBatch(
+            ReservationLifecycleTask task, ReservationLifecycleShard shard,
+            LifecycleCursor after, int batchSize, LocalDateTime now) {
+
+        List<LifecycleCandidate> candidates = findCandidates(task, shard, after, batchSize, now);
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, 0, after);
+        }
+
+        int defaultDelayMinutes = task == ReservationLifecycleTask.AUTO_COMPLETE
+                ? autoCompleteDelayMinutes
+                : pendingExpiryDelayMinutes;
+
+        List<UUID> dueIds = new ArrayList<>();
+        for (LifecycleCandidate candidate : candidates) {
+            if (!dueAt(task, candidate, defaultDelayMinutes).isAfter(now)) {
+                dueIds.add(candidate.reservationId());
+            }
+        }
+
+        List<StatusTransition> transitions =
+                reservationQueryRepository.transitionStatus(dueIds, task.getFrom(), task.getTo(), now);
+        bulkStatusHelper.afterTransition(task.getTo(), task.getEventType(), transitions);
+
+        return new BatchResult(candidates.size(), transitions.size(), candidates.get(candidates.size() - 1).cursor());
+    }
+
+    private List<LifecycleCandidate> findCandidates(
+            ReservationLifecycleTask task, ReservationLifecycleShard shard,
+            LifecycleCursor after, int batchSize, LocalDateTime now) {
+
+        // 지연 시간은 0 이상이므로 오늘 이후 예약은 대상이 될 수 없음
+        LocalDate throughDate = now.toLocalDate();
+        LocalDate fromDate = throughDate.minusDays(lookbackDays);
+        return switch (task) {
+            case AUTO_COMPLETE -> reservationQueryRepository.findAutoCompleteCandidates(
+                    fromDate, throughDate, autoCompleteEnabledByDefault,
+                    shard.fromBusinessId(), shard.toBusinessId(), after, batchSize);
+            case PENDING_EXPIRY -> reservationQueryRepository.findPendingExpiryCandidates(
+                    fromDate, throughDate, pendingExpiryEnabledByDefault,
+                    shard.fromBusinessId(), shard.toBusinessId(), after, batchSize);
+        };
+    }
+
+    // 자동 처리 기한 = 기준 시각(시작 또는 종료) + 업체 지연 시간(없으면 기본값)
+    private static LocalDateTime dueAt(
+            ReservationLifecycleTask task, LifecycleCandidate candidate, int defaultDelayMinutes) {
+
+        LocalDateTime dueAt = LocalDateTime.of(candidate.reservationDate(), candidate.reservationTime());
+        if (task.isFromEndTime() && candidate.durationMinutes() != null) {
+            dueAt = dueAt.plusMinutes(candidate.durationMinutes());
+        }
+        int delayMinutes = candidate.delayMinutes() != null ? candidate.delayMinutes() : defaultDelayMinutes;
+        return dueAt.plusMinutes(delayMinutes);
+    }
+
+    /**
+     * 배치 실행 결과
+     *
+     * @param scanned 조회한 후보 수 (batchSize 미만이면 마지막 배치)
+     * @param transitioned 실제로 변경된 예약 수
+     * @param next 다음 배치 시작 위치
+     */
+    public record BatchResult(int scanned, int transitioned, LifecycleCursor next) {
+    }
+}
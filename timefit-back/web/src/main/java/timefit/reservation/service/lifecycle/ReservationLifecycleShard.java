@@ -0,0 +1,42 @@
+package timefit.reservation.service.lifecycle;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * 자동 처리 작업 분할 단위 (업체 ID 범위)
+ * - UUID 상위 64비트를 shardCount 등분 → [fromBusinessId, toBusinessId)
+ * - DB의 UUID 비교(바이트 순)와 같은 순서이므로 범위 조건만으로 분할 가능
+ * - 첫 구간 하한 / 마지막 구간 상한은 null (제한 없음)
+ *
+ * @param index 구간 번호 (0부터)
+ * @param fromBusinessId 업체 ID 하한 (포함)
+ * @param toBusinessId 업체 ID 상한 (제외)
+ */
+public record ReservationLifecycleShard(int index, UUID fromBusinessId, UUID toBusinessId) {
+
+    private static final BigInteger HIGH_BITS_RANGE = BigInteger.ONE.shiftLeft(64);
+
+    public static ReservationLifecycleShard of(int index, int shardCount) {
+        if (shardCount < 1 || index < 0 || index >= shardCount) {
+            throw new IllegalArgumentException("잘못된 구간: index=" + index + ", shardCount=" + shardCount);
+        }
+        return new ReservationLifecycleShard(
+                index,
+                index == 0 ? null : boundary(index, shardCount),
+                index == shardCount - 1 ? null : boundary(index + 1, shardCount));
+    }
+
+    public String leaseName() {
+        return "reservation-lifecycle:" + index;
+    }
+
+    // 상위 64비트 = 2^64 * index / shardCount (부호 없는 값을 long 비트로 보관)
+    private static UUID boundary(int index, int shardCount) {
+        long mostSignificantBits = HIGH_BITS_RANGE
+                .multiply(BigInteger.valueOf(index))
+                .divide(BigInteger.valueOf(shardCount))
+                .longValue();
+        return new UUID(mostSignificantBits, 0L);
+    }
+}
@@ -0,0 +1,26 @@
+package timefit.reservation.service.lifecycle;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import timefit.reservation.entity.ReservationStatus;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+/**
+ * 예약 자동 처리 유형
+ * - AUTO_COMPLETE: 종료 시각(시작 + 소요시간) + 지연 시간 경과한 CONFIRMED → COMPLETED
+ * - PENDING_EXPIRY: 시작 시각 + 지연 시간 경과한 PENDING → CANCELLED (슬롯 좌석 반환)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReservationLifecycleTask {
+
+    AUTO_COMPLETE(ReservationStatus.CONFIRMED, ReservationStatus.COMPLETED, ReservationChangedEvent.Type.COMPLETED, true),
+    PENDING_EXPIRY(ReservationStatus.PENDING, ReservationStatus.CANCELLED, ReservationChangedEvent.Type.CANCELLED, false);
+
+    private final ReservationStatus from;
+    private final ReservationStatus to;
+    private final ReservationChangedEvent.Type eventType;
+
+    // 지연 시간 기준이 예약 종료 시각인지 (false면 시작 시각)
+    private final boolean fromEndTime;
+}
@@ -0,0 +1,237 @@
+package timefit.reservation.service.timeline;
+
+import timefit.reservation.entity.Reservation;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업체의 하루 활성 예약 타임라인 (불변)
+ *
+ * [구조]
+ * - 시작 시간(분) 오름차순으로 정렬된 primitive 배열
+ * - starts[i], ends[i]: 자정 기준 분 (ends는 1440을 넘을 수 있음 - 자정 넘김 예약)
+ * - maxEnds[i]: ends[0..i]의 최대값 (prefix max) - 탐색 조기 종료용
+ *
+ * [충돌 탐색]
+ * 1. 이분 탐색으로 start < 신규 종료 인 마지막 인덱스 k를 찾음
+ * 2. k부터 역순으로 ends > 신규 시작 인 예약을 찾되, maxEnds <= 신규 시작이면 즉시 종료
+ * → O(log n + 겹치는 예약 수)
+ *
+ * [변경]
+ * - 추가/삭제는 copy-on-write (새 인스턴스 반환)
+ * - 동일 예약 ID 추가는 기존 항목을 대체 (멱등)
+ */
+public final class DayTimeline {
+
+    private static final DayTimeline EMPTY = new DayTimeline(
+            new int[0], new int[0], new UUID[0], new UUID[0], new String[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnds;
+    private final UUID[] reservationIds;
+    private final UUID[] menuIds;
+    private final String[] menuNames;
+
+    private DayTimeline(int[] starts, int[] ends, UUID[] reservationIds, UUID[] menuIds, String[] menuNames) {
+        this.starts = starts;
+        this.ends = ends;
+        this.reservationIds = reservationIds;
+        this.menuIds = menuIds;
+        this.menuNames = menuNames;
+        this.maxEnds = new int[ends.length];
+
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    public static DayTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 활성 예약 목록으로 타임라인 생성
+     * - menu가 fetch join 된 예약 목록이어야 함 (메뉴명 사용)
+     *
+     * @param reservations 해당 업체/날짜의 활성 예약
+     * @return 타임라인
+     */
+    public static DayTimeline of(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return EMPTY;
+        }
+
+        Reservation[] sorted = reservations.toArray(new Reservation[0]);
+        Arrays.sort(sorted, Comparator.comparing(Reservation::getReservationTime));
+
+        int size = sorted.length;
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        UUID[] reservationIds = new UUID[size];
+        UUID[] menuIds = new UUID[size];
+        String[] menuNames = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            Reservation reservation = sorted[i];
+            starts[i] = toMinuteOfDay(reservation.getReservationTime());
+            ends[i] = starts[i] + reservation.getReservationDuration();
+            reservationIds[i] = reservation.getId();
+            menuIds[i] = reservation.getMenu().getId();
+            menuNames[i] = reservation.getMenu().getServiceName();
+        }
+
+        return new DayTimeline(starts, ends, reservationIds, menuIds, menuNames);
+    }
+
+    /**
+     * 시간대 충돌 탐색
+     * - 정각 경계는 허용 ([09:00-12:00]와 [12:00-13:00]은 겹치지 않음)
+     *
+     * @param startMinute 신규 시작 (분)
+     * @param endMinute 신규 종료 (분)
+     * @param excludeMenuId 제외할 메뉴 ID (null 가능)
+     * @return 충돌 예약 정보, 없으면 null
+     */
+    public TimelineConflict findConflict(int startMinute, int endMinute, UUID excludeMenuId) {
+        int k = lowerBound(starts, endMinute) - 1;
+
+        for (int i = k; i >= 0; i--) {
+            if (maxEnds[i] <= startMinute) {
+                break;
+            }
+            if (ends[i] > startMinute && (excludeMenuId == null || !excludeMenuId.equals(menuIds[i]))) {
+                return new TimelineConflict(
+                        reservationIds[i], menuNames[i], toLocalTime(starts[i]), toLocalTime(ends[i]));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 예약 추가 (동일 예약 ID가 있으면 대체)
+     *
+     * @return 새 타임라인
+     */
+    public DayTimeline with(UUID reservationId, UUID menuId, String menuName, int startMinute, int endMinute) {
+        DayTimeline base = without(reservationId);
+        int size = base.size();
+        int pos = upperBound(base.starts, startMinute);
+
+        int[] newStarts = insert(base.starts, pos, startMinute);
+        int[] newEnds = insert(base.ends, pos, endMinute);
+        UUID[] newReservationIds = insert(base.reservationIds, new UUID[size + 1], pos, reservationId);
+        UUID[] newMenuIds = insert(base.menuIds, new UUID[size + 1], pos, menuId);
+        String[] newMenuNames = insert(base.menuNames, new String[size + 1], pos, menuName);
+
+        return new DayTimeline(newStarts, newEnds, newReservationIds, newMenuIds, newMenuNames);
+    }
+
+    /**
+     * 예약 제거 (없으면 자기 자신 반환)
+     *
+     * @return 새 타임라인
+     */
+    public DayTimeline without(UUID reservationId) {
+        int pos = indexOf(reservationId);
+        if (pos < 0) {
+            return this;
+        }
+        if (size() == 1) {
+            return EMPTY;
+        }
+
+        return new DayTimeline(
+                remove(starts, pos),
+                remove(ends, pos),
+                remove(reservationIds, new UUID[size() - 1], pos),
+                remove(menuIds, new UUID[size() - 1], pos),
+                remove(menuNames, new String[size() - 1], pos)
+        );
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toLocalTime(int minute) {
+        return LocalTime.of((minute / 60) % 24, minute % 60);
+    }
+
+    private int indexOf(UUID reservationId) {
+        for (int i = 0; i < reservationIds.length; i++) {
+            if (reservationIds[i].equals(reservationId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 첫 번째 values[i] >= key 인 인덱스
+    private static int lowerBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 첫 번째 values[i] > key 인 인덱스
+    private static int upperBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] insert(int[] source, int pos, int value) {
+        int[] target = new int[source.length + 1];
+        System.arraycopy(source, 0, target, 0, pos);
+        target[pos] = value;
+        System.arraycopy(source, pos, target, pos + 1, source.length - pos);
+        return target;
+    }
+
+    private static <T> T[] insert(T[] source, T[] target, int pos, T value) {
+        System.arraycopy(source, 0, target, 0, pos);
+        target[pos] = value;
+        System.arraycopy(source, pos, target, pos + 1, source.length - pos);
+        return target;
+    }
+
+    private static int[] remove(int[] source, int pos) {
+        int[] target = new int[source.length - 1];
+        System.arraycopy(source, 0, target, 0, pos);
+        System.arraycopy(source, pos + 1, target, pos, source.length - pos - 1);
+        return target;
+    }
+
+    private static <T> T[] remove(T[] source, T[] target, int pos) {
+        System.arraycopy(source, 0, target, 0, pos);
+        System.arraycopy(source, pos + 1, target, pos, source.length - pos - 1);
+        return target;
+    }
+}
@@ -0,0 +1,36 @@
+package timefit.reservation.service.timeline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 JVM 내 타임라인 무효화 버스 (기본 구현)
+ * - 등록된 모든 구독자에게 동기 전달
+ * - 다른 노드에는 전달되지 않음 → 다중 노드에서는 타임라인 TTL과 생성 시 DB 재확인으로 정합성 유지
+ */
+@Slf4j
+@Component
+public class LocalTimelineInvalidationBus implements TimelineInvalidationBus {
+
+    private final List<Consumer<TimelineInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TimelineInvalidation message) {
+        for (Consumer<TimelineInvalidation> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("타임라인 무효화 메시지 처리 실패: key={}", message.key(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TimelineInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
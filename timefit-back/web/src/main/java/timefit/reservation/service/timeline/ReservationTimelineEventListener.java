@@ -0,0 +1,49 @@
+package timefit.reservation.service.timeline;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import timefit.reservation.service.event.ReservationChangedEvent;
+
+/**
+ * 예약 이벤트 → 타임라인 인덱스 반영
+ * - 커밋된 변경만 반영 (AFTER_COMMIT)
+ * - CREATED: 구간 추가
+ * - CANCELLED / COMPLETED / NO_SHOW: 구간 제거 (활성 예약 아님)
+ * - CONFIRMED: 활성 상태 유지 → 변경 없음
+ * - RESCHEDULED: 이전/변경 날짜 모두 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationTimelineEventListener {
+
+    private final ReservationTimelineIndex timelineIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        TimelineKey key = TimelineKey.of(event.businessId(), event.reservationDate());
+
+        switch (event.type()) {
+            case CREATED -> {
+                int start = DayTimeline.toMinuteOfDay(event.reservationTime());
+                timelineIndex.add(key, event.reservationId(), event.menuId(), event.menuName(),
+                        start, start + event.durationMinutes());
+            }
+            case CANCELLED, COMPLETED, NO_SHOW -> timelineIndex.remove(key, event.reservationId());
+            case RESCHEDULED -> {
+                timelineIndex.invalidate(key);
+                if (event.previousDate() != null && !event.previousDate().equals(event.reservationDate())) {
+                    timelineIndex.invalidate(TimelineKey.of(event.businessId(), event.previousDate()));
+                }
+            }
+            case CONFIRMED -> {
+                // 활성 구간 변화 없음
+            }
+        }
+
+        log.debug("타임라인 이벤트 반영: type={}, reservationId={}", event.type(), event.reservationId());
+    }
+}
@@ -0,0 +1,110 @@
+package timefit.reservation.service.timeline;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import timefit.common.cache.GenerationGuardedCache;
+import timefit.reservation.repository.ReservationQueryRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 업체별 하루 예약 타임라인 인덱스 (in-memory 캐시)
+ *
+ * [역할]
+ * - (업체, 날짜) 단위로 활성 예약(PENDING, CONFIRMED) 구간을 DayTimeline으로 보관
+ * - 캐시 미스 시 DB에서 재구성 (findActiveReservationsByBusinessAndDate 1회)
+ * - 예약 이벤트(생성/취소/완료/노쇼) 커밋 후 델타 반영
+ * - 다른 노드에는 TimelineInvalidationBus로 무효화 전파 (기본 구현은 단일 JVM → 다른 노드 변경은 TTL 경과 후 반영)
+ * - 노드별 캐시이므로 충돌 판정의 최종 근거가 아님 (ReservationValidator가 생성 트랜잭션 안에서 DB로 재확인)
+ *
+ * [정합성]
+ * - GenerationGuardedCache: 로드 시작 이후 변경이 있었다면 로드 결과를 캐시에 넣지 않음 (다음 조회 때 재로드)
+ * - 짧은 TTL로 다른 노드 변경의 반영 지연 상한을 둠, 최대 키 수 도달 시 오래 조회되지 않은 날짜부터 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationTimelineIndex {
+
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final TimelineInvalidationBus invalidationBus;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 캐시 항목 유지 시간 (초)
+    @Value("${timefit.reservation.timeline.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    // 캐시 최대 키 수 (초과 시 오래 조회되지 않은 날짜부터 정리)
+    @Value("${timefit.reservation.timeline.max-entries:10000}")
+    private int maxEntries;
+
+    private GenerationGuardedCache<TimelineKey, DayTimeline> timelines;
+
+    @PostConstruct
+    void init() {
+        timelines = new GenerationGuardedCache<>("타임라인", Duration.ofSeconds(ttlSeconds), maxEntries);
+        invalidationBus.subscribe(message -> {
+            if (!nodeId.equals(message.originNodeId())) {
+                evictLocal(message.key());
+            }
+        });
+    }
+
+    /**
+     * 타임라인 조회 (캐시 미스 시 DB 로드)
+     *
+     * @param businessId 업체 ID
+     * @param date 날짜
+     * @return 해당 업체/날짜의 타임라인
+     */
+    public DayTimeline getTimeline(UUID businessId, LocalDate date) {
+        TimelineKey key = TimelineKey.of(businessId, date);
+
+        return timelines.get(key, () -> {
+            DayTimeline loaded = DayTimeline.of(
+                    reservationQueryRepository.findActiveReservationsByBusinessAndDate(businessId, date));
+            log.debug("타임라인 로드: businessId={}, date={}, size={}", businessId, date, loaded.size());
+            return loaded;
+        });
+    }
+
+    /**
+     * 예약 추가 반영 (캐시에 있을 때만)
+     */
+    public void add(TimelineKey key, UUID reservationId, UUID menuId, String menuName,
+                    int startMinute, int endMinute) {
+        timelines.updateIfPresent(key, timeline ->
+                timeline.with(reservationId, menuId, menuName, startMinute, endMinute));
+        broadcast(key);
+    }
+
+    /**
+     * 예약 제거 반영 (캐시에 있을 때만)
+     */
+    public void remove(TimelineKey key, UUID reservationId) {
+        timelines.updateIfPresent(key, timeline -> timeline.without(reservationId));
+        broadcast(key);
+    }
+
+    /**
+     * 타임라인 무효화 (다음 조회 시 DB 재로드)
+     */
+    public void invalidate(TimelineKey key) {
+        evictLocal(key);
+        broadcast(key);
+    }
+
+    private void evictLocal(TimelineKey key) {
+        timelines.evict(key);
+    }
+
+    private void broadcast(TimelineKey key) {
+        invalidationBus.publish(new TimelineInvalidationBus.TimelineInvalidation(nodeId, key));
+    }
+}
@@ -0,0 +1,29 @@
+package timefit.reservation.service.timeline;
+
+import timefit.reservation.entity.Reservation;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 타임라인 충돌 정보 (에러 메시지 구성용)
+ */
+public record TimelineConflict(
+        UUID reservationId,
+        String menuName,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+
+    /**
+     * DB에서 조회한 충돌 예약으로 생성 (menu 페치 조인 필요)
+     */
+    public static TimelineConflict of(Reservation reservation) {
+        LocalTime startTime = reservation.getReservationTime();
+        return new TimelineConflict(
+                reservation.getId(),
+                reservation.getMenu().getServiceName(),
+                startTime,
+                startTime.plusMinutes(reservation.getReservationDuration()));
+    }
+}
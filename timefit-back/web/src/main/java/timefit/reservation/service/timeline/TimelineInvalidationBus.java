@@ -0,0 +1,35 @@
+package timefit.reservation.service.timeline;
+
+import java.util.function.Consumer;
+
+/**
+ * 타임라인 무효화 메시지 Pub/Sub 추상화
+ * - 다른 노드의 타임라인 캐시를 TTL 전에 무효화하기 위해 사용 (반영 지연 단축용, 정합성은 의존하지 않음)
+ * - 기본 구현: LocalTimelineInvalidationBus (단일 JVM 내 전달 → 다른 노드는 TTL 경과 후 반영)
+ * - 다중 노드 배포 시 Redis Pub/Sub 등으로 교체 가능 (@Primary 빈 등록)
+ */
+public interface TimelineInvalidationBus {
+
+    /**
+     * 무효화 메시지 발행
+     *
+     * @param message 무효화 메시지 (발행 노드 ID 포함)
+     */
+    void publish(TimelineInvalidation message);
+
+    /**
+     * 무효화 메시지 구독
+     *
+     * @param listener 메시지 수신 시 호출할 리스너
+     */
+    void subscribe(Consumer<TimelineInvalidation> listener);
+
+    /**
+     * 무효화 메시지
+     *
+     * @param originNodeId 발행 노드 ID (자기 자신이 발행한 메시지는 무시)
+     * @param key 무효화할 타임라인 키
+     */
+    record TimelineInvalidation(String originNodeId, TimelineKey key) {
+    }
+}
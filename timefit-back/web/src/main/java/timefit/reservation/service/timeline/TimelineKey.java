@@ -0,0 +1,14 @@
+package timefit.reservation.service.timeline;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 타임라인 인덱스 키 (업체 + 날짜)
+ */
+public record TimelineKey(UUID businessId, LocalDate date) {
+
+    public static TimelineKey of(UUID businessId, LocalDate date) {
+        return new TimelineKey(businessId, date);
+    }
+}
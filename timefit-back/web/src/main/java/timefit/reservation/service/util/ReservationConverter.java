@@ -6,6 +6,9 @@ import org.springframework.stereotype.Component;
 import timefit.reservation.dto.ReservationResponseDto;
 import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
+import timefit.reservation.repository.ReservationQueryRepository;
+
+import java.util.List;
 
 /**
  * Reservation Entity -> Response DTO 변환 전담
@@ -18,6 +21,8 @@ import timefit.reservation.entity.ReservationStatus;
 @RequiredArgsConstructor
 public class ReservationConverter {
 
+    private final ReservationCursorCodec cursorCodec;
+
     /**
      * Entity -> CustomerReservation (단수 - 상세)
      */
@@ -91,6 +96,25 @@ public class ReservationConverter {
         );
     }
 
+    /**
+     * keyset 조회 결과 -> PaginationInfo (커서 모드)
+     *
+     * @param reservations 현재 페이지 예약 (정렬 순서 유지)
+     * @param size 페이지 크기
+     * @param hasNext 다음 페이지 존재 여부
+     * @param hasPrevious 커서로 이어서 조회한 페이지인지 여부
+     * @param totalElements 전체 개수 (요청하지 않았으면 null)
+     */
+    public ReservationResponseDto.PaginationInfo toCursorPaginationInfo(
+            List<Reservation> reservations, int size, boolean hasNext,
+            boolean hasPrevious, Long totalElements) {
+        String nextCursor = hasNext && !reservations.isEmpty()
+                ? cursorCodec.encode(ReservationQueryRepository.SeekKey.of(reservations.get(reservations.size() - 1)))
+                : null;
+        return ReservationResponseDto.PaginationInfo.ofCursor(
+                size, hasNext, hasPrevious, totalElements, nextCursor);
+    }
+
     /**
      * Entity + 상태 -> ReservationActionResult
      */
@@ -0,0 +1,62 @@
+package timefit.reservation.service.util;
+
+import org.springframework.stereotype.Component;
+import timefit.exception.reservation.ReservationErrorCode;
+import timefit.exception.reservation.ReservationException;
+import timefit.reservation.repository.ReservationQueryRepository.SeekKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 예약 목록 keyset 페이징 커서 인코딩/디코딩
+ *
+ * 형식:
+ * - Base64 URL-safe("v1|reservationDate|reservationTime|reservationId")
+ * - 클라이언트에는 불투명(opaque) 문자열로 노출 → 내부 정렬 키 변경 시 버전으로 구분
+ *
+ * 규칙:
+ * - 빈 커서("")는 첫 페이지
+ * - 해석할 수 없는 커서는 INVALID_CURSOR
+ */
+@Component
+public class ReservationCursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(SeekKey key) {
+        String raw = VERSION + DELIMITER + key.reservationDate()
+                + DELIMITER + key.reservationTime()
+                + DELIMITER + key.id();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 커서 문자열
+     * @return 기준 위치, 빈 커서면 null (첫 페이지)
+     */
+    public SeekKey decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new ReservationException(ReservationErrorCode.INVALID_CURSOR);
+            }
+            return new SeekKey(LocalDate.parse(parts[1]), LocalTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReservationException(ReservationErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package timefit.reservation.service.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.reservation.repository.ReservationQueryRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 요일 컬럼(reservation_day_of_week) 이관 (기동 시 1회, 웹 서버 시작 전)
+ *
+ * - 컬럼 도입 이전 예약 행을 reservation_date 기준으로 채움 (신규 / 수정 예약은 엔티티가 직접 설정)
+ * - 요청을 받기 전에 끝나도록 빈 초기화 단계에서 동기 실행
+ *   (이관 전 행도 조회 쿼리가 reservation_date 로 요일을 계산해 포함하므로 결과는 같고, 이관은 인덱스 활용용)
+ * - 청크 단위 트랜잭션, 이미 채워진 행은 대상 아님 (재기동 시 남은 행부터 재시도)
+ * - 실패 시 기동 중단 (다음 기동에서 재시도)
+ * - 이관 완료 후에는 timefit.reservation.day-of-week-backfill.enabled=false 로 기동 시 조회 생략 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timefit.reservation.day-of-week-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationDayOfWeekInitializer implements SmartInitializingSingleton {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReservationQueryRepository reservationQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long total = 0;
+
+        while (true) {
+            Integer filled = transactionTemplate.execute(status -> {
+                List<UUID> reservationIds = reservationQueryRepository.findIdsWithoutDayOfWeek(CHUNK_SIZE);
+                reservationQueryRepository.fillDayOfWeek(reservationIds);
+                return reservationIds.size();
+            });
+
+            total += filled;
+            if (filled < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("예약 요일 컬럼 이관 완료: reservations={}", total);
+        }
+    }
+}
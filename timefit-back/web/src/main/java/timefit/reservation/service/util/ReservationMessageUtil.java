@@ -79,4 +79,20 @@ public class ReservationMessageUtil {
     public String buildApproveMessage() {
         return "승인되었습니다";
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 처리 메시지 생성
+     *
+     * @param actionMessage 단건 처리 메시지 (buildXxxMessage 결과)
+     * @param succeededCount 성공 건수
+     * @param failedCount 실패 건수
+     * @return 일괄 처리 메시지
+     */
+    public String buildBulkMessage(String actionMessage, int succeededCount, int failedCount) {
+        String message = succeededCount + "건 " + actionMessage;
+        if (failedCount > 0) {
+            message += " (실패 " + failedCount + "건)";
+        }
+        return message;
+    }
+}
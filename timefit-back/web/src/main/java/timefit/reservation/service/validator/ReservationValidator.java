@@ -5,11 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import timefit.exception.reservation.ReservationErrorCode;
 import timefit.exception.reservation.ReservationException;
+import timefit.operatinghours.service.schedule.WeeklySchedule;
+import timefit.operatinghours.service.schedule.WeeklyScheduleCache;
 import timefit.reservation.entity.Reservation;
 import timefit.reservation.entity.ReservationStatus;
-import timefit.reservation.repository.ReservationRepository;
 import timefit.reservation.repository.ReservationQueryRepository;
+import timefit.reservation.repository.ReservationRepository;
+import timefit.reservation.service.timeline.DayTimeline;
+import timefit.reservation.service.timeline.ReservationTimelineIndex;
+import timefit.reservation.service.timeline.TimelineConflict;
+import timefit.reservation.service.timeline.TimelineKey;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
@@ -30,6 +37,8 @@ public class ReservationValidator {
 
     private final ReservationRepository reservationRepository;
     private final ReservationQueryRepository reservationQueryRepository;
+    private final ReservationTimelineIndex timelineIndex;
+    private final WeeklyScheduleCache weeklyScheduleCache;
 
     private static final int MAX_SEARCH_YEARS = 5;
 
@@ -106,6 +115,36 @@ public class ReservationValidator {
         }
     }
 
+    /**
+     * 날짜 예외(휴무 / 단축 영업) 검증
+     * - 해당 날짜 예외가 없으면 통과
+     * - 휴무일이면 RESERVATION_BUSINESS_CLOSED
+     * - 단축 영업 시간 안에 완전히 포함되지 않으면 RESERVATION_SLOT_UNAVAILABLE
+     *
+     * @param businessId 업체 ID
+     * @param reservationDate 예약 날짜
+     * @param startTime 시작 시간
+     * @param endTime 종료 시간
+     * @throws ReservationException 날짜 예외로 예약할 수 없는 경우
+     */
+    public void validateNotExcludedByDateOverride(
+            UUID businessId, LocalDate reservationDate, LocalTime startTime, LocalTime endTime) {
+
+        WeeklySchedule schedule = weeklyScheduleCache.get(businessId);
+        if (!schedule.isExcludedByOverride(reservationDate, startTime, endTime)) {
+            return;
+        }
+
+        WeeklySchedule.DateOverride override = schedule.overrideOn(reservationDate);
+        log.warn("날짜 예외로 예약 불가: businessId={}, date={}, time={}~{}, closed={}",
+                businessId, reservationDate, startTime, endTime, override.closed());
+
+        if (override.closed()) {
+            throw new ReservationException(ReservationErrorCode.RESERVATION_BUSINESS_CLOSED);
+        }
+        throw new ReservationException(ReservationErrorCode.RESERVATION_SLOT_UNAVAILABLE);
+    }
+
     /**
      * 예약 존재 및 업체 소속 동시 검증
      *
@@ -169,6 +208,10 @@ public class ReservationValidator {
      * 예약 시점 시간대 충돌 체크
      *
      * 같은 업체, 같은 날짜, 시간대가 겹치는 활성 예약이 있는지 확인
+     * 1. ReservationTimelineIndex의 (업체, 날짜) 타임라인에서 O(log n) 탐색 → 충돌 시 즉시 거절
+     * 2. 타임라인에 충돌이 없으면 DB에서 겹치는 예약 1건 조회 (생성 트랜잭션 안 최종 확인)
+     *    - 타임라인은 노드별 캐시 (다른 노드 예약은 TTL 경과 전까지 반영되지 않을 수 있음)
+     *    - DB에서 충돌이 발견되면 로컬 타임라인을 무효화 (다음 조회 때 재로드)
      *
      * [검증 시나리오]
      * 1. 파마 (08:00-10:00) 이미 예약됨
@@ -200,44 +243,43 @@ public class ReservationValidator {
         log.debug("시간대 충돌 체크 시작: businessId={}, date={}, {}~{}",
                 businessId, date, startTime, endTime);
 
-        // 1. 해당 업체의 해당 날짜 활성 예약 조회 (QueryDSL)
-        List<Reservation> activeReservations =
-                reservationQueryRepository.findActiveReservationsByBusinessAndDate(businessId, date);
-
-        if (activeReservations.isEmpty()) {
-            log.debug("활성 예약 없음 - 충돌 없음");
-            return;
+        int startMinute = DayTimeline.toMinuteOfDay(startTime);
+        int endMinute = startMinute + (int) Duration.between(startTime, endTime).toMinutes();
+        if (endMinute <= startMinute) {
+            // 자정을 넘기는 시간대
+            endMinute += 24 * 60;
         }
 
-        // 2. 각 예약과 시간대 겹침 체크
-        for (Reservation reservation : activeReservations) {
-            // 같은 메뉴는 제외 (자기 자신 체크 방지)
-            if (excludeMenuId != null &&
-                    reservation.getMenu().getId().equals(excludeMenuId)) {
-                continue;
-            }
+        // 1. 로컬 타임라인 탐색 (캐시 미스 시에만 DB 조회, 이분 탐색, 같은 메뉴는 제외)
+        TimelineConflict conflict = timelineIndex.getTimeline(businessId, date)
+                .findConflict(startMinute, endMinute, excludeMenuId);
+
+        // 2. 로컬 타임라인에 없으면 DB에서 최종 확인 (다른 노드에서 생성된 예약)
+        if (conflict == null) {
+            conflict = reservationQueryRepository
+                    .findFirstOverlappingActiveReservation(businessId, date, startMinute, endMinute, excludeMenuId)
+                    .map(TimelineConflict::of)
+                    .orElse(null);
 
-            // 예약 시간대 계산
-            LocalTime resStart = reservation.getReservationTime();
-            LocalTime resEnd = resStart.plusMinutes(reservation.getReservationDuration());
-
-            // 시간대 겹침 체크
-            if (isTimeOverlap(resStart, resEnd, startTime, endTime)) {
-                log.warn("시간대 충돌 발생: 기존={}~{}, 신규={}~{}, 기존메뉴={}, 기존예약번호={}",
-                        resStart, resEnd, startTime, endTime,
-                        reservation.getMenu().getServiceName(),
-                        reservation.getReservationNumber());
-
-                throw new ReservationException(
-                        ReservationErrorCode.RESERVATION_TIME_SLOT_CONFLICT,
-                        String.format("해당 시간대(%s~%s)에 이미 다른 예약(%s, %s~%s)이 있습니다",
-                                startTime, endTime,
-                                reservation.getMenu().getServiceName(),
-                                resStart, resEnd)
-                );
+            if (conflict != null) {
+                timelineIndex.invalidate(TimelineKey.of(businessId, date));
             }
         }
 
+        if (conflict != null) {
+            log.warn("시간대 충돌 발생: 기존={}~{}, 신규={}~{}, 기존메뉴={}, 기존예약={}",
+                    conflict.startTime(), conflict.endTime(), startTime, endTime,
+                    conflict.menuName(), conflict.reservationId());
+
+            throw new ReservationException(
+                    ReservationErrorCode.RESERVATION_TIME_SLOT_CONFLICT,
+                    String.format("해당 시간대(%s~%s)에 이미 다른 예약(%s, %s~%s)이 있습니다",
+                            startTime, endTime,
+                            conflict.menuName(),
+                            conflict.startTime(), conflict.endTime())
+            );
+        }
+
         log.debug("시간대 충돌 없음: 예약 가능");
     }
 
@@ -300,32 +342,17 @@ public class ReservationValidator {
     }
 
     /**
-     * 시간대 겹침 판정
-     *
-     * - 정각 경계는 허용 (12:00 종료, 12:00 시작 = 겹치지 않음)
-     * - 1분이라도 겹치면 충돌
+     * 일괄 상태 변경 대상 검증
+     * - 예약 ID 목록 / 예약 날짜 중 정확히 하나만 지정
      *
-     * 예시:
-     * - [09:00-12:00]와 [12:00-13:00] → 겹치지 않음 (정각 경계)
-     * - [09:00-12:00]와 [11:59-13:00] → 겹침 (1분 겹침)
-     *
-     * @param start1 첫 번째 시작 시간
-     * @param end1 첫 번째 종료 시간
-     * @param start2 두 번째 시작 시간
-     * @param end2 두 번째 종료 시간
-     * @return true: 겹침, false: 겹치지 않음
+     * @param reservationIds 예약 ID 목록
+     * @param reservationDate 예약 날짜
+     * @throws ReservationException 둘 다 없거나 둘 다 지정된 경우
      */
-    private boolean isTimeOverlap(
-            LocalTime start1, LocalTime end1,
-            LocalTime start2, LocalTime end2) {
-
-        // 겹치지 않는 조건:
-        // 1. 첫 번째 종료 ≤ 두 번째 시작 (정각 경계 허용)
-        // 2. 두 번째 종료 ≤ 첫 번째 시작 (정각 경계 허용)
-        boolean notOverlap = end1.isBefore(start2) || end1.equals(start2) ||
-                end2.isBefore(start1) || end2.equals(start1);
-
-        // 겹치는 조건: NOT (겹치지 않는 조건)
-        return !notOverlap;
+    public void validateBulkTarget(List<UUID> reservationIds, LocalDate reservationDate) {
+        boolean hasIds = reservationIds != null && !reservationIds.isEmpty();
+        if (hasIds == (reservationDate != null)) {
+            throw new ReservationException(ReservationErrorCode.INVALID_BULK_TARGET);
+        }
     }
-}
\ No newline at end of file
+}
@@ -8,8 +8,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import timefit.common.ResponseData;
 import timefit.common.auth.CurrentUserId;
+import timefit.common.etag.ConditionalResponses;
+import timefit.common.etag.ContentVersionService;
 import timefit.common.swagger.operation.review.*;
 import timefit.common.swagger.requestbody.review.*;
 import timefit.review.dto.ReviewRequestDto;
@@ -37,6 +40,8 @@ import java.util.UUID;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ContentVersionService contentVersionService;
+    private final ConditionalResponses conditionalResponses;
 
     // ========== 고객용 API ==========
 
@@ -137,15 +142,15 @@ public class ReviewController {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.info("업체 리뷰 목록 조회 요청: businessId={}, minRating={}, page={}, size={}",
                 businessId, minRating, page, size);
 
-        ReviewResponseDto.ReviewList response =
-                reviewService.getBusinessReviews(businessId, minRating, page, size);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.reviewList(businessId),
+                () -> reviewService.getBusinessReviews(businessId, minRating, page, size));
     }
 
     /**
@@ -156,12 +161,13 @@ public class ReviewController {
     @GetMapping("/public/business/{businessId}/reviews/statistics")
     public ResponseEntity<ResponseData<ReviewResponseDto.ReviewStatistics>> getReviewStatistics(
             @Parameter(description = "업체 ID", required = true, example = "30000000-0000-0000-0000-000000000001")
-            @PathVariable UUID businessId) {
+            @PathVariable UUID businessId,
+            @Parameter(hidden = true)
+            WebRequest webRequest) {
 
         log.debug("리뷰 통계 조회 요청: businessId={}", businessId);
 
-        ReviewResponseDto.ReviewStatistics response = reviewService.getReviewStatistics(businessId);
-
-        return ResponseEntity.ok(ResponseData.of(response));
+        return conditionalResponses.ok(webRequest, contentVersionService.reviewStatistics(businessId),
+                () -> reviewService.getReviewStatistics(businessId));
     }
 }
\ No newline at end of file
@@ -5,11 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.entity.Business;
+import timefit.business.service.util.BusinessPublicProfileCache;
 import timefit.reservation.entity.Reservation;
 import timefit.review.dto.ReviewRequestDto;
 import timefit.review.dto.ReviewResponseDto;
 import timefit.review.entity.Review;
-import timefit.review.repository.ReviewQueryRepository;
+import timefit.review.repository.BusinessReviewStatsQueryRepository;
 import timefit.review.repository.ReviewRepository;
 import timefit.review.service.validator.ReviewValidator;
 import timefit.user.entity.User;
@@ -24,7 +25,7 @@ import java.util.UUID;
  * - 리뷰 작성
  * - 리뷰 수정
  * - 리뷰 삭제 (Soft Delete)
- * - Business 평점 재계산
+ * - 업체 리뷰 통계 증감 반영 + Business 평점 동기화
  */
 @Slf4j
 @Service
@@ -33,9 +34,10 @@ import java.util.UUID;
 public class ReviewCommandService {
 
     private final ReviewRepository reviewRepository;
-    private final ReviewQueryRepository reviewQueryRepository;
+    private final BusinessReviewStatsQueryRepository businessReviewStatsQueryRepository;
     private final ReviewValidator reviewValidator;
     private final AuthValidator authValidator;
+    private final BusinessPublicProfileCache publicProfileCache;
 
     /**
      * 리뷰 작성
@@ -44,7 +46,7 @@ public class ReviewCommandService {
      * 1. 사용자 검증
      * 2. 예약 검증 (완료 상태, 소유권, 중복 리뷰)
      * 3. Review 엔티티 생성
-     * 4. Business 평점 재계산
+     * 4. 업체 리뷰 통계 증감 반영 + Business 평점 동기화
      *
      * @param userId 사용자 ID
      * @param request 리뷰 작성 요청
@@ -65,6 +67,7 @@ public class ReviewCommandService {
         // 3. Review 생성 (메뉴명 스냅샷)
         Business business = reservation.getMenu().getBusiness();
         String menuName = reservation.getMenu().getServiceName();
+        businessReviewStatsQueryRepository.initializeIfAbsent(business.getId());
 
         Review review = Review.create(
                 business,
@@ -80,8 +83,8 @@ public class ReviewCommandService {
         log.info("리뷰 작성 완료: reviewId={}, userId={}, businessId={}",
                 review.getId(), userId, business.getId());
 
-        // 4. Business 평점 재계산
-        updateBusinessRating(business);
+        // 4. 통계 증감 반영
+        applyRatingChange(business, null, review.getRating());
 
         return ReviewResponseDto.ReviewDetail.from(review);
     }
@@ -93,7 +96,7 @@ public class ReviewCommandService {
      * 1. Review 조회 및 검증
      * 2. 소유권 검증
      * 3. Review 수정
-     * 4. Business 평점 재계산
+     * 4. 업체 리뷰 통계 증감 반영 (평점 변경 시)
      *
      * @param userId 사용자 ID
      * @param reviewId 리뷰 ID
@@ -115,12 +118,17 @@ public class ReviewCommandService {
         reviewValidator.validateOwnership(review, userId);
 
         // 3. Review 수정
+        Business business = review.getBusiness();
+        Integer previousRating = review.getRating();
+        businessReviewStatsQueryRepository.initializeIfAbsent(business.getId());
         review.update(request.rating(), request.comment());
 
         log.info("리뷰 수정 완료: reviewId={}, rating={}", reviewId, request.rating());
 
-        // 4. Business 평점 재계산
-        updateBusinessRating(review.getBusiness());
+        // 4. 통계 증감 반영
+        if (!previousRating.equals(review.getRating())) {
+            applyRatingChange(business, previousRating, review.getRating());
+        }
 
         return ReviewResponseDto.ReviewDetail.from(review);
     }
@@ -132,7 +140,7 @@ public class ReviewCommandService {
      * 1. Review 조회 및 검증
      * 2. 소유권 검증
      * 3. Soft Delete 처리
-     * 4. Business 평점 재계산
+     * 4. 업체 리뷰 통계 증감 반영 + Business 평점 동기화
      *
      * @param userId 사용자 ID
      * @param reviewId 리뷰 ID
@@ -149,40 +157,41 @@ public class ReviewCommandService {
 
         // 3. Soft Delete
         Business business = review.getBusiness();
+        businessReviewStatsQueryRepository.initializeIfAbsent(business.getId());
         review.delete();
 
         log.info("리뷰 삭제 완료: reviewId={}, businessId={}", reviewId, business.getId());
 
-        // 4. Business 평점 재계산
-        updateBusinessRating(business);
+        // 4. 통계 증감 반영
+        applyRatingChange(business, review.getRating(), null);
     }
 
     /**
-     * Business 평점 재계산
+     * 업체 리뷰 통계 증감 반영 + Business 평점 동기화
      *
      * 프로세스:
-     * 1. 해당 Business의 활성 리뷰 평균 평점 계산 (QueryDSL)
-     * 2. 해당 Business의 활성 리뷰 개수 계산
-     * 3. Business 엔티티 업데이트
+     * 1. 통계 행에 증감분만 원자적 UPDATE (전체 리뷰 재집계 없음)
+     * 2. 갱신된 합계/개수로 Business 평균 평점 / 리뷰 수 동기화 (업체 단건 조회)
+     * 3. 업체 공개 프로필 캐시 제거 (평점 / 리뷰 통계 포함)
      *
-     * @param business 평점을 재계산할 Business
+     * @param business 리뷰가 속한 업체
+     * @param removedRating 빠지는 평점 (작성 시 null)
+     * @param addedRating 추가되는 평점 (삭제 시 null)
      */
-    private void updateBusinessRating(Business business) {
-        log.debug("Business 평점 재계산 시작: businessId={}", business.getId());
-
-        // 1. 평균 평점 계산 (QueryDSL로 DB에서 계산)
-        Double averageRating = reviewQueryRepository.calculateAverageRatingByBusinessId(business.getId());
+    private void applyRatingChange(Business business, Integer removedRating, Integer addedRating) {
+        businessReviewStatsQueryRepository.applyDelta(business.getId(), removedRating, addedRating);
 
-        // 2. 리뷰 개수 계산
-        long reviewCount = reviewRepository.countByBusinessIdAndDeletedAtIsNull(business.getId());
+        BusinessReviewStatsQueryRepository.Totals totals =
+                businessReviewStatsQueryRepository.findTotals(business.getId());
+        Double averageRating = totals.averageRating();
 
-        // 3. Business 엔티티 업데이트
         business.updateRating(
                 averageRating != null ? averageRating : 0.0,
-                (int) reviewCount
+                (int) totals.reviewCount()
         );
+        publicProfileCache.evict(business.getId());
 
-        log.info("Business 평점 재계산 완료: businessId={}, averageRating={}, reviewCount={}",
-                business.getId(), averageRating, reviewCount);
+        log.info("Business 평점 갱신 완료: businessId={}, averageRating={}, reviewCount={}",
+                business.getId(), averageRating, totals.reviewCount());
     }
-}
\ No newline at end of file
+}
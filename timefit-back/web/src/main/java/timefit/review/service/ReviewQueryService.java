@@ -9,7 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import timefit.business.service.validator.BusinessValidator;
 import timefit.review.dto.ReviewResponseDto;
+import timefit.review.entity.BusinessReviewStats;
 import timefit.review.entity.Review;
+import timefit.review.repository.BusinessReviewStatsRepository;
 import timefit.review.repository.ReviewQueryRepository;
 import timefit.review.repository.ReviewRepository;
 import timefit.review.service.validator.ReviewValidator;
@@ -17,6 +19,7 @@ import timefit.auth.service.validator.AuthValidator;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -28,7 +31,7 @@ import java.util.stream.IntStream;
  * - 업체별 리뷰 목록 조회 (통계 포함)
  * - 내 리뷰 목록 조회
  * - 리뷰 상세 조회
- * - 리뷰 통계 계산
+ * - 리뷰 통계 조회 (업체 리뷰 누적 통계)
  */
 @Slf4j
 @Service
@@ -38,6 +41,7 @@ public class ReviewQueryService {
 
     private final ReviewRepository reviewRepository;
     private final ReviewQueryRepository reviewQueryRepository;
+    private final BusinessReviewStatsRepository businessReviewStatsRepository;
     private final ReviewValidator reviewValidator;
     private final BusinessValidator businessValidator;
     private final AuthValidator authValidator;
@@ -165,19 +169,39 @@ public class ReviewQueryService {
     }
 
     /**
-     * 리뷰 통계 계산
+     * 리뷰 통계 조회
      *
      * 프로세스:
-     * 1. 평균 평점 계산
-     * 2. 전체 리뷰 수 계산
-     * 3. 평점별 분포 계산 (1~5점)
+     * 1. 업체 리뷰 누적 통계 단건 조회 (평균 / 리뷰 수 / 평점별 분포)
+     * 2. 통계 행이 아직 없는 업체 (리뷰 변경 이력 없음)는 리뷰 집계로 대체
      *
      * @param businessId 업체 ID
      * @return 리뷰 통계
      */
     public ReviewResponseDto.ReviewStatistics getReviewStatistics(UUID businessId) {
-        log.debug("리뷰 통계 계산: businessId={}", businessId);
+        log.debug("리뷰 통계 조회: businessId={}", businessId);
+
+        Optional<BusinessReviewStats> stats = businessReviewStatsRepository.findByBusinessId(businessId);
+        if (stats.isPresent()) {
+            return ReviewResponseDto.ReviewStatistics.of(
+                    stats.get().getAverageRating(),
+                    stats.get().getReviewCount(),
+                    stats.get().getRatingDistribution()
+            );
+        }
 
+        return aggregateReviewStatistics(businessId);
+    }
+
+    /**
+     * 리뷰 집계로 통계 계산 (통계 행이 없는 업체용)
+     *
+     * 프로세스:
+     * 1. 평균 평점 계산
+     * 2. 전체 리뷰 수 계산
+     * 3. 평점별 분포 계산 (1~5점)
+     */
+    private ReviewResponseDto.ReviewStatistics aggregateReviewStatistics(UUID businessId) {
         // 1. 평균 평점 계산
         Double averageRating = reviewQueryRepository.calculateAverageRatingByBusinessId(businessId);
 
@@ -196,7 +220,7 @@ public class ReviewQueryService {
                         rating -> ratingDistribution.getOrDefault(rating, 0L)
                 ));
 
-        log.debug("리뷰 통계 계산 완료: businessId={}, avgRating={}, total={}",
+        log.debug("리뷰 통계 집계 완료: businessId={}, avgRating={}, total={}",
                 businessId, averageRating, totalReviews);
 
         return ReviewResponseDto.ReviewStatistics.of(
@@ -0,0 +1,57 @@
+package timefit.review.service.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.review.repository.BusinessReviewStatsQueryRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업체 리뷰 누적 통계 이관 (기동 완료 시 1회)
+ *
+ * - 통계 도입 이전부터 리뷰가 있던 업체의 통계 행을 기존 리뷰 집계로 생성
+ * - 청크 단위 트랜잭션, 이미 행이 있는 업체는 건너뜀 (재기동 시 대상 없음)
+ * - 이관 전 조회는 ReviewQueryService에서 리뷰 집계로 대체되므로 기동을 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessReviewStatsInitializer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BusinessReviewStatsQueryRepository businessReviewStatsQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingStats() {
+        int total = 0;
+
+        try {
+            while (true) {
+                Integer initialized = transactionTemplate.execute(status -> {
+                    List<UUID> businessIds = businessReviewStatsQueryRepository.findBusinessIdsWithoutStats(CHUNK_SIZE);
+                    businessIds.forEach(businessReviewStatsQueryRepository::initializeIfAbsent);
+                    return businessIds.size();
+                });
+
+                total += initialized;
+                if (initialized < CHUNK_SIZE) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("업체 리뷰 통계 이관 실패: initialized={}", total, e);
+            return;
+        }
+
+        if (total > 0) {
+            log.info("업체 리뷰 통계 이관 완료: businesses={}", total);
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package org.example.timefitback;
+package timefit;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
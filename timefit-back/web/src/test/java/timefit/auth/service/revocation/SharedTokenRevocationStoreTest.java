@@ -0,0 +1,76 @@
+package timefit.auth.service.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.user.repository.RevokedTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "timefit.auth.revocation.store=shared")
+@ActiveProfiles("test")
+class SharedTokenRevocationStoreTest {
+
+    @Autowired
+    private SharedTokenRevocationStore store;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("커밋된 폐기는 기록 1건 + 로컬 복제본 반영, 같은 토큰 재폐기는 false")
+    void revokeCommits() {
+        String jti = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertThat(store.revoke(jti, expiresAt)).isTrue();
+        assertThat(store.isRevoked(jti)).isTrue();
+        assertThat(store.revoke(jti, expiresAt)).isFalse();
+        assertThat(countRecords(jti)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 트랜잭션이 롤백되면 기록도 복제본 반영도 남지 않음")
+    void rolledBackRevokeIsNotApplied() {
+        String jti = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(store.revoke(jti, expiresAt)).isTrue();
+            assertThat(store.isRevoked(jti)).isFalse();
+            status.setRollbackOnly();
+        });
+
+        assertThat(store.isRevoked(jti)).isFalse();
+        assertThat(countRecords(jti)).isZero();
+        assertThat(store.revoke(jti, expiresAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 기록한 토큰은 false, 복제본에는 반영")
+    void revokedByAnotherNode() {
+        String jti = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        transactionTemplate.executeWithoutResult(status -> revokedTokenRepository.insertIfAbsent(
+                UUID.randomUUID(), jti, LocalDateTime.now().plusMinutes(1), LocalDateTime.now()));
+
+        assertThat(store.revoke(jti, expiresAt)).isFalse();
+        assertThat(store.isRevoked(jti)).isTrue();
+        assertThat(countRecords(jti)).isEqualTo(1);
+    }
+
+    private long countRecords(String jti) {
+        return revokedTokenRepository.findAll().stream()
+                .filter(revokedToken -> revokedToken.getJti().equals(jti))
+                .count();
+    }
+}
@@ -0,0 +1,128 @@
+package timefit.business.service.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.business.repository.BusinessRepositoryCustom;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BusinessGeoIndexTest {
+
+    // 서울 시청
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LON = 126.9780;
+
+    private BusinessRepositoryCustom businessRepositoryCustom;
+    private BusinessGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        businessRepositoryCustom = mock(BusinessRepositoryCustom.class);
+        index = new BusinessGeoIndex(businessRepositoryCustom);
+    }
+
+    @Test
+    @DisplayName("고리 탐색 결과가 전체 비교 결과와 같음 (반경 / 업종 / 개수 제한)")
+    void ringSearchMatchesBruteForce() {
+        Random random = new Random(42);
+        List<Stored> stored = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            UUID id = UUID.randomUUID();
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.4;
+            double lon = CENTER_LON + (random.nextDouble() - 0.5) * 0.4;
+            BusinessTypeCode type = i % 3 == 0 ? BusinessTypeCode.BD001 : BusinessTypeCode.BD008;
+            index.put(id, lat, lon, Set.of(type));
+            stored.add(new Stored(id, lat, lon, type));
+        }
+
+        for (double radiusKm : new double[]{0.5, 2, 5, 30}) {
+            for (BusinessTypeCode type : new BusinessTypeCode[]{null, BusinessTypeCode.BD001}) {
+                for (int limit : new int[]{1, 10, 100}) {
+                    List<UUID> expected = bruteForce(stored, radiusKm, type, limit);
+                    List<UUID> actual = index.findNearest(CENTER_LAT, CENTER_LON, radiusKm, type, limit).stream()
+                            .map(BusinessGeoIndex.Nearby::businessId)
+                            .toList();
+
+                    assertThat(actual)
+                            .as("radiusKm=%s, type=%s, limit=%s", radiusKm, type, limit)
+                            .containsExactlyElementsOf(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("결과는 거리 오름차순이고 반경 밖 업체는 제외")
+    void sortedWithinRadius() {
+        UUID near = UUID.randomUUID();
+        UUID middle = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        index.put(far, CENTER_LAT + 0.05, CENTER_LON, Set.of(BusinessTypeCode.BD008));
+        index.put(near, CENTER_LAT + 0.001, CENTER_LON, Set.of(BusinessTypeCode.BD008));
+        index.put(middle, CENTER_LAT, CENTER_LON + 0.02, Set.of(BusinessTypeCode.BD008));
+
+        List<BusinessGeoIndex.Nearby> result = index.findNearest(CENTER_LAT, CENTER_LON, 3, null, 10);
+
+        assertThat(result).extracting(BusinessGeoIndex.Nearby::businessId).containsExactly(near, middle);
+        assertThat(result.get(0).distanceMeters()).isLessThan(result.get(1).distanceMeters());
+    }
+
+    @Test
+    @DisplayName("좌표 변경 시 이전 셀에서 제거, 삭제 시 조회되지 않음")
+    void moveAndRemove() {
+        UUID id = UUID.randomUUID();
+        index.put(id, CENTER_LAT, CENTER_LON, Set.of(BusinessTypeCode.BD008));
+        index.put(id, CENTER_LAT + 1, CENTER_LON, Set.of(BusinessTypeCode.BD008));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findNearest(CENTER_LAT, CENTER_LON, 1, null, 10)).isEmpty();
+        assertThat(index.findNearest(CENTER_LAT + 1, CENTER_LON, 1, null, 10)).hasSize(1);
+
+        index.remove(id);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(CENTER_LAT + 1, CENTER_LON, 1, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 시 업종별 행을 업체 단위로 합침")
+    void rebuildMergesBusinessTypes() {
+        UUID id = UUID.randomUUID();
+        given(businessRepositoryCustom.findActiveGeoPoints()).willReturn(List.of(
+                new BusinessRepositoryCustom.GeoPoint(id, CENTER_LAT, CENTER_LON, BusinessTypeCode.BD001),
+                new BusinessRepositoryCustom.GeoPoint(id, CENTER_LAT, CENTER_LON, BusinessTypeCode.BD008)));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findNearest(CENTER_LAT, CENTER_LON, 1, BusinessTypeCode.BD001, 10)).hasSize(1);
+        assertThat(index.findNearest(CENTER_LAT, CENTER_LON, 1, BusinessTypeCode.BD008, 10)).hasSize(1);
+        assertThat(index.findNearest(CENTER_LAT, CENTER_LON, 1, BusinessTypeCode.BD000, 10)).isEmpty();
+    }
+
+    private static List<UUID> bruteForce(List<Stored> stored, double radiusKm, BusinessTypeCode type, int limit) {
+        return stored.stream()
+                .filter(s -> type == null || s.type() == type)
+                .map(s -> new BusinessGeoIndex.Nearby(s.id(),
+                        BusinessGeoIndex.distanceMeters(CENTER_LAT, CENTER_LON, s.lat(), s.lon())))
+                .filter(n -> n.distanceMeters() <= radiusKm * 1000)
+                .sorted(Comparator.comparingDouble(BusinessGeoIndex.Nearby::distanceMeters))
+                .limit(limit)
+                .map(BusinessGeoIndex.Nearby::businessId)
+                .toList();
+    }
+
+    private record Stored(UUID id, double lat, double lon, BusinessTypeCode type) {
+    }
+}
@@ -0,0 +1,183 @@
+package timefit.notification.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessCategory;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.menu.entity.Menu;
+import timefit.notification.channel.ReminderChannel;
+import timefit.reservation.entity.Reservation;
+import timefit.user.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "timefit.notification.reminder.enabled=false",
+        "timefit.notification.reminder.channels.email.enabled=false",
+        "timefit.notification.reminder.channels.sms.enabled=false"
+})
+@ActiveProfiles("test")
+class ReservationReminderServiceTest {
+
+    @Autowired
+    private ReservationReminderService reminderService;
+
+    @Autowired
+    private RecordingChannel stableChannel;
+
+    @Autowired
+    private RecordingChannel flakyChannel;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ReservationReminder reminder;
+
+    @BeforeEach
+    void setUp() {
+        stableChannel.reset();
+        flakyChannel.reset();
+
+        LocalDate date = LocalDate.now().plusDays(3);
+        LocalTime time = LocalTime.of(10, 0);
+        UUID reservationId = transactionTemplate.execute(status -> createConfirmedReservation(date, time));
+        reminder = ReservationReminder.of(reservationId, 60, date, time);
+    }
+
+    @Test
+    @DisplayName("채널별로 선점한 알림만 발송하고, 이미 발송한 알림은 다시 보내지 않음")
+    void claimsPerChannel() {
+        ReservationReminderService.DispatchResult first = reminderService.dispatch(List.of(reminder, reminder));
+        ReservationReminderService.DispatchResult second = reminderService.dispatch(List.of(reminder));
+
+        assertThat(first.sent()).isEqualTo(2);
+        assertThat(first.failed()).isEmpty();
+        assertThat(second.sent()).isZero();
+        assertThat(stableChannel.sent()).containsExactly(reminder.reservationId());
+        assertThat(flakyChannel.sent()).containsExactly(reminder.reservationId());
+    }
+
+    @Test
+    @DisplayName("채널 발송 실패 시 그 채널의 선점만 롤백되어 재시도 시 실패한 채널만 발송")
+    void failedChannelIsRetried() {
+        flakyChannel.failNext();
+
+        ReservationReminderService.DispatchResult failed = reminderService.dispatch(List.of(reminder));
+
+        assertThat(failed.sent()).isEqualTo(1);
+        assertThat(failed.failed()).containsExactly(reminder);
+        assertThat(flakyChannel.sent()).isEmpty();
+
+        ReservationReminderService.DispatchResult retried = reminderService.dispatch(failed.failed());
+
+        assertThat(retried.sent()).isEqualTo(1);
+        assertThat(retried.failed()).isEmpty();
+        assertThat(stableChannel.sent()).containsExactly(reminder.reservationId());
+        assertThat(flakyChannel.sent()).containsExactly(reminder.reservationId());
+    }
+
+    @Test
+    @DisplayName("일정이 바뀐 알림은 발송하지 않음")
+    void skipsRescheduled() {
+        ReservationReminder stale = ReservationReminder.of(
+                reminder.reservationId(), 60, reminder.reservationDate(), reminder.reservationTime().plusHours(1));
+
+        ReservationReminderService.DispatchResult result = reminderService.dispatch(List.of(stale));
+
+        assertThat(result.sent()).isZero();
+        assertThat(stableChannel.sent()).isEmpty();
+    }
+
+    private UUID createConfirmedReservation(LocalDate date, LocalTime time) {
+        User customer = User.createUser(UUID.randomUUID() + "@timefit.test", "password", "고객", "01012345678");
+        entityManager.persist(customer);
+
+        Business business = Business.createBusiness("테스트업체", Set.of(BusinessTypeCode.BD008), "123-45-67890",
+                "홍길동", "서울시 강남구", "010-1234-5678", "설명", null, null);
+        entityManager.persist(business);
+
+        BusinessCategory category = BusinessCategory.create(business, BusinessTypeCode.BD008, "헤어", null);
+        entityManager.persist(category);
+
+        Menu menu = Menu.createOnDemandBased(business, category, "커트", 10000, "설명", 60, null);
+        entityManager.persist(menu);
+
+        Reservation reservation = Reservation.createOnDemandBased(
+                customer, business, menu, date, time, "고객", "01012345678", null);
+        reservation.confirm();
+        entityManager.persist(reservation);
+        return reservation.getId();
+    }
+
+    static class RecordingChannel implements ReminderChannel {
+
+        private final String name;
+        private final List<UUID> sent = new ArrayList<>();
+        private boolean failNext;
+
+        RecordingChannel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int send(List<ReminderMessage> messages) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("채널 장애");
+            }
+            messages.forEach(message -> sent.add(message.reservationId()));
+            return messages.size();
+        }
+
+        List<UUID> sent() {
+            return sent;
+        }
+
+        void failNext() {
+            failNext = true;
+        }
+
+        void reset() {
+            sent.clear();
+            failNext = false;
+        }
+    }
+
+    @TestConfiguration
+    static class ChannelConfig {
+
+        @Bean
+        RecordingChannel stableChannel() {
+            return new RecordingChannel("stable");
+        }
+
+        @Bean
+        RecordingChannel flakyChannel() {
+            return new RecordingChannel("flaky");
+        }
+    }
+}
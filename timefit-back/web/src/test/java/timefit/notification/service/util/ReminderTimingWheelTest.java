@@ -0,0 +1,106 @@
+package timefit.notification.service.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import timefit.notification.service.ReservationReminder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderTimingWheelTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private ReminderTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new ReminderTimingWheel(60);
+        wheel.reset(START);
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 알림만 발송 분 순으로 꺼냄")
+    void advanceReturnsDueInOrder() {
+        ReservationReminder later = reminderAt(START.plusMinutes(5));
+        ReservationReminder sooner = reminderAt(START.plusMinutes(2));
+        ReservationReminder notYet = reminderAt(START.plusMinutes(10));
+        wheel.schedule(later);
+        wheel.schedule(sooner);
+        wheel.schedule(notYet);
+
+        assertThat(wheel.advance(START.plusMinutes(1))).isEmpty();
+        assertThat(wheel.advance(START.plusMinutes(5))).containsExactly(sooner, later);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START.plusMinutes(10))).containsExactly(notYet);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 범위 밖 알림은 적재하지 않음")
+    void rejectsOutsideRange() {
+        assertThat(wheel.schedule(reminderAt(START.minusMinutes(1)))).isFalse();
+        assertThat(wheel.schedule(reminderAt(wheel.horizon()))).isFalse();
+        assertThat(wheel.schedule(reminderAt(wheel.horizon().minusMinutes(1)))).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 예약 / 알림 시점은 교체, 취소 시 모든 알림 제거")
+    void rescheduleAndCancel() {
+        UUID reservationId = UUID.randomUUID();
+        wheel.schedule(reminder(reservationId, 60, START.plusMinutes(3)));
+        ReservationReminder moved = reminder(reservationId, 60, START.plusMinutes(20));
+        wheel.schedule(moved);
+        wheel.schedule(reminder(reservationId, 1440, START.plusMinutes(4)));
+
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(START.plusMinutes(3))).isEmpty();
+
+        wheel.cancel(reservationId);
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(START.plusMinutes(30))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 분에 추가된 알림은 다음 진행에서 꺼냄")
+    void currentMinuteStaysOpen() {
+        LocalDateTime now = START.plusMinutes(7).plusSeconds(10);
+        wheel.advance(now);
+
+        ReservationReminder sameMinute = reminderAt(START.plusMinutes(7));
+        assertThat(wheel.schedule(sameMinute)).isTrue();
+        assertThat(wheel.advance(now.plusSeconds(15))).containsExactly(sameMinute);
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 밀려도 남은 알림을 모두 꺼내고 커서는 현재 분으로 이동")
+    void advanceAfterLongPause() {
+        ReservationReminder first = reminderAt(START.plusMinutes(1));
+        ReservationReminder last = reminderAt(START.plusMinutes(59));
+        wheel.schedule(first);
+        wheel.schedule(last);
+
+        LocalDateTime now = START.plusMinutes(200);
+        assertThat(wheel.advance(now)).containsExactlyInAnyOrder(first, last);
+        assertThat(wheel.cursor()).isEqualTo(now.withSecond(0));
+        assertThat(wheel.size()).isZero();
+    }
+
+    private static ReservationReminder reminderAt(LocalDateTime remindAt) {
+        return reminder(UUID.randomUUID(), 60, remindAt);
+    }
+
+    private static ReservationReminder reminder(UUID reservationId, int offsetMinutes, LocalDateTime remindAt) {
+        LocalDateTime reservationAt = remindAt.plusMinutes(offsetMinutes);
+        LocalDate date = reservationAt.toLocalDate();
+        LocalTime time = reservationAt.toLocalTime();
+        return ReservationReminder.of(reservationId, offsetMinutes, date, time);
+    }
+}
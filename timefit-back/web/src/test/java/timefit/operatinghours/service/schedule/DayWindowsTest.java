@@ -0,0 +1,77 @@
+package timefit.operatinghours.service.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayWindowsTest {
+
+    @Test
+    @DisplayName("끝이 시작보다 이르거나 같은 구간은 제외하고, 범위 밖 분은 하루 안으로 자름")
+    void ofDropsInvalidWindows() {
+        DayWindows windows = DayWindows.of(new int[]{
+                minute(9, 0), minute(12, 0),
+                minute(23, 0), minute(1, 0),
+                minute(13, 0), minute(13, 0),
+                -30, 24 * 60 + 30});
+
+        assertThat(windows.size()).isEqualTo(2);
+        assertThat(windows.toArray()).containsExactly(minute(9, 0), minute(12, 0), 0, 24 * 60);
+        assertThat(DayWindows.of(new int[]{minute(10, 0), minute(9, 0)})).isSameAs(DayWindows.empty());
+    }
+
+    @Test
+    @DisplayName("시작 분은 포함, 끝 분은 제외")
+    void containsIsHalfOpen() {
+        DayWindows windows = DayWindows.of(new int[]{minute(9, 0), minute(12, 0), minute(13, 0), minute(18, 0)});
+
+        assertThat(windows.contains(LocalTime.of(9, 0))).isTrue();
+        assertThat(windows.contains(LocalTime.of(11, 59))).isTrue();
+        assertThat(windows.contains(LocalTime.of(12, 0))).isFalse();
+        assertThat(windows.contains(LocalTime.of(12, 30))).isFalse();
+        assertThat(windows.contains(LocalTime.of(17, 59))).isTrue();
+        assertThat(windows.contains(-1)).isFalse();
+        assertThat(windows.contains(24 * 60)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간대가 어느 한 구간 안에 완전히 포함될 때만 covers (인접 구간은 병합하지 않음)")
+    void coversSingleWindowOnly() {
+        DayWindows windows = DayWindows.of(new int[]{minute(9, 0), minute(12, 0), minute(12, 0), minute(15, 0)});
+
+        assertThat(windows.covers(LocalTime.of(9, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(windows.covers(LocalTime.of(12, 0), LocalTime.of(13, 0))).isTrue();
+        assertThat(windows.covers(LocalTime.of(11, 30), LocalTime.of(12, 30))).isFalse();
+        assertThat(windows.covers(LocalTime.of(10, 0), LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("교집합은 구간별로 잘라내고 겹치지 않는 구간은 제외")
+    void intersect() {
+        DayWindows windows = DayWindows.of(new int[]{minute(9, 0), minute(12, 0), minute(13, 0), minute(18, 0)});
+
+        DayWindows clipped = windows.intersect(LocalTime.of(10, 0), LocalTime.of(14, 0));
+
+        assertThat(clipped.toArray()).containsExactly(minute(10, 0), minute(12, 0), minute(13, 0), minute(14, 0));
+        assertThat(windows.intersect(LocalTime.of(12, 0), LocalTime.of(13, 0)).isEmpty()).isTrue();
+        assertThat(windows.intersect(LocalTime.of(14, 0), LocalTime.of(10, 0)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 구간 배열이면 equals / hashCode 동일")
+    void equality() {
+        DayWindows a = DayWindows.of(new int[]{minute(9, 0), minute(12, 0)});
+        DayWindows b = DayWindows.of(new int[]{minute(9, 0), minute(12, 0)});
+        DayWindows c = DayWindows.of(new int[]{minute(9, 0), minute(12, 30)});
+
+        assertThat(a).isEqualTo(b).hasSameHashCodeAs(b);
+        assertThat(a).isNotEqualTo(c);
+    }
+
+    private static int minute(int hour, int minute) {
+        return hour * 60 + minute;
+    }
+}
@@ -0,0 +1,121 @@
+package timefit.operatinghours.service.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import timefit.business.entity.BusinessDateOverride;
+import timefit.business.entity.BusinessHours;
+import timefit.business.entity.OperatingHours;
+import timefit.common.entity.DayOfWeek;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyScheduleTest {
+
+    // 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+    private static final UUID BUSINESS_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("요일별 예약 가능 시간대는 휴무 행을 제외하고 sequence 순으로 모음")
+    void compileBookingWindows() {
+        WeeklySchedule schedule = WeeklySchedule.compile(BUSINESS_ID, 1L,
+                List.of(BusinessHours.createOpenDay(null, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0))),
+                List.of(
+                        OperatingHours.createOperatingHours(null, DayOfWeek.MONDAY,
+                                LocalTime.of(9, 0), LocalTime.of(12, 0), false, 0),
+                        OperatingHours.createOperatingHours(null, DayOfWeek.MONDAY,
+                                LocalTime.of(13, 0), LocalTime.of(18, 0), false, 1),
+                        OperatingHours.createOperatingHours(null, DayOfWeek.TUESDAY,
+                                LocalTime.of(9, 0), LocalTime.of(18, 0), true, 0)),
+                MONDAY, List.of());
+
+        assertThat(schedule.version()).isEqualTo(1L);
+        assertThat(schedule.bookingWindows(DayOfWeek.MONDAY).size()).isEqualTo(2);
+        assertThat(schedule.bookingWindows(DayOfWeek.TUESDAY).isEmpty()).isTrue();
+        assertThat(schedule.businessHours(DayOfWeek.SUNDAY).isEmpty()).isTrue();
+
+        assertThat(schedule.coversBooking(MONDAY, LocalTime.of(13, 0), LocalTime.of(14, 0))).isTrue();
+        assertThat(schedule.coversBooking(MONDAY, LocalTime.of(11, 30), LocalTime.of(12, 30))).isFalse();
+        assertThat(schedule.isBookableAt(LocalDateTime.of(MONDAY, LocalTime.of(12, 30)))).isFalse();
+        assertThat(schedule.isOpenAt(LocalDateTime.of(MONDAY, LocalTime.of(12, 30)))).isTrue();
+        assertThat(schedule.isOpenAt(LocalDateTime.of(MONDAY, LocalTime.of(18, 0)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 행으로 컴파일한 요일 구간은 같음 (영업시간 변경 비교 기준)")
+    void sameRowsCompileToEqualWindows() {
+        List<OperatingHours> rows = List.of(OperatingHours.createSinglePeriod(
+                null, DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(20, 0), false));
+
+        WeeklySchedule a = WeeklySchedule.compile(BUSINESS_ID, 1L, List.of(), rows, MONDAY, List.of());
+        WeeklySchedule b = WeeklySchedule.compile(BUSINESS_ID, 2L, List.of(), rows, MONDAY, List.of());
+
+        assertThat(a.bookingWindows(DayOfWeek.WEDNESDAY)).isEqualTo(b.bookingWindows(DayOfWeek.WEDNESDAY));
+        assertThat(a.bookingWindows(DayOfWeek.WEDNESDAY))
+                .isEqualTo(DayWindows.of(new int[]{10 * 60, 20 * 60}));
+    }
+
+    @Test
+    @DisplayName("단축 영업일은 요일별 예약 가능 시간대와 지정 시간의 교집합만 예약 가능")
+    void specialHoursIntersectWeeklyWindows() {
+        WeeklySchedule schedule = WeeklySchedule.compile(BUSINESS_ID, 1L,
+                List.of(BusinessHours.createOpenDay(null, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0))),
+                mondayWithLunchBreak(),
+                MONDAY,
+                List.of(BusinessDateOverride.createSpecialHours(
+                        null, MONDAY, LocalTime.of(10, 0), LocalTime.of(14, 0), "단축 영업")));
+
+        WeeklySchedule.DateOverride override = schedule.overrideOn(MONDAY);
+        assertThat(override.closed()).isFalse();
+        assertThat(override.reason()).isEqualTo("단축 영업");
+        assertThat(schedule.businessHoursFor(MONDAY)).isEqualTo(DayWindows.of(new int[]{10 * 60, 14 * 60}));
+        assertThat(schedule.bookingWindowsFor(MONDAY))
+                .isEqualTo(DayWindows.of(new int[]{10 * 60, 12 * 60, 13 * 60, 14 * 60}));
+
+        assertThat(schedule.isExcludedByOverride(MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        assertThat(schedule.isExcludedByOverride(MONDAY, LocalTime.of(13, 30), LocalTime.of(14, 30))).isTrue();
+        assertThat(schedule.isBookableAt(LocalDateTime.of(MONDAY, LocalTime.of(9, 30)))).isFalse();
+
+        // 다음 주 월요일은 요일별 값 그대로
+        LocalDate nextMonday = MONDAY.plusWeeks(1);
+        assertThat(schedule.overrideOn(nextMonday)).isNull();
+        assertThat(schedule.bookingWindowsFor(nextMonday)).isEqualTo(schedule.bookingWindows(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    @DisplayName("휴무일은 영업시간 / 예약 가능 시간대 모두 비어있고 모든 시간대를 막음")
+    void closedDayBlocksEverything() {
+        WeeklySchedule schedule = WeeklySchedule.compile(BUSINESS_ID, 1L, List.of(), mondayWithLunchBreak(), MONDAY,
+                List.of(BusinessDateOverride.createClosedDay(null, MONDAY, "임시 휴무")));
+
+        assertThat(schedule.overrideOn(MONDAY).closed()).isTrue();
+        assertThat(schedule.bookingWindowsFor(MONDAY).isEmpty()).isTrue();
+        assertThat(schedule.businessHoursFor(MONDAY).isEmpty()).isTrue();
+        assertThat(schedule.isExcludedByOverride(MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 시작일 이전 날짜 예외는 보관하지 않음")
+    void ignoresOverridesBeforeFrom() {
+        LocalDate yesterday = MONDAY.minusDays(1);
+        WeeklySchedule schedule = WeeklySchedule.compile(BUSINESS_ID, 1L, List.of(), mondayWithLunchBreak(), MONDAY,
+                List.of(BusinessDateOverride.createClosedDay(null, yesterday, "지난 휴무")));
+
+        assertThat(schedule.overrideOn(yesterday)).isNull();
+        assertThat(schedule.isExcludedByOverride(yesterday, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+    }
+
+    private static List<OperatingHours> mondayWithLunchBreak() {
+        return List.of(
+                OperatingHours.createOperatingHours(null, DayOfWeek.MONDAY,
+                        LocalTime.of(9, 0), LocalTime.of(12, 0), false, 0),
+                OperatingHours.createOperatingHours(null, DayOfWeek.MONDAY,
+                        LocalTime.of(13, 0), LocalTime.of(18, 0), false, 1));
+    }
+}
@@ -0,0 +1,165 @@
+package timefit.reservation.service.helper;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+import timefit.booking.entity.BookingSlot;
+import timefit.booking.service.helper.BookingSlotSeatHelper;
+import timefit.business.entity.Business;
+import timefit.business.entity.BusinessCategory;
+import timefit.business.entity.BusinessTypeCode;
+import timefit.exception.reservation.ReservationErrorCode;
+import timefit.menu.entity.Menu;
+import timefit.reservation.dto.ReservationRequestDto;
+import timefit.reservation.dto.ReservationResponseDto;
+import timefit.reservation.entity.Reservation;
+import timefit.reservation.entity.ReservationStatus;
+import timefit.reservation.service.event.ReservationChangedEvent;
+import timefit.user.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ReservationBulkStatusHelperTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(5);
+
+    @Autowired
+    private ReservationBulkStatusHelper bulkStatusHelper;
+
+    @Autowired
+    private BookingSlotSeatHelper seatHelper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private UUID businessId;
+    private Reservation pending1;
+    private Reservation pending2;
+    private Reservation confirmed;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User customer = User.createUser(UUID.randomUUID() + "@timefit.test", "password", "고객", "01012345678");
+            entityManager.persist(customer);
+
+            Business business = Business.createBusiness("테스트업체", Set.of(BusinessTypeCode.BD008), "123-45-67890",
+                    "홍길동", "서울시 강남구", "010-1234-5678", "설명", null, null);
+            entityManager.persist(business);
+            businessId = business.getId();
+
+            BusinessCategory category = BusinessCategory.create(business, BusinessTypeCode.BD008, "헤어", null);
+            entityManager.persist(category);
+
+            Menu menu = Menu.createReservationBased(business, category, "커트", 10000, "설명", 60, null);
+            entityManager.persist(menu);
+
+            pending1 = reserve(customer, business, menu, LocalTime.of(10, 0));
+            pending2 = reserve(customer, business, menu, LocalTime.of(11, 0));
+            confirmed = reserve(customer, business, menu, LocalTime.of(12, 0));
+            confirmed.confirm();
+        });
+    }
+
+    @Test
+    @DisplayName("거절: PENDING만 CANCELLED로 전이, 좌석 반환, 전이된 예약마다 이벤트 발행")
+    void rejectTransitionsReleasesSeatsAndPublishes() {
+        UUID missingId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<ReservationResponseDto.BulkActionItem> results = transactionTemplate.execute(status ->
+                bulkStatusHelper.transition(businessId, ReservationRequestDto.BulkStatusChange.of(
+                        ReservationRequestDto.BulkAction.REJECT,
+                        List.of(pending1.getId(), confirmed.getId(), pending2.getId(), missingId),
+                        null, null), now));
+
+        assertThat(results).containsExactly(
+                ReservationResponseDto.BulkActionItem.succeeded(pending1.getId(), ReservationStatus.CANCELLED),
+                ReservationResponseDto.BulkActionItem.failed(confirmed.getId(), ReservationStatus.CONFIRMED,
+                        ReservationErrorCode.RESERVATION_INVALID_STATUS.name()),
+                ReservationResponseDto.BulkActionItem.succeeded(pending2.getId(), ReservationStatus.CANCELLED),
+                ReservationResponseDto.BulkActionItem.failed(missingId, null,
+                        ReservationErrorCode.RESERVATION_NOT_FOUND.name()));
+
+        Reservation rejected = find(pending1.getId());
+        assertThat(rejected.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(rejected.getCancelledAt()).isEqualTo(now);
+        assertThat(find(pending2.getId()).getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(find(confirmed.getId()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+
+        assertThat(bookedCount(pending1)).isZero();
+        assertThat(bookedCount(pending2)).isZero();
+        assertThat(bookedCount(confirmed)).isEqualTo(1);
+
+        assertThat(events.stream(ReservationChangedEvent.class))
+                .filteredOn(event -> event.businessId().equals(businessId))
+                .extracting(ReservationChangedEvent::type, ReservationChangedEvent::reservationId)
+                .containsExactlyInAnyOrder(
+                        tuple(ReservationChangedEvent.Type.CANCELLED, pending1.getId()),
+                        tuple(ReservationChangedEvent.Type.CANCELLED, pending2.getId()));
+    }
+
+    @Test
+    @DisplayName("날짜 지정 완료: 해당 날짜 CONFIRMED만 COMPLETED로 전이, 좌석 유지")
+    void completeByDate() {
+        List<ReservationResponseDto.BulkActionItem> results = transactionTemplate.execute(status ->
+                bulkStatusHelper.transition(businessId, ReservationRequestDto.BulkStatusChange.of(
+                        ReservationRequestDto.BulkAction.COMPLETE, null, DATE, null), LocalDateTime.now()));
+
+        assertThat(results).containsExactly(
+                ReservationResponseDto.BulkActionItem.succeeded(confirmed.getId(), ReservationStatus.COMPLETED));
+        assertThat(find(confirmed.getId()).getStatus()).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(find(pending1.getId()).getStatus()).isEqualTo(ReservationStatus.PENDING);
+        assertThat(bookedCount(confirmed)).isEqualTo(1);
+
+        assertThat(events.stream(ReservationChangedEvent.class))
+                .filteredOn(event -> event.businessId().equals(businessId))
+                .extracting(ReservationChangedEvent::type)
+                .containsExactly(ReservationChangedEvent.Type.COMPLETED);
+    }
+
+    private Reservation reserve(User customer, Business business, Menu menu, LocalTime startTime) {
+        BookingSlot slot = BookingSlot.create(business, menu, DATE, startTime, startTime.plusHours(1));
+        entityManager.persist(slot);
+        entityManager.flush();
+        seatHelper.claimSeat(slot);
+
+        Reservation reservation = Reservation.createReservationBased(
+                customer, business, menu, slot, "고객", "01012345678", null);
+        entityManager.persist(reservation);
+        return reservation;
+    }
+
+    private Reservation find(UUID reservationId) {
+        return transactionTemplate.execute(status -> entityManager.find(Reservation.class, reservationId));
+    }
+
+    private int bookedCount(Reservation reservation) {
+        return transactionTemplate.execute(status ->
+                entityManager.find(BookingSlot.class, reservation.getBookingSlot().getId()).getBookedCount());
+    }
+}
@@ -0,0 +1,108 @@
+package timefit.reservation.service.timeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayTimelineTest {
+
+    private static final UUID CUT = UUID.randomUUID();
+    private static final UUID PERM = UUID.randomUUID();
+
+    @Test
+    @DisplayName("빈 타임라인은 충돌 없음")
+    void emptyTimeline() {
+        assertThat(DayTimeline.empty().findConflict(0, 1440, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("겹치는 예약이 있으면 충돌 정보 반환")
+    void overlap() {
+        UUID reservationId = UUID.randomUUID();
+        DayTimeline timeline = DayTimeline.empty()
+                .with(reservationId, CUT, "커트", minute(10, 0), minute(11, 0));
+
+        TimelineConflict conflict = timeline.findConflict(minute(10, 30), minute(11, 30), null);
+
+        assertThat(conflict).isNotNull();
+        assertThat(conflict.reservationId()).isEqualTo(reservationId);
+        assertThat(conflict.menuName()).isEqualTo("커트");
+        assertThat(conflict.startTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(conflict.endTime()).isEqualTo(LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("정각 경계는 충돌 아님")
+    void touchingBoundaries() {
+        DayTimeline timeline = DayTimeline.empty()
+                .with(UUID.randomUUID(), CUT, "커트", minute(9, 0), minute(12, 0));
+
+        assertThat(timeline.findConflict(minute(12, 0), minute(13, 0), null)).isNull();
+        assertThat(timeline.findConflict(minute(8, 0), minute(9, 0), null)).isNull();
+        assertThat(timeline.findConflict(minute(11, 59), minute(12, 30), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("앞선 긴 예약이 뒤 예약들을 덮어도 탐색")
+    void longEarlierReservation() {
+        UUID longId = UUID.randomUUID();
+        DayTimeline timeline = DayTimeline.empty()
+                .with(longId, PERM, "펌", minute(9, 0), minute(15, 0))
+                .with(UUID.randomUUID(), CUT, "커트", minute(10, 0), minute(10, 30))
+                .with(UUID.randomUUID(), CUT, "커트", minute(11, 0), minute(11, 30));
+
+        TimelineConflict conflict = timeline.findConflict(minute(12, 0), minute(12, 30), null);
+
+        assertThat(conflict).isNotNull();
+        assertThat(conflict.reservationId()).isEqualTo(longId);
+    }
+
+    @Test
+    @DisplayName("제외 메뉴의 예약은 충돌로 보지 않음")
+    void excludeMenu() {
+        DayTimeline timeline = DayTimeline.empty()
+                .with(UUID.randomUUID(), CUT, "커트", minute(10, 0), minute(11, 0));
+
+        assertThat(timeline.findConflict(minute(10, 0), minute(11, 0), CUT)).isNull();
+        assertThat(timeline.findConflict(minute(10, 0), minute(11, 0), PERM)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 예약과 충돌")
+    void crossesMidnight() {
+        DayTimeline timeline = DayTimeline.empty()
+                .with(UUID.randomUUID(), CUT, "커트", minute(23, 0), minute(24, 30));
+
+        TimelineConflict conflict = timeline.findConflict(minute(23, 30), minute(24, 0), null);
+
+        assertThat(conflict).isNotNull();
+        assertThat(conflict.endTime()).isEqualTo(LocalTime.of(0, 30));
+        assertThat(timeline.findConflict(minute(22, 0), minute(23, 0), null)).isNull();
+    }
+
+    @Test
+    @DisplayName("동일 예약 ID 추가는 대체, 제거 후에는 충돌 없음")
+    void withReplacesAndWithoutRemoves() {
+        UUID reservationId = UUID.randomUUID();
+        DayTimeline timeline = DayTimeline.empty()
+                .with(reservationId, CUT, "커트", minute(10, 0), minute(11, 0))
+                .with(reservationId, CUT, "커트", minute(14, 0), minute(15, 0));
+
+        assertThat(timeline.size()).isEqualTo(1);
+        assertThat(timeline.findConflict(minute(10, 0), minute(11, 0), null)).isNull();
+        assertThat(timeline.findConflict(minute(14, 30), minute(15, 30), null)).isNotNull();
+
+        DayTimeline removed = timeline.without(reservationId);
+        assertThat(removed.size()).isZero();
+        assertThat(removed.findConflict(minute(14, 0), minute(15, 0), null)).isNull();
+        assertThat(removed.without(reservationId)).isSameAs(removed);
+    }
+
+    private static int minute(int hour, int minute) {
+        return hour * 60 + minute;
+    }
+}
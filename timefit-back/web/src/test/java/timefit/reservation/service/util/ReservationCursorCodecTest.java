@@ -0,0 +1,71 @@
+package timefit.reservation.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import timefit.exception.reservation.ReservationErrorCode;
+import timefit.exception.reservation.ReservationException;
+import timefit.reservation.repository.ReservationQueryRepository.SeekKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationCursorCodecTest {
+
+    private final ReservationCursorCodec codec = new ReservationCursorCodec();
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 기준 위치로 디코딩")
+    void roundTrip() {
+        SeekKey key = new SeekKey(LocalDate.of(2026, 3, 2), LocalTime.of(14, 30), UUID.randomUUID());
+
+        String cursor = codec.encode(key);
+
+        assertThat(cursor).doesNotContain("|", "=", "+", "/");
+        assertThat(codec.decode(cursor)).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("초 단위가 있는 시간도 그대로 복원")
+    void roundTripWithSeconds() {
+        SeekKey key = new SeekKey(LocalDate.of(2026, 12, 31), LocalTime.of(23, 59, 59), UUID.randomUUID());
+
+        assertThat(codec.decode(codec.encode(key))).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지 (null)")
+    void blankCursorIsFirstPage() {
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode("")).isNull();
+        assertThat(codec.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not-base64!",
+            "v2|2026-03-02|14:30|00000000-0000-0000-0000-000000000001",
+            "v1|2026-03-02|14:30",
+            "v1|2026-13-02|14:30|00000000-0000-0000-0000-000000000001",
+            "v1|2026-03-02|25:00|00000000-0000-0000-0000-000000000001",
+            "v1|2026-03-02|14:30|not-a-uuid"
+    })
+    @DisplayName("해석할 수 없는 커서는 INVALID_CURSOR")
+    void invalidCursor(String raw) {
+        String cursor = raw.startsWith("v")
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                : raw;
+
+        assertThatThrownBy(() -> codec.decode(cursor))
+                .isInstanceOf(ReservationException.class)
+                .extracting(e -> ((ReservationException) e).getErrorCode())
+                .isEqualTo(ReservationErrorCode.INVALID_CURSOR.name());
+    }
+}
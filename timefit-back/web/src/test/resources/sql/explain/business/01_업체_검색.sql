@@ -0,0 +1,121 @@
+-- ============================================================
+-- Business 통합 검색 (100,000건)
+-- ============================================================
+-- API:        GET /api/business/search?keyword={}&businessType={}&region={}
+-- 핵심 쿼리:  SELECT b.id, COUNT(*) OVER () FROM business b
+--            WHERE b.is_active = true
+--              AND (to_tsvector('simple', ...) @@ to_tsquery('simple', '강남:*')
+--                   OR b.business_name ILIKE '%강남%' OR b.address ILIKE '%강남%')
+--            ORDER BY (관련도) DESC, b.business_name, b.id
+--            LIMIT 20
+-- 사전조건:   _setup.sql (User, Business)
+-- 규모:       100,000건
+-- ============================================================
+-- 목적: 선행 와일드카드 LIKE(Seq Scan) → GIN 인덱스 Bitmap Scan 전환 확인
+--       페이지 + 전체 건수를 쿼리 1회로 조회
+-- ============================================================
+
+BEGIN;
+
+-- ============================================================
+-- 인덱스 (BusinessSearchIndexInitializer 가 기동 시 생성하는 것과 동일)
+-- ============================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_business_name_trgm
+    ON business USING gin (business_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_business_address_trgm
+    ON business USING gin (address gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_business_search_tsv
+    ON business USING gin (to_tsvector('simple', coalesce(business_name, '') || ' ' || coalesce(address, '')));
+
+-- ============================================================
+-- 픽스처: business 100,000건
+-- ============================================================
+-- - 업체명: (지역명)(업종명) + 번호 → 예: '강남헤어 123', 'Hongdae Nail 4567'
+-- - 주소: 서울 (구) (로) 번지
+-- - 10%는 비활성
+
+INSERT INTO business (
+    id, business_name, business_number, owner_name,
+    address, contact_phone, description,
+    is_active, average_rating, review_count,
+    created_at, updated_at
+)
+SELECT
+    ('a0000000-0000-0000-0000-' || LPAD(seq::text, 12, '0'))::uuid,
+    (ARRAY['강남', '홍대', '신촌', '잠실', 'Gangnam', 'Hongdae', 'Itaewon', '성수'])[seq % 8 + 1]
+        || (ARRAY['헤어', '네일', ' Hair', ' Nail', '피부', ' Spa', '왁싱'])[seq % 7 + 1]
+        || ' ' || seq,
+    '9999999999',
+    'Owner ' || seq,
+    '서울 ' || (ARRAY['강남구', '마포구', '서대문구', '송파구', '용산구', '성동구'])[seq % 6 + 1]
+        || ' ' || (ARRAY['테헤란로', '와우산로', '연세로', '올림픽로', '이태원로', '왕십리로'])[seq % 6 + 1]
+        || ' ' || (seq % 500),
+    '0299999999',
+    'EXPLAIN Search Business',
+    seq % 10 != 0,
+    0.0,
+    0,
+    NOW(),
+    NOW()
+FROM generate_series(1, 100000) AS seq
+ON CONFLICT (id) DO NOTHING;
+
+ANALYZE business;
+
+-- ============================================================
+-- EXPLAIN 1: 한글 접두 검색 ("강남")
+-- ============================================================
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.id, COUNT(*) OVER ()
+FROM business b
+WHERE b.is_active = true
+  AND (to_tsvector('simple', coalesce(b.business_name, '') || ' ' || coalesce(b.address, ''))
+           @@ to_tsquery('simple', '강남:*')
+       OR b.business_name ILIKE '%강남%'
+       OR b.address ILIKE '%강남%')
+ORDER BY (CASE WHEN b.business_name ILIKE '강남%' THEN 1 ELSE 0 END
+              + ts_rank(to_tsvector('simple', coalesce(b.business_name, '') || ' ' || coalesce(b.address, '')),
+                        to_tsquery('simple', '강남:*'))
+              + similarity(b.business_name, '강남')) DESC,
+         b.business_name ASC, b.id ASC
+LIMIT 20 OFFSET 0;
+
+-- ============================================================
+-- EXPLAIN 2: 영문 접두 + 여러 단어 ("hong na")
+-- ============================================================
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT b.id, COUNT(*) OVER ()
+FROM business b
+WHERE b.is_active = true
+  AND (to_tsvector('simple', coalesce(b.business_name, '') || ' ' || coalesce(b.address, ''))
+           @@ to_tsquery('simple', 'hong:* & na:*')
+       OR b.business_name ILIKE '%hong na%'
+       OR b.address ILIKE '%hong na%')
+ORDER BY (CASE WHEN b.business_name ILIKE 'hong na%' THEN 1 ELSE 0 END
+              + ts_rank(to_tsvector('simple', coalesce(b.business_name, '') || ' ' || coalesce(b.address, '')),
+                        to_tsquery('simple', 'hong:* & na:*'))
+              + similarity(b.business_name, 'hong na')) DESC,
+         b.business_name ASC, b.id ASC
+LIMIT 20 OFFSET 0;
+
+ROLLBACK;
+
+-- ============================================================
+-- 확인 포인트
+-- ============================================================
+-- ✅ Scan 타입
+--    Before: Seq Scan (LOWER(business_name) LIKE '%강남%', 100,000건 전체)
+--    After:  BitmapOr (idx_business_search_tsv, idx_business_name_trgm, idx_business_address_trgm)
+--            → Bitmap Heap Scan
+--
+-- ✅ 쿼리 수
+--    Before: 페이지 조회 + COUNT 조회 (동일 조건 2회 스캔)
+--    After:  COUNT(*) OVER () 로 1회
+--
+-- ✅ Execution Time
+--    목표: 10ms 이하 (일치 건수가 수천 건 이하인 일반 검색어 기준)
+--    일치 건수가 매우 많은 검색어(예: 전체의 1/8이 일치하는 '강남')는
+--    정렬 대상이 늘어나므로 top-N heapsort 비용을 함께 확인